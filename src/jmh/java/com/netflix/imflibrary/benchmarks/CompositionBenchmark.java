@@ -0,0 +1,87 @@
+/*
+ * Copyright 2015 Netflix, Inc.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package com.netflix.imflibrary.benchmarks;
+
+import com.netflix.imflibrary.IMFErrorLoggerImpl;
+import com.netflix.imflibrary.RESTfulInterfaces.IMPValidator;
+import com.netflix.imflibrary.RESTfulInterfaces.PayloadRecord;
+import com.netflix.imflibrary.st0429_8.PackingList;
+import com.netflix.imflibrary.st2067_2.ApplicationComposition;
+import com.netflix.imflibrary.st2067_2.ApplicationCompositionFactory;
+import com.netflix.imflibrary.utils.ByteArrayByteRangeProvider;
+import com.netflix.imflibrary.utils.ErrorLogger;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import testUtils.TestHelper;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks of the parsing and validation of IMF XML documents, i.e., CompositionPlaylists and PackingLists. The
+ * documents are read into memory once, so that the benchmarks measure parsing and validation rather than I/O.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CompositionBenchmark
+{
+    private byte[] compositionBytes;
+    private byte[] packingListBytes;
+
+    @Setup
+    public void setUp() throws IOException
+    {
+        File compositionFile = TestHelper.findResourceByPath("TestIMP/Netflix_Sony_Plugfest_2015/CPL_BLACKL_202_HD_REC709_178_ENG_fe8cf2f4-1bcd-4145-8f72-6775af4038c4.xml");
+        this.compositionBytes = Files.readAllBytes(compositionFile.toPath());
+        File packingListFile = TestHelper.findResourceByPath("PKL_e788efe2-1782-4b09-b56d-1336da2413d5.xml");
+        this.packingListBytes = Files.readAllBytes(packingListFile.toPath());
+    }
+
+    @Benchmark
+    public ApplicationComposition getApplicationComposition() throws IOException
+    {
+        return ApplicationCompositionFactory.getApplicationComposition(new ByteArrayByteRangeProvider(this.compositionBytes), new IMFErrorLoggerImpl());
+    }
+
+    @Benchmark
+    public List<ErrorLogger.ErrorObject> validateCPL() throws IOException
+    {
+        PayloadRecord payloadRecord = new PayloadRecord(this.compositionBytes, PayloadRecord.PayloadAssetType.CompositionPlaylist, 0L, (long) this.compositionBytes.length);
+        return IMPValidator.validateCPL(payloadRecord);
+    }
+
+    @Benchmark
+    public PackingList packingList() throws IOException
+    {
+        return new PackingList(new ByteArrayByteRangeProvider(this.packingListBytes));
+    }
+}
@@ -0,0 +1,118 @@
+/*
+ * Copyright 2015 Netflix, Inc.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package com.netflix.imflibrary.benchmarks;
+
+import com.netflix.imflibrary.utils.FileByteRangeProvider;
+import com.netflix.imflibrary.utils.FileChannelByteRangeProvider;
+import com.netflix.imflibrary.writerTools.utils.IMFUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import testUtils.TestHelper;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks of the hashing modes in IMFUtils over the MXF track files of the test resources, i.e., hashing through a
+ * FileByteRangeProvider, a FileChannelByteRangeProvider, the pipelined file reader and concurrently across files.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class IMFUtilsHashBenchmark
+{
+    private static final List<String> trackFilePaths = Arrays.asList(
+            "TearsOfSteel_4k_Test_Master_Audio_002.mxf",
+            "TestIMP/MERIDIAN_Netflix_Photon_161006/MERIDIAN_Netflix_Photon_161006_ENG-51_00.mxf",
+            "TestIMP/MERIDIAN_Netflix_Photon_161006/MERIDIAN_Netflix_Photon_161006_00_tt.mxf");
+
+    private List<File> trackFiles;
+    private ExecutorService executorService;
+
+    @Setup
+    public void setUp()
+    {
+        this.trackFiles = new ArrayList<>();
+        for (String trackFilePath : trackFilePaths)
+        {
+            this.trackFiles.add(TestHelper.findResourceByPath(trackFilePath));
+        }
+        this.executorService = Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors());
+    }
+
+    @TearDown
+    public void tearDown()
+    {
+        this.executorService.shutdown();
+    }
+
+    @Benchmark
+    public void fileByteRangeProvider(Blackhole blackhole) throws IOException
+    {
+        for (File trackFile : this.trackFiles)
+        {
+            blackhole.consume(IMFUtils.generateHash(new FileByteRangeProvider(trackFile), "SHA-1"));
+        }
+    }
+
+    @Benchmark
+    public void fileChannelByteRangeProvider(Blackhole blackhole) throws IOException
+    {
+        for (File trackFile : this.trackFiles)
+        {
+            try (FileChannelByteRangeProvider resourceByteRangeProvider = new FileChannelByteRangeProvider(trackFile))
+            {
+                blackhole.consume(IMFUtils.generateHash(resourceByteRangeProvider, "SHA-1"));
+            }
+        }
+    }
+
+    @Benchmark
+    public void pipelined(Blackhole blackhole) throws IOException
+    {
+        for (File trackFile : this.trackFiles)
+        {
+            blackhole.consume(IMFUtils.generateHash(trackFile, "SHA-1"));
+        }
+    }
+
+    @Benchmark
+    public Map<File, byte[]> concurrent() throws IOException
+    {
+        return IMFUtils.generateHashes(this.trackFiles, "SHA-1", this.executorService);
+    }
+}
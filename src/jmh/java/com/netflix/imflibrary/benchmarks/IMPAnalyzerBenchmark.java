@@ -0,0 +1,64 @@
+/*
+ * Copyright 2015 Netflix, Inc.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package com.netflix.imflibrary.benchmarks;
+
+import com.netflix.imflibrary.app.IMPAnalyzer;
+import com.netflix.imflibrary.utils.ErrorLogger;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import testUtils.TestHelper;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A benchmark of the analysis of a complete Interoperable Master Package, which includes the AssetMap, PackingList,
+ * CompositionPlaylist and OutputProfileList documents as well as the track files of the package.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class IMPAnalyzerBenchmark
+{
+    private File packageDirectory;
+
+    @Setup
+    public void setUp()
+    {
+        this.packageDirectory = TestHelper.findResourceByPath("TestIMP/MERIDIAN_Netflix_Photon_161006");
+    }
+
+    @Benchmark
+    public Map<String, List<ErrorLogger.ErrorObject>> analyzePackage() throws IOException
+    {
+        return IMPAnalyzer.analyzePackage(this.packageDirectory);
+    }
+}
@@ -0,0 +1,99 @@
+/*
+ * Copyright 2015 Netflix, Inc.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package com.netflix.imflibrary.benchmarks;
+
+import com.netflix.imflibrary.IMFErrorLoggerImpl;
+import com.netflix.imflibrary.KLVPacket;
+import com.netflix.imflibrary.st0377.HeaderPartition;
+import com.netflix.imflibrary.st0377.IndexTableSegment;
+import com.netflix.imflibrary.utils.ByteArrayDataProvider;
+import com.netflix.imflibrary.utils.ByteBufferDataProvider;
+import com.netflix.imflibrary.utils.ByteProvider;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import testUtils.TestHelper;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks of the parsing of MXF structures, i.e., the header partition, index table segments and KLV length fields.
+ * The fixtures are read into memory once, so that the benchmarks measure parsing rather than I/O.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MXFParsingBenchmark
+{
+    private byte[] headerPartitionBytes;
+    private byte[] indexTableSegmentBytes;
+    private byte[] lengthFieldBytes;
+
+    @Setup
+    public void setUp() throws IOException
+    {
+        File headerPartitionFile = TestHelper.findResourceByPath("TearsOfSteel_4k_Test_Master_Audio_002.mxf.hdr");
+        this.headerPartitionBytes = Files.readAllBytes(headerPartitionFile.toPath());
+        File indexTableSegmentFile = TestHelper.findResourceByPath("Netflix_Ident_23976_3840x2160_177AR.mxf.idx");
+        this.indexTableSegmentBytes = Files.readAllBytes(indexTableSegmentFile.toPath());
+        //the length field of the KLV packet that holds the header partition pack
+        this.lengthFieldBytes = Arrays.copyOfRange(this.headerPartitionBytes, KLVPacket.KEY_FIELD_SIZE,
+                KLVPacket.KEY_FIELD_SIZE + KLVPacket.LENGTH_FIELD_SUFFIX_MAX_SIZE + 1);
+    }
+
+    @Benchmark
+    public HeaderPartition headerPartition() throws IOException
+    {
+        ByteProvider byteProvider = new ByteArrayDataProvider(this.headerPartitionBytes);
+        return new HeaderPartition(byteProvider, 0L, this.headerPartitionBytes.length, new IMFErrorLoggerImpl());
+    }
+
+    @Benchmark
+    public HeaderPartition headerPartitionByteBuffer() throws IOException
+    {
+        ByteProvider byteProvider = new ByteBufferDataProvider(this.headerPartitionBytes);
+        return new HeaderPartition(byteProvider, 0L, this.headerPartitionBytes.length, new IMFErrorLoggerImpl());
+    }
+
+    @Benchmark
+    public IndexTableSegment indexTableSegment() throws IOException
+    {
+        ByteProvider byteProvider = new ByteBufferDataProvider(this.indexTableSegmentBytes);
+        KLVPacket.Header header = new KLVPacket.Header(byteProvider, 0L);
+        return new IndexTableSegment(byteProvider, header);
+    }
+
+    @Benchmark
+    public KLVPacket.LengthField klvPacketLength() throws IOException
+    {
+        return KLVPacket.getLength(new ByteBufferDataProvider(this.lengthFieldBytes));
+    }
+}
@@ -19,10 +19,12 @@
 package com.netflix.imflibrary;
 
 import com.netflix.imflibrary.exceptions.MXFException;
+import com.netflix.imflibrary.utils.ByteBufferProvider;
 import com.netflix.imflibrary.utils.ByteProvider;
 
 import javax.annotation.concurrent.Immutable;
 import java.io.IOException;
+import java.nio.ByteBuffer;
 import java.nio.ByteOrder;
 import java.util.Arrays;
 
@@ -109,6 +111,24 @@ public final class KLVPacket
     {
     }
 
+    /**
+     * A helper method to read 8 bytes starting at the offset passed in as a big-endian long, for e.g., to obtain one half
+     * of a 16-byte key
+     *
+     * @param bytes the byte array
+     * @param offset the offset of the first byte
+     * @return the long value
+     */
+    public static long getLong(byte[] bytes, int offset)
+    {
+        long value = 0;
+        for (int i = offset; i < offset + 8; i++)
+        {
+            value = (value << 8) | (bytes[i] & 0xFFL);
+        }
+        return value;
+    }
+
     /**
      * Gets the length field of the KLV packet
      *
@@ -118,50 +138,82 @@ public final class KLVPacket
      */
     public static LengthField getLength(ByteProvider byteProvider) throws IOException
     {
+        if (byteProvider instanceof ByteBufferProvider)
+        {
+            ByteBufferProvider byteBufferProvider = (ByteBufferProvider)byteProvider;
+            long position = byteBufferProvider.getPosition();
+            long length = byteBufferProvider.readBERLength();
+            return new LengthField(length, byteBufferProvider.getPosition() - position);
+        }
 
         //read one byte
-        int value = byteProvider.getBytes(1)[0];
-        if ((value >> 7) == 0)
+        int value = byteProvider.getBytes(1)[0] & 0xFF;
+        int numBytesToRead = KLVPacket.getLengthSuffixSize(value);
+        if (numBytesToRead == 0)
         {//MSB equals 0
             return new LengthField(value, 1);
         }
-        else
-        {//MSB equals 1
-            //smpte st 336:2007, annex K
-            if ((value & 0xFF) == 0xFF)
-            {//forbidden value
-                throw new MXFException("First byte of length field in KLV item equals 0xFF");
-            }
-
-            if ((value & 0xFF) == 0x80)
-            {//non-deterministic length
-                throw new MXFException("First byte of length field in KLV item equals 0x80");
-            }
+        long length = KLVPacket.getLengthSuffixValue(ByteBuffer.wrap(byteProvider.getBytes(numBytesToRead)), numBytesToRead);
+        return new LengthField(length, 1 + numBytesToRead);
+    }
 
-            int numBytesToRead = value & 0x7F;
-            if (numBytesToRead > KLVPacket.LENGTH_FIELD_SUFFIX_MAX_SIZE)
-            {
-                throw new MXFException(String.format("Size of length field = %d is greater than max size = %d",
-                        numBytesToRead, KLVPacket.LENGTH_FIELD_SUFFIX_MAX_SIZE));
-            }
+    /**
+     * Checks the first byte of a BER encoded length field as defined in st336:2007 and returns the number of bytes that
+     * follow it in the length field
+     *
+     * @param firstByte the first byte of the length field as an unsigned value
+     * @return the number of bytes that follow the first byte, 0 if the first byte holds the length
+     */
+    public static int getLengthSuffixSize(int firstByte)
+    {
+        if ((firstByte >> 7) == 0)
+        {//MSB equals 0
+            return 0;
+        }
 
-            byte[] byteArray = byteProvider.getBytes(numBytesToRead);
-            long length = 0;
-            for (long b : byteArray)
-            {
-                length <<= 8;
-                length += (b & 0xFF);
-            }
-            if (length < 0)
-            {
-                throw new MXFException(String.format("Size of length field = 0x%x is greater than max supported size = 0x%x",
-                        length, Long.MAX_VALUE));
-            }
+        //smpte st 336:2007, annex K
+        if (firstByte == 0xFF)
+        {//forbidden value
+            throw new MXFException("First byte of length field in KLV item equals 0xFF");
+        }
 
-            return new LengthField(length, 1 + numBytesToRead);
+        if (firstByte == 0x80)
+        {//non-deterministic length
+            throw new MXFException("First byte of length field in KLV item equals 0x80");
+        }
 
+        int numBytesToRead = firstByte & 0x7F;
+        if (numBytesToRead > KLVPacket.LENGTH_FIELD_SUFFIX_MAX_SIZE)
+        {
+            throw new MXFException(String.format("Size of length field = %d is greater than max size = %d",
+                    numBytesToRead, KLVPacket.LENGTH_FIELD_SUFFIX_MAX_SIZE));
         }
+        return numBytesToRead;
+    }
 
+    /**
+     * Reads the bytes that follow the first byte of a BER encoded length field as defined in st336:2007 and returns the
+     * length they encode
+     *
+     * @param byteBuffer the buffer positioned at the first byte that follows the first byte of the length field, the
+     *                   position is advanced past the length field
+     * @param numBytesToRead the number of bytes that follow the first byte, see {@link #getLengthSuffixSize(int)}
+     * @return the value of the length field
+     */
+    public static long getLengthSuffixValue(ByteBuffer byteBuffer, int numBytesToRead)
+    {
+        long length = 0;
+        for (int i = 0; i < numBytesToRead; i++)
+        {
+            length <<= 8;
+            length += (byteBuffer.get() & 0xFF);
+        }
+        if (length < 0)
+        {
+            throw new MXFException(String.format("Size of length field = 0x%x is greater than max supported size = 0x%x",
+                    length, Long.MAX_VALUE));
+        }
+        return length;
     }
 
     /**
@@ -211,10 +263,22 @@ public final class KLVPacket
          */
         public Header(ByteProvider byteProvider, long byteOffset) throws IOException
         {
-            this.key = byteProvider.getBytes(KLVPacket.KEY_FIELD_SIZE);
-            LengthField lengthField = KLVPacket.getLength(byteProvider);
-            this.length = lengthField.value;
-            this.sizeOfLengthField = lengthField.sizeOfLengthField;
+            if (byteProvider instanceof ByteBufferProvider)
+            {
+                ByteBufferProvider byteBufferProvider = (ByteBufferProvider)byteProvider;
+                this.key = new byte[KLVPacket.KEY_FIELD_SIZE];
+                byteBufferProvider.readUL(this.key);
+                long position = byteBufferProvider.getPosition();
+                this.length = byteBufferProvider.readBERLength();
+                this.sizeOfLengthField = byteBufferProvider.getPosition() - position;
+            }
+            else
+            {
+                this.key = byteProvider.getBytes(KLVPacket.KEY_FIELD_SIZE);
+                LengthField lengthField = KLVPacket.getLength(byteProvider);
+                this.length = lengthField.value;
+                this.sizeOfLengthField = lengthField.sizeOfLengthField;
+            }
             this.byteOffset = byteOffset;
         }
 
@@ -228,6 +292,26 @@ public final class KLVPacket
             return Arrays.copyOf(this.key, this.key.length);
         }
 
+        /**
+         * Getter for the first 8 bytes of the key of the KLV packet as a big-endian long, this does not copy the key
+         *
+         * @return the most significant 64 bits of the key
+         */
+        public long getKeyMostSignificantBits()
+        {
+            return KLVPacket.getLong(this.key, 0);
+        }
+
+        /**
+         * Getter for the last 8 bytes of the key of the KLV packet as a big-endian long, this does not copy the key
+         *
+         * @return the least significant 64 bits of the key
+         */
+        public long getKeyLeastSignificantBits()
+        {
+            return KLVPacket.getLong(this.key, 8);
+        }
+
         /**
          * Getter for the value field of the KLV packet
          *
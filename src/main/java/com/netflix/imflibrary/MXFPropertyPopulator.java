@@ -24,22 +24,44 @@ import com.netflix.imflibrary.st0377.CompoundDataTypes;
 import com.netflix.imflibrary.st0377.header.InterchangeObject;
 import com.netflix.imflibrary.st0377.header.JPEG2000PictureComponent;
 import com.netflix.imflibrary.st0377.header.UL;
+import com.netflix.imflibrary.utils.ByteBufferProvider;
 import com.netflix.imflibrary.utils.ByteProvider;
 
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.Immutable;
 import java.io.IOException;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
 import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
 import java.nio.ByteBuffer;
 import java.nio.ByteOrder;
 import java.nio.charset.Charset;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 /**
- * A utility class that provides methods for populating fields with MXF metadata sets
+ * A utility class that provides methods for populating fields with MXF metadata sets. The reflective lookup of the fields
+ * of a class, their MXFProperty annotations and decoders is performed once per class and cached.
  */
 public final class MXFPropertyPopulator
 {
+    private static final MethodHandles.Lookup lookup = MethodHandles.lookup();
+    private static final ClassValue<ClassMetadata> classMetadata = new ClassValue<ClassMetadata>()
+    {
+        @Override
+        protected ClassMetadata computeValue(Class<?> type)
+        {
+            return new ClassMetadata(type);
+        }
+    };
+
     //to prevent instantiation
     private MXFPropertyPopulator()
     {
@@ -55,8 +77,8 @@ public final class MXFPropertyPopulator
      */
     public static void populateField(ByteProvider byteProvider, Object object, String fieldName) throws IOException
     {
-        int byteArraySize = getFieldSizeInBytes(object, fieldName);
-        doPopulateField(byteArraySize, byteProvider, object, fieldName);
+        FieldAccessor fieldAccessor = getFieldAccessor(object, fieldName);
+        doPopulateField(fieldAccessor.getSizeInBytes(), byteProvider, object, fieldAccessor);
     }
 
     /**
@@ -70,173 +92,12 @@ public final class MXFPropertyPopulator
      */
     public static void populateField(int fieldSize, ByteProvider byteProvider, Object object, String fieldName) throws IOException
     {
-        doPopulateField(fieldSize, byteProvider, object, fieldName);
+        doPopulateField(fieldSize, byteProvider, object, getFieldAccessor(object, fieldName));
     }
 
-    @SuppressWarnings("PMD.NcssMethodCount")
-    private static void doPopulateField(int byteArraySize, ByteProvider byteProvider, Object object, String fieldName) throws IOException
+    private static void doPopulateField(int byteArraySize, ByteProvider byteProvider, Object object, FieldAccessor fieldAccessor) throws IOException
     {
-
-        try
-        {
-            Field field = getField(object.getClass(), fieldName);
-            field.setAccessible(true);
-            if (field.getType() == byte[].class)
-            {
-                byte[] byteArray = byteProvider.getBytes(byteArraySize);
-                field.set(object, byteArray);
-            }
-            else if (field.getType() == InterchangeObject.InterchangeObjectBO.StrongRef.class)
-            {
-                byte[] byteArray = byteProvider.getBytes(byteArraySize);
-                field.set(object, new InterchangeObject.InterchangeObjectBO.StrongRef(byteArray));
-            }
-            else if(field.getType() == UL.class){
-                byte[] byteArray = byteProvider.getBytes(byteArraySize);
-                field.set(object, new UL(byteArray));
-            }
-            else if (field.getType() == String.class)
-            {
-                byte[] byteArray = byteProvider.getBytes(byteArraySize);
-                Charset charset = getFieldCharset(object, fieldName);
-                field.set(object, getString(byteArray, charset));
-            }
-            else if (field.getType() == CompoundDataTypes.Rational.class)
-            {
-                CompoundDataTypes.Rational rational = new CompoundDataTypes.Rational(byteProvider);
-                field.set(object, rational);
-            }
-            else if (field.getType() == CompoundDataTypes.Timestamp.class)
-            {
-                CompoundDataTypes.Timestamp timestamp = new CompoundDataTypes.Timestamp(byteProvider);
-                field.set(object, timestamp);
-            }
-            else if (field.getType() == CompoundDataTypes.MXFCollections.MXFCollection.class)
-            {
-                CompoundDataTypes.MXFCollections.Header cHeader = new CompoundDataTypes.MXFCollections.Header(byteProvider);
-                ParameterizedType parameterizedType = (ParameterizedType)field.getGenericType();
-                if(parameterizedType.getActualTypeArguments().length > 1)
-                {
-                    throw new MXFException(String.format("Found %d type arguments, however only 1 is supported at this time",
-                            parameterizedType.getActualTypeArguments().length));
-                }
-                if ((parameterizedType.getActualTypeArguments()[0] == byte[].class) ||
-                        (parameterizedType.getActualTypeArguments()[0].toString().equals("byte[]")))
-                {
-                    List<byte[]> cList = new ArrayList<>();
-                    for (long i=0; i<cHeader.getNumberOfElements(); i++)
-                    {
-                        cList.add(byteProvider.getBytes((int)cHeader.getSizeOfElement()));
-                    }
-                    field.set(object, new CompoundDataTypes.MXFCollections.MXFCollection<>(cHeader, cList, fieldName));
-                }
-                else if (parameterizedType.getActualTypeArguments()[0] == Integer.class)
-                {
-                    List<Integer> cList = new ArrayList<>();
-                    for (long i=0; i<cHeader.getNumberOfElements(); i++)
-                    {
-                        cList.add(getInt(byteProvider.getBytes(4), KLVPacket.BYTE_ORDER));
-                    }
-                    field.set(object, new CompoundDataTypes.MXFCollections.MXFCollection<>(cHeader, cList, fieldName));
-                }
-                else if (parameterizedType.getActualTypeArguments()[0] == InterchangeObject.InterchangeObjectBO.StrongRef.class){
-                    List<InterchangeObject.InterchangeObjectBO.StrongRef> cList = new ArrayList<>();
-                    for (long i=0; i<cHeader.getNumberOfElements(); i++)
-                    {
-                        cList.add(new InterchangeObject.InterchangeObjectBO.StrongRef(byteProvider.getBytes((int)cHeader.getSizeOfElement())));
-                    }
-                    field.set(object, new CompoundDataTypes.MXFCollections.MXFCollection<>(cHeader, cList, fieldName));
-                }
-                else if (parameterizedType.getActualTypeArguments()[0] == UL.class){
-                    List<UL> cList = new ArrayList<>();
-                    for (long i=0; i<cHeader.getNumberOfElements(); i++)
-                    {
-                        cList.add(new UL(byteProvider.getBytes((int)cHeader.getSizeOfElement())));
-                    }
-                    field.set(object, new CompoundDataTypes.MXFCollections.MXFCollection<>(cHeader, cList, fieldName));
-                }
-                else if (parameterizedType.getActualTypeArguments()[0] == JPEG2000PictureComponent.JPEG2000PictureComponentBO.class){
-                    List<JPEG2000PictureComponent.JPEG2000PictureComponentBO> cList = new ArrayList<>();
-                    for (long i=0; i<cHeader.getNumberOfElements(); i++)
-                    {
-                        cList.add(new JPEG2000PictureComponent.JPEG2000PictureComponentBO(byteProvider.getBytes((int)cHeader.getSizeOfElement())));
-                    }
-                    field.set(object, new CompoundDataTypes.MXFCollections.MXFCollection<>(cHeader, cList, fieldName));
-                }
-                else
-                {
-                    throw new MXFException(String.format("Found unsupported type argument = %s", parameterizedType.getActualTypeArguments()[0].toString()));
-                }
-            }
-            else if (field.getType() == Float.class)
-            {
-                byte[] byteArray = byteProvider.getBytes(byteArraySize);
-                field.set(object, getFloat(byteArray, KLVPacket.BYTE_ORDER));
-            }
-            else if ((field.getType() == Long.class) && (byteArraySize == 8))
-            {// long
-                byte[] byteArray = byteProvider.getBytes(byteArraySize);
-                field.set(object, getLong(byteArray, KLVPacket.BYTE_ORDER));
-            }
-            else if ((field.getType() == Long.class) && (byteArraySize == 4))
-            {// unsigned int
-                byte[] byteArray = byteProvider.getBytes(byteArraySize);
-                field.set(object, getUnsignedIntAsLong(byteArray, KLVPacket.BYTE_ORDER));
-            }
-            else if ((field.getType() == Integer.class) && (byteArraySize == 4))
-            {//signed int
-                byte[] byteArray = byteProvider.getBytes(byteArraySize);
-                field.set(object, getInt(byteArray, KLVPacket.BYTE_ORDER));
-            }
-            else if ((field.getType() == Integer.class) && (byteArraySize == 2))
-            {//unsigned short
-                byte[] byteArray = byteProvider.getBytes(byteArraySize);
-                field.set(object, getUnsignedShortAsInt(byteArray, KLVPacket.BYTE_ORDER));
-            }
-            else if ((field.getType() == Short.class) && (byteArraySize == 2))
-            {//signed short
-                byte[] byteArray = byteProvider.getBytes(byteArraySize);
-                field.set(object, getShort(byteArray, KLVPacket.BYTE_ORDER));
-            }
-            else if ((field.getType() == Short.class) && (byteArraySize == 1))
-            {//unsigned byte
-                byte[] byteArray = byteProvider.getBytes(byteArraySize);
-                field.set(object, getUnsignedByteAsShort(byteArray));
-            }
-            else if ((field.getType() == Byte.class) && (byteArraySize == 1))
-            {//signed byte
-                byte[] byteArray = byteProvider.getBytes(byteArraySize);
-                field.set(object, getByte(byteArray));
-            }
-            else if ((field.getType() == Boolean.class) && (byteArraySize == 1))
-            {//boolean byte
-                byte[] byteArray = byteProvider.getBytes(byteArraySize);
-                field.set(object, getBooleanFromByte(byteArray));
-            }
-            else
-            {
-                throw new MXFException(String.format("unknown type = %s, size = %d combination encountered for field %s",
-                        field.getType().toString(), byteArraySize, fieldName));
-            }
-
-        }
-        catch(NoSuchFieldException e)
-        {
-            throw new MXFException(e);
-        }
-        catch(SecurityException e)
-        {
-            throw new MXFException(e);
-        }
-        catch(IllegalAccessException e)
-        {
-            throw new MXFException(e);
-        }
-        catch(IllegalArgumentException e)
-        {
-            throw new MXFException(e);
-        }
-
+        fieldAccessor.set(object, fieldAccessor.decoder.decode(byteProvider, byteArraySize, fieldAccessor.name));
     }
 
     /**
@@ -390,26 +251,7 @@ public final class MXFPropertyPopulator
      */
     public static int getFieldSizeInBytes(Object object, String fieldName)
     {
-        int fieldSizeInBytes;
-        try
-        {
-
-            Field field = getField(object.getClass(), fieldName);
-            if (field.isAnnotationPresent(MXFProperty.class))
-            {
-                fieldSizeInBytes = field.getAnnotation(MXFProperty.class).size();
-
-            }
-            else
-            {
-                throw new MXFException(String.format("field %s is not annotated with %s", fieldName, MXFProperty.class.getSimpleName()));
-            }
-        }
-        catch(NoSuchFieldException e)
-        {
-            throw new MXFException(e);
-        }
-        return fieldSizeInBytes;
+        return getFieldAccessor(object, fieldName).getSizeInBytes();
     }
 
     /**
@@ -421,119 +263,403 @@ public final class MXFPropertyPopulator
      */
     public static Charset getFieldCharset(Object object, String fieldName)
     {
-        Charset fieldCharset;
-        try
+        return getFieldAccessor(object, fieldName).getCharset();
+    }
+
+    private static FieldAccessor getFieldAccessor(Object object, String fieldName)
+    {
+        FieldAccessor fieldAccessor = classMetadata.get(object.getClass()).fieldAccessors.get(fieldName);
+        if (fieldAccessor == null)
         {
+            throw new MXFException(new NoSuchFieldException(fieldName));
+        }
+        return fieldAccessor;
+    }
 
-            Field field = getField(object.getClass(), fieldName);
-            if (field.isAnnotationPresent(MXFProperty.class))
-            {
-                fieldCharset = Charset.forName(field.getAnnotation(MXFProperty.class).charset());
-            }
-            else
+    /**
+     * Gets a list of UIDs that the Metadata set depends on
+     *
+     * @param interchangeObjectBO the interchange object bO
+     * @return the dependent uI ds
+     */
+    public static List<MXFUID> getDependentUIDs(InterchangeObject.InterchangeObjectBO interchangeObjectBO)
+    {
+        List<MXFUID> dependentUIDs = new ArrayList<>();
+        for (FieldAccessor fieldAccessor : classMetadata.get(interchangeObjectBO.getClass()).dependentFieldAccessors)
+        {
+            Object object = fieldAccessor.get(interchangeObjectBO);
+            if (object != null)
             {
-                throw new MXFException(String.format("field %s is not annotated with %s", fieldName, MXFProperty.class.getSimpleName()));
+                if (object instanceof CompoundDataTypes.MXFCollections.MXFCollection)
+                {
+                    CompoundDataTypes.MXFCollections.MXFCollection<Object> collection = (CompoundDataTypes.MXFCollections.MXFCollection<Object>) object;
+                    if(collection.getEntries().get(0) instanceof InterchangeObject.InterchangeObjectBO.StrongRef) {
+                        CompoundDataTypes.MXFCollections.MXFCollection<InterchangeObject.InterchangeObjectBO.StrongRef> collectionStrongRefs = (CompoundDataTypes.MXFCollections.MXFCollection<InterchangeObject.InterchangeObjectBO.StrongRef>) object;
+                        for (InterchangeObject.InterchangeObjectBO.StrongRef entry : collectionStrongRefs.getEntries()) {
+                            dependentUIDs.add(entry.getInstanceUID());
+                        }
+                    }
+                    else if(collection.getEntries().get(0) instanceof UL){
+                        CompoundDataTypes.MXFCollections.MXFCollection<UL> collectionULs = (CompoundDataTypes.MXFCollections.MXFCollection<UL>) object;
+                        for (UL entry : collectionULs.getEntries()) {
+                            dependentUIDs.add(entry.getULAsMXFUid());
+                        }
+                    }
+                }
+                else if(object instanceof InterchangeObject.InterchangeObjectBO.StrongRef){
+                    InterchangeObject.InterchangeObjectBO.StrongRef strongRef = (InterchangeObject.InterchangeObjectBO.StrongRef) object;
+                    dependentUIDs.add(strongRef.getInstanceUID());
+                }
+                else if(object instanceof UL){
+                    UL ul = (UL)object;
+                    dependentUIDs.add(ul.getULAsMXFUid());
+                }
+                else
+                {
+                    byte[] bytes = (byte[]) object;
+                    dependentUIDs.add(new MXFUID(bytes));
+                }
             }
         }
-        catch(NoSuchFieldException e)
+
+        return dependentUIDs;
+
+    }
+
+    /**
+     * An object of this class holds the field accessors of a class in the object model of an MXF file, including the
+     * ones inherited from its superclasses. It is built once per class, when an object of the class is populated for
+     * the first time, so that the reflective lookups are not repeated for every metadata set that is parsed.
+     */
+    @Immutable
+    private static final class ClassMetadata
+    {
+        private final Map<String, FieldAccessor> fieldAccessors;
+        private final List<FieldAccessor> dependentFieldAccessors;
+
+        private ClassMetadata(Class<?> aClass)
         {
-            throw new MXFException(e);
+            Map<String, FieldAccessor> fieldAccessors = new HashMap<>();
+            List<FieldAccessor> dependentFieldAccessors = new ArrayList<>();
+            for (Class<?> currentClass = aClass; currentClass != null; currentClass = currentClass.getSuperclass())
+            {
+                for (Field field : currentClass.getDeclaredFields())
+                {
+                    if (Modifier.isStatic(field.getModifiers()))
+                    {
+                        continue;
+                    }
+                    FieldAccessor fieldAccessor = new FieldAccessor(field);
+                    //a field declared in a subclass hides a field with the same name declared in a superclass
+                    if (!fieldAccessors.containsKey(field.getName()))
+                    {
+                        fieldAccessors.put(field.getName(), fieldAccessor);
+                    }
+                    if (fieldAccessor.mxfProperty != null && fieldAccessor.mxfProperty.depends())
+                    {
+                        dependentFieldAccessors.add(fieldAccessor);
+                    }
+                }
+            }
+            this.fieldAccessors = Collections.unmodifiableMap(fieldAccessors);
+            this.dependentFieldAccessors = Collections.unmodifiableList(dependentFieldAccessors);
         }
-        return fieldCharset;
     }
 
-    private static Field getField(Class aClass, String fieldName) throws NoSuchFieldException
+    /**
+     * An object of this class holds everything that is needed to populate and read a field, i.e., method handles for
+     * setting and getting the value of the field, its MXFProperty annotation and the decoder for its type
+     */
+    @Immutable
+    private static final class FieldAccessor
     {
-        try
+        private final String name;
+        @Nullable
+        private final MXFProperty mxfProperty;
+        @Nullable
+        private final Charset charset;
+        private final MethodHandle setter;
+        private final MethodHandle getter;
+        private final FieldDecoder decoder;
+
+        private FieldAccessor(Field field)
         {
-            return aClass.getDeclaredField(fieldName);
+            this.name = field.getName();
+            this.mxfProperty = field.getAnnotation(MXFProperty.class);
+            this.charset = (this.mxfProperty != null && field.getType() == String.class) ? Charset.forName(this.mxfProperty.charset()) : null;
+            try
+            {
+                field.setAccessible(true);
+                this.setter = lookup.unreflectSetter(field).asType(MethodType.methodType(void.class, Object.class, Object.class));
+                this.getter = lookup.unreflectGetter(field).asType(MethodType.methodType(Object.class, Object.class));
+            }
+            catch(IllegalAccessException | SecurityException e)
+            {
+                throw new MXFException(e);
+            }
+            this.decoder = getFieldDecoder(field, this.charset);
+        }
+
+        private int getSizeInBytes()
+        {
+            return getMXFProperty().size();
         }
-        catch (NoSuchFieldException e)
+
+        private Charset getCharset()
+        {
+            getMXFProperty();
+            return (this.charset != null) ? this.charset : Charset.forName(this.mxfProperty.charset());
+        }
+
+        private MXFProperty getMXFProperty()
         {
-            Class superClass = aClass.getSuperclass();
-            if (superClass == null)
+            if (this.mxfProperty == null)
+            {
+                throw new MXFException(String.format("field %s is not annotated with %s", this.name, MXFProperty.class.getSimpleName()));
+            }
+            return this.mxfProperty;
+        }
+
+        private void set(Object object, Object value)
+        {
+            try
+            {
+                this.setter.invokeExact(object, value);
+            }
+            catch(ClassCastException e)
+            {
+                throw new MXFException(e);
+            }
+            catch(RuntimeException | Error e)
+            {
+                throw e;
+            }
+            catch(Throwable t)
+            {
+                throw new MXFException(t);
+            }
+        }
+
+        private Object get(Object object)
+        {
+            try
+            {
+                return (Object) this.getter.invokeExact(object);
+            }
+            catch(RuntimeException | Error e)
             {
                 throw e;
             }
-            else
+            catch(Throwable t)
             {
-                return getField(superClass, fieldName);
+                throw new MXFException(t);
             }
         }
     }
 
     /**
-     * Gets a list of UIDs that the Metadata set depends on
-     *
-     * @param interchangeObjectBO the interchange object bO
-     * @return the dependent uI ds
+     * A decoder that reads the value of a field of a specific type from a ByteProvider
      */
-    public static List<MXFUID> getDependentUIDs(InterchangeObject.InterchangeObjectBO interchangeObjectBO)
+    private interface FieldDecoder
     {
-        List<MXFUID> dependentUIDs = new ArrayList<>();
-        Class aClass = interchangeObjectBO.getClass();
-        while (aClass != null)
+        Object decode(ByteProvider byteProvider, int byteArraySize, String fieldName) throws IOException;
+    }
+
+    /**
+     * A decoder that reads an element of an MXF collection from a ByteProvider
+     */
+    private interface ElementDecoder
+    {
+        Object decode(ByteProvider byteProvider, int sizeOfElement) throws IOException;
+    }
+
+    private static FieldDecoder getFieldDecoder(Field field, @Nullable Charset charset)
+    {
+        Class<?> type = field.getType();
+        if (type == byte[].class)
         {
-            Field[] fields = aClass.getDeclaredFields();
-            for (Field field : fields)
-            {
-                field.setAccessible(true);
-                if (field.isAnnotationPresent(MXFProperty.class))
+            return (byteProvider, byteArraySize, fieldName) -> byteProvider.getBytes(byteArraySize);
+        }
+        else if (type == InterchangeObject.InterchangeObjectBO.StrongRef.class)
+        {
+            return (byteProvider, byteArraySize, fieldName) -> new InterchangeObject.InterchangeObjectBO.StrongRef(byteProvider.getBytes(byteArraySize));
+        }
+        else if (type == UL.class)
+        {
+            return (byteProvider, byteArraySize, fieldName) -> new UL(byteProvider.getBytes(byteArraySize));
+        }
+        else if (type == String.class)
+        {
+            return (byteProvider, byteArraySize, fieldName) -> {
+                if (charset == null)
                 {
-                    boolean depends = field.getAnnotation(MXFProperty.class).depends();
-                    if (depends)
-                    {
-                        try
-                        {
-                            Object object = field.get(interchangeObjectBO);
-                            if (object != null)
-                            {
-                                if (object instanceof CompoundDataTypes.MXFCollections.MXFCollection)
-                                {
-                                    CompoundDataTypes.MXFCollections.MXFCollection<Object> collection = (CompoundDataTypes.MXFCollections.MXFCollection<Object>) object;
-                                    if(collection.getEntries().get(0) instanceof InterchangeObject.InterchangeObjectBO.StrongRef) {
-                                        CompoundDataTypes.MXFCollections.MXFCollection<InterchangeObject.InterchangeObjectBO.StrongRef> collectionStrongRefs = (CompoundDataTypes.MXFCollections.MXFCollection<InterchangeObject.InterchangeObjectBO.StrongRef>) object;
-                                        for (InterchangeObject.InterchangeObjectBO.StrongRef entry : collectionStrongRefs.getEntries()) {
-                                            dependentUIDs.add(entry.getInstanceUID());
-                                        }
-                                    }
-                                    else if(collection.getEntries().get(0) instanceof UL){
-                                        CompoundDataTypes.MXFCollections.MXFCollection<UL> collectionULs = (CompoundDataTypes.MXFCollections.MXFCollection<UL>) object;
-                                        for (UL entry : collectionULs.getEntries()) {
-                                            dependentUIDs.add(entry.getULAsMXFUid());
-                                        }
-                                    }
-                                }
-                                else if(object instanceof InterchangeObject.InterchangeObjectBO.StrongRef){
-                                    InterchangeObject.InterchangeObjectBO.StrongRef strongRef = (InterchangeObject.InterchangeObjectBO.StrongRef) object;
-                                    dependentUIDs.add(strongRef.getInstanceUID());
-                                }
-                                else if(object instanceof UL){
-                                    UL ul = (UL)object;
-                                    dependentUIDs.add(ul.getULAsMXFUid());
-                                }
-                                else
-                                {
-                                    byte[] bytes = (byte[]) object;
-                                    dependentUIDs.add(new MXFUID(bytes));
-                                }
-                            }
+                    throw new MXFException(String.format("field %s is not annotated with %s", fieldName, MXFProperty.class.getSimpleName()));
+                }
+                return getString(byteProvider.getBytes(byteArraySize), charset);
+            };
+        }
+        else if (type == CompoundDataTypes.Rational.class)
+        {
+            return (byteProvider, byteArraySize, fieldName) -> new CompoundDataTypes.Rational(byteProvider);
+        }
+        else if (type == CompoundDataTypes.Timestamp.class)
+        {
+            return (byteProvider, byteArraySize, fieldName) -> new CompoundDataTypes.Timestamp(byteProvider);
+        }
+        else if (type == CompoundDataTypes.MXFCollections.MXFCollection.class)
+        {
+            return getCollectionDecoder(field);
+        }
+        else if (type == Float.class)
+        {
+            return (byteProvider, byteArraySize, fieldName) -> {
+                if (byteProvider instanceof ByteBufferProvider && byteArraySize == 4)
+                {
+                    return Float.intBitsToFloat((int) ((ByteBufferProvider) byteProvider).readUnsignedInt());
+                }
+                return getFloat(byteProvider.getBytes(byteArraySize), KLVPacket.BYTE_ORDER);
+            };
+        }
+        else if (type == Long.class)
+        {
+            return MXFPropertyPopulator::decodeLong;
+        }
+        else if (type == Integer.class)
+        {
+            return MXFPropertyPopulator::decodeInteger;
+        }
+        else if (type == Short.class)
+        {
+            return MXFPropertyPopulator::decodeShort;
+        }
+        else if (type == Byte.class)
+        {
+            return (byteProvider, byteArraySize, fieldName) -> {
+                if (byteArraySize != 1)
+                {
+                    throw getUnknownTypeException(Byte.class, byteArraySize, fieldName);
+                }
+                return (byteProvider instanceof ByteBufferProvider) ? (byte) ((ByteBufferProvider) byteProvider).readUnsignedByte() : getByte(byteProvider.getBytes(byteArraySize));
+            };
+        }
+        else if (type == Boolean.class)
+        {
+            return (byteProvider, byteArraySize, fieldName) -> {
+                if (byteArraySize != 1)
+                {
+                    throw getUnknownTypeException(Boolean.class, byteArraySize, fieldName);
+                }
+                return (byteProvider instanceof ByteBufferProvider) ? ((ByteBufferProvider) byteProvider).readUnsignedByte() != 0 : getBooleanFromByte(byteProvider.getBytes(byteArraySize));
+            };
+        }
+        return (byteProvider, byteArraySize, fieldName) -> {
+            throw getUnknownTypeException(type, byteArraySize, fieldName);
+        };
+    }
 
-                        }
-                        catch(IllegalAccessException e)
-                        {
-                            throw new MXFException(e);
-                        }
+    private static Long decodeLong(ByteProvider byteProvider, int byteArraySize, String fieldName) throws IOException
+    {
+        boolean isByteBufferProvider = byteProvider instanceof ByteBufferProvider;
+        if (byteArraySize == 8)
+        {// long
+            return isByteBufferProvider ? ((ByteBufferProvider) byteProvider).readLong() : getLong(byteProvider.getBytes(byteArraySize), KLVPacket.BYTE_ORDER);
+        }
+        else if (byteArraySize == 4)
+        {// unsigned int
+            return isByteBufferProvider ? ((ByteBufferProvider) byteProvider).readUnsignedInt() : getUnsignedIntAsLong(byteProvider.getBytes(byteArraySize), KLVPacket.BYTE_ORDER);
+        }
+        throw getUnknownTypeException(Long.class, byteArraySize, fieldName);
+    }
 
-                    }
-                }
-            }
+    private static Integer decodeInteger(ByteProvider byteProvider, int byteArraySize, String fieldName) throws IOException
+    {
+        boolean isByteBufferProvider = byteProvider instanceof ByteBufferProvider;
+        if (byteArraySize == 4)
+        {//signed int
+            return isByteBufferProvider ? (int) ((ByteBufferProvider) byteProvider).readUnsignedInt() : getInt(byteProvider.getBytes(byteArraySize), KLVPacket.BYTE_ORDER);
+        }
+        else if (byteArraySize == 2)
+        {//unsigned short
+            return isByteBufferProvider ? ((ByteBufferProvider) byteProvider).readUnsignedShort() : getUnsignedShortAsInt(byteProvider.getBytes(byteArraySize), KLVPacket.BYTE_ORDER);
+        }
+        throw getUnknownTypeException(Integer.class, byteArraySize, fieldName);
+    }
 
-            aClass = aClass.getSuperclass();
+    private static Short decodeShort(ByteProvider byteProvider, int byteArraySize, String fieldName) throws IOException
+    {
+        boolean isByteBufferProvider = byteProvider instanceof ByteBufferProvider;
+        if (byteArraySize == 2)
+        {//signed short
+            return isByteBufferProvider ? (short) ((ByteBufferProvider) byteProvider).readUnsignedShort() : getShort(byteProvider.getBytes(byteArraySize), KLVPacket.BYTE_ORDER);
+        }
+        else if (byteArraySize == 1)
+        {//unsigned byte
+            return isByteBufferProvider ? (short) ((ByteBufferProvider) byteProvider).readUnsignedByte() : getUnsignedByteAsShort(byteProvider.getBytes(byteArraySize));
         }
+        throw getUnknownTypeException(Short.class, byteArraySize, fieldName);
+    }
 
-        return dependentUIDs;
+    private static FieldDecoder getCollectionDecoder(Field field)
+    {
+        if (!(field.getGenericType() instanceof ParameterizedType))
+        {
+            return (byteProvider, byteArraySize, fieldName) -> {
+                throw new MXFException(String.format("Found raw type %s for field %s, a type argument is required", field.getType().toString(), fieldName));
+            };
+        }
+        Type[] typeArguments = ((ParameterizedType) field.getGenericType()).getActualTypeArguments();
+        if (typeArguments.length > 1)
+        {
+            return (byteProvider, byteArraySize, fieldName) -> {
+                throw new MXFException(String.format("Found %d type arguments, however only 1 is supported at this time",
+                        typeArguments.length));
+            };
+        }
+
+        ElementDecoder elementDecoder;
+        if ((typeArguments[0] == byte[].class) || (typeArguments[0].toString().equals("byte[]")))
+        {
+            elementDecoder = ByteProvider::getBytes;
+        }
+        else if (typeArguments[0] == Integer.class)
+        {
+            elementDecoder = (byteProvider, sizeOfElement) -> (byteProvider instanceof ByteBufferProvider) ?
+                    (int) ((ByteBufferProvider) byteProvider).readUnsignedInt() : getInt(byteProvider.getBytes(4), KLVPacket.BYTE_ORDER);
+        }
+        else if (typeArguments[0] == InterchangeObject.InterchangeObjectBO.StrongRef.class)
+        {
+            elementDecoder = (byteProvider, sizeOfElement) -> new InterchangeObject.InterchangeObjectBO.StrongRef(byteProvider.getBytes(sizeOfElement));
+        }
+        else if (typeArguments[0] == UL.class)
+        {
+            elementDecoder = (byteProvider, sizeOfElement) -> new UL(byteProvider.getBytes(sizeOfElement));
+        }
+        else if (typeArguments[0] == JPEG2000PictureComponent.JPEG2000PictureComponentBO.class)
+        {
+            elementDecoder = (byteProvider, sizeOfElement) -> new JPEG2000PictureComponent.JPEG2000PictureComponentBO(byteProvider.getBytes(sizeOfElement));
+        }
+        else
+        {
+            return (byteProvider, byteArraySize, fieldName) -> {
+                throw new MXFException(String.format("Found unsupported type argument = %s", typeArguments[0].toString()));
+            };
+        }
 
+        return (byteProvider, byteArraySize, fieldName) -> {
+            CompoundDataTypes.MXFCollections.Header cHeader = new CompoundDataTypes.MXFCollections.Header(byteProvider);
+            List<Object> cList = new ArrayList<>();
+            for (long i=0; i<cHeader.getNumberOfElements(); i++)
+            {
+                cList.add(elementDecoder.decode(byteProvider, (int)cHeader.getSizeOfElement()));
+            }
+            return new CompoundDataTypes.MXFCollections.MXFCollection<>(cHeader, cList, fieldName);
+        };
+    }
+
+    private static MXFException getUnknownTypeException(Class<?> type, int byteArraySize, String fieldName)
+    {
+        return new MXFException(String.format("unknown type = %s, size = %d combination encountered for field %s",
+                type.toString(), byteArraySize, fieldName));
     }
 
 }
@@ -0,0 +1,281 @@
+/*
+ *
+ * Copyright 2015 Netflix, Inc.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ *
+ */
+
+package com.netflix.imflibrary.RESTfulInterfaces;
+
+import com.netflix.imflibrary.IMFErrorLogger;
+import com.netflix.imflibrary.IMFErrorLoggerImpl;
+import com.netflix.imflibrary.st0377.HeaderPartition;
+import com.netflix.imflibrary.st2067_2.Composition;
+import com.netflix.imflibrary.utils.ByteBufferByteRangeProvider;
+import com.netflix.imflibrary.utils.ByteBufferDataProvider;
+import com.netflix.imflibrary.utils.ErrorLogger;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.ThreadSafe;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A bounded cache of parsed header partitions of IMF track files. The same header partition payload is typically parsed
+ * several times while a package is being validated (header metadata validation, virtual track checks, conformance of the
+ * essence descriptors etc.), a cache shared by these validations lets every payload be parsed only once.
+ *
+ * Entries are keyed by a SHA-256 digest of the header partition payload, which identifies the track file (the TrackFile ID
+ * is recorded in the payload itself) as well as the exact version of its header metadata. The errors that were recorded
+ * while parsing a payload are retained along with the parsed header partition and reported again on every cache hit.
+ * The essence descriptors derived from a header partition are retained along with it, see
+ * {@link com.netflix.imflibrary.st2067_2.Composition.HeaderPartitionTuple}.
+ *
+ * The cache evicts the least recently used entries once the total size of the cached payloads exceeds the maximum
+ * weight that it was created with.
+ */
+@ThreadSafe
+public final class HeaderPartitionCache
+{
+    /**
+     * The default maximum weight of a cache, i.e., the maximum total size in bytes of the header partition payloads
+     * corresponding to the cached entries
+     */
+    public static final long DEFAULT_MAXIMUM_WEIGHT = 64L * 1024 * 1024;
+
+    private static final String DIGEST_ALGORITHM = "SHA-256";
+
+    private final long maximumWeight;
+    private final LinkedHashMap<ByteBuffer, Entry> entries = new LinkedHashMap<>(16, 0.75f, true);
+    private long weight = 0;
+    private long hitCount = 0;
+    private long missCount = 0;
+
+    /**
+     * Instantiates a new HeaderPartitionCache with the default maximum weight
+     */
+    public HeaderPartitionCache()
+    {
+        this(DEFAULT_MAXIMUM_WEIGHT);
+    }
+
+    /**
+     * Instantiates a new HeaderPartitionCache
+     *
+     * @param maximumWeight the maximum total size in bytes of the header partition payloads corresponding to the cached entries
+     */
+    public HeaderPartitionCache(long maximumWeight)
+    {
+        if (maximumWeight < 0)
+        {
+            throw new IllegalArgumentException(String.format("Maximum weight = %d is negative", maximumWeight));
+        }
+        this.maximumWeight = maximumWeight;
+    }
+
+    /**
+     * Getter for the parsed header partition corresponding to a header partition payload, the payload is parsed only if
+     * a parsed header partition corresponding to it is not present in this cache
+     *
+     * @param payloadRecord the payload record corresponding to the header partition of an IMF track file
+     * @param imfErrorLogger an error logger to which the errors encountered while parsing the payload are added
+     * @return the parsed header partition
+     * @throws IOException - any I/O related error is exposed through an IOException
+     */
+    public HeaderPartition getHeaderPartition(PayloadRecord payloadRecord, IMFErrorLogger imfErrorLogger) throws IOException
+    {
+        return this.getHeaderPartitionTuple(payloadRecord, imfErrorLogger).getHeaderPartition();
+    }
+
+    /**
+     * Getter for the HeaderPartitionTuple corresponding to a header partition payload, the payload is parsed only if
+     * a parsed header partition corresponding to it is not present in this cache
+     *
+     * @param payloadRecord the payload record corresponding to the header partition of an IMF track file
+     * @param imfErrorLogger an error logger to which the errors encountered while parsing the payload are added
+     * @return the HeaderPartitionTuple for the parsed header partition and the raw bytes of the payload
+     * @throws IOException - any I/O related error is exposed through an IOException
+     */
+    public Composition.HeaderPartitionTuple getHeaderPartitionTuple(PayloadRecord payloadRecord, IMFErrorLogger imfErrorLogger) throws IOException
+    {
+        ByteBuffer payload = payloadRecord.getPayloadBuffer();
+        ByteBuffer key = ByteBuffer.wrap(digest(payload.duplicate()));
+
+        Entry entry;
+        synchronized (this)
+        {
+            entry = this.entries.get(key);
+            if (entry != null)
+            {
+                this.hitCount++;
+            }
+            else
+            {
+                this.missCount++;
+            }
+        }
+        if (entry != null)
+        {
+            imfErrorLogger.addAllErrors(entry.errors);
+            return entry.headerPartitionTuple;
+        }
+
+        //Concurrent callers may parse the same payload more than once, only the last result is retained
+        entry = parse(payload, imfErrorLogger);
+        synchronized (this)
+        {
+            Entry previous = this.entries.put(key, entry);
+            if (previous != null)
+            {
+                this.weight -= previous.weight;
+            }
+            this.weight += entry.weight;
+            this.evict();
+        }
+        return entry.headerPartitionTuple;
+    }
+
+    /**
+     * Removes all the entries from this cache
+     */
+    public synchronized void invalidateAll()
+    {
+        this.entries.clear();
+        this.weight = 0;
+    }
+
+    /**
+     * Getter for the number of entries in this cache
+     *
+     * @return the number of cached header partitions
+     */
+    public synchronized int size()
+    {
+        return this.entries.size();
+    }
+
+    /**
+     * Getter for the weight of this cache
+     *
+     * @return the total size in bytes of the header partition payloads corresponding to the cached entries
+     */
+    public synchronized long getWeight()
+    {
+        return this.weight;
+    }
+
+    /**
+     * Getter for the number of lookups that were served from this cache
+     *
+     * @return the number of cache hits
+     */
+    public synchronized long getHitCount()
+    {
+        return this.hitCount;
+    }
+
+    /**
+     * Getter for the number of lookups that required a header partition payload to be parsed
+     *
+     * @return the number of cache misses
+     */
+    public synchronized long getMissCount()
+    {
+        return this.missCount;
+    }
+
+    /**
+     * A helper method that returns the header partition corresponding to a payload from the cache passed in, or parses the
+     * payload if no cache was passed in
+     *
+     * @param headerPartitionCache the cache to look up, or null
+     * @param payloadRecord the payload record corresponding to the header partition of an IMF track file
+     * @param imfErrorLogger an error logger to which the errors encountered while parsing the payload are added
+     * @return the HeaderPartitionTuple for the parsed header partition and the raw bytes of the payload
+     * @throws IOException - any I/O related error is exposed through an IOException
+     */
+    static Composition.HeaderPartitionTuple getHeaderPartitionTuple(@Nullable HeaderPartitionCache headerPartitionCache,
+                                                                    PayloadRecord payloadRecord,
+                                                                    IMFErrorLogger imfErrorLogger) throws IOException
+    {
+        if (headerPartitionCache != null)
+        {
+            return headerPartitionCache.getHeaderPartitionTuple(payloadRecord, imfErrorLogger);
+        }
+        ByteBuffer payload = payloadRecord.getPayloadBuffer();
+        return new Composition.HeaderPartitionTuple(new HeaderPartition(new ByteBufferDataProvider(payload), 0L, (long) payload.remaining(), imfErrorLogger),
+                new ByteBufferByteRangeProvider(payload));
+    }
+
+    private void evict()
+    {
+        Iterator<Map.Entry<ByteBuffer, Entry>> iterator = this.entries.entrySet().iterator();
+        while (this.weight > this.maximumWeight && iterator.hasNext())
+        {
+            this.weight -= iterator.next().getValue().weight;
+            iterator.remove();
+        }
+    }
+
+    private static Entry parse(ByteBuffer payload, IMFErrorLogger imfErrorLogger) throws IOException
+    {
+        IMFErrorLogger parseErrorLogger = new IMFErrorLoggerImpl();
+        try
+        {
+            HeaderPartition headerPartition = new HeaderPartition(new ByteBufferDataProvider(payload), 0L, (long) payload.remaining(), parseErrorLogger);
+            return new Entry(new Composition.HeaderPartitionTuple(headerPartition, new ByteBufferByteRangeProvider(payload)),
+                    parseErrorLogger.getErrors(), payload.remaining());
+        }
+        finally
+        {
+            imfErrorLogger.addAllErrors(parseErrorLogger.getErrors());
+        }
+    }
+
+    private static byte[] digest(ByteBuffer payload)
+    {
+        try
+        {
+            MessageDigest messageDigest = MessageDigest.getInstance(DIGEST_ALGORITHM);
+            messageDigest.update(payload);
+            return messageDigest.digest();
+        }
+        catch (NoSuchAlgorithmException e)
+        {
+            //Every implementation of the Java platform is required to support SHA-256
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static final class Entry
+    {
+        private final Composition.HeaderPartitionTuple headerPartitionTuple;
+        private final List<ErrorLogger.ErrorObject> errors;
+        private final long weight;
+
+        private Entry(Composition.HeaderPartitionTuple headerPartitionTuple, List<ErrorLogger.ErrorObject> errors, long weight)
+        {
+            this.headerPartitionTuple = headerPartitionTuple;
+            this.errors = Collections.unmodifiableList(errors);
+            this.weight = weight;
+        }
+    }
+}
@@ -23,8 +23,8 @@ import com.netflix.imflibrary.st2067_2.Composition;
 import com.netflix.imflibrary.st2067_2.Composition.VirtualTrack;
 import com.netflix.imflibrary.st2067_2.IMFEssenceComponentVirtualTrack;
 import com.netflix.imflibrary.st2067_201.IABTrackFileConstraints;
-import com.netflix.imflibrary.utils.ByteArrayByteRangeProvider;
-import com.netflix.imflibrary.utils.ByteArrayDataProvider;
+import com.netflix.imflibrary.utils.ByteBufferByteRangeProvider;
+import com.netflix.imflibrary.utils.ByteBufferDataProvider;
 import com.netflix.imflibrary.utils.ByteProvider;
 import com.netflix.imflibrary.utils.DOMNodeObjectModel;
 import com.netflix.imflibrary.utils.ErrorLogger;
@@ -49,6 +49,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.Executor;
 
 /**
  * A RESTful interface for validating an IMF Master Package.
@@ -66,21 +67,7 @@ public class IMPValidator {
      * @throws IOException - any I/O related error is exposed through an IOException
      */
     public static PayloadRecord.PayloadAssetType getPayloadType(PayloadRecord payloadRecord) throws IOException {
-
-        ResourceByteRangeProvider resourceByteRangeProvider = new ByteArrayByteRangeProvider(payloadRecord.getPayload());
-        if(AssetMap.isFileOfSupportedSchema(resourceByteRangeProvider)){
-            return PayloadRecord.PayloadAssetType.AssetMap;
-        }
-        else if(PackingList.isFileOfSupportedSchema(resourceByteRangeProvider)){
-            return PayloadRecord.PayloadAssetType.PackingList;
-        }
-        else if(ApplicationComposition.isCompositionPlaylist(resourceByteRangeProvider)){
-            return PayloadRecord.PayloadAssetType.CompositionPlaylist;
-        }
-        else if(OutputProfileList.isOutputProfileList(resourceByteRangeProvider)){
-            return PayloadRecord.PayloadAssetType.OutputProfileList;
-        }
-        return PayloadRecord.PayloadAssetType.Unknown;
+        return PayloadTypeClassifier.classify(payloadRecord.getPayloadBuffer()).getPayloadAssetType();
     }
 
     /**
@@ -97,7 +84,7 @@ public class IMPValidator {
                     .getPayloadAssetType(), PayloadRecord.PayloadAssetType.PackingList.toString()), imfErrorLogger);
         }
         try{
-            PackingList packingList = new PackingList(new ByteArrayByteRangeProvider(pkl.getPayload()));
+            PackingList packingList = new PackingList(new ByteBufferByteRangeProvider(pkl.getPayloadBuffer()));
             imfErrorLogger.addAllErrors(packingList.getErrors());
         }
         catch (IMFException e)
@@ -119,7 +106,7 @@ public class IMPValidator {
                     .getPayloadAssetType(), PayloadRecord.PayloadAssetType.AssetMap.toString()));
         }
         try{
-            AssetMap assetMap = new AssetMap(new ByteArrayByteRangeProvider(assetMapPayload.getPayload()));
+            AssetMap assetMap = new AssetMap(new ByteBufferByteRangeProvider(assetMapPayload.getPayloadBuffer()));
             return assetMap.getErrors();
         }
         catch(IMFException e)
@@ -147,7 +134,7 @@ public class IMPValidator {
                     .getPayloadAssetType(), PayloadRecord.PayloadAssetType.AssetMap.toString()));
         }
 
-        ResourceByteRangeProvider assetMapByteRangeProvider = new ByteArrayByteRangeProvider(assetMapPayload.getPayload());
+        ResourceByteRangeProvider assetMapByteRangeProvider = new ByteBufferByteRangeProvider(assetMapPayload.getPayloadBuffer());
         AssetMap assetMapObjectModel = null;
         try {
             assetMapObjectModel = new AssetMap(assetMapByteRangeProvider);
@@ -171,7 +158,7 @@ public class IMPValidator {
                         .FATAL, String.format("Payload asset type is %s, expected asset type %s", assetMapPayload.getPayloadAssetType(), PayloadRecord.PayloadAssetType.PackingList.toString()));
             }
             else {
-                packingLists.add(new ByteArrayByteRangeProvider(payloadRecord.getPayload()));
+                packingLists.add(new ByteBufferByteRangeProvider(payloadRecord.getPayloadBuffer()));
             }
         }
 
@@ -280,7 +267,7 @@ public class IMPValidator {
         }
 
         try {
-            ApplicationCompositionFactory.getApplicationComposition(new ByteArrayByteRangeProvider(cpl.getPayload()), imfErrorLogger);
+            ApplicationCompositionFactory.getApplicationComposition(new ByteBufferByteRangeProvider(cpl.getPayloadBuffer()), imfErrorLogger);
         }
         catch(IMFException e)
         {
@@ -306,7 +293,7 @@ public class IMPValidator {
             throw new IMFException("Virtual track failed validation", imfErrorLogger);
         }
 
-        ApplicationComposition applicationComposition = ApplicationCompositionFactory.getApplicationComposition(new ByteArrayByteRangeProvider(cpl.getPayload()), imfErrorLogger);
+        ApplicationComposition applicationComposition = ApplicationCompositionFactory.getApplicationComposition(new ByteBufferByteRangeProvider(cpl.getPayloadBuffer()), imfErrorLogger);
         if(applicationComposition == null) {
             return new ArrayList<>();
         }
@@ -326,17 +313,36 @@ public class IMPValidator {
     public static List<ErrorLogger.ErrorObject> isVirtualTrackInCPLConformed(PayloadRecord cplPayloadRecord,
                                                                              VirtualTrack virtualTrack,
                                                                              List<PayloadRecord> essencesHeaderPartitionPayloads) throws IOException
+    {
+        return isVirtualTrackInCPLConformed(cplPayloadRecord, virtualTrack, essencesHeaderPartitionPayloads, new HeaderPartitionCache());
+    }
+
+    /**
+     * A stateless method that can be used to determine if a Virtual Track in a Composition is conformant. Conformance checks
+     * perform deeper inspection of the Composition and the EssenceDescriptors corresponding to the Virtual Track
+     * @param cplPayloadRecord a payload record corresponding to the Composition payload
+     * @param virtualTrack that needs to be conformed in the Composition
+     * @param essencesHeaderPartitionPayloads list of payload records containing the raw bytes of the HeaderPartitions of the IMF Track files that are a part of
+     *                                        the Virtual Track to be conformed
+     * @param headerPartitionCache a cache of parsed HeaderPartitions that is consulted before parsing the payloads passed in, or null
+     * @return list of error messages encountered while performing conformance validation of the Composition document
+     * @throws IOException - any I/O related error is exposed through an IOException
+     */
+    public static List<ErrorLogger.ErrorObject> isVirtualTrackInCPLConformed(PayloadRecord cplPayloadRecord,
+                                                                             VirtualTrack virtualTrack,
+                                                                             List<PayloadRecord> essencesHeaderPartitionPayloads,
+                                                                             @Nullable HeaderPartitionCache headerPartitionCache) throws IOException
     {
         List<VirtualTrack> virtualTracks = new ArrayList<>();
         IMFErrorLogger imfErrorLogger = new IMFErrorLoggerImpl();
         virtualTracks.add(virtualTrack);
         imfErrorLogger.addAllErrors(checkVirtualTrackAndEssencesHeaderPartitionPayloadRecords(virtualTracks,
-                essencesHeaderPartitionPayloads));
+                essencesHeaderPartitionPayloads, headerPartitionCache));
         if(imfErrorLogger.hasFatalErrors()){
             return imfErrorLogger.getErrors();
         }
         imfErrorLogger.addAllErrors(conformVirtualTracksInCPL(cplPayloadRecord, essencesHeaderPartitionPayloads,
-                false));
+                false, headerPartitionCache));
 
         return imfErrorLogger.getErrors();
     }
@@ -353,21 +359,38 @@ public class IMPValidator {
     public static List<ErrorLogger.ErrorObject> areAllVirtualTracksInCPLConformed(
             PayloadRecord cplPayloadRecord,
             List<PayloadRecord> essencesHeaderPartitionPayloads) throws IOException {
+        return areAllVirtualTracksInCPLConformed(cplPayloadRecord, essencesHeaderPartitionPayloads, new HeaderPartitionCache());
+    }
+
+    /**
+     * A stateless method that can be used to determine if a Composition is conformant. Conformance checks
+     * perform deeper inspection of the Composition and the EssenceDescriptors corresponding to all the
+     * Virtual Tracks that are a part of the Composition
+     * @param cplPayloadRecord a payload record corresponding to the Composition payload
+     * @param essencesHeaderPartitionPayloads list of payload records containing the raw bytes of the HeaderPartitions of the IMF Track files that are a part of the Virtual Track/s in the Composition
+     * @param headerPartitionCache a cache of parsed HeaderPartitions that is consulted before parsing the payloads passed in, or null
+     * @return list of error messages encountered while performing conformance validation of the Composition document
+     * @throws IOException - any I/O related error is exposed through an IOException
+     */
+    public static List<ErrorLogger.ErrorObject> areAllVirtualTracksInCPLConformed(
+            PayloadRecord cplPayloadRecord,
+            List<PayloadRecord> essencesHeaderPartitionPayloads,
+            @Nullable HeaderPartitionCache headerPartitionCache) throws IOException {
 
         IMFErrorLogger imfErrorLogger = new IMFErrorLoggerImpl();
-        ApplicationComposition applicationComposition = ApplicationCompositionFactory.getApplicationComposition(new ByteArrayByteRangeProvider(cplPayloadRecord.getPayload()), imfErrorLogger);
+        ApplicationComposition applicationComposition = ApplicationCompositionFactory.getApplicationComposition(new ByteBufferByteRangeProvider(cplPayloadRecord.getPayloadBuffer()), imfErrorLogger);
         if(applicationComposition == null) {
             return imfErrorLogger.getErrors();
         }
 
         List<VirtualTrack> virtualTracks = new ArrayList<>(applicationComposition.getVirtualTracks());
         imfErrorLogger.addAllErrors(checkVirtualTrackAndEssencesHeaderPartitionPayloadRecords(virtualTracks,
-                essencesHeaderPartitionPayloads));
+                essencesHeaderPartitionPayloads, headerPartitionCache));
         if(imfErrorLogger.hasFatalErrors()){
             return imfErrorLogger.getErrors();
         }
         imfErrorLogger.addAllErrors(conformVirtualTracksInCPL(cplPayloadRecord, essencesHeaderPartitionPayloads,
-                true));
+                true, headerPartitionCache));
 
         return imfErrorLogger.getErrors();
     }
@@ -375,6 +398,42 @@ public class IMPValidator {
     public static List<ErrorLogger.ErrorObject> conformVirtualTracksInCPL(PayloadRecord cplPayloadRecord,
         List<PayloadRecord> essencesHeaderPartitionPayloads,boolean conformAllVirtualTracks) throws IOException
     {
+        return conformVirtualTracksInCPL(cplPayloadRecord, essencesHeaderPartitionPayloads, conformAllVirtualTracks, new HeaderPartitionCache());
+    }
+
+    /**
+     * A stateless method that conforms the Virtual Tracks in a Composition against the EssenceDescriptors in the
+     * HeaderPartitions of the IMF Track files that are a part of them
+     * @param cplPayloadRecord a payload record corresponding to the Composition payload
+     * @param essencesHeaderPartitionPayloads list of payload records containing the raw bytes of the HeaderPartitions of the IMF Track files
+     * @param conformAllVirtualTracks a boolean that turns on/off conforming all the VirtualTracks in the Composition
+     * @param headerPartitionCache a cache of parsed HeaderPartitions that is consulted before parsing the payloads passed in, or null
+     * @return list of error messages encountered while performing conformance validation of the Composition document
+     * @throws IOException - any I/O related error is exposed through an IOException
+     */
+    public static List<ErrorLogger.ErrorObject> conformVirtualTracksInCPL(PayloadRecord cplPayloadRecord,
+        List<PayloadRecord> essencesHeaderPartitionPayloads, boolean conformAllVirtualTracks,
+        @Nullable HeaderPartitionCache headerPartitionCache) throws IOException
+    {
+        return conformVirtualTracksInCPL(cplPayloadRecord, essencesHeaderPartitionPayloads, conformAllVirtualTracks, headerPartitionCache, Runnable::run);
+    }
+
+    /**
+     * A stateless method that conforms the Virtual Tracks in a Composition against the EssenceDescriptors in the
+     * HeaderPartitions of the IMF Track files that are a part of them, the HeaderPartitions are inspected concurrently
+     * on the executor passed in
+     * @param cplPayloadRecord a payload record corresponding to the Composition payload
+     * @param essencesHeaderPartitionPayloads list of payload records containing the raw bytes of the HeaderPartitions of the IMF Track files
+     * @param conformAllVirtualTracks a boolean that turns on/off conforming all the VirtualTracks in the Composition
+     * @param headerPartitionCache a cache of parsed HeaderPartitions that is consulted before parsing the payloads passed in, or null
+     * @param executor the executor that inspects the HeaderPartitions of individual IMF Track files
+     * @return list of error messages encountered while performing conformance validation of the Composition document
+     * @throws IOException - any I/O related error is exposed through an IOException
+     */
+    public static List<ErrorLogger.ErrorObject> conformVirtualTracksInCPL(PayloadRecord cplPayloadRecord,
+        List<PayloadRecord> essencesHeaderPartitionPayloads, boolean conformAllVirtualTracks,
+        @Nullable HeaderPartitionCache headerPartitionCache, Executor executor) throws IOException
+    {
 
         IMFErrorLogger imfErrorLogger = new IMFErrorLoggerImpl();
         List<PayloadRecord> essencesHeaderPartition = Collections.unmodifiableList(essencesHeaderPartitionPayloads);
@@ -384,12 +443,12 @@ public class IMPValidator {
             if (imfErrorLogger.hasFatalErrors())
                 return Collections.unmodifiableList(imfErrorLogger.getErrors());
 
-            ApplicationComposition applicationComposition = ApplicationCompositionFactory.getApplicationComposition(new ByteArrayByteRangeProvider(cplPayloadRecord.getPayload()), imfErrorLogger);
+            ApplicationComposition applicationComposition = ApplicationCompositionFactory.getApplicationComposition(new ByteBufferByteRangeProvider(cplPayloadRecord.getPayloadBuffer()), imfErrorLogger);
             if(applicationComposition == null) {
                 return imfErrorLogger.getErrors();
             }
 
-            imfErrorLogger.addAllErrors(validateIMFTrackFileHeaderMetadata(essencesHeaderPartition));
+            imfErrorLogger.addAllErrors(validateIMFTrackFileHeaderMetadata(essencesHeaderPartition, headerPartitionCache));
 
             List<Composition.HeaderPartitionTuple> headerPartitionTuples = new ArrayList<>();
             for (PayloadRecord payloadRecord : essencesHeaderPartition) {
@@ -402,11 +461,7 @@ public class IMPValidator {
                                     PayloadRecord.PayloadAssetType.EssencePartition.toString()));
                     continue;
                 }
-                headerPartitionTuples.add(new Composition.HeaderPartitionTuple(new HeaderPartition(new ByteArrayDataProvider(payloadRecord.getPayload()),
-                        0L,
-                        (long) payloadRecord.getPayload().length,
-                        imfErrorLogger),
-                        new ByteArrayByteRangeProvider(payloadRecord.getPayload())));
+                headerPartitionTuples.add(HeaderPartitionCache.getHeaderPartitionTuple(headerPartitionCache, payloadRecord, imfErrorLogger));
             }
 
             if (imfErrorLogger.hasFatalErrors()) {
@@ -414,7 +469,7 @@ public class IMPValidator {
             }
 
             imfErrorLogger.addAllErrors(applicationComposition.conformVirtualTracksInComposition(Collections.unmodifiableList
-                    (headerPartitionTuples), conformAllVirtualTracks));
+                    (headerPartitionTuples), conformAllVirtualTracks, executor));
 
             imfErrorLogger.addAllErrors(applicationComposition.getErrors());
         }
@@ -444,7 +499,7 @@ public class IMPValidator {
         List<ApplicationComposition> applicationCompositions = new ArrayList<>();
         try
         {
-            ApplicationComposition applicationComposition = ApplicationCompositionFactory.getApplicationComposition(new ByteArrayByteRangeProvider(referenceCPLPayloadRecord.getPayload()),
+            ApplicationComposition applicationComposition = ApplicationCompositionFactory.getApplicationComposition(new ByteBufferByteRangeProvider(referenceCPLPayloadRecord.getPayloadBuffer()),
                 imfErrorLogger);
             if(applicationComposition == null) {
                 return imfErrorLogger.getErrors();
@@ -461,7 +516,7 @@ public class IMPValidator {
         for (PayloadRecord cpl : cplPayloadRecords) {
             try
             {
-                ApplicationComposition applicationComposition = ApplicationCompositionFactory.getApplicationComposition(new ByteArrayByteRangeProvider(cpl.getPayload()),
+                ApplicationComposition applicationComposition = ApplicationCompositionFactory.getApplicationComposition(new ByteBufferByteRangeProvider(cpl.getPayloadBuffer()),
                     imfErrorLogger);
                 if(applicationComposition != null) {
                     applicationCompositions.add(applicationComposition);
@@ -545,7 +600,7 @@ public class IMPValidator {
                     essenceFooter4Bytes.getPayloadAssetType(), PayloadRecord.PayloadAssetType.EssenceFooter4Bytes
                             .toString()), imfErrorLogger);
         }
-        return (long)(ByteBuffer.wrap(essenceFooter4Bytes.getPayload()).getInt());
+        return (long)(essenceFooter4Bytes.getPayloadBuffer().getInt());
     }
 
     /**
@@ -559,10 +614,10 @@ public class IMPValidator {
      * @throws IOException - any I/O related error is exposed through an IOException
      */
     public static List<Long> getEssencePartitionOffsets(PayloadRecord randomIndexPackPayload, Long randomIndexPackSize) throws IOException {
-        if(randomIndexPackPayload.getPayload().length != randomIndexPackSize){
-            throw new IllegalArgumentException(String.format("RandomIndexPackSize passed in is = %d, RandomIndexPack payload size = %d, they should be equal", randomIndexPackSize, randomIndexPackPayload.getPayload().length));
+        if(randomIndexPackPayload.getPayloadSize() != randomIndexPackSize){
+            throw new IllegalArgumentException(String.format("RandomIndexPackSize passed in is = %d, RandomIndexPack payload size = %d, they should be equal", randomIndexPackSize, randomIndexPackPayload.getPayloadSize()));
         }
-        RandomIndexPack randomIndexPack = new RandomIndexPack(new ByteArrayDataProvider(randomIndexPackPayload.getPayload()), 0L, randomIndexPackSize);
+        RandomIndexPack randomIndexPack = new RandomIndexPack(new ByteBufferDataProvider(randomIndexPackPayload.getPayloadBuffer()), 0L, randomIndexPackSize);
         return randomIndexPack.getAllPartitionByteOffsets();
     }
 
@@ -574,6 +629,19 @@ public class IMPValidator {
      * @throws IOException - any I/O related error is exposed through an IOException
      */
     public static List<ErrorLogger.ErrorObject> validateIMFTrackFileHeaderMetadata(List<PayloadRecord> essencesHeaderPartitionPayloads) throws IOException {
+        return validateIMFTrackFileHeaderMetadata(essencesHeaderPartitionPayloads, null);
+    }
+
+    /**
+     * A stateless method that validates an IMFEssenceComponent's header partition and verifies MXF OP1A and IMF compliance. This could be utilized
+     * to perform preliminary validation of IMF essences
+     * @param essencesHeaderPartitionPayloads - a list of IMF Essence Component header partition payloads
+     * @param headerPartitionCache - a cache of parsed HeaderPartitions that is consulted before parsing the payloads passed in, or null
+     * @return a list of errors encountered while performing compliance checks on the IMF Essence Component Header partition
+     * @throws IOException - any I/O related error is exposed through an IOException
+     */
+    public static List<ErrorLogger.ErrorObject> validateIMFTrackFileHeaderMetadata(List<PayloadRecord> essencesHeaderPartitionPayloads,
+                                                                                   @Nullable HeaderPartitionCache headerPartitionCache) throws IOException {
         IMFErrorLogger imfErrorLogger = new IMFErrorLoggerImpl();
         List<PayloadRecord> essencesHeaderPartition = Collections.unmodifiableList(essencesHeaderPartitionPayloads);
         for(PayloadRecord payloadRecord : essencesHeaderPartition){
@@ -588,10 +656,7 @@ public class IMPValidator {
             }
             HeaderPartition headerPartition = null;
             try {
-                headerPartition = new HeaderPartition(new ByteArrayDataProvider(payloadRecord.getPayload()),
-                    0L,
-                    (long)payloadRecord.getPayload().length,
-                    imfErrorLogger);
+                headerPartition = HeaderPartitionCache.getHeaderPartitionTuple(headerPartitionCache, payloadRecord, imfErrorLogger).getHeaderPartition();
 
                 MXFOperationalPattern1A.HeaderPartitionOP1A headerPartitionOP1A = MXFOperationalPattern1A.checkOperationalPattern1ACompliance(headerPartition, imfErrorLogger);
                 IMFConstraints.HeaderPartitionIMF headerPartitionIMF = IMFConstraints.checkIMFCompliance(headerPartitionOP1A, imfErrorLogger);
@@ -629,6 +694,20 @@ public class IMPValidator {
      */
     @Nullable
     public static String getAudioTrackSpokenLanguage(VirtualTrack audioVirtualTrack, List<PayloadRecord> essencesHeaderPartition) throws IOException {
+        return getAudioTrackSpokenLanguage(audioVirtualTrack, essencesHeaderPartition, new HeaderPartitionCache());
+    }
+
+    /**
+     * A stateless method that returns the RFC-5646 Spoken Language Tag present in the Header Partition of an Audio Essence
+     * @param essencesHeaderPartition - a list of payloads corresponding to the Header Partitions of TrackFiles that are a part of an Audio VirtualTrack
+     * @param audioVirtualTrack - the audio virtual track whose spoken language needs to be ascertained
+     * @param headerPartitionCache - a cache of parsed HeaderPartitions that is consulted before parsing the payloads passed in, or null
+     * @return string corresponding to the RFC-5646 language tag present in the header partition of the Audio Essence
+     * @throws IOException - any I/O related error is exposed through an IOException
+     */
+    @Nullable
+    public static String getAudioTrackSpokenLanguage(VirtualTrack audioVirtualTrack, List<PayloadRecord> essencesHeaderPartition,
+                                                     @Nullable HeaderPartitionCache headerPartitionCache) throws IOException {
         IMFErrorLogger imfErrorLogger = new IMFErrorLoggerImpl();
         if(audioVirtualTrack.getSequenceTypeEnum() != Composition.SequenceTypeEnum.MainAudioSequence){
             throw new IMFException(String.format("Virtual track that was passed in is of type %s, spoken language is " +
@@ -638,7 +717,7 @@ public class IMPValidator {
         List<VirtualTrack> virtualTracks = new ArrayList<>();
         virtualTracks.add(audioVirtualTrack);
         imfErrorLogger.addAllErrors(checkVirtualTrackAndEssencesHeaderPartitionPayloadRecords(virtualTracks,
-                essencesHeaderPartition));
+                essencesHeaderPartition, headerPartitionCache));
         if(imfErrorLogger.hasFatalErrors()){
             throw new IMFException(String.format("Fatal Errors were detected when trying to verify the Virtual Track and Essence Header Partition payloads %s", Utilities.serializeObjectCollectionToString(imfErrorLogger.getErrors())));
         }
@@ -649,10 +728,7 @@ public class IMPValidator {
                         payloadRecord.getPayloadAssetType(), PayloadRecord.PayloadAssetType.EssencePartition.toString
                                 ()), imfErrorLogger);
             }
-            HeaderPartition headerPartition = new HeaderPartition(new ByteArrayDataProvider(payloadRecord.getPayload()),
-                0L,
-                (long) payloadRecord.getPayload().length,
-                imfErrorLogger);
+            HeaderPartition headerPartition = HeaderPartitionCache.getHeaderPartitionTuple(headerPartitionCache, payloadRecord, imfErrorLogger).getHeaderPartition();
             audioLanguageSet.add(headerPartition.getAudioEssenceSpokenLanguage());
         }
 
@@ -680,7 +756,8 @@ public class IMPValidator {
 
     private static List<ErrorLogger.ErrorObject> checkVirtualTrackAndEssencesHeaderPartitionPayloadRecords(List<VirtualTrack>
                                                                                                virtualTracks,
-                                                                               List<PayloadRecord> essencesHeaderPartition) throws IOException {
+                                                                               List<PayloadRecord> essencesHeaderPartition,
+                                                                               @Nullable HeaderPartitionCache headerPartitionCache) throws IOException {
         IMFErrorLogger imfErrorLogger = new IMFErrorLoggerImpl();
         Set<UUID> trackFileIDsSet = new HashSet<>();
 
@@ -690,10 +767,7 @@ public class IMPValidator {
                         payloadRecord.getPayloadAssetType(), PayloadRecord.PayloadAssetType.EssencePartition.toString
                                 ()), imfErrorLogger);
             }
-            HeaderPartition headerPartition = new HeaderPartition(new ByteArrayDataProvider(payloadRecord.getPayload()),
-                    0L,
-                    (long) payloadRecord.getPayload().length,
-                    imfErrorLogger);
+            HeaderPartition headerPartition = HeaderPartitionCache.getHeaderPartitionTuple(headerPartitionCache, payloadRecord, imfErrorLogger).getHeaderPartition();
             Preface preface = headerPartition.getPreface();
             GenericPackage genericPackage = preface.getContentStorage().getEssenceContainerDataList().get(0).getLinkedPackage();
             SourcePackage filePackage = (SourcePackage) genericPackage;
@@ -792,9 +866,9 @@ public class IMPValidator {
             File inputFile = new File(arg);
             ResourceByteRangeProvider resourceByteRangeProvider = new FileByteRangeProvider(inputFile);
             byte[] bytes = resourceByteRangeProvider.getByteRangeAsBytes(0, resourceByteRangeProvider.getResourceSize() - 1);
-            PayloadRecord payloadRecord = new PayloadRecord(bytes, PayloadRecord.PayloadAssetType.Unknown, 0L, resourceByteRangeProvider.getResourceSize());
+            PayloadRecord payloadRecord = new PayloadRecord(ByteBuffer.wrap(bytes), PayloadRecord.PayloadAssetType.Unknown, 0L, resourceByteRangeProvider.getResourceSize());
             PayloadRecord.PayloadAssetType payloadAssetType = IMPValidator.getPayloadType(payloadRecord);
-            payloadRecord = new PayloadRecord(bytes, payloadAssetType, 0L, resourceByteRangeProvider.getResourceSize());
+            payloadRecord = new PayloadRecord(ByteBuffer.wrap(bytes), payloadAssetType, 0L, resourceByteRangeProvider.getResourceSize());
             switch (payloadAssetType) {
                 case PackingList:
                     packingListFile = inputFile;
@@ -820,11 +894,11 @@ public class IMPValidator {
                 && packingListFile != null){
             ResourceByteRangeProvider resourceByteRangeProvider = new FileByteRangeProvider(assetMapFile);
             byte[] bytes = resourceByteRangeProvider.getByteRangeAsBytes(0, resourceByteRangeProvider.getResourceSize() - 1);
-            PayloadRecord assetMapPayloadRecord = new PayloadRecord(bytes, PayloadRecord.PayloadAssetType.AssetMap, 0L, resourceByteRangeProvider.getResourceSize());
+            PayloadRecord assetMapPayloadRecord = new PayloadRecord(ByteBuffer.wrap(bytes), PayloadRecord.PayloadAssetType.AssetMap, 0L, resourceByteRangeProvider.getResourceSize());
 
             resourceByteRangeProvider = new FileByteRangeProvider(packingListFile);
             bytes = resourceByteRangeProvider.getByteRangeAsBytes(0, resourceByteRangeProvider.getResourceSize() - 1);
-            PayloadRecord packingListPayloadRecord = new PayloadRecord(bytes, PayloadRecord.PayloadAssetType.PackingList, 0L, resourceByteRangeProvider.getResourceSize());
+            PayloadRecord packingListPayloadRecord = new PayloadRecord(ByteBuffer.wrap(bytes), PayloadRecord.PayloadAssetType.PackingList, 0L, resourceByteRangeProvider.getResourceSize());
             List<PayloadRecord> packingListPayloadRecords = new ArrayList<>();
             packingListPayloadRecords.add(packingListPayloadRecord);
 
@@ -870,12 +944,12 @@ public class IMPValidator {
                 continue;
             }
             try {
-                PartitionPack partitionPack = new PartitionPack(new ByteArrayDataProvider(payloadRecord.getPayload()));
+                PartitionPack partitionPack = new PartitionPack(new ByteBufferDataProvider(payloadRecord.getPayloadBuffer()));
                 if (partitionPack.hasIndexTableSegments())
                 {//logic to provide as an input stream the portion of the archive that contains a Partition
-                    ByteProvider imfEssenceComponentByteProvider = new ByteArrayDataProvider(payloadRecord.getPayload());
+                    ByteProvider imfEssenceComponentByteProvider = new ByteBufferDataProvider(payloadRecord.getPayloadBuffer());
 
-                    long numBytesToRead = payloadRecord.getPayload().length;
+                    long numBytesToRead = payloadRecord.getPayloadSize();
                     long numBytesRead = 0;
                     while (numBytesRead < numBytesToRead) {
                             KLVPacket.Header header = new KLVPacket.Header(imfEssenceComponentByteProvider, 0);
@@ -912,7 +986,7 @@ public class IMPValidator {
         }
 
         try {
-            OutputProfileList.getOutputProfileListType(new ByteArrayByteRangeProvider(opl.getPayload()), imfErrorLogger);
+            OutputProfileList.getOutputProfileListType(new ByteBufferByteRangeProvider(opl.getPayloadBuffer()), imfErrorLogger);
         }
         catch(IMFException e)
         {
@@ -942,8 +1016,8 @@ public class IMPValidator {
 
             HeaderPartition headerPartition = null;
             try {
-                headerPartition = new HeaderPartition(new ByteArrayDataProvider(headerPayloadRecord.getPayload()),
-                        0L, (long) headerPayloadRecord.getPayload().length, imfErrorLogger);
+                headerPartition = new HeaderPartition(new ByteBufferDataProvider(headerPayloadRecord.getPayloadBuffer()),
+                        0L, (long) headerPayloadRecord.getPayloadSize(), imfErrorLogger);
 
                 MXFOperationalPattern1A.HeaderPartitionOP1A headerPartitionOP1A = MXFOperationalPattern1A.checkOperationalPattern1ACompliance(headerPartition, imfErrorLogger);
                 IMFConstraints.HeaderPartitionIMF headerPartitionIMF = IMFConstraints.checkIMFCompliance(headerPartitionOP1A, imfErrorLogger);
@@ -956,11 +1030,11 @@ public class IMPValidator {
                                         indexPayloadRecord.getPayloadAssetType(), PayloadRecord.PayloadAssetType.EssencePartition.toString()));
                         continue;
                     }
-                    PartitionPack partitionPack = new PartitionPack(new ByteArrayDataProvider(indexPayloadRecord.getPayload()));
+                    PartitionPack partitionPack = new PartitionPack(new ByteBufferDataProvider(indexPayloadRecord.getPayloadBuffer()));
                     if (partitionPack.hasIndexTableSegments()) {//logic to provide as an input stream the portion of the archive that contains a Partition
-                        ByteProvider imfEssenceComponentByteProvider = new ByteArrayDataProvider(indexPayloadRecord.getPayload());
+                        ByteProvider imfEssenceComponentByteProvider = new ByteBufferDataProvider(indexPayloadRecord.getPayloadBuffer());
 
-                        long numBytesToRead = indexPayloadRecord.getPayload().length;
+                        long numBytesToRead = indexPayloadRecord.getPayloadSize();
                         long numBytesRead = 0;
                         while (numBytesRead < numBytesToRead) {
                             KLVPacket.Header header = new KLVPacket.Header(imfEssenceComponentByteProvider, 0);
@@ -2,13 +2,14 @@ package com.netflix.imflibrary.RESTfulInterfaces;
 
 
 import javax.annotation.Nullable;
+import java.nio.ByteBuffer;
 import java.util.Arrays;
 
 /**
  * An object model for submitting Payloads to Photon
  */
 public class PayloadRecord {
-    private final byte[] payload;
+    private final ByteBuffer payload;
     private final PayloadAssetType payloadAssetType;
     private final Long originalFileOffset;
     private final Long originalSize;
@@ -21,7 +22,20 @@ public class PayloadRecord {
      * @param originalSize - size of the payload as read from the original asset/file
      */
     public PayloadRecord(byte[] payload, PayloadAssetType payloadAssetType, @Nullable Long originalFileOffset, @Nullable Long originalSize){
-        this.payload = Arrays.copyOf(payload, payload.length);
+        this(ByteBuffer.wrap(Arrays.copyOf(payload, payload.length)), payloadAssetType, originalFileOffset, originalSize);
+    }
+
+    /**
+     * A constructor for the Payloads to be passed in to Photon for validation/metadata extraction that wraps the raw bytes
+     * of the payload without copying them. The bytes between the position and the limit of the buffer passed in constitute
+     * the payload, the caller must not modify them once this PayloadRecord has been created.
+     * @param payload - a ByteBuffer consisting of the raw bytes of the payload, its position and limit are left unchanged
+     * @param payloadAssetType - a payload asset type to indicate what data is being passed in
+     * @param originalFileOffset - offset of the data in the original asset/file
+     * @param originalSize - size of the payload as read from the original asset/file
+     */
+    public PayloadRecord(ByteBuffer payload, PayloadAssetType payloadAssetType, @Nullable Long originalFileOffset, @Nullable Long originalSize){
+        this.payload = payload.slice().asReadOnlyBuffer();
         this.payloadAssetType = payloadAssetType;
         this.originalFileOffset = originalFileOffset;
         this.originalSize = originalSize;
@@ -29,10 +43,29 @@ public class PayloadRecord {
 
     /**
      * A getter for the Payload raw bytes
-     * @return a byte[] containing the raw bytes that need to be analyzed
+     * @return a byte[] containing a copy of the raw bytes that need to be analyzed
      */
     public byte[] getPayload(){
-        return Arrays.copyOf(payload, payload.length);
+        byte[] bytes = new byte[this.payload.capacity()];
+        this.payload.duplicate().get(bytes);
+        return bytes;
+    }
+
+    /**
+     * A getter for the Payload raw bytes that does not copy them
+     * @return a read-only ByteBuffer positioned at the first byte of the payload, the caller may freely modify its position
+     * and limit
+     */
+    public ByteBuffer getPayloadBuffer(){
+        return this.payload.duplicate();
+    }
+
+    /**
+     * A getter for the size of the Payload
+     * @return the number of raw bytes in the payload
+     */
+    public int getPayloadSize(){
+        return this.payload.capacity();
     }
 
     /**
@@ -0,0 +1,191 @@
+/*
+ *
+ * Copyright 2015 Netflix, Inc.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ *
+ */
+
+package com.netflix.imflibrary.RESTfulInterfaces;
+
+import com.netflix.imflibrary.st0429_8.PackingList;
+import com.netflix.imflibrary.st0429_9.AssetMap;
+import com.netflix.imflibrary.st2067_100.OutputProfileList;
+import com.netflix.imflibrary.st2067_2.AbstractApplicationComposition;
+import com.netflix.imflibrary.utils.ByteBufferByteRangeProvider;
+import com.netflix.imflibrary.utils.ResourceByteRangeProvider;
+import com.netflix.imflibrary.utils.XMLRootElementReader;
+
+import javax.annotation.concurrent.Immutable;
+import javax.xml.namespace.QName;
+import javax.xml.stream.XMLStreamException;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+
+/**
+ * A stateless classifier that identifies the kind of an IMF XML document (AssetMap, PackingList, CompositionPlaylist or
+ * OutputProfileList) and the version of the schema it corresponds to from the qualified name of its root element. The
+ * document is streamed only until the start tag of the root element, it is neither parsed in its entirety nor validated.
+ */
+public final class PayloadTypeClassifier
+{
+    private static final Classification UNKNOWN = new Classification(PayloadRecord.PayloadAssetType.Unknown, "", "");
+
+    private PayloadTypeClassifier()
+    {
+        //to prevent instantiation
+    }
+
+    /**
+     * A stateless method that classifies an XML document
+     * @param payload - the raw bytes of the XML document
+     * @return the classification of the document, the asset type is Unknown if the root element of the document does not
+     * correspond to any of the supported IMF document types or if the document is not well-formed
+     * @throws IOException - any I/O related error is exposed through an IOException
+     */
+    public static Classification classify(byte[] payload) throws IOException
+    {
+        try (InputStream inputStream = new ByteArrayInputStream(payload))
+        {
+            return classify(inputStream);
+        }
+    }
+
+    /**
+     * A stateless method that classifies an XML document without copying its bytes
+     * @param payload - the raw bytes of the XML document between the position and the limit of the buffer, its position and
+     *                limit are left unchanged
+     * @return the classification of the document, the asset type is Unknown if the root element of the document does not
+     * correspond to any of the supported IMF document types or if the document is not well-formed
+     * @throws IOException - any I/O related error is exposed through an IOException
+     */
+    public static Classification classify(ByteBuffer payload) throws IOException
+    {
+        if (!payload.hasRemaining())
+        {
+            return UNKNOWN;
+        }
+        ResourceByteRangeProvider resourceByteRangeProvider = new ByteBufferByteRangeProvider(payload);
+        try (InputStream inputStream = resourceByteRangeProvider.getByteRangeAsStream(0, resourceByteRangeProvider.getResourceSize() - 1))
+        {
+            return classify(inputStream);
+        }
+    }
+
+    /**
+     * A stateless method that classifies an XML document
+     * @param inputStream - a stream positioned at the beginning of the XML document, it is not closed by this method
+     * @return the classification of the document, the asset type is Unknown if the root element of the document does not
+     * correspond to any of the supported IMF document types or if the document is not well-formed
+     * @throws IOException - any I/O related error is exposed through an IOException
+     */
+    public static Classification classify(InputStream inputStream) throws IOException
+    {
+        QName rootElement;
+        try
+        {
+            rootElement = XMLRootElementReader.getRootElement(inputStream);
+        }
+        catch (XMLStreamException e)
+        {
+            return UNKNOWN;
+        }
+        if (rootElement == null)
+        {
+            return UNKNOWN;
+        }
+
+        String namespaceURI = rootElement.getNamespaceURI();
+        PayloadRecord.PayloadAssetType payloadAssetType = PayloadRecord.PayloadAssetType.Unknown;
+        switch (rootElement.getLocalPart())
+        {
+            case "AssetMap":
+                if (AssetMap.supportedAssetMapSchemaURIs.contains(namespaceURI))
+                {
+                    payloadAssetType = PayloadRecord.PayloadAssetType.AssetMap;
+                }
+                break;
+            case "PackingList":
+                if (PackingList.supportedPKLNamespaces.contains(namespaceURI))
+                {
+                    payloadAssetType = PayloadRecord.PayloadAssetType.PackingList;
+                }
+                break;
+            case "CompositionPlaylist":
+                if (AbstractApplicationComposition.getSupportedCPLSchemaURIs().contains(namespaceURI))
+                {
+                    payloadAssetType = PayloadRecord.PayloadAssetType.CompositionPlaylist;
+                }
+                break;
+            default:
+                if (OutputProfileList.outputProfileList_QNAME.equals(rootElement))
+                {
+                    payloadAssetType = PayloadRecord.PayloadAssetType.OutputProfileList;
+                }
+                break;
+        }
+
+        if (payloadAssetType == PayloadRecord.PayloadAssetType.Unknown)
+        {
+            return UNKNOWN;
+        }
+        return new Classification(payloadAssetType, namespaceURI, XMLRootElementReader.getNamespaceVersion(namespaceURI));
+    }
+
+    /**
+     * This class represents the result of classifying an XML document
+     */
+    @Immutable
+    public static final class Classification
+    {
+        private final PayloadRecord.PayloadAssetType payloadAssetType;
+        private final String namespaceURI;
+        private final String schemaVersion;
+
+        private Classification(PayloadRecord.PayloadAssetType payloadAssetType, String namespaceURI, String schemaVersion)
+        {
+            this.payloadAssetType = payloadAssetType;
+            this.namespaceURI = namespaceURI;
+            this.schemaVersion = schemaVersion;
+        }
+
+        /**
+         * Getter for the asset type of the document
+         * @return the PayloadAssetType of the document
+         */
+        public PayloadRecord.PayloadAssetType getPayloadAssetType()
+        {
+            return this.payloadAssetType;
+        }
+
+        /**
+         * Getter for the namespace URI of the root element of the document
+         * @return the namespace URI, an empty string if the document could not be classified
+         */
+        public String getNamespaceURI()
+        {
+            return this.namespaceURI;
+        }
+
+        /**
+         * Getter for the version of the schema that the document corresponds to, for e.g., "2013" or "2016"
+         * @return the schema version, an empty string if the document could not be classified
+         */
+        public String getSchemaVersion()
+        {
+            return this.schemaVersion;
+        }
+    }
+}
@@ -39,7 +39,6 @@ import org.smpte_ra.schemas.st2067_2_2013.LocaleType;
 import org.smpte_ra.schemas.st2067_2_2013.SegmentType;
 import org.smpte_ra.schemas.st2067_2_2013.SequenceType;
 import org.smpte_ra.schemas.st2067_2_2013.UserTextType;
-import com.netflix.imflibrary.st0377.header.InterchangeObject;
 import com.netflix.imflibrary.utils.FileByteRangeProvider;
 import com.netflix.imflibrary.utils.ResourceByteRangeProvider;
 import com.netflix.imflibrary.writerTools.IMFCPLObjectFieldsFactory;
@@ -198,21 +197,19 @@ final class IMFTrackFileCPLBuilder {
 
         try {
             List<EssenceDescriptorBaseType> essenceDescriptorList = this.cplRoot.getEssenceDescriptorList().getEssenceDescriptor();
-            List<InterchangeObject.InterchangeObjectBO> essenceDescriptors = this.imfTrackFileReader.getEssenceDescriptors(imfErrorLogger);
-            for(InterchangeObject.InterchangeObjectBO essenceDescriptor : essenceDescriptors) {
-                KLVPacket.Header essenceDescriptorHeader = essenceDescriptor.getHeader();
-                List<KLVPacket.Header> subDescriptorHeaders = this.imfTrackFileReader.getSubDescriptorKLVHeader(essenceDescriptor, imfErrorLogger);
-                /*Create a dom*/
-                DocumentBuilderFactory docFactory = DocumentBuilderFactory.newInstance();
-                DocumentBuilder docBuilder = docFactory.newDocumentBuilder();
-                Document document = docBuilder.newDocument();
-
+            /*Create a dom*/
+            DocumentBuilderFactory docFactory = DocumentBuilderFactory.newInstance();
+            DocumentBuilder docBuilder = docFactory.newDocumentBuilder();
+            Document document = docBuilder.newDocument();
+            document.setXmlStandalone(true);
+
+            List<DocumentFragment> documentFragments = this.imfTrackFileReader.getEssenceDescriptorDocumentFragments(document, imfErrorLogger);
+            for(DocumentFragment documentFragment : documentFragments) {
                 EssenceDescriptorBaseType essenceDescriptorBaseType = new EssenceDescriptorBaseType();
                 String uuid = IMFUUIDGenerator.getInstance().getUrnUUID();
                 essenceDescriptorBaseType.setId(uuid);
                 uuidList.add(uuid);
 
-                DocumentFragment documentFragment = this.getEssenceDescriptorAsDocumentFragment(document, essenceDescriptorHeader, subDescriptorHeaders, imfErrorLogger);
                 Node node = documentFragment.getFirstChild();
 
                 essenceDescriptorBaseType.getAny().add(node);
@@ -22,6 +22,7 @@ import com.netflix.imflibrary.*;
 import com.netflix.imflibrary.exceptions.IMFException;
 import com.netflix.imflibrary.exceptions.MXFException;
 import com.netflix.imflibrary.st0377.HeaderPartition;
+import com.netflix.imflibrary.st0377.IndexTable;
 import com.netflix.imflibrary.st0377.IndexTableSegment;
 import com.netflix.imflibrary.st0377.PartitionPack;
 import com.netflix.imflibrary.st0377.RandomIndexPack;
@@ -32,16 +33,17 @@ import com.netflix.imflibrary.st0377.header.GenericPackage;
 import com.netflix.imflibrary.st0377.header.InterchangeObject;
 import com.netflix.imflibrary.st0377.header.Preface;
 import com.netflix.imflibrary.st0377.header.SourcePackage;
-import com.netflix.imflibrary.utils.ByteArrayDataProvider;
 import com.netflix.imflibrary.utils.ByteProvider;
 import com.netflix.imflibrary.utils.ErrorLogger;
 import com.netflix.imflibrary.utils.FileByteRangeProvider;
-import com.netflix.imflibrary.utils.FileDataProvider;
+import com.netflix.imflibrary.utils.RegXMLLibHelper;
 import com.netflix.imflibrary.utils.ResourceByteRangeProvider;
+import com.netflix.imflibrary.utils.TailPrefetchByteRangeProvider;
 import com.netflix.imflibrary.utils.Utilities;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.w3c.dom.Document;
+import org.w3c.dom.DocumentFragment;
 
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
@@ -50,12 +52,11 @@ import javax.xml.parsers.DocumentBuilder;
 import javax.xml.parsers.DocumentBuilderFactory;
 import javax.xml.parsers.ParserConfigurationException;
 import javax.xml.transform.TransformerException;
+import java.io.Closeable;
 import java.io.File;
 import java.io.IOException;
 import java.math.BigInteger;
 import java.nio.ByteBuffer;
-import java.nio.file.Files;
-import java.nio.file.Paths;
 import java.util.*;
 
 /**
@@ -71,6 +72,7 @@ final class IMFTrackFileReader
     private volatile List<PartitionPack> referencedPartitionPacks = null;
     private volatile IMFConstraints.HeaderPartitionIMF headerPartition;
     private volatile List<IndexTableSegment> indexTableSegments = null;
+    private volatile IndexTable indexTable = null;
 
 
     private static final Logger logger = LoggerFactory.getLogger(IMFTrackFileReader.class);
@@ -83,7 +85,7 @@ final class IMFTrackFileReader
     IMFTrackFileReader(File workingDirectory, ResourceByteRangeProvider resourceByteRangeProvider)
     {
         this.workingDirectory = workingDirectory;
-        this.resourceByteRangeProvider = resourceByteRangeProvider;
+        this.resourceByteRangeProvider = new TailPrefetchByteRangeProvider(resourceByteRangeProvider);
     }
 
     private IMFConstraints.HeaderPartitionIMF getHeaderPartitionIMF(@Nonnull IMFErrorLogger imfErrorLogger) throws IOException
@@ -116,8 +118,7 @@ final class IMFTrackFileReader
 
     private void setHeaderPartitionIMF(long inclusiveRangeStart, long inclusiveRangeEnd, @Nonnull IMFErrorLogger imfErrorLogger) throws IOException
     {
-        File fileWithHeaderPartition = this.resourceByteRangeProvider.getByteRange(inclusiveRangeStart, inclusiveRangeEnd, this.workingDirectory);
-        ByteProvider byteProvider = this.getByteProvider(fileWithHeaderPartition);
+        ByteProvider byteProvider = this.getByteProvider(inclusiveRangeStart, inclusiveRangeEnd);
         HeaderPartition headerPartition = null;
         try {
             headerPartition = new HeaderPartition(byteProvider, inclusiveRangeStart, inclusiveRangeEnd - inclusiveRangeStart + 1, imfErrorLogger);
@@ -146,6 +147,11 @@ final class IMFTrackFileReader
             }
             throw new IMFException(String.format("Fatal errors in the IMFTrackFile's Header Partition"), imfErrorLogger);
         }
+        finally {
+            if(byteProvider instanceof Closeable){
+                ((Closeable) byteProvider).close();
+            }
+        }
     }
 
     private List<IndexTableSegment> getIndexTableSegments(@Nonnull IMFErrorLogger imfErrorLogger) throws IOException
@@ -175,6 +181,36 @@ final class IMFTrackFileReader
         this.indexTableSegments = Collections.unmodifiableList(indexTableSegments);
     }
 
+    /**
+     * Returns a model instance corresponding to the index table of the essence in the MXF file, that maps every edit unit
+     * of the essence to its byte offset and size in the MXF file
+     * @param imfErrorLogger an error logger for recording any errors - cannot be null
+     * @return a {@link com.netflix.imflibrary.st0377.IndexTable} built from all the IndexTable segments of the MXF file
+     * @throws IOException - any I/O related error is exposed through an IOException
+     */
+    IndexTable getIndexTable(@Nonnull IMFErrorLogger imfErrorLogger) throws IOException
+    {
+        if (this.indexTable == null)
+        {
+            List<PartitionPack> partitionPacks = getPartitionPacks(imfErrorLogger);
+            KLVPacket.Header essenceElementHeader = null;
+            for (PartitionPack partitionPack : partitionPacks)
+            {
+                if (partitionPack.hasEssenceContainer() && partitionPack.getEssenceStreamSegmentStartStreamPosition() == 0)
+                {
+                    long byteOffset = partitionPack.getPartitionDataByteOffset() + partitionPack.getHeaderByteCount() + partitionPack.getIndexByteCount();
+                    long rangeEnd = Math.min(byteOffset + (KLVPacket.KEY_FIELD_SIZE + KLVPacket.LENGTH_FIELD_SUFFIX_MAX_SIZE) - 1,
+                            this.resourceByteRangeProvider.getResourceSize() - 1);
+                    essenceElementHeader = new KLVPacket.Header(this.getByteProvider(byteOffset, rangeEnd), byteOffset);
+                    break;
+                }
+            }
+            this.indexTable = new IndexTable(getIndexTableSegments(imfErrorLogger), partitionPacks,
+                    this.resourceByteRangeProvider.getResourceSize(), essenceElementHeader);
+        }
+        return this.indexTable;
+    }
+
     private List<IndexTableSegment> getIndexTableSegments(long inclusivePartitionStart, long inclusivePartitionEnd) throws IOException
     {
         long archiveFileSize = this.resourceByteRangeProvider.getResourceSize();
@@ -184,8 +220,7 @@ final class IMFTrackFileReader
                     (KLVPacket.KEY_FIELD_SIZE + KLVPacket.LENGTH_FIELD_SUFFIX_MAX_SIZE) -1;
             rangeEnd = rangeEnd < (archiveFileSize - 1) ? rangeEnd : (archiveFileSize - 1);
 
-            File fileWithPartitionPackKLVPacketHeader = this.resourceByteRangeProvider.getByteRange(inclusivePartitionStart, rangeEnd, this.workingDirectory);
-            ByteProvider byteProvider = this.getByteProvider(fileWithPartitionPackKLVPacketHeader);
+            ByteProvider byteProvider = this.getByteProvider(inclusivePartitionStart, rangeEnd);
             header = new KLVPacket.Header(byteProvider, inclusivePartitionStart);
         }
 
@@ -196,8 +231,7 @@ final class IMFTrackFileReader
                     (KLVPacket.KEY_FIELD_SIZE + header.getLSize() + header.getVSize()) -1;
             rangeEnd = rangeEnd < (archiveFileSize - 1) ? rangeEnd : (archiveFileSize - 1);
 
-            File fileWithPartitionPack = this.resourceByteRangeProvider.getByteRange(inclusivePartitionStart, rangeEnd, this.workingDirectory);
-            ByteProvider byteProvider = this.getByteProvider(fileWithPartitionPack);
+            ByteProvider byteProvider = this.getByteProvider(inclusivePartitionStart, rangeEnd);
             partitionPack = new PartitionPack(byteProvider, inclusivePartitionStart, false);
         }
 
@@ -208,26 +242,34 @@ final class IMFTrackFileReader
             long rangeEnd = inclusivePartitionEnd;
             rangeEnd = rangeEnd < (archiveFileSize - 1) ? rangeEnd : (archiveFileSize - 1);
 
-            File fileWithPartition = this.resourceByteRangeProvider.getByteRange(inclusivePartitionStart, rangeEnd, this.workingDirectory);
-            ByteProvider byteProvider = this.getByteProvider(fileWithPartition);
+            ByteProvider byteProvider = this.getByteProvider(inclusivePartitionStart, rangeEnd);
 
-            long numBytesToRead = rangeEnd - inclusivePartitionStart + 1;
-            long numBytesRead = 0;
-            while (numBytesRead < numBytesToRead)
+            try
             {
-                header = new KLVPacket.Header(byteProvider, byteOffset);
-                numBytesRead += header.getKLSize();
-
-                if (IndexTableSegment.isValidKey(header.getKey()))
+                long numBytesToRead = rangeEnd - inclusivePartitionStart + 1;
+                long numBytesRead = 0;
+                while (numBytesRead < numBytesToRead)
                 {
-                    indexTableSegments.add(new IndexTableSegment(byteProvider, header));
+                    header = new KLVPacket.Header(byteProvider, byteOffset);
+                    numBytesRead += header.getKLSize();
+
+                    if (IndexTableSegment.isValidKey(header.getKey()))
+                    {
+                        indexTableSegments.add(new IndexTableSegment(byteProvider, header));
+                    }
+                    else
+                    {
+                        byteProvider.skipBytes(header.getVSize());
+                    }
+                    numBytesRead += header.getVSize();
+                    byteOffset += numBytesRead;
                 }
-                else
-                {
-                    byteProvider.skipBytes(header.getVSize());
+            }
+            finally
+            {
+                if(byteProvider instanceof Closeable){
+                    ((Closeable) byteProvider).close();
                 }
-                numBytesRead += header.getVSize();
-                byteOffset += numBytesRead;
             }
 
         }
@@ -350,8 +392,7 @@ final class IMFTrackFileReader
                     (KLVPacket.KEY_FIELD_SIZE + KLVPacket.LENGTH_FIELD_SUFFIX_MAX_SIZE) -1;
             rangeEnd = rangeEnd < (archiveFileSize - 1) ? rangeEnd : (archiveFileSize - 1);
 
-            File fileWithPartitionPackKLVPacketHeader = this.resourceByteRangeProvider.getByteRange(resourceOffset, rangeEnd, this.workingDirectory);
-            ByteProvider byteProvider = this.getByteProvider(fileWithPartitionPackKLVPacketHeader);
+            ByteProvider byteProvider = this.getByteProvider(resourceOffset, rangeEnd);
             header = new KLVPacket.Header(byteProvider, resourceOffset);
         }
 
@@ -364,8 +405,7 @@ final class IMFTrackFileReader
                     -1;
             rangeEnd = rangeEnd < (archiveFileSize - 1) ? rangeEnd : (archiveFileSize - 1);
 
-            File fileWithPartitionPack = this.resourceByteRangeProvider.getByteRange(resourceOffset, rangeEnd, this.workingDirectory);
-            ByteProvider byteProvider = this.getByteProvider(fileWithPartitionPack);
+            ByteProvider byteProvider = this.getByteProvider(resourceOffset, rangeEnd);
             partitionPack = new PartitionPack(byteProvider, resourceOffset, true);
 
         }
@@ -396,8 +436,7 @@ final class IMFTrackFileReader
             long rangeEnd = archiveFileSize - 1;
             long rangeStart = archiveFileSize - 4;
 
-            File fileWithRandomIndexPackSize = this.resourceByteRangeProvider.getByteRange(rangeStart, rangeEnd, this.workingDirectory);
-            byte[] bytes = Files.readAllBytes(Paths.get(fileWithRandomIndexPackSize.toURI()));
+            byte[] bytes = this.resourceByteRangeProvider.getByteRangeAsBytes(rangeStart, rangeEnd);
             randomIndexPackSize = (long)(ByteBuffer.wrap(bytes).getInt());
         }
         //RandomIndexPack size min value = 16 + 4 + 36 + 4
@@ -416,8 +455,7 @@ final class IMFTrackFileReader
                         randomIndexPackSize, archiveFileSize));
             }
 
-            File fileWithRandomIndexPack = this.resourceByteRangeProvider.getByteRange(rangeStart, rangeEnd, this.workingDirectory);
-            ByteProvider byteProvider = this.getByteProvider(fileWithRandomIndexPack);
+            ByteProvider byteProvider = this.getByteProvider(rangeStart, rangeEnd);
             randomIndexPack = new RandomIndexPack(byteProvider, rangeStart, randomIndexPackSize);
         }
 
@@ -461,6 +499,18 @@ final class IMFTrackFileReader
         return subDescriptorHeaders;
     }
 
+    /**
+     * A method that returns the RegXML representations of all the EssenceDescriptors in the MXF file, the EssenceDescriptors
+     * are serialized in one pass over the bytes of the header partition
+     * @param document the XML document that the document fragments are associated with
+     * @param imfErrorLogger an error logger for recording any errors - cannot be null
+     * @return list of DocumentFragments in the order of the EssenceDescriptors in the underlying resource
+     * @throws IOException - any I/O related error will be exposed through an IOException
+     */
+    List<DocumentFragment> getEssenceDescriptorDocumentFragments(Document document, @Nonnull IMFErrorLogger imfErrorLogger) throws IOException {
+        return RegXMLLibHelper.getEssenceDescriptorDocumentFragments(this.getHeaderPartition(imfErrorLogger), this.resourceByteRangeProvider, document, imfErrorLogger);
+    }
+
     /**
      * A method that returns the MXF KLV header corresponding to an EssenceDescriptor in the MXF file
      * @param essenceDescriptor corresponding to the essence in the MXF file
@@ -533,24 +583,11 @@ final class IMFTrackFileReader
      * @throws IOException
      */
     ByteProvider getByteProvider(KLVPacket.Header header) throws IOException {
-        File file = this.resourceByteRangeProvider.getByteRange(header.getByteOffset(), header.getByteOffset() + header.getKLSize() + header.getVSize(), this.workingDirectory);
-        return this.getByteProvider(file);
+        return this.getByteProvider(header.getByteOffset(), header.getByteOffset() + header.getKLSize() + header.getVSize());
     }
 
-    private ByteProvider getByteProvider(File file) throws IOException {
-        ByteProvider byteProvider;
-        Long size = file.length();
-        if(size <= 0){
-            throw new IOException(String.format("Range of bytes (%d) has to be +ve and non-zero", size));
-        }
-        if(size <= Integer.MAX_VALUE) {
-            byte[] bytes = Files.readAllBytes(Paths.get(file.toURI()));
-            byteProvider = new ByteArrayDataProvider(bytes);
-        }
-        else{
-            byteProvider = new FileDataProvider(file);
-        }
-        return byteProvider;
+    private ByteProvider getByteProvider(long rangeStart, long rangeEnd) throws IOException {
+        return ResourceByteRangeProvider.Utilities.getByteProvider(this.resourceByteRangeProvider, rangeStart, rangeEnd, this.workingDirectory);
     }
 
     /**
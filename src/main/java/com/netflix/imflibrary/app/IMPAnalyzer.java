@@ -3,6 +3,7 @@ package com.netflix.imflibrary.app;
 import com.netflix.imflibrary.IMFErrorLogger;
 import com.netflix.imflibrary.IMFErrorLoggerImpl;
 import com.netflix.imflibrary.KLVPacket;
+import com.netflix.imflibrary.RESTfulInterfaces.HeaderPartitionCache;
 import com.netflix.imflibrary.RESTfulInterfaces.IMPValidator;
 import com.netflix.imflibrary.RESTfulInterfaces.PayloadRecord;
 import com.netflix.imflibrary.exceptions.IMFException;
@@ -20,11 +21,14 @@ import com.netflix.imflibrary.st2067_2.ApplicationComposition;
 import com.netflix.imflibrary.st2067_2.ApplicationCompositionFactory;
 import com.netflix.imflibrary.st2067_2.Composition;
 import com.netflix.imflibrary.st2067_2.IMFEssenceComponentVirtualTrack;
-import com.netflix.imflibrary.utils.ByteArrayDataProvider;
-import com.netflix.imflibrary.utils.ByteProvider;
+import com.netflix.imflibrary.utils.ByteBufferDataProvider;
 import com.netflix.imflibrary.utils.ErrorLogger;
+import com.netflix.imflibrary.utils.ExecutorByteRangeProvider;
 import com.netflix.imflibrary.utils.FileByteRangeProvider;
+import com.netflix.imflibrary.utils.FileChannelByteRangeProvider;
 import com.netflix.imflibrary.utils.ResourceByteRangeProvider;
+import com.netflix.imflibrary.utils.TailPrefetchByteRangeProvider;
+import com.netflix.imflibrary.utils.Utilities;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -32,15 +36,23 @@ import javax.annotation.Nullable;
 import java.io.File;
 import java.io.IOException;
 import java.net.URI;
+import java.nio.ByteBuffer;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.FutureTask;
 import java.util.stream.Collectors;
 
 import static com.netflix.imflibrary.RESTfulInterfaces.IMPValidator.validateAssetMap;
@@ -57,7 +69,8 @@ public class IMPAnalyzer {
     private static final Logger logger = LoggerFactory.getLogger(IMPAnalyzer.class);
 
     private static Map<UUID, PayloadRecord> getTrackFileIdToHeaderPartitionPayLoadMap(List<PayloadRecord>
-                                                                                headerPartitionPayloadRecords) throws
+                                                                                headerPartitionPayloadRecords,
+                                                                                HeaderPartitionCache headerPartitionCache) throws
             IOException {
 
         IMFErrorLogger imfErrorLogger = new IMFErrorLoggerImpl();
@@ -72,10 +85,7 @@ public class IMPAnalyzer {
                 continue;
             }
 
-            HeaderPartition headerPartition = new HeaderPartition(new ByteArrayDataProvider(payloadRecord.getPayload()),
-                0L,
-                (long) payloadRecord.getPayload().length,
-                imfErrorLogger);
+            HeaderPartition headerPartition = headerPartitionCache.getHeaderPartition(payloadRecord, imfErrorLogger);
 
             Preface preface = headerPartition.getPreface();
             GenericPackage genericPackage = preface.getContentStorage().getEssenceContainerDataList().get(0).getLinkedPackage();
@@ -117,108 +127,115 @@ public class IMPAnalyzer {
 
     }
 
-    @Nullable
-    private static PayloadRecord getHeaderPartitionPayloadRecord(ResourceByteRangeProvider resourceByteRangeProvider, IMFErrorLogger imfErrorLogger) throws IOException {
+    /**
+     * Reads the RandomIndexPack of a track file, the future completes with the byte offsets of all the partitions of the
+     * track file, or with null if the track file is too small to hold a RandomIndexPack
+     */
+    private static CompletableFuture<List<Long>> getPartitionByteOffsetsAsync(ResourceByteRangeProvider resourceByteRangeProvider) {
         long archiveFileSize = resourceByteRangeProvider.getResourceSize();
         long rangeEnd = archiveFileSize - 1;
         long rangeStart = archiveFileSize - 4;
         if(rangeStart < 0 ) {
-            return null;
+            return CompletableFuture.completedFuture(null);
         }
-        byte[] bytes = resourceByteRangeProvider.getByteRangeAsBytes(rangeStart, rangeEnd);
-        PayloadRecord payloadRecord = new PayloadRecord(bytes, PayloadRecord.PayloadAssetType.EssenceFooter4Bytes, rangeStart, rangeEnd);
-        Long randomIndexPackSize = IMPValidator.getRandomIndexPackSize(payloadRecord);
-
-        rangeStart = archiveFileSize - randomIndexPackSize;
-        rangeEnd = archiveFileSize - 1;
-        if(rangeStart < 0 ) {
-            return null;
-        }
-
-        byte[] randomIndexPackBytes = resourceByteRangeProvider.getByteRangeAsBytes(rangeStart, rangeEnd);
-        PayloadRecord randomIndexPackPayload = new PayloadRecord(randomIndexPackBytes, PayloadRecord.PayloadAssetType.EssencePartition, rangeStart, rangeEnd);
-        List<Long> partitionByteOffsets = IMPValidator.getEssencePartitionOffsets(randomIndexPackPayload, randomIndexPackSize);
-
-        if (partitionByteOffsets.size() >= 2) {
-            rangeStart = partitionByteOffsets.get(0);
-            rangeEnd = partitionByteOffsets.get(1) - 1;
-            byte[] headerPartitionBytes = resourceByteRangeProvider.getByteRangeAsBytes(rangeStart, rangeEnd);
-            PayloadRecord headerParitionPayload = new PayloadRecord(headerPartitionBytes, PayloadRecord.PayloadAssetType.EssencePartition, rangeStart, rangeEnd);
-            return headerParitionPayload;
-        }
-
-
-        return null;
+        return resourceByteRangeProvider.getByteRangeAsBytesAsync(rangeStart, rangeEnd).thenCompose(bytes -> {
+            PayloadRecord payloadRecord = new PayloadRecord(ByteBuffer.wrap(bytes), PayloadRecord.PayloadAssetType.EssenceFooter4Bytes, rangeStart, rangeEnd);
+            Long randomIndexPackSize = IMPValidator.getRandomIndexPackSize(payloadRecord);
 
+            long randomIndexPackStart = archiveFileSize - randomIndexPackSize;
+            if(randomIndexPackStart < 0 ) {
+                return CompletableFuture.completedFuture(null);
+            }
+            return resourceByteRangeProvider.getByteRangeAsBytesAsync(randomIndexPackStart, rangeEnd).thenApply(randomIndexPackBytes -> {
+                PayloadRecord randomIndexPackPayload = new PayloadRecord(ByteBuffer.wrap(randomIndexPackBytes), PayloadRecord.PayloadAssetType.EssencePartition, randomIndexPackStart, rangeEnd);
+                try {
+                    return IMPValidator.getEssencePartitionOffsets(randomIndexPackPayload, randomIndexPackSize);
+                } catch (IOException e) {
+                    throw new CompletionException(e);
+                }
+            });
+        });
     }
 
-    private static PartitionPack getPartitionPack(ResourceByteRangeProvider resourceByteRangeProvider, long resourceOffset) throws IOException
-    {
-        long archiveFileSize = resourceByteRangeProvider.getResourceSize();
-        KLVPacket.Header header;
-        {//logic to provide as an input stream the portion of the archive that contains PartitionPack KLVPacker Header
-            long rangeStart = resourceOffset;
-            long rangeEnd = resourceOffset +
-                    (KLVPacket.KEY_FIELD_SIZE + KLVPacket.LENGTH_FIELD_SUFFIX_MAX_SIZE) -1;
-            rangeEnd = rangeEnd < (archiveFileSize - 1) ? rangeEnd : (archiveFileSize - 1);
-
-            byte[] bytesWithPartitionPackKLVPacketHeader = resourceByteRangeProvider.getByteRangeAsBytes(rangeStart, rangeEnd);
-            ByteProvider imfEssenceComponentByteProvider = new ByteArrayDataProvider(bytesWithPartitionPackKLVPacketHeader);
-            header = new KLVPacket.Header(imfEssenceComponentByteProvider, rangeStart);
-        }
-
-        PartitionPack partitionPack;
-        long rangeStart = resourceOffset;
-        long rangeEnd = resourceOffset + header.getKLSize() + header.getVSize() - 1;
-        rangeEnd = rangeEnd < (archiveFileSize - 1) ? rangeEnd : (archiveFileSize - 1);
-
-        byte[] partitionBytes = resourceByteRangeProvider.getByteRangeAsBytes(rangeStart, rangeEnd);
-        partitionPack = new PartitionPack(new ByteArrayDataProvider(partitionBytes));
-
-        return partitionPack;
+    private static CompletableFuture<PayloadRecord> getHeaderPartitionPayloadRecordAsync(ResourceByteRangeProvider resourceByteRangeProvider,
+                                                                                       CompletableFuture<List<Long>> partitionByteOffsetsFuture) {
+        return partitionByteOffsetsFuture.thenCompose(partitionByteOffsets -> {
+            if (partitionByteOffsets == null || partitionByteOffsets.size() < 2) {
+                return CompletableFuture.completedFuture(null);
+            }
+            long rangeStart = partitionByteOffsets.get(0);
+            long rangeEnd = partitionByteOffsets.get(1) - 1;
+            return resourceByteRangeProvider.getByteRangeAsBytesAsync(rangeStart, rangeEnd).thenApply(headerPartitionBytes ->
+                    new PayloadRecord(ByteBuffer.wrap(headerPartitionBytes), PayloadRecord.PayloadAssetType.EssencePartition, rangeStart, rangeEnd));
+        });
     }
 
-    private static List<PayloadRecord> getIndexTablePartitionPayloadRecords(ResourceByteRangeProvider resourceByteRangeProvider, IMFErrorLogger imfErrorLogger) throws IOException {
-        List<PayloadRecord> payloadRecords = new ArrayList<>();
+    /**
+     * Reads the partitions of a track file that hold IndexTable segments. The KLV headers of all the partition packs, the
+     * partition packs and the index partitions are each requested in a single batch, so that the number of round trips
+     * does not depend on the number of partitions.
+     */
+    private static CompletableFuture<List<PayloadRecord>> getIndexTablePartitionPayloadRecordsAsync(ResourceByteRangeProvider resourceByteRangeProvider,
+                                                                                                  CompletableFuture<List<Long>> partitionByteOffsetsFuture,
+                                                                                                  IMFErrorLogger imfErrorLogger) {
         long archiveFileSize = resourceByteRangeProvider.getResourceSize();
-        long rangeEnd = archiveFileSize - 1;
-        long rangeStart = archiveFileSize - 4;
-        if(rangeStart < 0 ) {
-            return payloadRecords;
-        }
-        byte[] bytes = resourceByteRangeProvider.getByteRangeAsBytes(rangeStart, rangeEnd);
-        PayloadRecord payloadRecord = new PayloadRecord(bytes, PayloadRecord.PayloadAssetType.EssenceFooter4Bytes, rangeStart, rangeEnd);
-        Long randomIndexPackSize = IMPValidator.getRandomIndexPackSize(payloadRecord);
-
-        rangeStart = archiveFileSize - randomIndexPackSize;
-        rangeEnd = archiveFileSize - 1;
-        if(rangeStart < 0 ) {
-            return payloadRecords;
-        }
-
-        byte[] randomIndexPackBytes = resourceByteRangeProvider.getByteRangeAsBytes(rangeStart, rangeEnd);
-        PayloadRecord randomIndexPackPayload = new PayloadRecord(randomIndexPackBytes, PayloadRecord.PayloadAssetType.EssencePartition, rangeStart, rangeEnd);
-        List<Long> partitionByteOffsets = new ArrayList<>();
-        partitionByteOffsets.addAll(IMPValidator.getEssencePartitionOffsets(randomIndexPackPayload, randomIndexPackSize));
-        partitionByteOffsets.add(resourceByteRangeProvider.getResourceSize());
-
-        for(int i =0; i < partitionByteOffsets.size() -1; i++) {
-            rangeStart = partitionByteOffsets.get(i);
-            rangeEnd = partitionByteOffsets.get(i+1) - 1;
-            PartitionPack partitionPack = getPartitionPack(resourceByteRangeProvider, rangeStart);
-            //2067-5 section 5.1.1
-            if (partitionPack.hasEssenceContainer() && partitionPack.hasIndexTableSegments()) {
-                imfErrorLogger.addError(IMFErrorLogger.IMFErrors.ErrorCodes.IMF_ESSENCE_COMPONENT_ERROR,
-                        IMFErrorLogger.IMFErrors.ErrorLevels.NON_FATAL, String.format("Partition %d has both index table and essence", i));
+        return partitionByteOffsetsFuture.thenCompose(offsets -> {
+            if (offsets == null) {
+                return CompletableFuture.completedFuture(new ArrayList<PayloadRecord>());
             }
-            else if (partitionPack.hasIndexTableSegments()) {
-                byte[] partitionBytes = resourceByteRangeProvider.getByteRangeAsBytes(rangeStart, rangeEnd);
-                PayloadRecord partitionPayloadRecord = new PayloadRecord(partitionBytes, PayloadRecord.PayloadAssetType.EssencePartition, rangeStart, rangeEnd);
-                payloadRecords.add(partitionPayloadRecord);
+            List<Long> partitionByteOffsets = new ArrayList<>(offsets);
+            partitionByteOffsets.add(archiveFileSize);
+            int numPartitions = partitionByteOffsets.size() - 1;
+
+            List<ResourceByteRangeProvider.ByteRange> headerRanges = new ArrayList<>();
+            for (int i = 0; i < numPartitions; i++) {
+                long rangeStart = partitionByteOffsets.get(i);
+                long rangeEnd = rangeStart + (KLVPacket.KEY_FIELD_SIZE + KLVPacket.LENGTH_FIELD_SUFFIX_MAX_SIZE) - 1;
+                headerRanges.add(new ResourceByteRangeProvider.ByteRange(rangeStart, Math.min(rangeEnd, archiveFileSize - 1)));
             }
-        }
-        return payloadRecords;
-
+            return resourceByteRangeProvider.getByteRangesAsBytesAsync(headerRanges).thenCompose(headerBytes -> {
+                List<ResourceByteRangeProvider.ByteRange> partitionPackRanges = new ArrayList<>();
+                for (int i = 0; i < numPartitions; i++) {
+                    long rangeStart = partitionByteOffsets.get(i);
+                    KLVPacket.Header header;
+                    try {
+                        header = new KLVPacket.Header(new ByteBufferDataProvider(headerBytes.get(i)), rangeStart);
+                    } catch (IOException e) {
+                        throw new CompletionException(e);
+                    }
+                    long rangeEnd = rangeStart + header.getKLSize() + header.getVSize() - 1;
+                    partitionPackRanges.add(new ResourceByteRangeProvider.ByteRange(rangeStart, Math.min(rangeEnd, archiveFileSize - 1)));
+                }
+                return resourceByteRangeProvider.getByteRangesAsBytesAsync(partitionPackRanges);
+            }).thenCompose(partitionPackBytes -> {
+                List<ResourceByteRangeProvider.ByteRange> indexPartitionRanges = new ArrayList<>();
+                for (int i = 0; i < numPartitions; i++) {
+                    PartitionPack partitionPack;
+                    try {
+                        partitionPack = new PartitionPack(new ByteBufferDataProvider(partitionPackBytes.get(i)));
+                    } catch (IOException e) {
+                        throw new CompletionException(e);
+                    }
+                    //2067-5 section 5.1.1
+                    if (partitionPack.hasEssenceContainer() && partitionPack.hasIndexTableSegments()) {
+                        imfErrorLogger.addError(IMFErrorLogger.IMFErrors.ErrorCodes.IMF_ESSENCE_COMPONENT_ERROR,
+                                IMFErrorLogger.IMFErrors.ErrorLevels.NON_FATAL, String.format("Partition %d has both index table and essence", i));
+                    }
+                    else if (partitionPack.hasIndexTableSegments()) {
+                        indexPartitionRanges.add(new ResourceByteRangeProvider.ByteRange(partitionByteOffsets.get(i), partitionByteOffsets.get(i + 1) - 1));
+                    }
+                }
+                return resourceByteRangeProvider.getByteRangesAsBytesAsync(indexPartitionRanges).thenApply(partitionBytes -> {
+                    List<PayloadRecord> payloadRecords = new ArrayList<>();
+                    for (int i = 0; i < indexPartitionRanges.size(); i++) {
+                        ResourceByteRangeProvider.ByteRange byteRange = indexPartitionRanges.get(i);
+                        payloadRecords.add(new PayloadRecord(ByteBuffer.wrap(partitionBytes.get(i)), PayloadRecord.PayloadAssetType.EssencePartition,
+                                byteRange.getRangeStart(), byteRange.getRangeEnd()));
+                    }
+                    return payloadRecords;
+                });
+            });
+        });
     }
 
     private static List<ErrorLogger.ErrorObject> conformVirtualTrack(ResourceByteRangeProvider cplByteRangeProvider, Composition.VirtualTrack virtualTrack, List<PayloadRecord>
@@ -227,14 +244,120 @@ public class IMPAnalyzer {
         IMFErrorLogger imfErrorLogger = new IMFErrorLoggerImpl();
 
         byte[] bytes = cplByteRangeProvider.getByteRangeAsBytes(0, cplByteRangeProvider.getResourceSize() - 1);
-        PayloadRecord cplPayloadRecord = new PayloadRecord(bytes, PayloadRecord.PayloadAssetType.CompositionPlaylist, 0L, cplByteRangeProvider.getResourceSize());
+        PayloadRecord cplPayloadRecord = new PayloadRecord(ByteBuffer.wrap(bytes), PayloadRecord.PayloadAssetType.CompositionPlaylist, 0L, cplByteRangeProvider.getResourceSize());
 
         imfErrorLogger.addAllErrors(IMPValidator.isVirtualTrackInCPLConformed(cplPayloadRecord, virtualTrack, headerPartitionPayloadRecords));
 
         return imfErrorLogger.getErrors();
     }
 
+    /**
+     * The outcome of analyzing a single track file
+     */
+    private static final class TrackFileAnalysis {
+        @Nullable
+        private final PayloadRecord headerPartitionPayloadRecord;
+        private final List<ErrorLogger.ErrorObject> errors;
+
+        private TrackFileAnalysis(@Nullable PayloadRecord headerPartitionPayloadRecord, List<ErrorLogger.ErrorObject> errors) {
+            this.headerPartitionPayloadRecord = headerPartitionPayloadRecord;
+            this.errors = errors;
+        }
+    }
+
+    private static TrackFileAnalysis analyzeTrackFile(File assetFile, HeaderPartitionCache headerPartitionCache, Executor ioExecutor) throws IOException {
+        IMFErrorLogger trackFileErrorLogger = new IMFErrorLoggerImpl();
+        PayloadRecord validHeaderPartitionPayloadRecord = null;
+
+        try (FileChannelByteRangeProvider fileChannelByteRangeProvider = new FileChannelByteRangeProvider(assetFile)) {
+            ResourceByteRangeProvider resourceByteRangeProvider = new TailPrefetchByteRangeProvider(new ExecutorByteRangeProvider(fileChannelByteRangeProvider, ioExecutor));
+            CompletableFuture<List<Long>> partitionByteOffsets = getPartitionByteOffsetsAsync(resourceByteRangeProvider);
+            CompletableFuture<PayloadRecord> headerPartitionPayloadRecordFuture = getHeaderPartitionPayloadRecordAsync(resourceByteRangeProvider, partitionByteOffsets);
+            IMFErrorLogger indexTableErrorLogger = new IMFErrorLoggerImpl();
+            CompletableFuture<List<PayloadRecord>> indexTablePayloadRecordsFuture = getIndexTablePartitionPayloadRecordsAsync(resourceByteRangeProvider,
+                    partitionByteOffsets, indexTableErrorLogger);
+
+            PayloadRecord headerPartitionPayloadRecord = Utilities.getResult(headerPartitionPayloadRecordFuture);
+            if (headerPartitionPayloadRecord == null) {
+                trackFileErrorLogger.addError(IMFErrorLogger.IMFErrors.ErrorCodes.IMP_VALIDATOR_PAYLOAD_ERROR, IMFErrorLogger.IMFErrors.ErrorLevels.FATAL,
+                        String.format("Failed to get header partition for %s", assetFile.getPath()));
+            } else {
+                List<PayloadRecord> payloadRecords = new ArrayList<>();
+                payloadRecords.add(headerPartitionPayloadRecord);
+                trackFileErrorLogger.addAllErrors(IMPValidator.validateIMFTrackFileHeaderMetadata(payloadRecords, headerPartitionCache));
+                validHeaderPartitionPayloadRecord = headerPartitionPayloadRecord;
+            }
+            List<PayloadRecord>  payloadRecords = Utilities.getResult(indexTablePayloadRecordsFuture);
+            trackFileErrorLogger.addAllErrors(indexTableErrorLogger.getErrors());
+            trackFileErrorLogger.addAllErrors(IMPValidator.validateIndexTableSegments(payloadRecords));
+        } catch( MXFException e) {
+            trackFileErrorLogger.addAllErrors(e.getErrors());
+        }
+        catch( IMFException e) {
+            trackFileErrorLogger.addAllErrors(e.getErrors());
+        }
+
+        return new TrackFileAnalysis(validHeaderPartitionPayloadRecord, trackFileErrorLogger.getErrors());
+    }
+
+    /**
+     * A method that analyzes an IMF package, the track files in the package are analyzed one after the other
+     *
+     * @param rootFile the root directory of the IMF package
+     * @return a map of file names to the errors encountered while analyzing the corresponding files
+     * @throws IOException - any I/O related error is exposed through an IOException
+     */
     public static Map<String, List<ErrorLogger.ErrorObject>> analyzePackage(File rootFile) throws IOException {
+        return analyzePackage(rootFile, Runnable::run);
+    }
+
+    /**
+     * A method that analyzes an IMF package. The header partition and index table segments of the track files referenced
+     * by a PackingList are read and validated by tasks submitted to the executor passed in, so that the track files can be
+     * analyzed concurrently. The results are collected in the order in which the track files are listed in the PackingList,
+     * and the Composition Playlists and Output Profile Lists in the package are analyzed once all the header partitions
+     * have been collected.
+     *
+     * @param rootFile the root directory of the IMF package
+     * @param executor the executor that runs the analysis of individual track files
+     * @return a map of file names to the errors encountered while analyzing the corresponding files
+     * @throws IOException - any I/O related error is exposed through an IOException
+     */
+    public static Map<String, List<ErrorLogger.ErrorObject>> analyzePackage(File rootFile, Executor executor) throws IOException {
+        return analyzePackage(rootFile, executor, new HeaderPartitionCache());
+    }
+
+    /**
+     * A method that analyzes an IMF package, see {@link #analyzePackage(File, Executor)}. The header partitions of the track
+     * files are parsed through the cache passed in, a cache that is shared across the analysis of several packages lets
+     * a long running service reuse the header partitions of the track files that it has already parsed.
+     *
+     * @param rootFile the root directory of the IMF package
+     * @param executor the executor that runs the analysis of individual track files
+     * @param headerPartitionCache a cache of parsed header partitions
+     * @return a map of file names to the errors encountered while analyzing the corresponding files
+     * @throws IOException - any I/O related error is exposed through an IOException
+     */
+    public static Map<String, List<ErrorLogger.ErrorObject>> analyzePackage(File rootFile, Executor executor, HeaderPartitionCache headerPartitionCache) throws IOException {
+        return analyzePackage(rootFile, executor, Runnable::run, headerPartitionCache);
+    }
+
+    /**
+     * A method that analyzes an IMF package, see {@link #analyzePackage(File, Executor, HeaderPartitionCache)}. The reads of
+     * the partitions of a track file are run on the I/O executor passed in, so that the reads that do not depend on each
+     * other, for e.g., those of the header partition and of the index table segments, are in flight at the same time. This
+     * helps when the package is on high latency storage. The I/O executor should not be the executor that runs the analysis
+     * of individual track files if that executor is bounded, since the analysis waits for the completion of the reads.
+     *
+     * @param rootFile the root directory of the IMF package
+     * @param executor the executor that runs the analysis of individual track files
+     * @param ioExecutor the executor on which the reads of the track files are run
+     * @param headerPartitionCache a cache of parsed header partitions
+     * @return a map of file names to the errors encountered while analyzing the corresponding files
+     * @throws IOException - any I/O related error is exposed through an IOException
+     */
+    public static Map<String, List<ErrorLogger.ErrorObject>> analyzePackage(File rootFile, Executor executor, Executor ioExecutor,
+                                                                            HeaderPartitionCache headerPartitionCache) throws IOException {
         Map<String, List<ErrorLogger.ErrorObject>> errorMap = new HashMap<>();
         IMFErrorLogger imfErrorLogger = new IMFErrorLoggerImpl();
         List<PayloadRecord> headerPartitionPayloadRecords = new ArrayList<>();
@@ -255,6 +378,7 @@ public class IMPAnalyzer {
                         PackingList packingList = new PackingList(new File(rootFile, packingListAsset.getPath().toString()));
                         packingListErrorLogger.addAllErrors(packingList.getErrors());
 
+                        Map<File, FutureTask<TrackFileAnalysis>> trackFileAnalysisTasks = new LinkedHashMap<>();
                         for (PackingList.Asset asset : packingList.getAssets()) {
                             if (asset.getType().equals(PackingList.Asset.APPLICATION_MXF_TYPE)) {
                                 URI path = assetMap.getPath(asset.getUUID());
@@ -271,36 +395,21 @@ public class IMPAnalyzer {
                                     continue;
                                 }
 
-                                ResourceByteRangeProvider resourceByteRangeProvider = new FileByteRangeProvider(assetFile);
-
-                                IMFErrorLogger trackFileErrorLogger = new IMFErrorLoggerImpl();
+                                FutureTask<TrackFileAnalysis> trackFileAnalysisTask = new FutureTask<>(() -> analyzeTrackFile(assetFile, headerPartitionCache, ioExecutor));
+                                trackFileAnalysisTasks.put(assetFile, trackFileAnalysisTask);
+                                executor.execute(trackFileAnalysisTask);
+                            }
+                        }
 
-                                try {
-                                    PayloadRecord headerPartitionPayloadRecord = getHeaderPartitionPayloadRecord(resourceByteRangeProvider, trackFileErrorLogger);
-                                    if (headerPartitionPayloadRecord == null) {
-                                        trackFileErrorLogger.addError(IMFErrorLogger.IMFErrors.ErrorCodes.IMP_VALIDATOR_PAYLOAD_ERROR, IMFErrorLogger.IMFErrors.ErrorLevels.FATAL,
-                                                String.format("Failed to get header partition for %s", assetFile.getPath()));
-                                    } else {
-                                        List<PayloadRecord> payloadRecords = new ArrayList<>();
-                                        payloadRecords.add(headerPartitionPayloadRecord);
-                                        trackFileErrorLogger.addAllErrors(IMPValidator.validateIMFTrackFileHeaderMetadata(payloadRecords));
-                                        headerPartitionPayloadRecords.add(headerPartitionPayloadRecord);
-                                    }
-                                    List<PayloadRecord>  payloadRecords = getIndexTablePartitionPayloadRecords(resourceByteRangeProvider, trackFileErrorLogger);
-                                    trackFileErrorLogger.addAllErrors(IMPValidator.validateIndexTableSegments(payloadRecords));
-                                } catch( MXFException e) {
-                                    trackFileErrorLogger.addAllErrors(e.getErrors());
-                                }
-                                catch( IMFException e) {
-                                    trackFileErrorLogger.addAllErrors(e.getErrors());
-                                }
-                                finally {
-                                    errorMap.put(assetFile.getName(), trackFileErrorLogger.getErrors());
-                                }
+                        for (Map.Entry<File, FutureTask<TrackFileAnalysis>> entry : trackFileAnalysisTasks.entrySet()) {
+                            TrackFileAnalysis trackFileAnalysis = Utilities.getResult(entry.getValue());
+                            if (trackFileAnalysis.headerPartitionPayloadRecord != null) {
+                                headerPartitionPayloadRecords.add(trackFileAnalysis.headerPartitionPayloadRecord);
                             }
+                            errorMap.put(entry.getKey().getName(), trackFileAnalysis.errors);
                         }
 
-                        List<ApplicationComposition> applicationCompositionList = analyzeApplicationCompositions( rootFile, assetMap, packingList, headerPartitionPayloadRecords, packingListErrorLogger, errorMap);
+                        List<ApplicationComposition> applicationCompositionList = analyzeApplicationCompositions( rootFile, assetMap, packingList, headerPartitionPayloadRecords, packingListErrorLogger, errorMap, headerPartitionCache);
 
                         analyzeOutputProfileLists( rootFile, assetMap, packingList, applicationCompositionList, packingListErrorLogger, errorMap);
 
@@ -325,12 +434,19 @@ public class IMPAnalyzer {
         return errorMap;
     }
 
-    public static List<ErrorLogger.ErrorObject> validateEssencePartition(ResourceByteRangeProvider resourceByteRangeProvider) throws IOException {
+    public static List<ErrorLogger.ErrorObject> validateEssencePartition(ResourceByteRangeProvider essenceByteRangeProvider) throws IOException {
 
         IMFErrorLogger trackFileErrorLogger = new IMFErrorLoggerImpl();
         List<PayloadRecord> headerPartitionPayloadRecords = new ArrayList<>();
+        ResourceByteRangeProvider resourceByteRangeProvider = new TailPrefetchByteRangeProvider(essenceByteRangeProvider);
 
-        PayloadRecord headerPartitionPayload = getHeaderPartitionPayloadRecord(resourceByteRangeProvider, trackFileErrorLogger);
+        CompletableFuture<List<Long>> partitionByteOffsets = getPartitionByteOffsetsAsync(resourceByteRangeProvider);
+        CompletableFuture<PayloadRecord> headerPartitionPayloadFuture = getHeaderPartitionPayloadRecordAsync(resourceByteRangeProvider, partitionByteOffsets);
+        IMFErrorLogger indexTableErrorLogger = new IMFErrorLoggerImpl();
+        CompletableFuture<List<PayloadRecord>> indexSegmentPayloadRecordsFuture = getIndexTablePartitionPayloadRecordsAsync(resourceByteRangeProvider,
+                partitionByteOffsets, indexTableErrorLogger);
+
+        PayloadRecord headerPartitionPayload = Utilities.getResult(headerPartitionPayloadFuture);
         if(headerPartitionPayload == null) {
             trackFileErrorLogger.addError(IMFErrorLogger.IMFErrors.ErrorCodes.IMP_VALIDATOR_PAYLOAD_ERROR, IMFErrorLogger.IMFErrors.ErrorLevels.FATAL,
                     String.format("Failed to get header partition"));
@@ -341,7 +457,8 @@ public class IMPAnalyzer {
         }
 
         // Validate index table segments
-        List<PayloadRecord>  indexSegmentPayloadRecords = getIndexTablePartitionPayloadRecords(resourceByteRangeProvider, trackFileErrorLogger);
+        List<PayloadRecord>  indexSegmentPayloadRecords = Utilities.getResult(indexSegmentPayloadRecordsFuture);
+        trackFileErrorLogger.addAllErrors(indexTableErrorLogger.getErrors());
         trackFileErrorLogger.addAllErrors(IMPValidator.validateIndexTableSegments(indexSegmentPayloadRecords));
 
         trackFileErrorLogger.addAllErrors(IMPValidator.validateIndexEditRate(headerPartitionPayloadRecords, indexSegmentPayloadRecords));
@@ -413,9 +530,19 @@ public class IMPAnalyzer {
                                                   List<PayloadRecord> headerPartitionPayloadRecords,
                                                   IMFErrorLogger packingListErrorLogger,
                                                   Map<String, List<ErrorLogger.ErrorObject>> errorMap) throws IOException {
+        return analyzeApplicationCompositions(rootFile, assetMap, packingList, headerPartitionPayloadRecords, packingListErrorLogger, errorMap, new HeaderPartitionCache());
+    }
+
+    public static List<ApplicationComposition> analyzeApplicationCompositions( File rootFile,
+                                                  AssetMap assetMap,
+                                                  PackingList packingList,
+                                                  List<PayloadRecord> headerPartitionPayloadRecords,
+                                                  IMFErrorLogger packingListErrorLogger,
+                                                  Map<String, List<ErrorLogger.ErrorObject>> errorMap,
+                                                  HeaderPartitionCache headerPartitionCache) throws IOException {
 
         Map<UUID, PayloadRecord> trackFileIDToHeaderPartitionPayLoadMap =
-                getTrackFileIdToHeaderPartitionPayLoadMap(headerPartitionPayloadRecords);
+                getTrackFileIdToHeaderPartitionPayLoadMap(headerPartitionPayloadRecords, headerPartitionCache);
 
         List<ApplicationComposition> applicationCompositionList = new ArrayList<>();
 
@@ -439,7 +566,7 @@ public class IMPAnalyzer {
                 if (ApplicationComposition.isCompositionPlaylist(resourceByteRangeProvider)) {
                     IMFErrorLogger compositionErrorLogger = new IMFErrorLoggerImpl();
                     IMFErrorLogger compositionConformanceErrorLogger = new IMFErrorLoggerImpl();
-                    PayloadRecord cplPayloadRecord = new PayloadRecord(resourceByteRangeProvider.getByteRangeAsBytes(0, resourceByteRangeProvider.getResourceSize() - 1),
+                    PayloadRecord cplPayloadRecord = new PayloadRecord(ByteBuffer.wrap(resourceByteRangeProvider.getByteRangeAsBytes(0, resourceByteRangeProvider.getResourceSize() - 1)),
                             PayloadRecord.PayloadAssetType.CompositionPlaylist, 0L, resourceByteRangeProvider.getResourceSize());
 
                     try {
@@ -464,9 +591,9 @@ public class IMPAnalyzer {
                                     }
 
                                     if (isVirtualTrackComplete(virtualTrack, trackFileIDsSet)) {
-                                        compositionConformanceErrorLogger.addAllErrors(IMPValidator.isVirtualTrackInCPLConformed(cplPayloadRecord, virtualTrack, trackHeaderPartitionPayloads));
+                                        compositionConformanceErrorLogger.addAllErrors(IMPValidator.isVirtualTrackInCPLConformed(cplPayloadRecord, virtualTrack, trackHeaderPartitionPayloads, headerPartitionCache));
                                     } else if (trackHeaderPartitionPayloads.size() != 0) {
-                                        compositionConformanceErrorLogger.addAllErrors(IMPValidator.conformVirtualTracksInCPL(cplPayloadRecord, trackHeaderPartitionPayloads, false));
+                                        compositionConformanceErrorLogger.addAllErrors(IMPValidator.conformVirtualTracksInCPL(cplPayloadRecord, trackHeaderPartitionPayloads, false, headerPartitionCache));
                                     }
                                 }
                             } else {
@@ -476,7 +603,7 @@ public class IMPAnalyzer {
                                         .flatMap(Set::stream)
                                         .map( e -> trackFileIDToHeaderPartitionPayLoadMap.get(e))
                                         .collect(Collectors.toList());
-                                compositionConformanceErrorLogger.addAllErrors(IMPValidator.areAllVirtualTracksInCPLConformed(cplPayloadRecord, cplHeaderPartitionPayloads));
+                                compositionConformanceErrorLogger.addAllErrors(IMPValidator.areAllVirtualTracksInCPLConformed(cplPayloadRecord, cplHeaderPartitionPayloads, headerPartitionCache));
                             }
                         } catch (IMFException e) {
                             compositionConformanceErrorLogger.addAllErrors(e.getErrors());
@@ -510,9 +637,9 @@ public class IMPAnalyzer {
         }
 
         byte[] bytes = resourceByteRangeProvider.getByteRangeAsBytes(0, resourceByteRangeProvider.getResourceSize() - 1);
-        PayloadRecord payloadRecord = new PayloadRecord(bytes, PayloadRecord.PayloadAssetType.Unknown, 0L, resourceByteRangeProvider.getResourceSize());
+        PayloadRecord payloadRecord = new PayloadRecord(ByteBuffer.wrap(bytes), PayloadRecord.PayloadAssetType.Unknown, 0L, resourceByteRangeProvider.getResourceSize());
         PayloadRecord.PayloadAssetType payloadAssetType = IMPValidator.getPayloadType(payloadRecord);
-        payloadRecord = new PayloadRecord(bytes, payloadAssetType, 0L, resourceByteRangeProvider.getResourceSize());
+        payloadRecord = new PayloadRecord(ByteBuffer.wrap(bytes), payloadAssetType, 0L, resourceByteRangeProvider.getResourceSize());
 
 
 
@@ -597,7 +724,14 @@ public class IMPAnalyzer {
             logger.info(String.format("Analyzing IMF package %s", inputFile.getName()));
             logger.info("==========================================================================");
 
-            Map<String, List<ErrorLogger.ErrorObject>> errorMap = analyzePackage(inputFile);
+            Map<String, List<ErrorLogger.ErrorObject>> errorMap;
+            ExecutorService executorService = Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors());
+            try {
+                errorMap = analyzePackage(inputFile, executorService);
+            }
+            finally {
+                executorService.shutdown();
+            }
             for(Map.Entry<String, List<ErrorLogger.ErrorObject>> entry: errorMap.entrySet()) {
                 if(!entry.getKey().contains(CONFORMANCE_LOGGER_PREFIX)) {
                     logErrors(entry.getKey(), entry.getValue());
@@ -4,6 +4,7 @@ import com.netflix.imflibrary.IMFConstraints;
 import com.netflix.imflibrary.IMFErrorLogger;
 import com.netflix.imflibrary.IMFErrorLoggerImpl;
 import com.netflix.imflibrary.MXFOperationalPattern1A;
+import com.netflix.imflibrary.RESTfulInterfaces.HeaderPartitionCache;
 import com.netflix.imflibrary.RESTfulInterfaces.IMPValidator;
 import com.netflix.imflibrary.RESTfulInterfaces.PayloadRecord;
 import com.netflix.imflibrary.exceptions.IMFException;
@@ -32,9 +33,12 @@ import javax.xml.parsers.ParserConfigurationException;
 import java.io.File;
 import java.io.IOException;
 import java.net.URISyntaxException;
+import java.nio.ByteBuffer;
 import java.nio.file.Files;
 import java.security.NoSuchAlgorithmException;
 import java.util.*;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 import static java.nio.file.StandardCopyOption.REPLACE_EXISTING;
 
@@ -46,7 +50,7 @@ public class IMPFixer {
     private static final String CONFORMANCE_LOGGER_PREFIX = "Virtual Track Conformance";
     private static final Logger logger = LoggerFactory.getLogger(IMPFixer.class);
 
-    private static UUID getTrackFileId(PayloadRecord headerPartitionPayloadRecord) throws
+    private static UUID getTrackFileId(PayloadRecord headerPartitionPayloadRecord, HeaderPartitionCache headerPartitionCache) throws
             IOException {
 
         IMFErrorLogger imfErrorLogger = new IMFErrorLoggerImpl();
@@ -59,10 +63,7 @@ public class IMPFixer {
             return packageUUID;
         }
         try {
-            HeaderPartition headerPartition = new HeaderPartition(new ByteArrayDataProvider(headerPartitionPayloadRecord.getPayload()),
-                    0L,
-                    (long) headerPartitionPayloadRecord.getPayload().length,
-                    imfErrorLogger);
+            HeaderPartition headerPartition = headerPartitionCache.getHeaderPartition(headerPartitionPayloadRecord, imfErrorLogger);
 
             /**
              * Add the Top Level Package UUID to the set of TrackFileIDs, this is required to validate that the essences header partition that were passed in
@@ -84,7 +85,8 @@ public class IMPFixer {
     }
 
     private static Map<UUID, PayloadRecord> getTrackFileIdToHeaderPartitionPayLoadMap(List<PayloadRecord>
-                                                                                              headerPartitionPayloadRecords) throws
+                                                                                              headerPartitionPayloadRecords,
+                                                                                      HeaderPartitionCache headerPartitionCache) throws
             IOException {
 
         IMFErrorLogger imfErrorLogger = new IMFErrorLoggerImpl();
@@ -99,10 +101,7 @@ public class IMPFixer {
                 continue;
             }
             try {
-                HeaderPartition headerPartition = new HeaderPartition(new ByteArrayDataProvider(payloadRecord.getPayload()),
-                        0L,
-                        (long) payloadRecord.getPayload().length,
-                        imfErrorLogger);
+                HeaderPartition headerPartition = headerPartitionCache.getHeaderPartition(payloadRecord, imfErrorLogger);
 
                 /**
                  * Add the Top Level Package UUID to the set of TrackFileIDs, this is required to validate that the essences header partition that were passed in
@@ -151,7 +150,7 @@ public class IMPFixer {
             return null;
         }
         byte[] bytes = resourceByteRangeProvider.getByteRangeAsBytes(rangeStart, rangeEnd);
-        PayloadRecord payloadRecord = new PayloadRecord(bytes, PayloadRecord.PayloadAssetType.EssenceFooter4Bytes, rangeStart, rangeEnd);
+        PayloadRecord payloadRecord = new PayloadRecord(ByteBuffer.wrap(bytes), PayloadRecord.PayloadAssetType.EssenceFooter4Bytes, rangeStart, rangeEnd);
         Long randomIndexPackSize = IMPValidator.getRandomIndexPackSize(payloadRecord);
 
         rangeStart = archiveFileSize - randomIndexPackSize;
@@ -161,14 +160,14 @@ public class IMPFixer {
         }
 
         byte[] randomIndexPackBytes = resourceByteRangeProvider.getByteRangeAsBytes(rangeStart, rangeEnd);
-        PayloadRecord randomIndexPackPayload = new PayloadRecord(randomIndexPackBytes, PayloadRecord.PayloadAssetType.EssencePartition, rangeStart, rangeEnd);
+        PayloadRecord randomIndexPackPayload = new PayloadRecord(ByteBuffer.wrap(randomIndexPackBytes), PayloadRecord.PayloadAssetType.EssencePartition, rangeStart, rangeEnd);
         List<Long> partitionByteOffsets = IMPValidator.getEssencePartitionOffsets(randomIndexPackPayload, randomIndexPackSize);
 
         if (partitionByteOffsets.size() >= 2) {
             rangeStart = partitionByteOffsets.get(0);
             rangeEnd = partitionByteOffsets.get(1) - 1;
             byte[] headerPartitionBytes = resourceByteRangeProvider.getByteRangeAsBytes(rangeStart, rangeEnd);
-            PayloadRecord headerParitionPayload = new PayloadRecord(headerPartitionBytes, PayloadRecord.PayloadAssetType.EssencePartition, rangeStart, rangeEnd);
+            PayloadRecord headerParitionPayload = new PayloadRecord(ByteBuffer.wrap(headerPartitionBytes), PayloadRecord.PayloadAssetType.EssencePartition, rangeStart, rangeEnd);
             return headerParitionPayload;
         }
 
@@ -180,6 +179,7 @@ public class IMPFixer {
     public static List<ErrorLogger.ErrorObject> analyzePackageAndWrite(File rootFile, File targetFile, String versionCPLSchema, Boolean copyTrackfile, Boolean generateHash) throws
             IOException, ParserConfigurationException, SAXException, JAXBException, URISyntaxException, NoSuchAlgorithmException {
         IMFErrorLogger imfErrorLogger = new IMFErrorLoggerImpl();
+        HeaderPartitionCache headerPartitionCache = new HeaderPartitionCache();
         List<PayloadRecord> headerPartitionPayloadRecords = new ArrayList<>();
         BasicMapProfileV2MappedFileSet mapProfileV2MappedFileSet = new BasicMapProfileV2MappedFileSet(rootFile);
         AssetMap assetMap = new AssetMap(new File(mapProfileV2MappedFileSet.getAbsoluteAssetMapURI()));
@@ -187,6 +187,23 @@ public class IMPFixer {
             PackingList packingList = new PackingList(new File(rootFile, packingListAsset.getPath().toString()));
             Map<UUID, IMPBuilder.IMFTrackFileMetadata> imfTrackFileMetadataMap = new HashMap<>();
 
+            Map<File, byte[]> trackFileHashes = new HashMap<>();
+            if( generateHash) {
+                List<File> trackFiles = new ArrayList<>();
+                for (PackingList.Asset asset : packingList.getAssets()) {
+                    if (asset.getType().equals(PackingList.Asset.APPLICATION_MXF_TYPE)) {
+                        trackFiles.add(new File(rootFile, assetMap.getPath(asset.getUUID()).toString()));
+                    }
+                }
+                ExecutorService executorService = Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors());
+                try {
+                    trackFileHashes = IMFUtils.generateHashes(trackFiles, "SHA-1", executorService);
+                }
+                finally {
+                    executorService.shutdown();
+                }
+            }
+
             for (PackingList.Asset asset : packingList.getAssets()) {
                 File assetFile = new File(rootFile, assetMap.getPath(asset.getUUID()).toString());
                 ResourceByteRangeProvider resourceByteRangeProvider = new FileByteRangeProvider(assetFile);
@@ -197,9 +214,9 @@ public class IMPFixer {
                     byte[] bytes = headerPartitionPayloadRecord.getPayload();
                     byte[] hash = asset.getHash();
                     if( generateHash) {
-                        hash = IMFUtils.generateSHA1Hash(resourceByteRangeProvider);
+                        hash = trackFileHashes.get(assetFile);
                     }
-                    imfTrackFileMetadataMap.put(getTrackFileId(headerPartitionPayloadRecord),
+                    imfTrackFileMetadataMap.put(getTrackFileId(headerPartitionPayloadRecord, headerPartitionCache),
                             new IMPBuilder.IMFTrackFileMetadata(bytes,
                                     hash,
                                     CompositionPlaylistBuilder_2016.defaultHashAlgorithm,
@@ -214,7 +231,7 @@ public class IMPFixer {
             }
 
             Map<UUID, PayloadRecord> trackFileIDToHeaderPartitionPayLoadMap =
-                    getTrackFileIdToHeaderPartitionPayLoadMap(headerPartitionPayloadRecords);
+                    getTrackFileIdToHeaderPartitionPayLoadMap(headerPartitionPayloadRecords, headerPartitionCache);
 
 
             for (PackingList.Asset asset : packingList.getAssets()) {
@@ -9,16 +9,14 @@ import com.netflix.imflibrary.MXFOperationalPattern1A;
 import com.netflix.imflibrary.exceptions.IMFException;
 import com.netflix.imflibrary.exceptions.MXFException;
 import com.netflix.imflibrary.st0377.HeaderPartition;
+import com.netflix.imflibrary.st0377.IndexTable;
 import com.netflix.imflibrary.st0377.PartitionPack;
-import com.netflix.imflibrary.st0377.PrimerPack;
 import com.netflix.imflibrary.st0377.RandomIndexPack;
 import com.netflix.imflibrary.st0377.header.InterchangeObject;
-import com.netflix.imflibrary.utils.ByteArrayDataProvider;
 import com.netflix.imflibrary.utils.ByteProvider;
-import com.netflix.imflibrary.utils.FileDataProvider;
 import com.netflix.imflibrary.utils.ResourceByteRangeProvider;
+import com.netflix.imflibrary.utils.TailPrefetchByteRangeProvider;
 import com.netflix.imflibrary.utils.RegXMLLibHelper;
-import com.sandflow.smpte.klv.Triplet;
 import org.w3c.dom.Document;
 import org.w3c.dom.DocumentFragment;
 import org.w3c.dom.Node;
@@ -26,11 +24,10 @@ import org.w3c.dom.Node;
 import javax.xml.parsers.DocumentBuilder;
 import javax.xml.parsers.DocumentBuilderFactory;
 import javax.xml.parsers.ParserConfigurationException;
+import java.io.Closeable;
 import java.io.File;
 import java.io.IOException;
 import java.nio.ByteBuffer;
-import java.nio.file.Files;
-import java.nio.file.Paths;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -49,7 +46,7 @@ public class MXFEssenceReader {
     {
         this.imfErrorLogger = new IMFErrorLoggerImpl();
         this.workingDirectory = workingDirectory;
-        this.resourceByteRangeProvider = resourceByteRangeProvider;
+        this.resourceByteRangeProvider = new TailPrefetchByteRangeProvider(resourceByteRangeProvider);
 
     }
 
@@ -65,8 +62,7 @@ public class MXFEssenceReader {
             long rangeEnd = archiveFileSize - 1;
             long rangeStart = archiveFileSize - 4;
 
-            File fileWithRandomIndexPackSize = this.resourceByteRangeProvider.getByteRange(rangeStart, rangeEnd, this.workingDirectory);
-            byte[] bytes = Files.readAllBytes(Paths.get(fileWithRandomIndexPackSize.toURI()));
+            byte[] bytes = this.resourceByteRangeProvider.getByteRangeAsBytes(rangeStart, rangeEnd);
             randomIndexPackSize = (long)(ByteBuffer.wrap(bytes).getInt());
         }
 
@@ -80,8 +76,7 @@ public class MXFEssenceReader {
                         randomIndexPackSize, archiveFileSize));
             }
 
-            File fileWithRandomIndexPack = this.resourceByteRangeProvider.getByteRange(rangeStart, rangeEnd, this.workingDirectory);
-            ByteProvider byteProvider = this.getByteProvider(fileWithRandomIndexPack);
+            ByteProvider byteProvider = this.getByteProvider(rangeStart, rangeEnd);
             randomIndexPack = new RandomIndexPack(byteProvider, rangeStart, randomIndexPackSize);
         }
 
@@ -99,11 +94,15 @@ public class MXFEssenceReader {
         long inclusiveRangeStart = allPartitionByteOffsets.get(0);
         long inclusiveRangeEnd = allPartitionByteOffsets.get(1) - 1;
 
-        File fileWithHeaderPartition = this.resourceByteRangeProvider.getByteRange(inclusiveRangeStart, inclusiveRangeEnd, this.workingDirectory);
-        ByteProvider byteProvider = this.getByteProvider(fileWithHeaderPartition);
-        HeaderPartition headerPartition = new HeaderPartition(byteProvider, inclusiveRangeStart, inclusiveRangeEnd - inclusiveRangeStart + 1, this.imfErrorLogger);
-
-        return headerPartition;
+        ByteProvider byteProvider = this.getByteProvider(inclusiveRangeStart, inclusiveRangeEnd);
+        try {
+            return new HeaderPartition(byteProvider, inclusiveRangeStart, inclusiveRangeEnd - inclusiveRangeStart + 1, this.imfErrorLogger);
+        }
+        finally {
+            if(byteProvider instanceof Closeable){
+                ((Closeable) byteProvider).close();
+            }
+        }
     }
 
     /**
@@ -148,19 +147,16 @@ public class MXFEssenceReader {
      */
     public List<Node> getEssenceDescriptorsDOMNodes() throws IOException{
         try {
-            List<InterchangeObject.InterchangeObjectBO> essenceDescriptors = this.getHeaderPartition().getEssenceDescriptors();
-            List<Node> essenceDescriptorNodes = new ArrayList<>();
-            for (InterchangeObject.InterchangeObjectBO essenceDescriptor : essenceDescriptors) {
-                KLVPacket.Header essenceDescriptorHeader = essenceDescriptor.getHeader();
-                List<KLVPacket.Header> subDescriptorHeaders = this.getSubDescriptorKLVHeader(essenceDescriptor);
-                /*Create a dom*/
-                DocumentBuilderFactory docFactory = DocumentBuilderFactory.newInstance();
-                DocumentBuilder docBuilder = docFactory.newDocumentBuilder();
-                Document document = docBuilder.newDocument();
+            /*Create a dom*/
+            DocumentBuilderFactory docFactory = DocumentBuilderFactory.newInstance();
+            DocumentBuilder docBuilder = docFactory.newDocumentBuilder();
+            Document document = docBuilder.newDocument();
+            document.setXmlStandalone(true);
 
-                DocumentFragment documentFragment = this.getEssenceDescriptorAsDocumentFragment(document, essenceDescriptorHeader, subDescriptorHeaders);
-                Node node = documentFragment.getFirstChild();
-                essenceDescriptorNodes.add(node);
+            List<DocumentFragment> documentFragments = RegXMLLibHelper.getEssenceDescriptorDocumentFragments(this.getHeaderPartition(), this.resourceByteRangeProvider, document, this.imfErrorLogger);
+            List<Node> essenceDescriptorNodes = new ArrayList<>();
+            for (DocumentFragment documentFragment : documentFragments) {
+                essenceDescriptorNodes.add(documentFragment.getFirstChild());
             }
             return essenceDescriptorNodes;
         }
@@ -197,6 +193,17 @@ public class MXFEssenceReader {
         return this.getHeaderPartition().getAudioEssenceSpokenLanguage();
     }
 
+    /**
+     * A method that returns the index table of the essence, that maps every edit unit of the essence to its byte offset
+     * and size in the MXF file, for e.g., to plan the reads of a window of a Composition using
+     * {@link com.netflix.imflibrary.st2067_2.ApplicationComposition#getTrackFileByteRanges}
+     * @return IndexTable built from all the IndexTable segments of the essence
+     * @throws IOException - any I/O related error will be exposed through an IOException
+     */
+    public IndexTable getIndexTable() throws IOException {
+        return new IMFTrackFileReader(this.workingDirectory, this.resourceByteRangeProvider).getIndexTable(this.imfErrorLogger);
+    }
+
     private PartitionPack getPartitionPack(long resourceOffset) throws IOException
     {
         long archiveFileSize = this.resourceByteRangeProvider.getResourceSize();
@@ -206,8 +213,7 @@ public class MXFEssenceReader {
                     (KLVPacket.KEY_FIELD_SIZE + KLVPacket.LENGTH_FIELD_SUFFIX_MAX_SIZE) -1;
             rangeEnd = rangeEnd < (archiveFileSize - 1) ? rangeEnd : (archiveFileSize - 1);
 
-            File fileWithPartitionPackKLVPacketHeader = this.resourceByteRangeProvider.getByteRange(resourceOffset, rangeEnd, this.workingDirectory);
-            ByteProvider byteProvider = this.getByteProvider(fileWithPartitionPackKLVPacketHeader);
+            ByteProvider byteProvider = this.getByteProvider(resourceOffset, rangeEnd);
             header = new KLVPacket.Header(byteProvider, resourceOffset);
         }
 
@@ -220,8 +226,7 @@ public class MXFEssenceReader {
                     -1;
             rangeEnd = rangeEnd < (archiveFileSize - 1) ? rangeEnd : (archiveFileSize - 1);
 
-            File fileWithPartitionPack = this.resourceByteRangeProvider.getByteRange(resourceOffset, rangeEnd, this.workingDirectory);
-            ByteProvider byteProvider = this.getByteProvider(fileWithPartitionPack);
+            ByteProvider byteProvider = this.getByteProvider(resourceOffset, rangeEnd);
             partitionPack = new PartitionPack(byteProvider, resourceOffset, true);
 
         }
@@ -229,54 +234,7 @@ public class MXFEssenceReader {
         return partitionPack;
     }
 
-    private List<KLVPacket.Header> getSubDescriptorKLVHeader(InterchangeObject.InterchangeObjectBO essenceDescriptor) throws IOException {
-        List<KLVPacket.Header> subDescriptorHeaders = new ArrayList<>();
-        List<InterchangeObject.InterchangeObjectBO>subDescriptors = this.getHeaderPartition().getSubDescriptors(essenceDescriptor);
-        for(InterchangeObject.InterchangeObjectBO subDescriptorBO : subDescriptors){
-            if(subDescriptorBO != null) {
-                subDescriptorHeaders.add(subDescriptorBO.getHeader());
-            }
-        }
-        return subDescriptorHeaders;
-    }
-
-    private DocumentFragment getEssenceDescriptorAsDocumentFragment(Document document, KLVPacket.Header essenceDescriptor, List<KLVPacket.Header>subDescriptors) throws MXFException, IOException {
-        document.setXmlStandalone(true);
-
-        PrimerPack primerPack = this.getHeaderPartition().getPrimerPack();
-        RegXMLLibHelper regXMLLibHelper = new RegXMLLibHelper(primerPack.getHeader(), this.getByteProvider(primerPack.getHeader()));
-        Triplet essenceDescriptorTriplet = regXMLLibHelper.getTripletFromKLVHeader(essenceDescriptor, this.getByteProvider(essenceDescriptor));
-        //DocumentFragment documentFragment = this.regXMLLibHelper.getDocumentFragment(essenceDescriptorTriplet, document);
-        /*Get the Triplets corresponding to the SubDescriptors*/
-        List<Triplet> subDescriptorTriplets = new ArrayList<>();
-        for(KLVPacket.Header subDescriptorHeader : subDescriptors){
-            subDescriptorTriplets.add(regXMLLibHelper.getTripletFromKLVHeader(subDescriptorHeader, this.getByteProvider(subDescriptorHeader)));
-        }
-        return regXMLLibHelper.getEssenceDescriptorDocumentFragment(essenceDescriptorTriplet, subDescriptorTriplets, document, this.imfErrorLogger);
-    }
-
-    private KLVPacket.Header getPrimerPackHeader() throws IOException {
-        return this.getHeaderPartition().getPrimerPack().getHeader();
-    }
-
-    private ByteProvider getByteProvider(KLVPacket.Header header) throws IOException {
-        File file = this.resourceByteRangeProvider.getByteRange(header.getByteOffset(), header.getByteOffset() + header.getKLSize() + header.getVSize(), this.workingDirectory);
-        return this.getByteProvider(file);
-    }
-
-    private ByteProvider getByteProvider(File file) throws IOException {
-        ByteProvider byteProvider;
-        Long size = file.length();
-        if(size <= 0){
-            throw new IOException(String.format("Range of bytes (%d) has to be +ve and non-zero", size));
-        }
-        if(size <= Integer.MAX_VALUE) {
-            byte[] bytes = Files.readAllBytes(Paths.get(file.toURI()));
-            byteProvider = new ByteArrayDataProvider(bytes);
-        }
-        else{
-            byteProvider = new FileDataProvider(file);
-        }
-        return byteProvider;
+    private ByteProvider getByteProvider(long rangeStart, long rangeEnd) throws IOException {
+        return ResourceByteRangeProvider.Utilities.getByteProvider(this.resourceByteRangeProvider, rangeStart, rangeEnd, this.workingDirectory);
     }
 }
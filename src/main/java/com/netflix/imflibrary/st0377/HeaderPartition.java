@@ -66,10 +66,12 @@ import java.io.IOException;
 import java.lang.reflect.Constructor;
 import java.lang.reflect.InvocationTargetException;
 import java.math.BigInteger;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
-import java.util.Arrays;
 import java.util.Collections;
+import java.util.Deque;
 import java.util.HashMap;
+import java.util.Iterator;
 import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
 import java.util.LinkedList;
@@ -128,10 +130,9 @@ public final class HeaderPartition
         //read primer pack or a single KLV fill item followed by primer pack
         {
             KLVPacket.Header header = new KLVPacket.Header(byteProvider, byteOffsetOfNextKLVPacket);
-            byte[] key = Arrays.copyOf(header.getKey(), header.getKey().length);
             numBytesRead += header.getKLSize();
 
-            if (PrimerPack.isValidKey(key))
+            if (PrimerPack.isValidKey(header.getKey()))
             {
                 this.primerPack = new PrimerPack(byteProvider, header);
                 numBytesRead += header.getVSize();
@@ -142,9 +143,8 @@ public final class HeaderPartition
                 numBytesRead += header.getVSize();
 
                 header = new KLVPacket.Header(byteProvider, byteOffsetOfNextKLVPacket);
-                key = Arrays.copyOf(header.getKey(), header.getKey().length);
                 numBytesRead += header.getKLSize();
-                if (PrimerPack.isValidKey(key))
+                if (PrimerPack.isValidKey(header.getKey()))
                 {
                     this.primerPack = new PrimerPack(byteProvider, header);
                     numBytesRead += header.getVSize();
@@ -162,33 +162,24 @@ public final class HeaderPartition
         {
             KLVPacket.Header header = new KLVPacket.Header(byteProvider, byteOffsetOfNextKLVPacket);
             //logger.info(String.format("Found KLV item with key = %s, length field size = %d, length value = %d", new MXFUID(header.getKey()), header.getLSize(), header.getVSize()));
-            byte[] key = Arrays.copyOf(header.getKey(), header.getKey().length);
             numBytesRead += header.getKLSize();
 
-            if (StructuralMetadata.isStructuralMetadata(Arrays.copyOf(header.getKey(), header.getKey().length)))
+            StructuralMetadata.InterchangeObjectBOFactory factory = StructuralMetadata.getStructuralMetadataSetFactory(header);
+            if (factory != null)
             {
-                Class clazz = StructuralMetadata.getStructuralMetadataSetClass(key);
-                if(!clazz.getSimpleName().equals(Object.class.getSimpleName())){
-                    //logger.info(String.format("KLV item with key = %s corresponds to class %s", new MXFUID(header.getKey()), clazz.getSimpleName()));
-                    InterchangeObject.InterchangeObjectBO interchangeObjectBO = this.constructInterchangeObjectBO(clazz, header, byteProvider, this.primerPack.getLocalTagEntryBatch().getLocalTagToUIDMap(), imfErrorLogger);
-                    List<InterchangeObject.InterchangeObjectBO> list = this.interchangeObjectBOsMap.get(interchangeObjectBO.getClass().getSimpleName());
-                    if(list == null){
-                        list = new ArrayList<>();
-                        this.interchangeObjectBOsMap.put(interchangeObjectBO.getClass().getSimpleName(), list);
-                    }
-                    list.add(interchangeObjectBO);
-                    uidToBOs.put(interchangeObjectBO.getInstanceUID(), interchangeObjectBO);
-                    if(interchangeObjectBO instanceof MaterialPackage.MaterialPackageBO
-                            || interchangeObjectBO instanceof SourcePackage.SourcePackageBO){
-                        GenericPackage.GenericPackageBO genericPackageBO = (GenericPackage.GenericPackageBO)interchangeObjectBO;
-                        uidToBOs.put(genericPackageBO.getPackageUID(), genericPackageBO);
-                    }
+                InterchangeObject.InterchangeObjectBO interchangeObjectBO = this.constructInterchangeObjectBO(factory, header, byteProvider, this.primerPack.getLocalTagEntryBatch().getLocalTagToUIDMap(), imfErrorLogger);
+                List<InterchangeObject.InterchangeObjectBO> list = this.interchangeObjectBOsMap.get(interchangeObjectBO.getClass().getSimpleName());
+                if(list == null){
+                    list = new ArrayList<>();
+                    this.interchangeObjectBOsMap.put(interchangeObjectBO.getClass().getSimpleName(), list);
                 }
-                else
-                {
-                    byteProvider.skipBytes(header.getVSize());
+                list.add(interchangeObjectBO);
+                uidToBOs.put(interchangeObjectBO.getInstanceUID(), interchangeObjectBO);
+                if(interchangeObjectBO instanceof MaterialPackage.MaterialPackageBO
+                        || interchangeObjectBO instanceof SourcePackage.SourcePackageBO){
+                    GenericPackage.GenericPackageBO genericPackageBO = (GenericPackage.GenericPackageBO)interchangeObjectBO;
+                    uidToBOs.put(genericPackageBO.getPackageUID(), genericPackageBO);
                 }
-
             }
             else
             {
@@ -242,7 +233,7 @@ public final class HeaderPartition
                 {
                     Node providerNode = instanceIDToNodes.get(dependentInterchangeObjectBO.getInstanceUID());
 //                    providerNode.provides.add(node);
-                    node.depends.add(providerNode);
+                    node.addDependency(providerNode);
                 }
             }
         }
@@ -456,21 +447,20 @@ public final class HeaderPartition
     }
 
     /**
-     * A factory method to reflectively construct InterchangeObjectBO types by classname and argument list
+     * A factory method to construct InterchangeObjectBO types using the factory registered for the key of the KLV packet
      * @return the constructed InterchangeBO
      */
-    private InterchangeObject.InterchangeObjectBO constructInterchangeObjectBO(Class clazz, KLVPacket.Header header, ByteProvider byteProvider, Map localTagToUIDMap, IMFErrorLogger imfErrorLogger) throws IOException{
+    private InterchangeObject.InterchangeObjectBO constructInterchangeObjectBO(StructuralMetadata.InterchangeObjectBOFactory factory, KLVPacket.Header header, ByteProvider byteProvider, Map<Integer, MXFUID> localTagToUIDMap, IMFErrorLogger imfErrorLogger) throws IOException{
+        InterchangeObject.InterchangeObjectBO interchangeObjectBO;
         try {
-
-            Constructor<?> constructor = clazz.getConstructor(KLVPacket.Header.class, ByteProvider.class, Map.class, IMFErrorLogger.class);
-            InterchangeObject.InterchangeObjectBO interchangeObjectBO = (InterchangeObject.InterchangeObjectBO)constructor.newInstance(header, byteProvider, localTagToUIDMap, imfErrorLogger);
-            String simpleClassName = interchangeObjectBO.getClass().getSimpleName();
-            logger.debug(String.format("Parsed and read %s metadata in the header partition.", simpleClassName.substring(0, simpleClassName.length() - 2)));
-            return interchangeObjectBO;
+            interchangeObjectBO = factory.create(header, byteProvider, localTagToUIDMap, imfErrorLogger);
         }
-        catch(NoSuchMethodException|IllegalAccessException|InstantiationException|InvocationTargetException e){
-            throw new IOException(String.format("No matching constructor for class %s", clazz.getSimpleName()));
+        catch(IOException|RuntimeException e){
+            throw new IOException(String.format("No matching constructor for class %s", StructuralMetadata.getStructuralMetadataSetClass(header.getKey()).getSimpleName()), e);
         }
+        String simpleClassName = interchangeObjectBO.getClass().getSimpleName();
+        logger.debug(String.format("Parsed and read %s metadata in the header partition.", simpleClassName.substring(0, simpleClassName.length() - 2)));
+        return interchangeObjectBO;
     }
 
     /**
@@ -1132,77 +1122,88 @@ public final class HeaderPartition
     }
 
     /*
+    A depth-first topological sort, where every node is preceded by the nodes that it depends on. An explicit stack
+    is used instead of recursion, so that a long chain of dependencies cannot overflow the call stack, and the nodes
+    are selected in the order of the adjacency list, so that every node and edge is visited exactly once, i.e. O(V+E).
         L ← Empty list that will contain the sorted nodes
-    while there are unmarked nodes do
-        select an unmarked node n
-        visit(n)
-    function visit(node n)
-        if n has a temporary mark then stop (not a DAG)
-        if n is not marked (i.e. has not been visited yet) then
-            mark n temporarily
-            for each node m with an edge from n to m do
-                visit(m)
-            mark n permanently
-            add n to head of L
+    for each node n in the adjacency list that is not marked do
+        mark n temporarily and push n onto the stack
+        while the stack is not empty do
+            let t be the node at the top of the stack
+            if t has a node m with an edge from t to m that has not been examined then
+                if m has a temporary mark then stop (not a DAG)
+                if m is not marked then mark m temporarily and push m onto the stack
+            else
+                pop t, mark t permanently and add t to the tail of L
          */
-    private static List<Node> resolve(List<Node> adjacencyList)
+    static List<Node> resolve(List<Node> adjacencyList)
     {
-        List<Node> sortedList = new LinkedList<>();
+        List<Node> sortedList = new ArrayList<>(adjacencyList.size());
+        Deque<Node> stack = new ArrayDeque<>();
+        Deque<Iterator<Node>> unexaminedDependencies = new ArrayDeque<>();
 
-        Node node = getUnmarkedNode(adjacencyList);
-        while(node != null)
+        for (Node root : adjacencyList)
         {
-            visit(node, sortedList);
-            node = getUnmarkedNode(adjacencyList);
-        }
-
-         return sortedList;
-    }
-
-    private static void visit(Node node, List<Node> sortedList)
-    {
-        if (node.mark.equals(Mark.TEMPORARY))
-        {
-            throw new MXFException("Cycle detected");
-        }
-        else if (node.mark.equals(Mark.NONE))
-        {
-            node.mark = Mark.TEMPORARY;
-            for (Node neighbor : node.depends)
+            if (!root.mark.equals(Mark.NONE))
             {
-                visit(neighbor, sortedList);
+                continue;
             }
-            node.mark = Mark.PERMANENT;
-            sortedList.add(node);
-        }
-    }
+            root.mark = Mark.TEMPORARY;
+            stack.push(root);
+            unexaminedDependencies.push(root.depends.iterator());
 
-    private static Node getUnmarkedNode(List<Node> adjacencyList)
-    {
-        Node unmarkedNode = null;
-        for (Node node : adjacencyList)
-        {
-            if (node.mark.equals(Mark.NONE))
+            while (!stack.isEmpty())
             {
-                unmarkedNode = node;
-                break;
+                Iterator<Node> iterator = unexaminedDependencies.peek();
+                if (iterator.hasNext())
+                {
+                    Node neighbor = iterator.next();
+                    if (neighbor.mark.equals(Mark.TEMPORARY))
+                    {
+                        throw new MXFException("Cycle detected");
+                    }
+                    else if (neighbor.mark.equals(Mark.NONE))
+                    {
+                        neighbor.mark = Mark.TEMPORARY;
+                        stack.push(neighbor);
+                        unexaminedDependencies.push(neighbor.depends.iterator());
+                    }
+                }
+                else
+                {
+                    Node node = stack.pop();
+                    unexaminedDependencies.pop();
+                    node.mark = Mark.PERMANENT;
+                    sortedList.add(node);
+                }
             }
         }
-        return unmarkedNode;
+
+        return sortedList;
     }
 
-    private static class Node
+    static class Node
     {
         private final MXFUID uid;
         private final List<Node> depends;
         private Mark mark;
 
-        private Node(MXFUID uid)
+        Node(MXFUID uid)
         {
             this.uid = uid;
             this.mark = Mark.NONE;
             this.depends = new LinkedList<>();
         }
+
+        void addDependency(Node providerNode)
+        {
+            this.depends.add(providerNode);
+        }
+
+        MXFUID getUID()
+        {
+            return this.uid;
+        }
     }
 
     private static enum Mark
@@ -0,0 +1,451 @@
+/*
+ *
+ * Copyright 2015 Netflix, Inc.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ *
+ */
+
+package com.netflix.imflibrary.st0377;
+
+import com.netflix.imflibrary.KLVPacket;
+import com.netflix.imflibrary.exceptions.MXFException;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.Immutable;
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.LongBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * A compact, random access model of the index table of an essence container as defined in st377-1:2011, built from all
+ * the IndexTable segments of an MXF file. It maps an edit unit to the byte offset of the corresponding content package
+ * relative to the start of the essence container (the stream offset), and to its byte offset in the MXF file using the
+ * byte offsets of the partitions that carry the essence container.
+ *
+ * Index tables with a constant edit unit byte count (CBE) are represented by that byte count alone, when such essence is
+ * clip-wrapped the first edit unit starts at the first byte of the value of the essence element. Index tables with
+ * variable size edit units (VBE) are represented by one stream offset and one flags byte per edit unit, which are stored
+ * in primitive buffers. An IndexTable can be persisted to a file using {@link #writeTo(File)} and re-loaded using
+ * {@link #readFrom(File)}, which memory-maps the file so that the stream offsets are paged in on demand.
+ */
+@Immutable
+public final class IndexTable
+{
+    private static final int MAGIC = 0x50484958; //"PHIX"
+    private static final int VERSION = 1;
+    private static final int FILE_HEADER_SIZE = 48;
+    private static final int ESSENCE_SEGMENT_SIZE = 16;
+
+    private final long startPosition;
+    private final long duration;
+    private final long editUnitByteCount;
+    private final long firstEditUnitStreamOffset;
+    private final long streamLength;
+    private final long[] essenceSegmentStreamOffsets;
+    private final long[] essenceSegmentByteOffsets;
+    private final LongBuffer streamOffsets;
+    private final ByteBuffer flags;
+
+    /**
+     * Instantiates a new IndexTable
+     *
+     * @param indexTableSegments all the IndexTable segments of an MXF file, segments that are repeated in several
+     *                           partitions are only taken into account once
+     * @param partitionPacks all the partition packs of the MXF file in the order in which they appear in the file
+     * @param resourceSize the size in bytes of the MXF file
+     * @throws MXFException if the IndexTable segments do not describe a contiguous range of edit units, or if constant and
+     * variable size edit units are mixed
+     */
+    public IndexTable(List<IndexTableSegment> indexTableSegments, List<PartitionPack> partitionPacks, long resourceSize)
+    {
+        this(indexTableSegments, partitionPacks, resourceSize, null);
+    }
+
+    /**
+     * Instantiates a new IndexTable
+     *
+     * @param indexTableSegments all the IndexTable segments of an MXF file, segments that are repeated in several
+     *                           partitions are only taken into account once
+     * @param partitionPacks all the partition packs of the MXF file in the order in which they appear in the file
+     * @param resourceSize the size in bytes of the MXF file
+     * @param essenceElementHeader the header of the first KLV packet of the essence container, which is used to determine if
+     *                             essence with a constant edit unit byte count is clip-wrapped, or null
+     * @throws MXFException if the IndexTable segments do not describe a contiguous range of edit units, or if constant and
+     * variable size edit units are mixed
+     */
+    public IndexTable(List<IndexTableSegment> indexTableSegments, List<PartitionPack> partitionPacks, long resourceSize,
+                      @Nullable KLVPacket.Header essenceElementHeader)
+    {
+        if (indexTableSegments.isEmpty())
+        {
+            throw new MXFException("No IndexTable segments were found");
+        }
+        List<IndexTableSegment> segments = new ArrayList<>(indexTableSegments);
+        segments.sort(Comparator.comparingLong(IndexTableSegment::getIndexStartPosition));
+        long bodySID = segments.get(0).getBodySID();
+
+        //essence container segments, in the order of their stream offsets
+        List<long[]> essenceSegments = new ArrayList<>();
+        for (int i = 0; i < partitionPacks.size(); i++)
+        {
+            PartitionPack partitionPack = partitionPacks.get(i);
+            if (!partitionPack.hasEssenceContainer() || partitionPack.getBodySID() != bodySID)
+            {
+                continue;
+            }
+            long byteOffset = partitionPack.getPartitionDataByteOffset() + partitionPack.getHeaderByteCount() + partitionPack.getIndexByteCount();
+            long endByteOffset = (i + 1 < partitionPacks.size()) ? partitionPacks.get(i + 1).getPartitionByteOffset() : resourceSize;
+            essenceSegments.add(new long[]{partitionPack.getEssenceStreamSegmentStartStreamPosition(), byteOffset, Math.max(0, endByteOffset - byteOffset)});
+        }
+        if (essenceSegments.isEmpty())
+        {
+            throw new MXFException(String.format("No partition carries the essence container with BodySID = %d", bodySID));
+        }
+        essenceSegments.sort(Comparator.comparingLong(essenceSegment -> essenceSegment[0]));
+        this.essenceSegmentStreamOffsets = new long[essenceSegments.size()];
+        this.essenceSegmentByteOffsets = new long[essenceSegments.size()];
+        for (int i = 0; i < essenceSegments.size(); i++)
+        {
+            this.essenceSegmentStreamOffsets[i] = essenceSegments.get(i)[0];
+            this.essenceSegmentByteOffsets[i] = essenceSegments.get(i)[1];
+        }
+        long[] lastEssenceSegment = essenceSegments.get(essenceSegments.size() - 1);
+        this.streamLength = lastEssenceSegment[0] + lastEssenceSegment[2];
+
+        this.startPosition = segments.get(0).getIndexStartPosition();
+        this.editUnitByteCount = segments.get(0).getEditUnitByteCount();
+        if (this.editUnitByteCount > 0)
+        {
+            //a clip-wrapped essence element spans more than one edit unit
+            boolean isClipWrapped = (essenceElementHeader != null) && (essenceElementHeader.getVSize() > this.editUnitByteCount);
+            this.firstEditUnitStreamOffset = isClipWrapped ? essenceElementHeader.getKLSize() : 0L;
+            for (IndexTableSegment segment : segments)
+            {
+                if (segment.getEditUnitByteCount() != this.editUnitByteCount)
+                {
+                    throw new MXFException(String.format("IndexTable segments with an EditUnitByteCount = %d and %d are not supported",
+                            this.editUnitByteCount, segment.getEditUnitByteCount()));
+                }
+            }
+            //an IndexDuration of 0 indicates that the segment indexes all the edit units of the essence container
+            IndexTableSegment lastSegment = segments.get(segments.size() - 1);
+            this.duration = (lastSegment.getIndexDuration() > 0) ?
+                    lastSegment.getIndexStartPosition() + lastSegment.getIndexDuration() - this.startPosition :
+                    (isClipWrapped ? essenceElementHeader.getVSize() : this.streamLength) / this.editUnitByteCount;
+            this.streamOffsets = null;
+            this.flags = null;
+            return;
+        }
+
+        this.firstEditUnitStreamOffset = 0L;
+        long endPosition = this.startPosition;
+        for (IndexTableSegment segment : segments)
+        {
+            endPosition = Math.max(endPosition, segment.getIndexStartPosition() + segment.getIndexDuration());
+        }
+        if (endPosition - this.startPosition > Integer.MAX_VALUE)
+        {
+            throw new MXFException(String.format("IndexTable duration = %d is larger than %d", endPosition - this.startPosition, Integer.MAX_VALUE));
+        }
+        this.duration = endPosition - this.startPosition;
+        long[] streamOffsets = new long[(int) this.duration];
+        byte[] flags = new byte[(int) this.duration];
+        long nextPosition = this.startPosition;
+        for (IndexTableSegment segment : segments)
+        {
+            if (segment.getEditUnitByteCount() != 0)
+            {
+                throw new MXFException("IndexTable segments with constant and variable size edit units are not supported");
+            }
+            if (segment.getIndexStartPosition() > nextPosition)
+            {
+                throw new MXFException(String.format("IndexTable segments do not index edit units %d through %d", nextPosition, segment.getIndexStartPosition() - 1));
+            }
+            IndexTableSegment.IndexEntryArray indexEntryArray = segment.getIndexEntryArray();
+            if (indexEntryArray == null || indexEntryArray.size() != segment.getIndexDuration())
+            {
+                throw new MXFException(String.format("IndexTable segment starting at edit unit %d has an IndexDuration = %d but %d index entries",
+                        segment.getIndexStartPosition(), segment.getIndexDuration(), (indexEntryArray == null) ? 0 : indexEntryArray.size()));
+            }
+            //a segment that was repeated in a later partition only contributes the edit units not indexed so far
+            for (long position = nextPosition; position < segment.getIndexStartPosition() + segment.getIndexDuration(); position++)
+            {
+                int index = (int) (position - segment.getIndexStartPosition());
+                streamOffsets[(int) (position - this.startPosition)] = indexEntryArray.getStreamOffset(index);
+                flags[(int) (position - this.startPosition)] = indexEntryArray.getFlags(index);
+            }
+            nextPosition = Math.max(nextPosition, segment.getIndexStartPosition() + segment.getIndexDuration());
+        }
+        this.streamOffsets = LongBuffer.wrap(streamOffsets);
+        this.flags = ByteBuffer.wrap(flags);
+    }
+
+    private IndexTable(long startPosition, long duration, long editUnitByteCount, long firstEditUnitStreamOffset, long streamLength,
+                       long[] essenceSegmentStreamOffsets, long[] essenceSegmentByteOffsets, LongBuffer streamOffsets, ByteBuffer flags)
+    {
+        this.startPosition = startPosition;
+        this.duration = duration;
+        this.editUnitByteCount = editUnitByteCount;
+        this.firstEditUnitStreamOffset = firstEditUnitStreamOffset;
+        this.streamLength = streamLength;
+        this.essenceSegmentStreamOffsets = essenceSegmentStreamOffsets;
+        this.essenceSegmentByteOffsets = essenceSegmentByteOffsets;
+        this.streamOffsets = streamOffsets;
+        this.flags = flags;
+    }
+
+    /**
+     * Getter for the position of the first edit unit in this IndexTable
+     *
+     * @return the start position
+     */
+    public long getStartPosition()
+    {
+        return this.startPosition;
+    }
+
+    /**
+     * Getter for the number of edit units in this IndexTable
+     *
+     * @return the duration in edit units
+     */
+    public long getDuration()
+    {
+        return this.duration;
+    }
+
+    /**
+     * Checks if the edit units indexed by this IndexTable are of a constant size
+     *
+     * @return true if the edit units are of a constant size
+     */
+    public boolean hasConstantEditUnitByteCount()
+    {
+        return this.editUnitByteCount > 0;
+    }
+
+    /**
+     * Getter for the size in bytes of the essence container
+     *
+     * @return the size in bytes of the essence container
+     */
+    public long getStreamLength()
+    {
+        return this.streamLength;
+    }
+
+    /**
+     * Getter for the byte offset of an edit unit relative to the start of the essence container
+     *
+     * @param editUnit the position of the edit unit
+     * @return the stream offset of the edit unit
+     * @throws IllegalArgumentException if the edit unit is not indexed by this IndexTable
+     */
+    public long getStreamOffset(long editUnit)
+    {
+        int index = this.checkEditUnit(editUnit);
+        if (this.streamOffsets == null)
+        {
+            return this.firstEditUnitStreamOffset + (editUnit - this.startPosition) * this.editUnitByteCount;
+        }
+        return this.streamOffsets.get(index);
+    }
+
+    /**
+     * Getter for the byte offset of an edit unit in the MXF file
+     *
+     * @param editUnit the position of the edit unit
+     * @return the byte offset of the edit unit in the MXF file
+     * @throws IllegalArgumentException if the edit unit is not indexed by this IndexTable
+     */
+    public long getByteOffset(long editUnit)
+    {
+        long streamOffset = this.getStreamOffset(editUnit);
+        int i = Arrays.binarySearch(this.essenceSegmentStreamOffsets, streamOffset);
+        if (i < 0)
+        {
+            i = -i - 2;
+        }
+        if (i < 0)
+        {
+            throw new MXFException(String.format("Stream offset = %d of edit unit %d precedes the essence container", streamOffset, editUnit));
+        }
+        return this.essenceSegmentByteOffsets[i] + (streamOffset - this.essenceSegmentStreamOffsets[i]);
+    }
+
+    /**
+     * Getter for the size in bytes of an edit unit
+     *
+     * @param editUnit the position of the edit unit
+     * @return the size in bytes of the edit unit
+     * @throws IllegalArgumentException if the edit unit is not indexed by this IndexTable
+     */
+    public long getEditUnitSize(long editUnit)
+    {
+        int index = this.checkEditUnit(editUnit);
+        if (this.streamOffsets == null)
+        {
+            return this.editUnitByteCount;
+        }
+        long nextStreamOffset = (index + 1 < this.duration) ? this.streamOffsets.get(index + 1) : this.streamLength;
+        return nextStreamOffset - this.streamOffsets.get(index);
+    }
+
+    /**
+     * Getter for the flags of an edit unit, for e.g., bit 7 is set for a random access edit unit
+     *
+     * @param editUnit the position of the edit unit
+     * @return the flags recorded in the index entry of the edit unit, 0 if the edit units are of a constant size
+     * @throws IllegalArgumentException if the edit unit is not indexed by this IndexTable
+     */
+    public byte getFlags(long editUnit)
+    {
+        int index = this.checkEditUnit(editUnit);
+        return (this.flags == null) ? 0 : this.flags.get(index);
+    }
+
+    /**
+     * A method that persists this IndexTable to a file that can be loaded using {@link #readFrom(File)}
+     *
+     * @param file the file to write, an existing file is overwritten
+     * @throws IOException - any I/O related error is exposed through an IOException
+     */
+    public void writeTo(File file) throws IOException
+    {
+        try (DataOutputStream dataOutputStream = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(file))))
+        {
+            dataOutputStream.writeInt(MAGIC);
+            dataOutputStream.writeInt(VERSION);
+            dataOutputStream.writeLong(this.startPosition);
+            dataOutputStream.writeLong(this.duration);
+            dataOutputStream.writeLong(this.editUnitByteCount);
+            dataOutputStream.writeLong(this.streamLength);
+            dataOutputStream.writeInt(this.essenceSegmentStreamOffsets.length);
+            dataOutputStream.writeInt((int) this.firstEditUnitStreamOffset);
+            for (int i = 0; i < this.essenceSegmentStreamOffsets.length; i++)
+            {
+                dataOutputStream.writeLong(this.essenceSegmentStreamOffsets[i]);
+                dataOutputStream.writeLong(this.essenceSegmentByteOffsets[i]);
+            }
+            if (this.streamOffsets != null)
+            {
+                for (int i = 0; i < this.duration; i++)
+                {
+                    dataOutputStream.writeLong(this.streamOffsets.get(i));
+                }
+                for (int i = 0; i < this.duration; i++)
+                {
+                    dataOutputStream.writeByte(this.flags.get(i));
+                }
+            }
+        }
+    }
+
+    /**
+     * A method that loads an IndexTable that was persisted using {@link #writeTo(File)}. The file is memory-mapped, so that
+     * loading an IndexTable does not require reading the stream offsets of all the edit units.
+     *
+     * @param file the file to read
+     * @return the IndexTable
+     * @throws IOException - any I/O related error is exposed through an IOException
+     */
+    public static IndexTable readFrom(File file) throws IOException
+    {
+        ByteBuffer byteBuffer;
+        try (FileChannel fileChannel = FileChannel.open(file.toPath(), StandardOpenOption.READ))
+        {
+            byteBuffer = fileChannel.map(FileChannel.MapMode.READ_ONLY, 0, fileChannel.size());
+        }
+        if (byteBuffer.remaining() < FILE_HEADER_SIZE || byteBuffer.getInt() != MAGIC)
+        {
+            throw new IOException(String.format("%s does not contain an IndexTable", file.getName()));
+        }
+        int version = byteBuffer.getInt();
+        if (version != VERSION)
+        {
+            throw new IOException(String.format("IndexTable version = %d in %s is not supported", version, file.getName()));
+        }
+        long startPosition = byteBuffer.getLong();
+        long duration = byteBuffer.getLong();
+        long editUnitByteCount = byteBuffer.getLong();
+        long streamLength = byteBuffer.getLong();
+        int numEssenceSegments = byteBuffer.getInt();
+        long firstEditUnitStreamOffset = byteBuffer.getInt();
+
+        //the stream offsets of variable size edit units are mapped as a single buffer
+        if (editUnitByteCount <= 0 && (duration < 0 || duration > Integer.MAX_VALUE / 8))
+        {
+            throw new IOException(String.format("IndexTable duration = %d in %s is outside the range [0, %d]", duration, file.getName(), Integer.MAX_VALUE / 8));
+        }
+        long streamOffsetsSize = (editUnitByteCount > 0) ? 0 : duration * 8;
+        long expectedSize = FILE_HEADER_SIZE + (long) numEssenceSegments * ESSENCE_SEGMENT_SIZE + ((editUnitByteCount > 0) ? 0 : streamOffsetsSize + duration);
+        if (numEssenceSegments < 1 || duration < 0 || byteBuffer.capacity() != expectedSize)
+        {
+            throw new IOException(String.format("%s is %d bytes long, expected an IndexTable of %d bytes", file.getName(), byteBuffer.capacity(), expectedSize));
+        }
+        long[] essenceSegmentStreamOffsets = new long[numEssenceSegments];
+        long[] essenceSegmentByteOffsets = new long[numEssenceSegments];
+        for (int i = 0; i < numEssenceSegments; i++)
+        {
+            essenceSegmentStreamOffsets[i] = byteBuffer.getLong();
+            essenceSegmentByteOffsets[i] = byteBuffer.getLong();
+        }
+        if (editUnitByteCount > 0)
+        {
+            return new IndexTable(startPosition, duration, editUnitByteCount, firstEditUnitStreamOffset, streamLength, essenceSegmentStreamOffsets, essenceSegmentByteOffsets, null, null);
+        }
+
+        ByteBuffer streamOffsetBytes = byteBuffer.slice();
+        streamOffsetBytes.limit((int) streamOffsetsSize);
+        byteBuffer.position(byteBuffer.position() + (int) streamOffsetsSize);
+        return new IndexTable(startPosition, duration, editUnitByteCount, firstEditUnitStreamOffset, streamLength, essenceSegmentStreamOffsets, essenceSegmentByteOffsets,
+                streamOffsetBytes.asLongBuffer(), byteBuffer.slice());
+    }
+
+    private int checkEditUnit(long editUnit)
+    {
+        if (editUnit < this.startPosition || editUnit >= this.startPosition + this.duration)
+        {
+            throw new IllegalArgumentException(String.format("Edit unit %d is outside the range [%d, %d] indexed by this IndexTable",
+                    editUnit, this.startPosition, this.startPosition + this.duration - 1));
+        }
+        return (int) (editUnit - this.startPosition);
+    }
+
+    /**
+     * A method that returns a string representation of an IndexTable object
+     *
+     * @return string representing the object
+     */
+    public String toString()
+    {
+        StringBuilder sb = new StringBuilder();
+        sb.append("================== IndexTable ======================\n");
+        sb.append(String.format("start_position = %d%n", this.startPosition));
+        sb.append(String.format("duration = %d%n", this.duration));
+        sb.append(String.format("edit_unit_byte_count = %d%n", this.editUnitByteCount));
+        sb.append(String.format("stream_length = %d%n", this.streamLength));
+        return sb.toString();
+    }
+}
@@ -18,15 +18,18 @@
 
 package com.netflix.imflibrary.st0377;
 
+import com.netflix.imflibrary.utils.ByteBufferProvider;
 import com.netflix.imflibrary.utils.ByteProvider;
 import com.netflix.imflibrary.exceptions.MXFException;
 import com.netflix.imflibrary.annotations.MXFProperty;
 import com.netflix.imflibrary.MXFPropertyPopulator;
 import com.netflix.imflibrary.KLVPacket;
 
+import javax.annotation.Nullable;
 import javax.annotation.concurrent.Immutable;
 import java.io.IOException;
-import java.util.ArrayList;
+import java.nio.ByteBuffer;
+import java.util.AbstractList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
@@ -91,29 +94,33 @@ public final class IndexTableSegment
         }
 
         this.header = header;
-        if ((this.header.getKey()[5] != 0x53) && (this.header.getKey()[5] != 0x13))
+        byte registryDesignator = this.header.getKey()[5];
+        if ((registryDesignator != 0x53) && (registryDesignator != 0x13))
         {
             throw new MXFException(String.format("Found index table segment with registry designator byte value = 0x%x, only 0x53h or 0x13h are supported presently",
-                    this.header.getKey()[5]));
+                    registryDesignator));
         }
 
         long numBytesToRead = this.header.getVSize();
         long numBytesRead = 0;
+        ByteBufferProvider byteBufferProvider = (byteProvider instanceof ByteBufferProvider) ? (ByteBufferProvider)byteProvider : null;
 
         IndexEntryArray indexEntryArray = null;
         while (numBytesRead < numBytesToRead)
         {
-            Integer itemTag = MXFPropertyPopulator.getUnsignedShortAsInt(byteProvider.getBytes(2), KLVPacket.BYTE_ORDER);
+            int itemTag = (byteBufferProvider != null) ? byteBufferProvider.readUnsignedShort()
+                    : MXFPropertyPopulator.getUnsignedShortAsInt(byteProvider.getBytes(2), KLVPacket.BYTE_ORDER);
             numBytesRead += 2;
 
             long itemSize;
-            if (this.header.getKey()[5] == 0x53)
+            if (registryDesignator == 0x53)
             {
-                itemSize = MXFPropertyPopulator.getUnsignedShortAsInt(byteProvider.getBytes(2), KLVPacket.BYTE_ORDER);
+                itemSize = (byteBufferProvider != null) ? byteBufferProvider.readUnsignedShort()
+                        : MXFPropertyPopulator.getUnsignedShortAsInt(byteProvider.getBytes(2), KLVPacket.BYTE_ORDER);
                 numBytesRead += 2;
             }
             else
-            {//(this.header.getKey()[5] == 0x13)
+            {//(registryDesignator == 0x13)
                 KLVPacket.LengthField lengthField = KLVPacket.getLength(byteProvider);
                 itemSize = lengthField.value;
                 numBytesRead += lengthField.sizeOfLengthField;
@@ -185,13 +192,13 @@ public final class IndexTableSegment
     /**
      * Getter for the index entries.
      *
-     * @return a read-only copy of a list of IndexTableSegment.IndexEntryArray.IndexEntry or null when not present
+     * @return a read-only view of the list of IndexTableSegment.IndexEntryArray.IndexEntry, or null when not present
      */
     public List<IndexEntryArray.IndexEntry> getIndexEntries()
     {
         if (this.indexEntryArray != null)
         {
-            return Collections.unmodifiableList(this.indexEntryArray.indexEntries);
+            return this.indexEntryArray.getIndexEntries();
         }
         else
         {
@@ -199,10 +206,71 @@ public final class IndexTableSegment
         }
     }
 
+    /**
+     * Getter for the columnar representation of the index entries.
+     *
+     * @return the IndexEntryArray or null when not present
+     */
+    @Nullable
+    public IndexEntryArray getIndexEntryArray()
+    {
+        return this.indexEntryArray;
+    }
+
     public CompoundDataTypes.Rational getIndexEditRate() {
         return indexEditRate;
     }
 
+    /**
+     * Getter for the position of the first edit unit indexed by this segment
+     *
+     * @return the index start position
+     */
+    public long getIndexStartPosition()
+    {
+        return (this.index_start_position != null) ? this.index_start_position : 0L;
+    }
+
+    /**
+     * Getter for the number of edit units indexed by this segment
+     *
+     * @return the index duration, 0 if not present
+     */
+    public long getIndexDuration()
+    {
+        return (this.index_duration != null) ? this.index_duration : 0L;
+    }
+
+    /**
+     * Getter for the size in bytes of every edit unit indexed by this segment, when the edit units are of a constant size
+     *
+     * @return the edit unit byte count, 0 if the edit units indexed by this segment are of a variable size
+     */
+    public long getEditUnitByteCount()
+    {
+        return (this.edit_unit_byte_count != null) ? this.edit_unit_byte_count : 0L;
+    }
+
+    /**
+     * Getter for the identifier of the index table that this segment is a part of
+     *
+     * @return the index SID
+     */
+    public long getIndexSID()
+    {
+        return (this.index_SID != null) ? this.index_SID : 0L;
+    }
+
+    /**
+     * Getter for the identifier of the essence container indexed by this segment
+     *
+     * @return the body SID
+     */
+    public long getBodySID()
+    {
+        return (this.body_SID != null) ? this.body_SID : 0L;
+    }
+
     /**
      * Checks if the key passed in corresponds to a IndexTable segment
      *
@@ -222,13 +290,19 @@ public final class IndexTableSegment
     }
 
     /**
-     * Object model corresponding to a collection of Index Table entries
+     * Object model corresponding to a collection of Index Table entries. The entries are decoded in a single pass into
+     * primitive arrays, one per field of an index entry, rather than into one object per entry.
      */
     @Immutable
     public static final class IndexEntryArray
     {
+        private static final int INDEX_ENTRY_MIN_SIZE = 11;
+
         private final CompoundDataTypes.MXFCollections.Header header;
-        private final List<IndexEntry> indexEntries = new ArrayList<>();
+        private final byte[] temporalOffsets;
+        private final byte[] keyFrameOffsets;
+        private final byte[] flags;
+        private final long[] streamOffsets;
 
         /**
          * Instantiates a new Index entry array.
@@ -239,13 +313,115 @@ public final class IndexTableSegment
         IndexEntryArray(ByteProvider byteProvider) throws IOException
         {
             this.header = new CompoundDataTypes.MXFCollections.Header(byteProvider);
-            for (long i=0; i<header.getNumberOfElements(); i++)
+            long numberOfElements = this.header.getNumberOfElements();
+            long sizeOfElement = this.header.getSizeOfElement();
+            if (numberOfElements > 0 && sizeOfElement < INDEX_ENTRY_MIN_SIZE)
+            {
+                throw new MXFException(String.format("Size of an index entry = %d is smaller than %d", sizeOfElement, INDEX_ENTRY_MIN_SIZE));
+            }
+            if (numberOfElements * sizeOfElement > Integer.MAX_VALUE)
             {
-                indexEntries.add(new IndexEntry(byteProvider));
-                byteProvider.skipBytes(this.header.getSizeOfElement() - 11);
+                throw new MXFException(String.format("IndexEntryArray of %d entries of %d bytes each is larger than %d bytes",
+                        numberOfElements, sizeOfElement, Integer.MAX_VALUE));
+            }
+
+            int numBytes = (int)(numberOfElements * sizeOfElement);
+            ByteBuffer byteBuffer = (byteProvider instanceof ByteBufferProvider) ? ((ByteBufferProvider)byteProvider).getByteBuffer(numBytes)
+                    : ByteBuffer.wrap(byteProvider.getBytes(numBytes));
+            byteBuffer.order(KLVPacket.BYTE_ORDER);
+
+            int size = (int)numberOfElements;
+            this.temporalOffsets = new byte[size];
+            this.keyFrameOffsets = new byte[size];
+            this.flags = new byte[size];
+            this.streamOffsets = new long[size];
+            for (int i=0, offset=0; i<size; i++, offset += sizeOfElement)
+            {
+                this.temporalOffsets[i] = byteBuffer.get(offset);
+                this.keyFrameOffsets[i] = byteBuffer.get(offset + 1);
+                this.flags[i] = byteBuffer.get(offset + 2);
+                this.streamOffsets[i] = byteBuffer.getLong(offset + 3);
             }
         }
 
+        /**
+         * Getter for the number of index entries
+         *
+         * @return the number of index entries
+         */
+        public int size()
+        {
+            return this.streamOffsets.length;
+        }
+
+        /**
+         * Getter for the temporal offset of an index entry
+         *
+         * @param index the zero-indexed position of the index entry
+         * @return the temporal offset
+         */
+        public byte getTemporalOffset(int index)
+        {
+            return this.temporalOffsets[index];
+        }
+
+        /**
+         * Getter for the key frame offset of an index entry
+         *
+         * @param index the zero-indexed position of the index entry
+         * @return the key frame offset
+         */
+        public byte getKeyFrameOffset(int index)
+        {
+            return this.keyFrameOffsets[index];
+        }
+
+        /**
+         * Getter for the edit unit flags of an index entry, for e.g., bit 7 is set for a random access edit unit
+         *
+         * @param index the zero-indexed position of the index entry
+         * @return the flags
+         */
+        public byte getFlags(int index)
+        {
+            return this.flags[index];
+        }
+
+        /**
+         * Getter for the stream offset of an index entry
+         *
+         * @param index the zero-indexed position of the index entry
+         * @return the stream offset
+         */
+        public long getStreamOffset(int index)
+        {
+            return this.streamOffsets[index];
+        }
+
+        /**
+         * Getter for a read-only view of the index entries, the IndexEntry objects are created as they are accessed
+         *
+         * @return a list of IndexEntry objects
+         */
+        public List<IndexEntry> getIndexEntries()
+        {
+            return new AbstractList<IndexEntry>()
+            {
+                @Override
+                public IndexEntry get(int index)
+                {
+                    return new IndexEntry(IndexEntryArray.this.temporalOffsets[index], IndexEntryArray.this.keyFrameOffsets[index],
+                            IndexEntryArray.this.flags[index], IndexEntryArray.this.streamOffsets[index]);
+                }
+
+                @Override
+                public int size()
+                {
+                    return IndexEntryArray.this.size();
+                }
+            };
+        }
+
         /**
          * A method that returns a string representation of an IndexEntryArray object
          *
@@ -256,7 +432,7 @@ public final class IndexTableSegment
             StringBuilder sb = new StringBuilder();
             sb.append("================== IndexEntryArray ======================\n");
             sb.append(this.header.toString());
-            for (IndexEntry indexEntry : indexEntries)
+            for (IndexEntry indexEntry : this.getIndexEntries())
             {
                 sb.append(indexEntry.toString());
             }
@@ -269,23 +445,25 @@ public final class IndexTableSegment
         @Immutable
         public static final class IndexEntry
         {
-            @MXFProperty(size=1) private final Byte temporal_offset = null;
-            @MXFProperty(size=1) private final Byte key_frame_offset = null;
-            @MXFProperty(size=1) private final Byte flags = null;
-            @MXFProperty(size=8) private final Long stream_offset = null;
+            private final byte temporal_offset;
+            private final byte key_frame_offset;
+            private final byte flags;
+            private final long stream_offset;
 
             /**
              * Instantiates a new Index entry.
              *
-             * @param byteProvider the mxf byte provider
-             * @throws IOException the iO exception
+             * @param temporalOffset the temporal offset
+             * @param keyFrameOffset the key frame offset
+             * @param flags the edit unit flags
+             * @param streamOffset the stream offset
              */
-            IndexEntry(ByteProvider byteProvider) throws IOException
+            IndexEntry(byte temporalOffset, byte keyFrameOffset, byte flags, long streamOffset)
             {
-                MXFPropertyPopulator.populateField(byteProvider, this, "temporal_offset");
-                MXFPropertyPopulator.populateField(byteProvider, this, "key_frame_offset");
-                MXFPropertyPopulator.populateField(byteProvider, this, "flags");
-                MXFPropertyPopulator.populateField(byteProvider, this, "stream_offset");
+                this.temporal_offset = temporalOffset;
+                this.key_frame_offset = keyFrameOffset;
+                this.flags = flags;
+                this.stream_offset = streamOffset;
             }
 
             /**
@@ -298,6 +476,16 @@ public final class IndexTableSegment
                 return this.stream_offset;
             }
 
+            /**
+             * Gets the edit unit flags, for e.g., bit 7 is set for a random access edit unit.
+             *
+             * @return the flags
+             */
+            public byte getFlags()
+            {
+                return this.flags;
+            }
+
             /**
              * A method that returns a string representation of an IndexEntry object
              *
@@ -83,7 +83,7 @@ public final class LocalTagEntryBatch
      *
      * @return the local tag to uID map
      */
-    public Map getLocalTagToUIDMap()
+    public Map<Integer, MXFUID> getLocalTagToUIDMap()
     {
         return java.util.Collections.unmodifiableMap(localTagToUID);
     }
@@ -19,14 +19,17 @@
 package com.netflix.imflibrary.st0377.header;
 
 
+import com.netflix.imflibrary.IMFErrorLogger;
 import com.netflix.imflibrary.MXFUID;
 import com.netflix.imflibrary.st2067_201.IABEssenceDescriptor;
 import com.netflix.imflibrary.st2067_201.IABSoundfieldLabelSubDescriptor;
+import com.netflix.imflibrary.utils.ByteBufferProvider;
 import com.netflix.imflibrary.utils.ByteProvider;
 import com.netflix.imflibrary.exceptions.MXFException;
 import com.netflix.imflibrary.MXFPropertyPopulator;
 import com.netflix.imflibrary.KLVPacket;
 
+import javax.annotation.Nullable;
 import java.io.IOException;
 import java.util.Arrays;
 import java.util.Collections;
@@ -48,6 +51,69 @@ public final class StructuralMetadata
 
     private static final byte[] PHDR_METADATA_TRACK_SUBDESCRIPTOR = {0x06, 0x0e, 0x2b, 0x34, 0x02, 0x53, 0x01, 0x05, 0x0e, 0x09, 0x06, 0x07, 0x01, 0x01, 0x01, 0x03};
 
+    /**
+     * A functional interface for the constructors of the InterchangeObjectBO types that correspond to Structural Metadata sets
+     */
+    @FunctionalInterface
+    public interface InterchangeObjectBOFactory
+    {
+        /**
+         * Constructs an InterchangeObjectBO from the value of the KLV packet whose header is passed in
+         *
+         * @param header the parsed header (K and L fields) of the KLV packet
+         * @param byteProvider the mxf byte provider positioned at the start of the value of the KLV packet
+         * @param localTagToUIDMap the local tag to uID map from the primer pack
+         * @param imfErrorLogger an error logger for recording any errors
+         * @return the constructed InterchangeObjectBO
+         * @throws IOException - any I/O related error is exposed through an IOException
+         */
+        InterchangeObject.InterchangeObjectBO create(KLVPacket.Header header, ByteProvider byteProvider, Map<Integer, MXFUID> localTagToUIDMap, IMFErrorLogger imfErrorLogger)
+                throws IOException;
+    }
+
+    /*The keys of the Structural Metadata sets that are read are held in an open-addressing hash table keyed by the two halves
+    of the UL, such that classifying a KLV packet neither copies its key nor walks through a chain of byte comparisons. Byte 5
+    (registry designator, 0x53 or 0x13) and byte 7 (registry version) of the key are masked out before hashing, and also before
+    comparing except for the PHDR Metadata Track SubDescriptor whose key has to match exactly.*/
+    private static final long SET_KEY_MSB_MASK = 0xFFFFFFFFFF00FF00L;
+    private static final long EXACT_KEY_MSB_MASK = 0xFFFFFFFFFFFFFFFFL;
+    private static final int SET_TABLE_SIZE = 64;
+    private static final long[] SET_KEY_MSBS = new long[SET_TABLE_SIZE];
+    private static final long[] SET_KEY_MSB_MASKS = new long[SET_TABLE_SIZE];
+    private static final long[] SET_KEY_LSBS = new long[SET_TABLE_SIZE];
+    private static final Class<?>[] SET_CLASSES = new Class<?>[SET_TABLE_SIZE];
+    private static final InterchangeObjectBOFactory[] SET_FACTORIES = new InterchangeObjectBOFactory[SET_TABLE_SIZE];
+    static
+    {
+        registerSet(0x2f, Preface.PrefaceBO.class, Preface.PrefaceBO::new);
+        registerSet(0x18, ContentStorage.ContentStorageBO.class, ContentStorage.ContentStorageBO::new);
+        registerSet(0x23, EssenceContainerData.EssenceContainerDataBO.class, EssenceContainerData.EssenceContainerDataBO::new);
+        registerSet(0x36, MaterialPackage.MaterialPackageBO.class, MaterialPackage.MaterialPackageBO::new);
+        registerSet(0x37, SourcePackage.SourcePackageBO.class, SourcePackage.SourcePackageBO::new);
+        registerSet(0x3b, TimelineTrack.TimelineTrackBO.class, TimelineTrack.TimelineTrackBO::new);
+        registerSet(0x0f, Sequence.SequenceBO.class, Sequence.SequenceBO::new);
+        registerSet(0x11, SourceClip.SourceClipBO.class, SourceClip.SourceClipBO::new);
+        registerSet(0x14, TimecodeComponent.TimecodeComponentBO.class, TimecodeComponent.TimecodeComponentBO::new);
+        registerSet(0x25, FileDescriptor.FileDescriptorBO.class, abstractSetFactory(FileDescriptor.FileDescriptorBO.class));
+        registerSet(0x27, GenericPictureEssenceDescriptor.GenericPictureEssenceDescriptorBO.class, abstractSetFactory(GenericPictureEssenceDescriptor.GenericPictureEssenceDescriptorBO.class));
+        registerSet(0x28, CDCIPictureEssenceDescriptor.CDCIPictureEssenceDescriptorBO.class, CDCIPictureEssenceDescriptor.CDCIPictureEssenceDescriptorBO::new);
+        registerSet(0x29, RGBAPictureEssenceDescriptor.RGBAPictureEssenceDescriptorBO.class, RGBAPictureEssenceDescriptor.RGBAPictureEssenceDescriptorBO::new);
+        registerSet(0x42, GenericSoundEssenceDescriptor.GenericSoundEssenceDescriptorBO.class, abstractSetFactory(GenericSoundEssenceDescriptor.GenericSoundEssenceDescriptorBO.class));
+        registerSet(0x48, WaveAudioEssenceDescriptor.WaveAudioEssenceDescriptorBO.class, WaveAudioEssenceDescriptor.WaveAudioEssenceDescriptorBO::new);
+        registerSet(0x64, TimedTextDescriptor.TimedTextDescriptorBO.class, TimedTextDescriptor.TimedTextDescriptorBO::new);
+        registerSet(0x65, TimeTextResourceSubDescriptor.TimeTextResourceSubdescriptorBO.class, TimeTextResourceSubDescriptor.TimeTextResourceSubdescriptorBO::new);
+        registerSet(0x6b, AudioChannelLabelSubDescriptor.AudioChannelLabelSubDescriptorBO.class, AudioChannelLabelSubDescriptor.AudioChannelLabelSubDescriptorBO::new);
+        registerSet(0x6c, SoundFieldGroupLabelSubDescriptor.SoundFieldGroupLabelSubDescriptorBO.class, SoundFieldGroupLabelSubDescriptor.SoundFieldGroupLabelSubDescriptorBO::new);
+        registerSet(0x6d, GroupOfSoundFieldGroupLabelSubDescriptor.GroupOfSoundFieldGroupLabelSubDescriptorBO.class, GroupOfSoundFieldGroupLabelSubDescriptor.GroupOfSoundFieldGroupLabelSubDescriptorBO::new);
+        registerSet(0x5a, JPEG2000PictureSubDescriptor.JPEG2000PictureSubDescriptorBO.class, JPEG2000PictureSubDescriptor.JPEG2000PictureSubDescriptorBO::new);
+        registerSet(0x7b, IABEssenceDescriptor.IABEssenceDescriptorBO.class, IABEssenceDescriptor.IABEssenceDescriptorBO::new);
+        registerSet(0x7c, IABSoundfieldLabelSubDescriptor.IABSoundfieldLabelSubDescriptorBO.class, IABSoundfieldLabelSubDescriptor.IABSoundfieldLabelSubDescriptorBO::new);
+        registerSet(0x79, ACESPictureSubDescriptor.ACESPictureSubDescriptorBO.class, ACESPictureSubDescriptor.ACESPictureSubDescriptorBO::new);
+        registerSet(0x7a, TargetFrameSubDescriptor.TargetFrameSubDescriptorBO.class, TargetFrameSubDescriptor.TargetFrameSubDescriptorBO::new);
+        registerSet(PHDR_METADATA_TRACK_SUBDESCRIPTOR, EXACT_KEY_MSB_MASK, PHDRMetaDataTrackSubDescriptor.PHDRMetaDataTrackSubDescriptorBO.class,
+                PHDRMetaDataTrackSubDescriptor.PHDRMetaDataTrackSubDescriptorBO::new);
+    }
+
 
     private static final Map<MXFUID, String> ItemULToItemName;
     static
@@ -633,101 +699,86 @@ public final class StructuralMetadata
      * @param key the key
      * @return the structural metadata set name
      */
-    public static Class getStructuralMetadataSetClass(byte[] key)
+    public static Class<?> getStructuralMetadataSetClass(byte[] key)
+    {
+        int slot = findSet(KLVPacket.getLong(key, 0), KLVPacket.getLong(key, 8));
+        return (slot < 0) ? Object.class : SET_CLASSES[slot];
+    }
+
+    /**
+     * Gets the factory for the structural metadata set object corresponding to the key of the KLV packet header passed in.
+     * Note: For all structural metadata set items that we do not read we will return null, in which case the value of the
+     * KLV packet should be skipped
+     * @param header the KLV packet header
+     * @return the factory for the corresponding InterchangeObjectBO type, or null if the KLV packet is not read
+     */
+    @Nullable
+    public static InterchangeObjectBOFactory getStructuralMetadataSetFactory(KLVPacket.Header header)
     {
+        int slot = findSet(header.getKeyMostSignificantBits(), header.getKeyLeastSignificantBits());
+        return (slot < 0) ? null : SET_FACTORIES[slot];
+    }
 
-        if (isPHDRMetadataTrackSubDescriptor(key))
-        {
-            return PHDRMetaDataTrackSubDescriptor.PHDRMetaDataTrackSubDescriptorBO.class;
-        }
-        else if (isStructuralMetadata(key) && (key[13] == 0x01))
+    private static void registerSet(int setKind, Class<? extends InterchangeObject.InterchangeObjectBO> clazz, InterchangeObjectBOFactory factory)
+    {
+        byte[] key = Arrays.copyOf(KEY_BASE, KEY_BASE.length);
+        key[5] = 0x53;
+        key[13] = 0x01;
+        key[14] = (byte)setKind;
+        registerSet(key, SET_KEY_MSB_MASK, clazz, factory);
+    }
+
+    private static void registerSet(byte[] key, long msbMask, Class<? extends InterchangeObject.InterchangeObjectBO> clazz, InterchangeObjectBOFactory factory)
+    {
+        long msb = KLVPacket.getLong(key, 0) & msbMask;
+        long lsb = KLVPacket.getLong(key, 8);
+        int slot = hashSetKey(msb & SET_KEY_MSB_MASK, lsb);
+        while (SET_CLASSES[slot] != null)
         {
-            switch (key[14])
+            if (SET_KEY_MSBS[slot] == (msb & SET_KEY_MSB_MASKS[slot]) && SET_KEY_LSBS[slot] == lsb)
             {
-                case 0x2f :
-                    return Preface.PrefaceBO.class;
-                case 0x30 :
-                    return Object.class; //Identification
-                case 0x18 :
-                    return ContentStorage.ContentStorageBO.class;
-                case 0x23 :
-                    return EssenceContainerData.EssenceContainerDataBO.class;
-                case 0x36 :
-                    return MaterialPackage.MaterialPackageBO.class;
-                case 0x37 :
-                    return SourcePackage.SourcePackageBO.class;
-                case 0x3b :
-                    return TimelineTrack.TimelineTrackBO.class;
-                case 0x39 :
-                    return Object.class; //Event Track
-                case 0x3A :
-                    return Object.class; //Static Track
-                case 0x0F:
-                    return Sequence.SequenceBO.class;
-                case 0x11 :
-                    return SourceClip.SourceClipBO.class;
-                case 0x14 :
-                    return TimecodeComponent.TimecodeComponentBO.class;
-                case 0x41 :
-                    return Object.class; //DM Segment
-                case 0x45 :
-                    return Object.class; //DM Source Clip
-                case 0x09 :
-                    return Object.class; //Filler
-                case 0x60 :
-                    return Object.class; //Package Marker Object
-                case 0x25 :
-                    return FileDescriptor.FileDescriptorBO.class;
-                case 0x27 :
-                    return GenericPictureEssenceDescriptor.GenericPictureEssenceDescriptorBO.class;
-                case 0x28 :
-                    return CDCIPictureEssenceDescriptor.CDCIPictureEssenceDescriptorBO.class;
-                case 0x29 :
-                    return RGBAPictureEssenceDescriptor.RGBAPictureEssenceDescriptorBO.class;
-                case 0x42 :
-                    return GenericSoundEssenceDescriptor.GenericSoundEssenceDescriptorBO.class;
-                case 0x43 :
-                    return Object.class; //Generic Data Essence Descriptor
-                case 0x44 :
-                    return Object.class; //Multiple Descriptor
-                case 0x32 :
-                    return Object.class; //Network Locator
-                case 0x33 :
-                    return Object.class; //Text Locator
-                case 0x61 :
-                    return Object.class; //Application Plug-In Object
-                case 0x62 :
-                    return Object.class; //Application Referenced Object
-                case 0x48 :
-                    return WaveAudioEssenceDescriptor.WaveAudioEssenceDescriptorBO.class;
-                case 0x64 :
-                    return TimedTextDescriptor.TimedTextDescriptorBO.class;
-                case 0x65 :
-                    return TimeTextResourceSubDescriptor.TimeTextResourceSubdescriptorBO.class;
-                case 0x6b :
-                    return AudioChannelLabelSubDescriptor.AudioChannelLabelSubDescriptorBO.class;
-                case 0x6c :
-                    return SoundFieldGroupLabelSubDescriptor.SoundFieldGroupLabelSubDescriptorBO.class;
-                case 0x6d :
-                    return GroupOfSoundFieldGroupLabelSubDescriptor.GroupOfSoundFieldGroupLabelSubDescriptorBO.class;
-                case 0x5A :
-                    return JPEG2000PictureSubDescriptor.JPEG2000PictureSubDescriptorBO.class;
-                case 0x7B :
-                    return IABEssenceDescriptor.IABEssenceDescriptorBO.class;
-                case 0x7C :
-                    return IABSoundfieldLabelSubDescriptor.IABSoundfieldLabelSubDescriptorBO.class;
-                case 0x79 :
-                    return ACESPictureSubDescriptor.ACESPictureSubDescriptorBO.class;
-                case 0x7a :
-                    return TargetFrameSubDescriptor.TargetFrameSubDescriptorBO.class;
-                default :
-                    return Object.class;
+                throw new MXFException(String.format("Structural Metadata set key for class %s is already registered", clazz.getSimpleName()));
             }
+            slot = (slot + 1) & (SET_TABLE_SIZE - 1);
+        }
+        SET_KEY_MSBS[slot] = msb;
+        SET_KEY_MSB_MASKS[slot] = msbMask;
+        SET_KEY_LSBS[slot] = lsb;
+        SET_CLASSES[slot] = clazz;
+        SET_FACTORIES[slot] = factory;
+    }
+
+    private static int findSet(long msb, long lsb)
+    {
+        int registryDesignator = (int)(msb >>> 16) & 0xFF;
+        if (registryDesignator != 0x53 && registryDesignator != 0x13)
+        {
+            return -1;
         }
-        else
+        int slot = hashSetKey(msb & SET_KEY_MSB_MASK, lsb);
+        while (SET_CLASSES[slot] != null)
         {
-            return Object.class;
+            if (SET_KEY_MSBS[slot] == (msb & SET_KEY_MSB_MASKS[slot]) && SET_KEY_LSBS[slot] == lsb)
+            {
+                return slot;
+            }
+            slot = (slot + 1) & (SET_TABLE_SIZE - 1);
         }
+        return -1;
+    }
+
+    private static int hashSetKey(long msb, long lsb)
+    {
+        long hash = (msb ^ lsb) * 0x9E3779B97F4A7C15L;
+        return (int)(hash >>> (Long.SIZE - Integer.numberOfTrailingZeros(SET_TABLE_SIZE)));
+    }
+
+    /*Abstract set types cannot be instantiated, they are reported in the same way as a type without a suitable constructor*/
+    private static InterchangeObjectBOFactory abstractSetFactory(Class<? extends InterchangeObject.InterchangeObjectBO> clazz)
+    {
+        return (header, byteProvider, localTagToUIDMap, imfErrorLogger) -> {
+            throw new IOException(String.format("No matching constructor for class %s", clazz.getSimpleName()));
+        };
     }
 
     /**
@@ -743,26 +794,39 @@ public final class StructuralMetadata
             throws IOException
     {
         long numBytesRead = 0;
+        int registryDesignator = object.getHeader().getRegistryDesignator();
+        ByteBufferProvider byteBufferProvider = (byteProvider instanceof ByteBufferProvider) ? (ByteBufferProvider)byteProvider : null;
         while (numBytesRead < numBytesToRead)
         {
             /*From smpte st 377-1:2011 section 9.6, all structural header metadata objects shall be implemented as MXF Local Sets
             which implies that the data item local tag is always 2 bytes long*/
             //read local tag
-            int localTag = MXFPropertyPopulator.getUnsignedShortAsInt(byteProvider.getBytes(2), KLVPacket.BYTE_ORDER);
+            int localTag = (byteBufferProvider != null) ? byteBufferProvider.readUnsignedShort()
+                    : MXFPropertyPopulator.getUnsignedShortAsInt(byteProvider.getBytes(2), KLVPacket.BYTE_ORDER);
             numBytesRead += 2;
 
             //read length
             long length;
-            if (object.getHeader().getRegistryDesignator() == 0x53)
+            if (registryDesignator == 0x53)
             {
-                length = MXFPropertyPopulator.getUnsignedShortAsInt(byteProvider.getBytes(2), KLVPacket.BYTE_ORDER);
+                length = (byteBufferProvider != null) ? byteBufferProvider.readUnsignedShort()
+                        : MXFPropertyPopulator.getUnsignedShortAsInt(byteProvider.getBytes(2), KLVPacket.BYTE_ORDER);
                 numBytesRead += 2;
             }
-            else if (object.getHeader().getRegistryDesignator() == 0x13)
+            else if (registryDesignator == 0x13)
             {
-                KLVPacket.LengthField lengthField = KLVPacket.getLength(byteProvider);
-                length = lengthField.value;
-                numBytesRead += lengthField.sizeOfLengthField;
+                if (byteBufferProvider != null)
+                {
+                    long position = byteBufferProvider.getPosition();
+                    length = byteBufferProvider.readBERLength();
+                    numBytesRead += byteBufferProvider.getPosition() - position;
+                }
+                else
+                {
+                    KLVPacket.LengthField lengthField = KLVPacket.getLength(byteProvider);
+                    length = lengthField.value;
+                    numBytesRead += lengthField.sizeOfLengthField;
+                }
             }
             else
             {
@@ -26,6 +26,7 @@ import com.netflix.imflibrary.exceptions.IMFException;
 import com.netflix.imflibrary.utils.ErrorLogger;
 import com.netflix.imflibrary.utils.FileByteRangeProvider;
 import com.netflix.imflibrary.utils.ResourceByteRangeProvider;
+import com.netflix.imflibrary.utils.SchemaRegistry;
 import com.netflix.imflibrary.utils.UUIDHelper;
 import com.netflix.imflibrary.utils.Utilities;
 import com.netflix.imflibrary.writerTools.utils.ValidationEventHandlerImpl;
@@ -42,14 +43,12 @@ import org.xml.sax.SAXParseException;
 
 import javax.annotation.Nullable;
 import javax.annotation.concurrent.Immutable;
-import javax.xml.XMLConstants;
 import javax.xml.bind.*;
 import javax.xml.parsers.DocumentBuilder;
 import javax.xml.parsers.DocumentBuilderFactory;
 import javax.xml.parsers.ParserConfigurationException;
 import javax.xml.transform.stream.StreamSource;
 import javax.xml.validation.Schema;
-import javax.xml.validation.SchemaFactory;
 import javax.xml.validation.Validator;
 import java.io.File;
 import java.io.IOException;
@@ -131,14 +130,11 @@ public final class AssetMap
         }
         
         try {
-            try (InputStream inputStream = resourceByteRangeProvider.getByteRangeAsStream(0, resourceByteRangeProvider.getResourceSize() - 1);
-                 InputStream assetMap_schema_is = Thread.currentThread().getContextClassLoader().getResourceAsStream(assetMapSchema.getAssetMapSchemaPath());) {
-                SchemaFactory schemaFactory = SchemaFactory.newInstance(XMLConstants.W3C_XML_SCHEMA_NS_URI);
-                StreamSource schemaSource = new StreamSource(assetMap_schema_is);
-                Schema schema = schemaFactory.newSchema(schemaSource);
+            try (InputStream inputStream = resourceByteRangeProvider.getByteRangeAsStream(0, resourceByteRangeProvider.getResourceSize() - 1)) {
+                Schema schema = SchemaRegistry.getSchema(assetMapSchema.getAssetMapSchemaPath());
 
                 ValidationEventHandlerImpl validationEventHandlerImpl = new ValidationEventHandlerImpl(true);
-                JAXBContext jaxbContext = JAXBContext.newInstance(assetMapSchema.getAssetMapContext());
+                JAXBContext jaxbContext = SchemaRegistry.getJAXBContext(assetMapSchema.getAssetMapContext());
                 Unmarshaller unmarshaller = jaxbContext.createUnmarshaller();
                 unmarshaller.setEventHandler(validationEventHandlerImpl);
                 unmarshaller.setSchema(schema);
@@ -565,17 +561,10 @@ public final class AssetMap
         }
 
         try {
-            try (InputStream inputStream = resourceByteRangeProvider.getByteRangeAsStream(0, resourceByteRangeProvider.getResourceSize() - 1);
-                 InputStream assetMap_is = Thread.currentThread().getContextClassLoader().getResourceAsStream(assetMapSchema.getAssetMapSchemaPath());
-            ) {
+            try (InputStream inputStream = resourceByteRangeProvider.getByteRangeAsStream(0, resourceByteRangeProvider.getResourceSize() - 1)) {
                 StreamSource inputSource = new StreamSource(inputStream);
 
-
-                StreamSource[] streamSources = new StreamSource[1];
-                streamSources[0] = new StreamSource(assetMap_is);
-
-                SchemaFactory schemaFactory = SchemaFactory.newInstance(XMLConstants.W3C_XML_SCHEMA_NS_URI);
-                Schema schema = schemaFactory.newSchema(streamSources);
+                Schema schema = SchemaRegistry.getSchema(assetMapSchema.getAssetMapSchemaPath());
 
                 Validator validator = schema.newValidator();
                 validator.setErrorHandler(new ErrorHandler() {
@@ -21,19 +21,14 @@ package com.netflix.imflibrary.st2067_2;
 import com.netflix.imflibrary.IMFConstraints;
 import com.netflix.imflibrary.IMFErrorLogger;
 import com.netflix.imflibrary.IMFErrorLoggerImpl;
-import com.netflix.imflibrary.KLVPacket;
 import com.netflix.imflibrary.MXFOperationalPattern1A;
 import com.netflix.imflibrary.exceptions.IMFException;
 import com.netflix.imflibrary.exceptions.MXFException;
 import com.netflix.imflibrary.st0377.HeaderPartition;
-import com.netflix.imflibrary.st0377.PrimerPack;
 import com.netflix.imflibrary.st0377.header.GenericPackage;
-import com.netflix.imflibrary.st0377.header.InterchangeObject;
 import com.netflix.imflibrary.st0377.header.Preface;
 import com.netflix.imflibrary.st0377.header.SourcePackage;
 import com.netflix.imflibrary.st2067_201.IMFIABConstraintsChecker;
-import com.netflix.imflibrary.utils.ByteArrayDataProvider;
-import com.netflix.imflibrary.utils.ByteProvider;
 import com.netflix.imflibrary.utils.DOMNodeObjectModel;
 import com.netflix.imflibrary.utils.ErrorLogger;
 import com.netflix.imflibrary.utils.FileByteRangeProvider;
@@ -42,7 +37,6 @@ import com.netflix.imflibrary.utils.RegXMLLibHelper;
 import com.netflix.imflibrary.utils.ResourceByteRangeProvider;
 import com.netflix.imflibrary.utils.UUIDHelper;
 import com.netflix.imflibrary.utils.Utilities;
-import com.sandflow.smpte.klv.Triplet;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.w3c.dom.Document;
@@ -60,8 +54,10 @@ import java.io.File;
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.EnumMap;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.Iterator;
 import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
@@ -69,6 +65,8 @@ import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.Executor;
+import java.util.concurrent.FutureTask;
 import java.util.stream.Collectors;
 
 /**
@@ -88,6 +86,11 @@ public abstract class AbstractApplicationComposition implements ApplicationCompo
     private final Map<UUID, ? extends Composition.VirtualTrack> virtualTrackMap;
     private final IMFCompositionPlaylistType compositionPlaylistType;
     private final Map<UUID, List<Node>> essenceDescriptorDomNodeMap;
+    private final Map<UUID, DOMNodeObjectModel> essenceDescriptorListMap;
+    private final Map<UUID, IMFTrackFileResourceType> trackFileResourceMap;
+    private final List<IMFTrackFileResourceType> trackFileResources;
+    private final List<IMFEssenceComponentVirtualTrack> essenceVirtualTracks;
+    private final Map<Composition.SequenceTypeEnum, List<Composition.VirtualTrack>> sequenceTypeVirtualTrackMap;
 
     protected final IMFErrorLogger imfErrorLogger;
     protected final RegXMLLibDictionary regXMLLibDictionary;
@@ -138,20 +141,48 @@ public abstract class AbstractApplicationComposition implements ApplicationCompo
 
         this.compositionPlaylistType = imfCompositionPlaylistType;
 
-        this.regXMLLibDictionary = new RegXMLLibDictionary();
+        this.regXMLLibDictionary = RegXMLLibDictionary.getInstance();
 
         this.coreConstraintsVersion = this.compositionPlaylistType.getCoreConstraintsVersion();
 
         this.essenceDescriptorKeyIgnoreSet = Collections.unmodifiableSet(ignoreSet);
 
         this.virtualTrackMap = this.getVirtualTracksMap(compositionPlaylistType, imfErrorLogger);
-        Map<UUID, DOMNodeObjectModel> essenceDescriptorListMap= this.getEssenceDescriptorListMap(ignoreSet);
+        Map<UUID, DOMNodeObjectModel> essenceDescriptorListMapIgnoreSet = this.getEssenceDescriptorListMap(ignoreSet);
+        this.essenceDescriptorListMap = ignoreSet.isEmpty() ? essenceDescriptorListMapIgnoreSet : this.getEssenceDescriptorListMap(new HashSet<>());
+
+        /*Index the virtual tracks and their track file resources once, so that the getters below are simple lookups*/
+        Map<UUID, IMFTrackFileResourceType> trackFileResourceMap = new HashMap<>();
+        List<IMFTrackFileResourceType> trackFileResources = new ArrayList<>();
+        List<IMFEssenceComponentVirtualTrack> essenceVirtualTracks = new ArrayList<>();
+        Map<Composition.SequenceTypeEnum, List<Composition.VirtualTrack>> sequenceTypeVirtualTrackMap = new EnumMap<>(Composition.SequenceTypeEnum.class);
+        for (Composition.VirtualTrack virtualTrack : this.virtualTrackMap.values()) {
+            if (virtualTrack == null) {
+                continue;
+            }
+            if (virtualTrack.getResourceList().size() != 0 && virtualTrack.getResourceList().get(0) instanceof IMFTrackFileResourceType) {
+                IMFEssenceComponentVirtualTrack essenceVirtualTrack = IMFEssenceComponentVirtualTrack.class.cast(virtualTrack);
+                essenceVirtualTracks.add(essenceVirtualTrack);
+                for (IMFTrackFileResourceType trackFileResource : essenceVirtualTrack.getTrackFileResourceList()) {
+                    trackFileResources.add(trackFileResource);
+                    trackFileResourceMap.putIfAbsent(UUIDHelper.fromUUIDAsURNStringToUUID(trackFileResource.getTrackFileId()), trackFileResource);
+                }
+            }
+            sequenceTypeVirtualTrackMap.computeIfAbsent(virtualTrack.getSequenceTypeEnum(), k -> new ArrayList<>()).add(virtualTrack);
+        }
+        for (Map.Entry<Composition.SequenceTypeEnum, List<Composition.VirtualTrack>> entry : sequenceTypeVirtualTrackMap.entrySet()) {
+            entry.setValue(Collections.unmodifiableList(entry.getValue()));
+        }
+        this.trackFileResourceMap = Collections.unmodifiableMap(trackFileResourceMap);
+        this.trackFileResources = Collections.unmodifiableList(trackFileResources);
+        this.essenceVirtualTracks = Collections.unmodifiableList(essenceVirtualTracks);
+        this.sequenceTypeVirtualTrackMap = Collections.unmodifiableMap(sequenceTypeVirtualTrackMap);
 
         imfErrorLogger.addAllErrors(IMFCoreConstraintsChecker.checkVirtualTracks(compositionPlaylistType, this
-                .virtualTrackMap, essenceDescriptorListMap, this.regXMLLibDictionary, homogeneitySelectionSet));
+                .virtualTrackMap, essenceDescriptorListMapIgnoreSet, this.regXMLLibDictionary, homogeneitySelectionSet));
 
         if (IMFCoreConstraintsChecker.hasIABVirtualTracks(compositionPlaylistType, virtualTrackMap)) {
-            List<ErrorLogger.ErrorObject> errors = IMFIABConstraintsChecker.checkIABVirtualTrack(compositionPlaylistType.getEditRate(), virtualTrackMap, essenceDescriptorListMap, this.regXMLLibDictionary, homogeneitySelectionSet);
+            List<ErrorLogger.ErrorObject> errors = IMFIABConstraintsChecker.checkIABVirtualTrack(compositionPlaylistType.getEditRate(), virtualTrackMap, essenceDescriptorListMapIgnoreSet, this.regXMLLibDictionary, homogeneitySelectionSet);
             imfErrorLogger.addAllErrors(errors);
         }
 
@@ -283,6 +314,15 @@ public abstract class AbstractApplicationComposition implements ApplicationCompo
         return IMFCompositionPlaylistType.isCompositionPlaylist(resourceByteRangeProvider);
     }
 
+    /**
+     * Getter for the namespace URIs of the Composition Playlist schemas supported by this library
+     *
+     * @return a set of namespace URIs
+     */
+    public static Set<String> getSupportedCPLSchemaURIs() {
+        return IMFCompositionPlaylistType.supportedCPLSchemaURIs;
+    }
+
     /**
      * Getter for the composition edit rate as specified in the Composition XML file
      *
@@ -390,16 +430,7 @@ public abstract class AbstractApplicationComposition implements ApplicationCompo
      * track
      */
     public List<IMFTrackFileResourceType> getTrackFileResources() {
-        List<IMFTrackFileResourceType> trackFileResources = new ArrayList<>();
-        Iterator iterator = this.getVirtualTrackMap().entrySet().iterator();
-        while (iterator != null
-                && iterator.hasNext()) {
-            Composition.VirtualTrack virtualTrack = ((Map.Entry<UUID, ? extends Composition.VirtualTrack>) iterator.next()).getValue();
-            if (virtualTrack.getResourceList().size() != 0 && virtualTrack.getResourceList().get(0) instanceof IMFTrackFileResourceType) {
-                trackFileResources.addAll(IMFEssenceComponentVirtualTrack.class.cast(virtualTrack).getTrackFileResourceList());
-            }
-        }
-        return Collections.unmodifiableList(trackFileResources);
+        return this.trackFileResources;
     }
 
     /**
@@ -410,16 +441,7 @@ public abstract class AbstractApplicationComposition implements ApplicationCompo
      */
     @Nullable
     public List<IMFEssenceComponentVirtualTrack> getEssenceVirtualTracks() {
-        List<IMFEssenceComponentVirtualTrack> essenceVirtualTracks = new ArrayList<>();
-        Iterator iterator = this.getVirtualTrackMap().entrySet().iterator();
-        while (iterator != null
-                && iterator.hasNext()) {
-            Composition.VirtualTrack virtualTrack = ((Map.Entry<UUID, ? extends Composition.VirtualTrack>) iterator.next()).getValue();
-            if (virtualTrack.getResourceList().size() != 0 && virtualTrack.getResourceList().get(0) instanceof IMFTrackFileResourceType) {
-                essenceVirtualTracks.add(IMFEssenceComponentVirtualTrack.class.cast(virtualTrack));
-            }
-        }
-        return Collections.unmodifiableList(essenceVirtualTracks);
+        return this.essenceVirtualTracks;
     }
 
     /**
@@ -429,16 +451,8 @@ public abstract class AbstractApplicationComposition implements ApplicationCompo
      */
     @Nullable
     public IMFEssenceComponentVirtualTrack getVideoVirtualTrack() {
-        Iterator iterator = this.virtualTrackMap.entrySet().iterator();
-        while (iterator != null
-                && iterator.hasNext()) {
-            Composition.VirtualTrack virtualTrack = ((Map.Entry<UUID, ? extends Composition.VirtualTrack>)
-                    iterator.next()).getValue();
-            if (virtualTrack.getSequenceTypeEnum().equals(Composition.SequenceTypeEnum.MainImageSequence)) {
-                return IMFEssenceComponentVirtualTrack.class.cast(virtualTrack);
-            }
-        }
-        return null;
+        List<Composition.VirtualTrack> videoVirtualTracks = this.getVirtualTracks(Composition.SequenceTypeEnum.MainImageSequence);
+        return videoVirtualTracks.isEmpty() ? null : IMFEssenceComponentVirtualTrack.class.cast(videoVirtualTracks.get(0));
     }
 
     /**
@@ -448,13 +462,8 @@ public abstract class AbstractApplicationComposition implements ApplicationCompo
      */
     public List<IMFEssenceComponentVirtualTrack> getAudioVirtualTracks() {
         List<IMFEssenceComponentVirtualTrack> audioVirtualTracks = new ArrayList<>();
-        Iterator iterator = this.getVirtualTrackMap().entrySet().iterator();
-        while (iterator != null
-                && iterator.hasNext()) {
-            Composition.VirtualTrack virtualTrack = ((Map.Entry<UUID, ? extends Composition.VirtualTrack>) iterator.next()).getValue();
-            if (virtualTrack.getSequenceTypeEnum().equals(Composition.SequenceTypeEnum.MainAudioSequence)) {
-                audioVirtualTracks.add(IMFEssenceComponentVirtualTrack.class.cast(virtualTrack));
-            }
+        for (Composition.VirtualTrack virtualTrack : this.getVirtualTracks(Composition.SequenceTypeEnum.MainAudioSequence)) {
+            audioVirtualTracks.add(IMFEssenceComponentVirtualTrack.class.cast(virtualTrack));
         }
         return Collections.unmodifiableList(audioVirtualTracks);
     }
@@ -466,15 +475,32 @@ public abstract class AbstractApplicationComposition implements ApplicationCompo
      */
     @Nullable
     public IMFMarkerVirtualTrack getMarkerVirtualTrack() {
-        Iterator iterator = this.virtualTrackMap.entrySet().iterator();
-        while (iterator != null
-                && iterator.hasNext()) {
-            Composition.VirtualTrack virtualTrack = ((Map.Entry<UUID, ? extends Composition.VirtualTrack>) iterator.next()).getValue();
-            if (virtualTrack.getSequenceTypeEnum().equals(Composition.SequenceTypeEnum.MarkerSequence)) {
-                return IMFMarkerVirtualTrack.class.cast(virtualTrack);
-            }
-        }
-        return null;
+        List<Composition.VirtualTrack> markerVirtualTracks = this.getVirtualTracks(Composition.SequenceTypeEnum.MarkerSequence);
+        return markerVirtualTracks.isEmpty() ? null : IMFMarkerVirtualTrack.class.cast(markerVirtualTracks.get(0));
+    }
+
+    /**
+     * Getter for the VirtualTracks of a given sequence type in this Composition
+     *
+     * @param sequenceType the sequence type of the virtual tracks
+     * @return a list of the virtual tracks of the given sequence type in the order in which they appear in the first
+     * segment of this composition or an empty list if there are none
+     */
+    @Nonnull
+    List<Composition.VirtualTrack> getVirtualTracks(Composition.SequenceTypeEnum sequenceType) {
+        List<Composition.VirtualTrack> virtualTracks = this.sequenceTypeVirtualTrackMap.get(sequenceType);
+        return virtualTracks != null ? virtualTracks : Collections.emptyList();
+    }
+
+    /**
+     * Getter for the Track file resource that references a given track file in this Composition
+     *
+     * @param trackFileId the track file id of the resource
+     * @return the first track file resource that references the track file or null if there is none
+     */
+    @Nullable
+    IMFTrackFileResourceType getTrackFileResource(UUID trackFileId) {
+        return this.trackFileResourceMap.get(trackFileId);
     }
 
     /**
@@ -532,14 +558,13 @@ public abstract class AbstractApplicationComposition implements ApplicationCompo
      * @param trackFileId the track file id of the resource
      * @return  the DOMNodeObjectModel representing the EssenceDescriptor
      */
+    @Nullable
     public DOMNodeObjectModel getEssenceDescriptor(UUID trackFileId) {
-        IMFTrackFileResourceType imfTrackFileResourceType = this.getTrackFileResources()
-                .stream()
-                .filter(e -> UUIDHelper.fromUUIDAsURNStringToUUID(e.getTrackFileId()).equals(trackFileId))
-                .findFirst()
-                .get();
-
-        return this.getEssenceDescriptorListMap().get(UUIDHelper.fromUUIDAsURNStringToUUID(imfTrackFileResourceType.getSourceEncoding()));
+        IMFTrackFileResourceType imfTrackFileResourceType = this.getTrackFileResource(trackFileId);
+        if (imfTrackFileResourceType == null) {
+            return null;
+        }
+        return this.essenceDescriptorListMap.get(UUIDHelper.fromUUIDAsURNStringToUUID(imfTrackFileResourceType.getSourceEncoding()));
     }
 
     /**
@@ -644,10 +669,12 @@ public abstract class AbstractApplicationComposition implements ApplicationCompo
      * A utility method that will analyze the EssenceDescriptorList in a Composition and construct a HashMap mapping
      * a UUID to a EssenceDescriptor.
      *
+     * The map is built once when this Composition is constructed.
+     *
      * @return a HashMap mapping the UUID to its corresponding EssenceDescriptor in the Composition
      */
     Map<UUID, DOMNodeObjectModel> getEssenceDescriptorListMap() {
-        return getEssenceDescriptorListMap(new HashSet<>());
+        return this.essenceDescriptorListMap;
     }
 
     public Map<Set<DOMNodeObjectModel>, ? extends Composition.VirtualTrack> getAudioVirtualTracksMap() {
@@ -690,6 +717,27 @@ public abstract class AbstractApplicationComposition implements ApplicationCompo
     public List<ErrorLogger.ErrorObject> conformVirtualTracksInComposition(List<Composition.HeaderPartitionTuple>
                                                                    headerPartitionTuples,
                                                      boolean conformAllVirtualTracksInCpl) throws IOException {
+        return conformVirtualTracksInComposition(headerPartitionTuples, conformAllVirtualTracksInCpl, Runnable::run);
+    }
+
+    /**
+     * This method can be used to determine if a Composition is conformant, see
+     * {@link #conformVirtualTracksInComposition(List, boolean)}. The validation of the HeaderPartitions and the
+     * construction of the DOM representations of their EssenceDescriptors are run on the executor passed in, one task
+     * per HeaderPartitionTuple, each task building its own DOM Documents. The errors of the individual tasks are merged
+     * in the order in which the HeaderPartitionTuples were passed in, hence the result does not depend on the executor.
+     *
+     * @param headerPartitionTuples        list of HeaderPartitionTuples corresponding to the IMF essences referenced in the Composition
+     * @param conformAllVirtualTracksInCpl a boolean that turns on/off conforming all the VirtualTracks in the Composition
+     * @param executor                     the executor that runs the tasks corresponding to individual HeaderPartitionTuples,
+     *                                     the calling thread waits for these tasks to complete
+     * @return boolean to indicate of the Composition is conformant or not
+     * @throws IOException        - any I/O related error is exposed through an IOException.
+     */
+    public List<ErrorLogger.ErrorObject> conformVirtualTracksInComposition(List<Composition.HeaderPartitionTuple>
+                                                                   headerPartitionTuples,
+                                                     boolean conformAllVirtualTracksInCpl,
+                                                     Executor executor) throws IOException {
         /*
          * The algorithm for conformance checking a Composition (CPL) would be
          * 1) Verify that every EssenceDescriptor element in the EssenceDescriptor list (EDL) is referenced through its id element if conformAllVirtualTracks is enabled
@@ -736,7 +784,7 @@ public abstract class AbstractApplicationComposition implements ApplicationCompo
         }
 
         try {
-            resourceEssenceDescriptorMap = this.getResourcesEssenceDescriptorsMap(headerPartitionTuples);
+            resourceEssenceDescriptorMap = this.getResourcesEssenceDescriptorsMap(headerPartitionTuples, executor);
         }
         catch(IMFException e)
         {
@@ -788,74 +836,80 @@ public abstract class AbstractApplicationComposition implements ApplicationCompo
     }
 
     private Map<UUID, List<DOMNodeObjectModel>> getResourcesEssenceDescriptorsMap(List<Composition
-            .HeaderPartitionTuple> headerPartitionTuples) throws IOException {
+            .HeaderPartitionTuple> headerPartitionTuples, Executor executor) throws IOException {
         int previousNumberOfErrors = imfErrorLogger.getErrors().size();
         Map<UUID, List<DOMNodeObjectModel>> resourcesEssenceDescriptorMap = new LinkedHashMap<>();
 
+        /*Validate every header partition in a task of its own, the errors of each task are recorded in an error logger confined to that task*/
+        List<FutureTask<UUID>> validationTasks = new ArrayList<>();
+        List<IMFErrorLogger> validationErrorLoggers = new ArrayList<>();
+        for (Composition.HeaderPartitionTuple headerPartitionTuple : headerPartitionTuples) {
+            IMFErrorLogger validationErrorLogger = new IMFErrorLoggerImpl();
+            FutureTask<UUID> validationTask = new FutureTask<>(() -> getValidatedFilePackageUUID(headerPartitionTuple, validationErrorLogger));
+            validationTasks.add(validationTask);
+            validationErrorLoggers.add(validationErrorLogger);
+            executor.execute(validationTask);
+        }
+
         /*Create a Map of FilePackage UUID which should be equal to the TrackFileId of the resource in the Composition if the asset is referenced and the HeaderPartitionTuple, Map<UUID, HeaderPartitionTuple>*/
         Map<UUID, Composition.HeaderPartitionTuple> resourceUUIDHeaderPartitionMap = new HashMap<>();
-        for (Composition.HeaderPartitionTuple headerPartitionTuple : headerPartitionTuples) {
-            //validate header partition
+        for (int i = 0; i < validationTasks.size(); i++) {
             try {
-                MXFOperationalPattern1A.HeaderPartitionOP1A headerPartitionOP1A = MXFOperationalPattern1A.checkOperationalPattern1ACompliance(headerPartitionTuple.getHeaderPartition(), imfErrorLogger);
-                IMFConstraints.HeaderPartitionIMF headerPartitionIMF = IMFConstraints.checkIMFCompliance(headerPartitionOP1A, imfErrorLogger);
-                Preface preface = headerPartitionIMF.getHeaderPartitionOP1A().getHeaderPartition().getPreface();
-                GenericPackage genericPackage = preface.getContentStorage().getEssenceContainerDataList().get(0).getLinkedPackage();
-                SourcePackage filePackage = (SourcePackage) genericPackage;
-                UUID packageUUID = filePackage.getPackageMaterialNumberasUUID();
-                resourceUUIDHeaderPartitionMap.put(packageUUID, headerPartitionTuple);
-            }
-            catch (IMFException | MXFException e){
-                Preface preface = headerPartitionTuple.getHeaderPartition().getPreface();
-                GenericPackage genericPackage = preface.getContentStorage().getEssenceContainerDataList().get(0).getLinkedPackage();
-                SourcePackage filePackage = (SourcePackage) genericPackage;
-                UUID packageUUID = filePackage.getPackageMaterialNumberasUUID();
-                imfErrorLogger.addError(new ErrorLogger.ErrorObject(IMFErrorLogger.IMFErrors.ErrorCodes.IMF_ESSENCE_COMPONENT_ERROR, IMFErrorLogger.IMFErrors.ErrorLevels.FATAL, String.format("IMFTrackFile with ID %s has fatal errors", packageUUID.toString())));
-                if(e instanceof IMFException){
-                    IMFException imfException = (IMFException)e;
-                    imfErrorLogger.addAllErrors(imfException.getErrors());
-                }
-                else if(e instanceof MXFException){
-                    MXFException mxfException = (MXFException)e;
-                    imfErrorLogger.addAllErrors(mxfException.getErrors());
+                UUID packageUUID = Utilities.getResult(validationTasks.get(i));
+                if (packageUUID != null) {
+                    resourceUUIDHeaderPartitionMap.put(packageUUID, headerPartitionTuples.get(i));
                 }
             }
+            finally {
+                imfErrorLogger.addAllErrors(validationErrorLoggers.get(i).getErrors());
+            }
         }
         if(imfErrorLogger.hasFatalErrors(previousNumberOfErrors, imfErrorLogger.getNumberOfErrors())){
             throw new IMFException(String.format("Fatal errors were detected in the IMFTrackFiles"), imfErrorLogger);
         }
         List<Composition.VirtualTrack> virtualTracks = new ArrayList<>(this.getVirtualTrackMap().values());
 
+        /*Construct the DOM representations of the EssenceDescriptors of every HeaderPartition referenced by a resource, once per HeaderPartition*/
+        Map<Composition.HeaderPartitionTuple, FutureTask<Composition.HeaderPartitionTuple.EssenceDescriptorModels>> essenceDescriptorModelsTasks = new IdentityHashMap<>();
+        Map<Composition.HeaderPartitionTuple, IMFErrorLogger> essenceDescriptorErrorLoggers = new IdentityHashMap<>();
+        for (Composition.VirtualTrack virtualTrack : virtualTracks) {
+            for (AbstractApplicationComposition.ResourceIdTuple resourceIdTuple : this.getVirtualTrackResourceIDs(virtualTrack)) {
+                Composition.HeaderPartitionTuple headerPartitionTuple = resourceUUIDHeaderPartitionMap.get(resourceIdTuple.getTrackFileId());
+                if (headerPartitionTuple != null && !essenceDescriptorModelsTasks.containsKey(headerPartitionTuple)) {
+                    IMFErrorLogger essenceDescriptorErrorLogger = new IMFErrorLoggerImpl();
+                    FutureTask<Composition.HeaderPartitionTuple.EssenceDescriptorModels> essenceDescriptorModelsTask
+                            = new FutureTask<>(() -> getEssenceDescriptorModels(headerPartitionTuple, essenceDescriptorErrorLogger));
+                    essenceDescriptorModelsTasks.put(headerPartitionTuple, essenceDescriptorModelsTask);
+                    essenceDescriptorErrorLoggers.put(headerPartitionTuple, essenceDescriptorErrorLogger);
+                    executor.execute(essenceDescriptorModelsTask);
+                }
+            }
+        }
+
         /*Go through all the Virtual Tracks in the Composition and construct a map of Resource Source Encoding Element and a list of DOM nodes representing every EssenceDescriptor in the HeaderPartition corresponding to that Resource*/
         for (Composition.VirtualTrack virtualTrack : virtualTracks) {
             List<AbstractApplicationComposition.ResourceIdTuple> resourceIdTuples = this.getVirtualTrackResourceIDs(virtualTrack);/*Retrieve a list of ResourceIDTuples corresponding to this virtual track*/
             for (AbstractApplicationComposition.ResourceIdTuple resourceIdTuple : resourceIdTuples)
             {
+                Composition.HeaderPartitionTuple headerPartitionTuple = resourceUUIDHeaderPartitionMap.get(resourceIdTuple.getTrackFileId());
+                if (headerPartitionTuple == null)
+                {
+                    continue;
+                }
                 try
                 {
-                    Composition.HeaderPartitionTuple headerPartitionTuple = resourceUUIDHeaderPartitionMap.get(resourceIdTuple.getTrackFileId());
-                    if (headerPartitionTuple != null)
-                    {
-                        /*Create a DOM Node representation of the EssenceDescriptors present in this header partition
-                        corresponding to an IMFTrackFile*/
-                        List<Node> essenceDescriptorDOMNodes = getEssenceDescriptorDOMNodes(headerPartitionTuple);
-                        List<DOMNodeObjectModel> domNodeObjectModels = new ArrayList<>();
-                        for (Node node : essenceDescriptorDOMNodes) {
-                            try {
-                                domNodeObjectModels.add(new DOMNodeObjectModel(node));
-                            }
-                            catch( IMFException e) {
-                                imfErrorLogger.addAllErrors(e.getErrors());
-                            }
-
-                        }
-                        resourcesEssenceDescriptorMap.put(resourceIdTuple.getSourceEncoding(), domNodeObjectModels);
-                    }
+                    Composition.HeaderPartitionTuple.EssenceDescriptorModels essenceDescriptorModels = Utilities.getResult(essenceDescriptorModelsTasks.get(headerPartitionTuple));
+                    imfErrorLogger.addAllErrors(essenceDescriptorModels.getErrors());
+                    resourcesEssenceDescriptorMap.put(resourceIdTuple.getSourceEncoding(), new ArrayList<>(essenceDescriptorModels.getDOMNodeObjectModels()));
                 }
                 catch( IMFException e)
                 {
                     imfErrorLogger.addAllErrors(e.getErrors());
                 }
+                finally
+                {
+                    imfErrorLogger.addAllErrors(essenceDescriptorErrorLoggers.get(headerPartitionTuple).getErrors());
+                }
             }
         }
 
@@ -876,66 +930,93 @@ public abstract class AbstractApplicationComposition implements ApplicationCompo
         return Collections.unmodifiableMap(resourcesEssenceDescriptorMap);
     }
 
-    private List<Node> getEssenceDescriptorDOMNodes(Composition.HeaderPartitionTuple headerPartitionTuple) throws IOException {
-        IMFErrorLogger imfErrorLogger = new IMFErrorLoggerImpl();
-            List<InterchangeObject.InterchangeObjectBO> essenceDescriptors = headerPartitionTuple.getHeaderPartition().getEssenceDescriptors();
-            List<Node> essenceDescriptorNodes = new ArrayList<>();
-            for (InterchangeObject.InterchangeObjectBO essenceDescriptor : essenceDescriptors) {
-                try {
-                    KLVPacket.Header essenceDescriptorHeader = essenceDescriptor.getHeader();
-                    List<KLVPacket.Header> subDescriptorHeaders = this.getSubDescriptorKLVHeader(headerPartitionTuple.getHeaderPartition(), essenceDescriptor);
-                    /*Create a dom*/
-                    DocumentBuilderFactory docFactory = DocumentBuilderFactory.newInstance();
-                    DocumentBuilder docBuilder = docFactory.newDocumentBuilder();
-                    Document document = docBuilder.newDocument();
-
-                    DocumentFragment documentFragment = this.getEssenceDescriptorAsDocumentFragment(document, headerPartitionTuple, essenceDescriptorHeader, subDescriptorHeaders);
-                    Node node = documentFragment.getFirstChild();
-                    essenceDescriptorNodes.add(node);
-                } catch (ParserConfigurationException e) {
-                    imfErrorLogger.addError(IMFErrorLogger.IMFErrors.ErrorCodes.INTERNAL_ERROR,
-                            IMFErrorLogger.IMFErrors
-                            .ErrorLevels.FATAL, e.getMessage());
-                }
+    /**
+     * Validates a HeaderPartition and returns the UUID of its FilePackage, or null if the HeaderPartition has fatal errors
+     */
+    private static @Nullable UUID getValidatedFilePackageUUID(Composition.HeaderPartitionTuple headerPartitionTuple, IMFErrorLogger imfErrorLogger) throws IOException {
+        try {
+            MXFOperationalPattern1A.HeaderPartitionOP1A headerPartitionOP1A = MXFOperationalPattern1A.checkOperationalPattern1ACompliance(headerPartitionTuple.getHeaderPartition(), imfErrorLogger);
+            IMFConstraints.HeaderPartitionIMF headerPartitionIMF = IMFConstraints.checkIMFCompliance(headerPartitionOP1A, imfErrorLogger);
+            Preface preface = headerPartitionIMF.getHeaderPartitionOP1A().getHeaderPartition().getPreface();
+            GenericPackage genericPackage = preface.getContentStorage().getEssenceContainerDataList().get(0).getLinkedPackage();
+            SourcePackage filePackage = (SourcePackage) genericPackage;
+            return filePackage.getPackageMaterialNumberasUUID();
+        }
+        catch (IMFException | MXFException e){
+            Preface preface = headerPartitionTuple.getHeaderPartition().getPreface();
+            GenericPackage genericPackage = preface.getContentStorage().getEssenceContainerDataList().get(0).getLinkedPackage();
+            SourcePackage filePackage = (SourcePackage) genericPackage;
+            UUID packageUUID = filePackage.getPackageMaterialNumberasUUID();
+            imfErrorLogger.addError(new ErrorLogger.ErrorObject(IMFErrorLogger.IMFErrors.ErrorCodes.IMF_ESSENCE_COMPONENT_ERROR, IMFErrorLogger.IMFErrors.ErrorLevels.FATAL, String.format("IMFTrackFile with ID %s has fatal errors", packageUUID.toString())));
+            if(e instanceof IMFException){
+                IMFException imfException = (IMFException)e;
+                imfErrorLogger.addAllErrors(imfException.getErrors());
             }
-            if(imfErrorLogger.hasFatalErrors()) {
-                throw new IMFException("Failed to get Essence Descriptor for a resource", imfErrorLogger);
+            else if(e instanceof MXFException){
+                MXFException mxfException = (MXFException)e;
+                imfErrorLogger.addAllErrors(mxfException.getErrors());
             }
-            return essenceDescriptorNodes;
-
+            return null;
+        }
     }
 
-    private List<KLVPacket.Header> getSubDescriptorKLVHeader(HeaderPartition headerPartition, InterchangeObject.InterchangeObjectBO essenceDescriptor) {
-        List<KLVPacket.Header> subDescriptorHeaders = new ArrayList<>();
-        List<InterchangeObject.InterchangeObjectBO> subDescriptors = headerPartition.getSubDescriptors(essenceDescriptor);
-        for (InterchangeObject.InterchangeObjectBO subDescriptorBO : subDescriptors) {
-            if (subDescriptorBO != null) {
-                subDescriptorHeaders.add(subDescriptorBO.getHeader());
-            }
+    private Composition.HeaderPartitionTuple.EssenceDescriptorModels getEssenceDescriptorModels(Composition.HeaderPartitionTuple headerPartitionTuple, IMFErrorLogger imfErrorLogger) throws IOException {
+        Composition.HeaderPartitionTuple.EssenceDescriptorModels essenceDescriptorModels = headerPartitionTuple.getEssenceDescriptorModels();
+        if (essenceDescriptorModels != null) {
+            return essenceDescriptorModels;
         }
-        return Collections.unmodifiableList(subDescriptorHeaders);
-    }
 
-    private DocumentFragment getEssenceDescriptorAsDocumentFragment(Document document, Composition.HeaderPartitionTuple headerPartitionTuple, KLVPacket.Header essenceDescriptor, List<KLVPacket.Header> subDescriptors) throws MXFException, IOException {
-        document.setXmlStandalone(true);
-
-        PrimerPack primerPack = headerPartitionTuple.getHeaderPartition().getPrimerPack();
-        ResourceByteRangeProvider resourceByteRangeProvider = headerPartitionTuple.getResourceByteRangeProvider();
-        RegXMLLibHelper regXMLLibHelper = new RegXMLLibHelper(primerPack.getHeader(), getByteProvider(resourceByteRangeProvider, primerPack.getHeader()));
-        Triplet essenceDescriptorTriplet = regXMLLibHelper.getTripletFromKLVHeader(essenceDescriptor, getByteProvider(resourceByteRangeProvider, essenceDescriptor));
-        //DocumentFragment documentFragment = this.regXMLLibHelper.getDocumentFragment(essenceDescriptorTriplet, document);
-        /*Get the Triplets corresponding to the SubDescriptors*/
-        List<Triplet> subDescriptorTriplets = new ArrayList<>();
-        for (KLVPacket.Header subDescriptorHeader : subDescriptors) {
-            subDescriptorTriplets.add(regXMLLibHelper.getTripletFromKLVHeader(subDescriptorHeader, this.getByteProvider(resourceByteRangeProvider, subDescriptorHeader)));
+        /*Create a DOM Node representation of the EssenceDescriptors present in this header partition
+        corresponding to an IMFTrackFile*/
+        IMFErrorLogger essenceDescriptorErrorLogger = new IMFErrorLoggerImpl();
+        List<Node> essenceDescriptorDOMNodes;
+        try {
+            essenceDescriptorDOMNodes = getEssenceDescriptorDOMNodes(headerPartitionTuple, essenceDescriptorErrorLogger);
+        }
+        catch (IOException | RuntimeException e) {
+            imfErrorLogger.addAllErrors(essenceDescriptorErrorLogger.getErrors());
+            throw e;
+        }
+        List<DOMNodeObjectModel> domNodeObjectModels = new ArrayList<>();
+        for (Node node : essenceDescriptorDOMNodes) {
+            try {
+                domNodeObjectModels.add(new DOMNodeObjectModel(node));
+            }
+            catch( IMFException e) {
+                essenceDescriptorErrorLogger.addAllErrors(e.getErrors());
+            }
         }
-        return regXMLLibHelper.getEssenceDescriptorDocumentFragment(essenceDescriptorTriplet, subDescriptorTriplets, document, this.imfErrorLogger);
+        /*The models depend only on the HeaderPartition, hence they are retained for the other Compositions that use the same HeaderPartitionTuple*/
+        essenceDescriptorModels = new Composition.HeaderPartitionTuple.EssenceDescriptorModels(domNodeObjectModels, essenceDescriptorErrorLogger.getErrors());
+        headerPartitionTuple.setEssenceDescriptorModels(essenceDescriptorModels);
+        return essenceDescriptorModels;
     }
 
-    private ByteProvider getByteProvider(ResourceByteRangeProvider resourceByteRangeProvider, KLVPacket.Header header) throws IOException {
-        byte[] bytes = resourceByteRangeProvider.getByteRangeAsBytes(header.getByteOffset(), header.getByteOffset() + header.getKLSize() + header.getVSize());
-        ByteProvider byteProvider = new ByteArrayDataProvider(bytes);
-        return byteProvider;
+    private List<Node> getEssenceDescriptorDOMNodes(Composition.HeaderPartitionTuple headerPartitionTuple, IMFErrorLogger essenceDescriptorErrorLogger) throws IOException {
+        IMFErrorLogger imfErrorLogger = new IMFErrorLoggerImpl();
+        List<Node> essenceDescriptorNodes = new ArrayList<>();
+        try {
+            /*Create a dom*/
+            DocumentBuilderFactory docFactory = DocumentBuilderFactory.newInstance();
+            DocumentBuilder docBuilder = docFactory.newDocumentBuilder();
+            Document document = docBuilder.newDocument();
+            document.setXmlStandalone(true);
+
+            /*All the EssenceDescriptors of the HeaderPartition are serialized in one pass over the bytes of the HeaderPartition*/
+            List<DocumentFragment> documentFragments = RegXMLLibHelper.getEssenceDescriptorDocumentFragments(headerPartitionTuple.getHeaderPartition(),
+                    headerPartitionTuple.getResourceByteRangeProvider(), document, essenceDescriptorErrorLogger);
+            for (DocumentFragment documentFragment : documentFragments) {
+                essenceDescriptorNodes.add(documentFragment.getFirstChild());
+            }
+        } catch (ParserConfigurationException e) {
+            imfErrorLogger.addError(IMFErrorLogger.IMFErrors.ErrorCodes.INTERNAL_ERROR,
+                    IMFErrorLogger.IMFErrors
+                    .ErrorLevels.FATAL, e.getMessage());
+        }
+        if(imfErrorLogger.hasFatalErrors()) {
+            throw new IMFException("Failed to get Essence Descriptor for a resource", imfErrorLogger);
+        }
+        return essenceDescriptorNodes;
     }
 
     private List<IMFErrorLogger.ErrorObject> conformEssenceDescriptors(Map<UUID, List<DOMNodeObjectModel>> essenceDescriptorsMap, Map<UUID, DOMNodeObjectModel> eDLMap) {
@@ -1026,12 +1107,14 @@ public abstract class AbstractApplicationComposition implements ApplicationCompo
 
     public @Nullable CompositionImageEssenceDescriptorModel getCompositionImageEssenceDescriptorModel() {
         CompositionImageEssenceDescriptorModel imageEssenceDescriptorModel = null;
-        DOMNodeObjectModel imageEssencedescriptorDOMNode = this.getEssenceDescriptor(
+        IMFTrackFileResourceType imageTrackFileResource = this.getTrackFileResource(
                 this.getVideoVirtualTrack().getTrackResourceIds().iterator().next());
+        UUID imageEssenceDescriptorID = imageTrackFileResource == null ? null :
+                UUIDHelper.fromUUIDAsURNStringToUUID(imageTrackFileResource.getSourceEncoding());
+        DOMNodeObjectModel imageEssencedescriptorDOMNode = imageEssenceDescriptorID == null ? null :
+                this.essenceDescriptorListMap.get(imageEssenceDescriptorID);
 
         if (imageEssencedescriptorDOMNode != null) {
-            UUID imageEssenceDescriptorID = this.getEssenceDescriptorListMap().entrySet().stream().filter(e -> e.getValue().equals(imageEssencedescriptorDOMNode)).map(e -> e.getKey()).findFirst()
-                    .get();
             imageEssenceDescriptorModel =
                     new CompositionImageEssenceDescriptorModel(imageEssenceDescriptorID, imageEssencedescriptorDOMNode,
                             regXMLLibDictionary);
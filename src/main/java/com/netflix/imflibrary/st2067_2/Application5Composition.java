@@ -34,7 +34,6 @@ import org.w3c.dom.Node;
 
 import java.util.*;
 import java.util.function.BiConsumer;
-import java.util.stream.Collectors;
 
 import static com.netflix.imflibrary.st0377.header.GenericPictureEssenceDescriptor.*;
 import static com.netflix.imflibrary.st0377.header.GenericPictureEssenceDescriptor.RGBAComponentType.Null;
@@ -69,9 +68,14 @@ public class Application5Composition extends AbstractApplicationComposition {
         super(imfCompositionPlaylistType, ignoreSet, homogeneitySelectionSet);
 
         try {
-            List<DOMNodeObjectModel> virtualTrackEssenceDescriptors = this.getEssenceDescriptors("RGBADescriptor").stream()
-                    .distinct()
-                    .collect(Collectors.toList());
+            //the distinct RGBA descriptors, each with the first id under which it is listed in the EssenceDescriptorList
+            Map<DOMNodeObjectModel, UUID> essenceDescriptorIds = new LinkedHashMap<>();
+            for (Map.Entry<UUID, DOMNodeObjectModel> entry : this.getEssenceDescriptorListMap().entrySet()) {
+                if (entry.getValue().getLocalName().equals("RGBADescriptor")) {
+                    essenceDescriptorIds.putIfAbsent(entry.getValue(), entry.getKey());
+                }
+            }
+            List<DOMNodeObjectModel> virtualTrackEssenceDescriptors = new ArrayList<>(essenceDescriptorIds.keySet());
             if (virtualTrackEssenceDescriptors.isEmpty()) {
                 imfErrorLogger.addError(IMFErrorLogger.IMFErrors.ErrorCodes.APPLICATION_COMPOSITION_ERROR,
                         IMFErrorLogger.IMFErrors.ErrorLevels.NON_FATAL,
@@ -127,8 +131,7 @@ public class Application5Composition extends AbstractApplicationComposition {
             // Validate all Essence Descriptors, because ACES sub-descriptors are not required to be homogeneous for all elements, in particular the TargetFrameSubDescriptors may differ per ST 2067-50.
             for(DOMNodeObjectModel imageEssencedescriptorDOMNode : virtualTrackEssenceDescriptors){
                 CompositionImageEssenceDescriptorModel imageEssenceDescriptorModel = null;
-                UUID imageEssenceDescriptorID = this.getEssenceDescriptorListMap().entrySet().stream().filter(e -> e.getValue().equals(imageEssencedescriptorDOMNode)).map(e -> e.getKey()).findFirst()
-                        .get();
+                UUID imageEssenceDescriptorID = essenceDescriptorIds.get(imageEssencedescriptorDOMNode);
                 imageEssenceDescriptorModel = new CompositionImageEssenceDescriptorModel(imageEssenceDescriptorID, imageEssencedescriptorDOMNode,
                                 regXMLLibDictionary);
                 if (imageEssenceDescriptorModel != null) {
@@ -18,19 +18,24 @@
 
 package com.netflix.imflibrary.st2067_2;
 
+import com.netflix.imflibrary.st0377.IndexTable;
 import com.netflix.imflibrary.st2067_2.ApplicationCompositionFactory.ApplicationCompositionType;
 import com.netflix.imflibrary.utils.DOMNodeObjectModel;
 import com.netflix.imflibrary.utils.ErrorLogger;
 import com.netflix.imflibrary.utils.ResourceByteRangeProvider;
+import com.netflix.imflibrary.utils.UUIDHelper;
 import org.w3c.dom.Node;
 
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.Executor;
 
 /**
  * This interface represents a canonical model of the XML type 'CompositionPlaylistType' defined by SMPTE st2067-3,
@@ -200,6 +205,72 @@ public interface ApplicationComposition {
                                                                    headerPartitionTuples,
                                                      boolean conformAllVirtualTracksInCpl) throws IOException;
 
+    /**
+     * This method can be used to determine if a Composition is conformant, the HeaderPartitionTuples are inspected
+     * concurrently on the executor passed in. The errors that are returned do not depend on the executor. The default
+     * implementation ignores the executor and conforms the Composition serially.
+     *
+     * @param headerPartitionTuples        list of HeaderPartitionTuples corresponding to the IMF essences referenced in the Composition
+     * @param conformAllVirtualTracksInCpl a boolean that turns on/off conforming all the VirtualTracks in the Composition
+     * @param executor                     the executor that runs the tasks corresponding to individual HeaderPartitionTuples
+     * @return boolean to indicate of the Composition is conformant or not
+     * @throws IOException        - any I/O related error is exposed through an IOException.
+     */
+    public default List<ErrorLogger.ErrorObject> conformVirtualTracksInComposition(List<Composition.HeaderPartitionTuple>
+                                                                   headerPartitionTuples,
+                                                     boolean conformAllVirtualTracksInCpl,
+                                                     Executor executor) throws IOException {
+        return conformVirtualTracksInComposition(headerPartitionTuples, conformAllVirtualTracksInCpl);
+    }
+
+    /**
+     * A method that plans the reads required to fetch the essence of a virtual track that plays within a window of the
+     * composition timeline. The window is resolved to slices of the resources of the virtual track, honoring the
+     * EntryPoint and RepeatCount of every resource, and each slice is mapped to byte ranges of its track file using the
+     * IndexTable of the track file. Ranges of a track file that are adjacent in the file as well as on the timeline are
+     * coalesced into a single range, a span of edit units that is carried by several partitions of a track file results
+     * in one range per partition so that no partition metadata is fetched.
+     *
+     * @param virtualTrackId the VirtualTrackID of an essence virtual track of the Composition
+     * @param startCompositionEditUnit the inclusive start of the window in Composition Edit Rate units
+     * @param endCompositionEditUnit the exclusive end of the window in Composition Edit Rate units
+     * @param indexTables the IndexTables of the track files referenced by the virtual track keyed by TrackFileId
+     * @return the byte ranges of the track files in the order in which the essence plays, a resource that is repeated
+     * within the window results in a range per repetition
+     * @throws IllegalArgumentException if the virtual track is not an essence virtual track of this Composition, if the
+     * IndexTable of a track file is missing or if it does not index an edit unit within the window
+     */
+    @Nonnull
+    public default List<TrackFileByteRange> getTrackFileByteRanges(UUID virtualTrackId, long startCompositionEditUnit, long endCompositionEditUnit,
+                                                                   Map<UUID, IndexTable> indexTables) {
+        IMFEssenceComponentVirtualTrack virtualTrack = null;
+        List<IMFEssenceComponentVirtualTrack> essenceVirtualTracks = this.getEssenceVirtualTracks();
+        if (essenceVirtualTracks != null) {
+            for (IMFEssenceComponentVirtualTrack essenceVirtualTrack : essenceVirtualTracks) {
+                if (essenceVirtualTrack.getTrackID().equals(virtualTrackId)) {
+                    virtualTrack = essenceVirtualTrack;
+                    break;
+                }
+            }
+        }
+        if (virtualTrack == null) {
+            throw new IllegalArgumentException(String.format("Composition %s does not have an essence virtual track with ID %s", this.getUUID(), virtualTrackId));
+        }
+
+        List<TrackFileByteRange> trackFileByteRanges = new ArrayList<>();
+        for (VirtualTrackTimeline.ResourceSlice resourceSlice :
+                virtualTrack.getTimeline().getResourceSlicesForCompositionEditUnits(startCompositionEditUnit, endCompositionEditUnit)) {
+            UUID trackFileId = UUIDHelper.fromUUIDAsURNStringToUUID(IMFTrackFileResourceType.class.cast(resourceSlice.getResource()).getTrackFileId());
+            IndexTable indexTable = indexTables.get(trackFileId);
+            if (indexTable == null) {
+                throw new IllegalArgumentException(String.format("IndexTable of track file %s referenced by virtual track %s is missing", trackFileId, virtualTrackId));
+            }
+            TrackFileByteRange.addTrackFileByteRanges(trackFileByteRanges, trackFileId, indexTable, resourceSlice.getStartEditUnit(),
+                    resourceSlice.getStartEditUnit() + resourceSlice.getDuration() - 1);
+        }
+        return Collections.unmodifiableList(trackFileByteRanges);
+    }
+
     /**
      * A method to get Application Composition type.
      *
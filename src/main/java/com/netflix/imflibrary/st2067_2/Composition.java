@@ -24,6 +24,7 @@ import com.netflix.imflibrary.RESTfulInterfaces.IMPValidator;
 import com.netflix.imflibrary.RESTfulInterfaces.PayloadRecord;
 import com.netflix.imflibrary.exceptions.IMFException;
 import com.netflix.imflibrary.st0377.HeaderPartition;
+import com.netflix.imflibrary.utils.DOMNodeObjectModel;
 import com.netflix.imflibrary.utils.ErrorLogger;
 import com.netflix.imflibrary.utils.FileByteRangeProvider;
 import com.netflix.imflibrary.utils.ResourceByteRangeProvider;
@@ -253,6 +254,7 @@ public final class Composition {
         protected final SequenceTypeEnum sequenceTypeEnum;
         protected final List<? extends IMFBaseResourceType> resources;
         protected final Composition.EditRate compositionEditRate;
+        private final VirtualTrackTimeline timeline;
 
         /**
          * Constructor for a VirtualTrack object
@@ -267,6 +269,7 @@ public final class Composition {
             this.sequenceTypeEnum = sequenceTypeEnum;
             this.resources = resources;
             this.compositionEditRate = compositionEditRate;
+            this.timeline = new VirtualTrackTimeline(resources, compositionEditRate);
         }
 
         /**
@@ -296,6 +299,16 @@ public final class Composition {
             return Collections.unmodifiableList(this.resources);
         }
 
+        /**
+         * Getter for the timeline of the Virtual Track, which resolves positions on the composition timeline to the
+         * resources of the Virtual Track
+         *
+         * @return the timeline of the Virtual Track
+         */
+        public VirtualTrackTimeline getTimeline() {
+            return this.timeline;
+        }
+
         /**
          * A method to return the duration of this VirtualTrack
          * @return a long integer representing the duration of this VirtualTrack in Track Edit Rate units
@@ -496,6 +509,8 @@ public final class Composition {
     public static class HeaderPartitionTuple {
         private final HeaderPartition headerPartition;
         private final ResourceByteRangeProvider resourceByteRangeProvider;
+        /*Derived on demand, a HeaderPartitionTuple that is reused across Compositions derives them only once*/
+        private volatile EssenceDescriptorModels essenceDescriptorModels;
 
         public HeaderPartitionTuple(HeaderPartition headerPartition, ResourceByteRangeProvider resourceByteRangeProvider){
             this.headerPartition = headerPartition;
@@ -518,6 +533,45 @@ public final class Composition {
         public HeaderPartition getHeaderPartition(){
             return this.headerPartition;
         }
+
+        /**
+         * A getter for the object models of the EssenceDescriptors in this HeaderPartition, if they have been derived
+         * @return the EssenceDescriptor models and the errors encountered while deriving them, or null
+         */
+        EssenceDescriptorModels getEssenceDescriptorModels(){
+            return this.essenceDescriptorModels;
+        }
+
+        /**
+         * A setter for the object models of the EssenceDescriptors in this HeaderPartition
+         * @param essenceDescriptorModels the EssenceDescriptor models and the errors encountered while deriving them
+         */
+        void setEssenceDescriptorModels(EssenceDescriptorModels essenceDescriptorModels){
+            this.essenceDescriptorModels = essenceDescriptorModels;
+        }
+
+        /**
+         * This class holds the object models of the EssenceDescriptors in a HeaderPartition and the errors that were
+         * encountered while deriving them
+         */
+        @Immutable
+        static final class EssenceDescriptorModels {
+            private final List<DOMNodeObjectModel> domNodeObjectModels;
+            private final List<ErrorLogger.ErrorObject> errors;
+
+            EssenceDescriptorModels(List<DOMNodeObjectModel> domNodeObjectModels, List<ErrorLogger.ErrorObject> errors){
+                this.domNodeObjectModels = Collections.unmodifiableList(new ArrayList<>(domNodeObjectModels));
+                this.errors = Collections.unmodifiableList(new ArrayList<>(errors));
+            }
+
+            List<DOMNodeObjectModel> getDOMNodeObjectModels(){
+                return this.domNodeObjectModels;
+            }
+
+            List<ErrorLogger.ErrorObject> getErrors(){
+                return this.errors;
+            }
+        }
     }
 
 }
\ No newline at end of file
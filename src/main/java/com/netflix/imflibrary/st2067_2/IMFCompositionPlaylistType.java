@@ -23,29 +23,23 @@ import com.netflix.imflibrary.IMFErrorLoggerImpl;
 import com.netflix.imflibrary.exceptions.IMFException;
 import com.netflix.imflibrary.utils.ErrorLogger;
 import com.netflix.imflibrary.utils.ResourceByteRangeProvider;
+import com.netflix.imflibrary.utils.SchemaRegistry;
 import com.netflix.imflibrary.utils.UUIDHelper;
 import com.netflix.imflibrary.utils.Utilities;
+import com.netflix.imflibrary.utils.XMLRootElementReader;
 import com.netflix.imflibrary.writerTools.utils.ValidationEventHandlerImpl;
-import org.w3c.dom.Document;
-import org.w3c.dom.NodeList;
-import org.xml.sax.ErrorHandler;
 import org.xml.sax.SAXException;
-import org.xml.sax.SAXParseException;
 
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import javax.annotation.concurrent.Immutable;
-import javax.xml.XMLConstants;
 import javax.xml.bind.JAXBContext;
 import javax.xml.bind.JAXBElement;
 import javax.xml.bind.JAXBException;
 import javax.xml.bind.Unmarshaller;
-import javax.xml.parsers.DocumentBuilder;
-import javax.xml.parsers.DocumentBuilderFactory;
-import javax.xml.parsers.ParserConfigurationException;
-import javax.xml.transform.stream.StreamSource;
+import javax.xml.namespace.QName;
+import javax.xml.stream.XMLStreamException;
 import javax.xml.validation.Schema;
-import javax.xml.validation.SchemaFactory;
 import java.io.IOException;
 import java.io.InputStream;
 import java.util.*;
@@ -156,7 +150,7 @@ final class IMFCompositionPlaylistType {
 
     private static final String dcmlTypes_schema_path = "org/smpte_ra/schemas/st0433_2008/dcmlTypes/dcmlTypes.xsd";
     private static final String xmldsig_core_schema_path = "org/w3/_2000_09/xmldsig/xmldsig-core-schema.xsd";
-    private static final Set<String> supportedCPLSchemaURIs = Collections.unmodifiableSet(new HashSet<String>() {{
+    static final Set<String> supportedCPLSchemaURIs = Collections.unmodifiableSet(new HashSet<String>() {{
         add("http://www.smpte-ra.org/schemas/2067-3/2013");
         add("http://www.smpte-ra.org/schemas/2067-3/2016");
     }});
@@ -166,38 +160,14 @@ final class IMFCompositionPlaylistType {
 
         String result = "";
 
-        try (InputStream inputStream = resourceByteRangeProvider.getByteRangeAsStream(0, resourceByteRangeProvider.getResourceSize() - 1);) {
-            DocumentBuilderFactory documentBuilderFactory = DocumentBuilderFactory.newInstance();
-            documentBuilderFactory.setNamespaceAware(true);
-            DocumentBuilder documentBuilder = documentBuilderFactory.newDocumentBuilder();
-            documentBuilder.setErrorHandler(new ErrorHandler() {
-                @Override
-                public void warning(SAXParseException exception) throws SAXException {
-                    imfErrorLogger.addError(new ErrorLogger.ErrorObject(IMFErrorLogger.IMFErrors.ErrorCodes.IMF_CPL_ERROR, IMFErrorLogger.IMFErrors.ErrorLevels.WARNING, exception.getMessage()));
-                }
-
-                @Override
-                public void error(SAXParseException exception) throws SAXException {
-                    imfErrorLogger.addError(new ErrorLogger.ErrorObject(IMFErrorLogger.IMFErrors.ErrorCodes.IMF_CPL_ERROR, IMFErrorLogger.IMFErrors.ErrorLevels.NON_FATAL, exception.getMessage()));
-                }
-
-                @Override
-                public void fatalError(SAXParseException exception) throws SAXException {
-                    imfErrorLogger.addError(new ErrorLogger.ErrorObject(IMFErrorLogger.IMFErrors.ErrorCodes.IMF_CPL_ERROR, IMFErrorLogger.IMFErrors.ErrorLevels.FATAL, exception.getMessage()));
-                }
-            });
-            Document document = documentBuilder.parse(inputStream);
-
-            //obtain root node
-            NodeList nodeList = null;
-            for (String cplNamespaceURI : supportedCPLSchemaURIs) {
-                nodeList = document.getElementsByTagNameNS(cplNamespaceURI, "CompositionPlaylist");
-                if (nodeList != null && nodeList.getLength() == 1) {
-                    result = cplNamespaceURI;
-                    break;
-                }
+        try {
+            QName rootElement = XMLRootElementReader.getRootElement(resourceByteRangeProvider);
+            if (rootElement != null
+                    && rootElement.getLocalPart().equals("CompositionPlaylist")
+                    && supportedCPLSchemaURIs.contains(rootElement.getNamespaceURI())) {
+                result = rootElement.getNamespaceURI();
             }
-        } catch (ParserConfigurationException | SAXException e) {
+        } catch (XMLStreamException e) {
             String message = String.format("Error occurred while trying to determine the Composition Playlist " +
                     "Namespace URI, XML document appears to be invalid. Error Message : %s", e.getMessage());
             imfErrorLogger.addError(IMFErrorLogger.IMFErrors.ErrorCodes.IMF_CPL_ERROR, IMFErrorLogger.IMFErrors
@@ -251,6 +221,23 @@ final class IMFCompositionPlaylistType {
         return imf_cpl_schema_path;
     }
 
+    private static final CoreConstraintsSchemas getCoreConstraintsSchemas(String namespaceVersion, @Nonnull IMFErrorLogger imfErrorLogger) {
+        switch (namespaceVersion) {
+            case "2013":
+                return supportedIMFCoreConstraintsSchemas.get(0);
+            case "2016":
+                return supportedIMFCoreConstraintsSchemas.get(1);
+            default:
+                String message = String.format("Please check the CPL document, currently we only support the " +
+                        "following CoreConstraints schema URIs %s", serializeIMFCoreConstaintsSchemasToString
+                        (supportedIMFCoreConstraintsSchemas));
+                imfErrorLogger.addError(IMFErrorLogger.IMFErrors.ErrorCodes.IMF_CPL_ERROR, IMFErrorLogger.IMFErrors
+                                .ErrorLevels.FATAL,
+                        message);
+                throw new IMFException(message, imfErrorLogger);
+        }
+    }
+
     /**
      * A method that confirms if the inputStream corresponds to a Composition document instance.
      *
@@ -259,35 +246,25 @@ final class IMFCompositionPlaylistType {
      * @throws IOException - any I/O related error is exposed through an IOException
      */
     public static boolean isCompositionPlaylist(ResourceByteRangeProvider resourceByteRangeProvider) throws IOException {
-        try (InputStream inputStream = resourceByteRangeProvider.getByteRangeAsStream(0, resourceByteRangeProvider.getResourceSize() - 1);) {
-            DocumentBuilderFactory documentBuilderFactory = DocumentBuilderFactory.newInstance();
-            documentBuilderFactory.setNamespaceAware(true);
-            DocumentBuilder documentBuilder = documentBuilderFactory.newDocumentBuilder();
-            Document document = documentBuilder.parse(inputStream);
-
-            //obtain root node
-            NodeList nodeList = null;
-            for (String cplNamespaceURI : supportedCPLSchemaURIs) {
-                nodeList = document.getElementsByTagNameNS(cplNamespaceURI, "CompositionPlaylist");
-                if (nodeList != null
-                        && nodeList.getLength() == 1) {
-                    return true;
-                }
-            }
-        } catch (ParserConfigurationException | SAXException e) {
+        try {
+            QName rootElement = XMLRootElementReader.getRootElement(resourceByteRangeProvider);
+            return rootElement != null
+                    && rootElement.getLocalPart().equals("CompositionPlaylist")
+                    && supportedCPLSchemaURIs.contains(rootElement.getNamespaceURI());
+        } catch (XMLStreamException e) {
             return false;
         }
-
-        return false;
     }
 
     public static IMFCompositionPlaylistType getCompositionPlayListType(ResourceByteRangeProvider resourceByteRangeProvider, IMFErrorLogger imfErrorLogger) throws IOException {
         String imf_cpl_schema_path = "";
+        CoreConstraintsSchemas coreConstraintsSchema = null;
         try {
             String cplNameSpaceURI = getCompositionNamespaceURI(resourceByteRangeProvider, imfErrorLogger);
 
             String namespaceVersion = getCPLNamespaceVersion(cplNameSpaceURI);
             imf_cpl_schema_path = getIMFCPLSchemaPath(namespaceVersion, imfErrorLogger);
+            coreConstraintsSchema = getCoreConstraintsSchemas(namespaceVersion, imfErrorLogger);
         }
         catch(IMFException e)
         {
@@ -295,54 +272,37 @@ final class IMFCompositionPlaylistType {
             throw new IMFException("Composition creation failed", imfErrorLogger);
         }
 
-        CoreConstraintsSchemas coreConstraintsSchema = supportedIMFCoreConstraintsSchemas.get(0);
         JAXBElement jaxbElement = null;
 
-        for (int i = 0; i < supportedIMFCoreConstraintsSchemas.size(); i++) {
-            ClassLoader contextClassLoader = Thread.currentThread().getContextClassLoader();
-            try (InputStream inputStream = resourceByteRangeProvider.getByteRangeAsStream(0, resourceByteRangeProvider.getResourceSize() - 1);
-                 InputStream xmldsig_core_is = contextClassLoader.getResourceAsStream(xmldsig_core_schema_path);
-                 InputStream dcmlTypes_is = contextClassLoader.getResourceAsStream(dcmlTypes_schema_path);
-                 InputStream imf_cpl_is = contextClassLoader.getResourceAsStream(imf_cpl_schema_path);
-                 InputStream imf_core_constraints_is = contextClassLoader.getResourceAsStream(supportedIMFCoreConstraintsSchemas.get(i).coreConstraintsSchemaPath);) {
-                StreamSource[] streamSources = new StreamSource[4];
-                streamSources[0] = new StreamSource(xmldsig_core_is);
-                streamSources[1] = new StreamSource(dcmlTypes_is);
-                streamSources[2] = new StreamSource(imf_cpl_is);
-                streamSources[3] = new StreamSource(imf_core_constraints_is);
-
-                SchemaFactory schemaFactory = SchemaFactory.newInstance(XMLConstants.W3C_XML_SCHEMA_NS_URI);
-                Schema schema = schemaFactory.newSchema(streamSources);
-
-                ValidationEventHandlerImpl validationEventHandlerImpl = new ValidationEventHandlerImpl(true);
-                JAXBContext jaxbContext = JAXBContext.newInstance(supportedIMFCoreConstraintsSchemas.get(i).coreConstraintsContext);
-                Unmarshaller unmarshaller = jaxbContext.createUnmarshaller();
-                unmarshaller.setEventHandler(validationEventHandlerImpl);
-                unmarshaller.setSchema(schema);
-
-                jaxbElement = (JAXBElement) unmarshaller.unmarshal(inputStream);
-                coreConstraintsSchema = supportedIMFCoreConstraintsSchemas.get(i);
-
-                if (validationEventHandlerImpl.hasErrors()) {
-                    validationEventHandlerImpl.getErrors().stream()
-                            .map(e -> new ErrorLogger.ErrorObject(
-                                    IMFErrorLogger.IMFErrors.ErrorCodes.IMF_CPL_ERROR,
-                                    e.getValidationEventSeverity(),
-                                    "Line Number : " + e.getLineNumber().toString() + " - " + e.getErrorMessage())
-                            )
-                            .forEach(imfErrorLogger::addError);
-
-                    throw new IMFException(validationEventHandlerImpl.toString(), imfErrorLogger);
-                }
-                break; //No errors so we can break out without trying other Core constraints schema namespaces.
-            } catch (SAXException | JAXBException e) {
-                if (i == supportedIMFCoreConstraintsSchemas.size() - 1) {
-                    imfErrorLogger.addError(IMFErrorLogger.IMFErrors.ErrorCodes.IMF_CPL_ERROR, IMFErrorLogger
-                                    .IMFErrors.ErrorLevels.FATAL,
-                            e.getMessage());
-                    throw new IMFException(e.getMessage(), imfErrorLogger);
-                }
+        //The namespace of the root element determines the version of the CPL schema and hence the Core Constraints schema
+        try (InputStream inputStream = resourceByteRangeProvider.getByteRangeAsStream(0, resourceByteRangeProvider.getResourceSize() - 1)) {
+            Schema schema = SchemaRegistry.getSchema(xmldsig_core_schema_path, dcmlTypes_schema_path,
+                    imf_cpl_schema_path, coreConstraintsSchema.getCoreConstraintsSchemaPath());
+
+            ValidationEventHandlerImpl validationEventHandlerImpl = new ValidationEventHandlerImpl(true);
+            JAXBContext jaxbContext = SchemaRegistry.getJAXBContext(coreConstraintsSchema.getCoreConstraintsContext());
+            Unmarshaller unmarshaller = jaxbContext.createUnmarshaller();
+            unmarshaller.setEventHandler(validationEventHandlerImpl);
+            unmarshaller.setSchema(schema);
+
+            jaxbElement = (JAXBElement) unmarshaller.unmarshal(inputStream);
+
+            if (validationEventHandlerImpl.hasErrors()) {
+                validationEventHandlerImpl.getErrors().stream()
+                        .map(e -> new ErrorLogger.ErrorObject(
+                                IMFErrorLogger.IMFErrors.ErrorCodes.IMF_CPL_ERROR,
+                                e.getValidationEventSeverity(),
+                                "Line Number : " + e.getLineNumber().toString() + " - " + e.getErrorMessage())
+                        )
+                        .forEach(imfErrorLogger::addError);
+
+                throw new IMFException(validationEventHandlerImpl.toString(), imfErrorLogger);
             }
+        } catch (SAXException | JAXBException e) {
+            imfErrorLogger.addError(IMFErrorLogger.IMFErrors.ErrorCodes.IMF_CPL_ERROR, IMFErrorLogger
+                            .IMFErrors.ErrorLevels.FATAL,
+                    e.getMessage());
+            throw new IMFException(e.getMessage(), imfErrorLogger);
         }
 
         String coreConstraintsVersion = coreConstraintsSchema.getCoreConstraintsContext();
@@ -70,7 +70,7 @@ final class IMFCoreConstraintsChecker {
     public static List<ErrorLogger.ErrorObject> checkVirtualTracks(IMFCompositionPlaylistType compositionPlaylistType,
                                           Map<UUID, ? extends Composition.VirtualTrack> virtualTrackMap,
                                           Map<UUID, DOMNodeObjectModel> essenceDescriptorListMap) {
-        RegXMLLibDictionary regXMLLibDictionary = new RegXMLLibDictionary();
+        RegXMLLibDictionary regXMLLibDictionary = RegXMLLibDictionary.getInstance();
         return checkVirtualTracks(compositionPlaylistType, virtualTrackMap, essenceDescriptorListMap, regXMLLibDictionary);
     }
 
@@ -0,0 +1,129 @@
+/*
+ *
+ * Copyright 2015 Netflix, Inc.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ *
+ */
+
+package com.netflix.imflibrary.st2067_2;
+
+import com.netflix.imflibrary.st0377.IndexTable;
+
+import javax.annotation.concurrent.Immutable;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * This class represents an inclusive byte range [rangeStart, rangeEnd] of an IMF track file, the offsets follow the
+ * convention of {@link com.netflix.imflibrary.utils.ResourceByteRangeProvider} so that a range can be fetched as is using
+ * the ResourceByteRangeProvider corresponding to the track file.
+ */
+@Immutable
+public final class TrackFileByteRange {
+    private final UUID trackFileId;
+    private final long rangeStart;
+    private final long rangeEnd;
+
+    /**
+     * Constructor for a TrackFileByteRange
+     *
+     * @param trackFileId the UUID of the track file
+     * @param rangeStart zero indexed inclusive start offset of the range in the track file
+     * @param rangeEnd zero indexed inclusive end offset of the range in the track file
+     */
+    public TrackFileByteRange(UUID trackFileId, long rangeStart, long rangeEnd) {
+        if (rangeStart < 0 || rangeEnd < rangeStart) {
+            throw new IllegalArgumentException(String.format("Invalid byte range [%d, %d] of track file %s", rangeStart, rangeEnd, trackFileId));
+        }
+        this.trackFileId = trackFileId;
+        this.rangeStart = rangeStart;
+        this.rangeEnd = rangeEnd;
+    }
+
+    /**
+     * Getter for the UUID of the track file
+     *
+     * @return the TrackFileId of the track file that this range is a part of
+     */
+    public UUID getTrackFileId() {
+        return this.trackFileId;
+    }
+
+    /**
+     * Getter for the start of this range
+     *
+     * @return zero indexed inclusive start offset of the range in the track file
+     */
+    public long getRangeStart() {
+        return this.rangeStart;
+    }
+
+    /**
+     * Getter for the end of this range
+     *
+     * @return zero indexed inclusive end offset of the range in the track file
+     */
+    public long getRangeEnd() {
+        return this.rangeEnd;
+    }
+
+    /**
+     * Getter for the size of this range
+     *
+     * @return the number of bytes in this range
+     */
+    public long getSize() {
+        return this.rangeEnd - this.rangeStart + 1;
+    }
+
+    /* Appends the byte ranges of the edit units [firstEditUnit, lastEditUnit] of a track file, one range per partition */
+    static void addTrackFileByteRanges(List<TrackFileByteRange> trackFileByteRanges, UUID trackFileId, IndexTable indexTable,
+                                       long firstEditUnit, long lastEditUnit) {
+        long editUnit = firstEditUnit;
+        while (editUnit <= lastEditUnit) {
+            //the distance between byte offset and stream offset is constant within a partition and grows from a partition to the next
+            long partitionOffset = indexTable.getByteOffset(editUnit) - indexTable.getStreamOffset(editUnit);
+            long low = editUnit;
+            long high = lastEditUnit;
+            while (low < high) {
+                long mid = low + (high - low + 1) / 2;
+                if (indexTable.getByteOffset(mid) - indexTable.getStreamOffset(mid) == partitionOffset) {
+                    low = mid;
+                } else {
+                    high = mid - 1;
+                }
+            }
+            long rangeStart = indexTable.getByteOffset(editUnit);
+            long rangeEnd = indexTable.getByteOffset(low) + indexTable.getEditUnitSize(low) - 1;
+            int last = trackFileByteRanges.size() - 1;
+            if (last >= 0
+                    && trackFileByteRanges.get(last).getTrackFileId().equals(trackFileId)
+                    && trackFileByteRanges.get(last).getRangeEnd() + 1 == rangeStart) {
+                trackFileByteRanges.set(last, new TrackFileByteRange(trackFileId, trackFileByteRanges.get(last).getRangeStart(), rangeEnd));
+            } else {
+                trackFileByteRanges.add(new TrackFileByteRange(trackFileId, rangeStart, rangeEnd));
+            }
+            editUnit = low + 1;
+        }
+    }
+
+    /**
+     * A method that returns a string representation of a TrackFileByteRange object
+     *
+     * @return string representing the object
+     */
+    public String toString() {
+        return String.format("%s [%d, %d]", this.trackFileId, this.rangeStart, this.rangeEnd);
+    }
+}
@@ -0,0 +1,371 @@
+/*
+ *
+ * Copyright 2015 Netflix, Inc.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ *
+ */
+
+package com.netflix.imflibrary.st2067_2;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.Immutable;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * This class represents the timeline of a {@link Composition.VirtualTrack}, i.e., the sequence of its resources each
+ * played RepeatCount times (see Section 6.11 of st2067-3:2013). The timeline is expressed in units of the edit rate of the
+ * resources of the virtual track (Track Edit Rate units) starting at 0 with the first edit unit of the first resource.
+ *
+ * The offset of every resource on the timeline is precomputed when the timeline is created, therefore the resource that
+ * plays at a given position is resolved through a binary search over the resources rather than a scan of the resource
+ * list.
+ */
+@Immutable
+public final class VirtualTrackTimeline {
+    private final List<? extends IMFBaseResourceType> resources;
+    private final Composition.EditRate compositionEditRate;
+    /* resourceOffsets[i] is the offset of the resource i on the timeline, resourceOffsets[resources.size()] is the duration */
+    private final long[] resourceOffsets;
+
+    /**
+     * Constructor for a VirtualTrackTimeline
+     *
+     * @param resources the resources of the virtual track in the order in which they appear in the Composition
+     * @param compositionEditRate the edit rate of the composition
+     */
+    VirtualTrackTimeline(List<? extends IMFBaseResourceType> resources, Composition.EditRate compositionEditRate) {
+        this.resources = resources;
+        this.compositionEditRate = compositionEditRate;
+        this.resourceOffsets = new long[resources.size() + 1];
+        for (int i = 0; i < resources.size(); i++) {
+            this.resourceOffsets[i + 1] = Math.addExact(this.resourceOffsets[i], Math.max(0L, resources.get(i).getDuration()));
+        }
+    }
+
+    /**
+     * Getter for the duration of this timeline
+     *
+     * @return the duration of the timeline in Track Edit Rate units
+     */
+    public long getDuration() {
+        return this.resourceOffsets[this.resources.size()];
+    }
+
+    /**
+     * Getter for the edit rate of this timeline
+     *
+     * @return the edit rate of the resources of the virtual track or null if the virtual track has no resources
+     */
+    @Nullable
+    public Composition.EditRate getEditRate() {
+        return this.resources.isEmpty() ? null : this.resources.get(0).getEditRate();
+    }
+
+    /**
+     * Getter for the offset of a resource on this timeline
+     *
+     * @param resourceIndex the index of the resource in the resource list of the virtual track
+     * @return the offset in Track Edit Rate units of the first edit unit of the resource on the timeline
+     */
+    public long getResourceOffset(int resourceIndex) {
+        if (resourceIndex < 0 || resourceIndex >= this.resources.size()) {
+            throw new IndexOutOfBoundsException(String.format("Resource index %d is outside the range [0, %d)", resourceIndex, this.resources.size()));
+        }
+        return this.resourceOffsets[resourceIndex];
+    }
+
+    /**
+     * A method that resolves a position on this timeline to the resource that plays at that position
+     *
+     * @param trackEditUnit the position on the timeline in Track Edit Rate units
+     * @return the position within the resource that plays at the position passed in or null if the position is not
+     * within [0, duration)
+     */
+    @Nullable
+    public ResourcePosition getResourcePosition(long trackEditUnit) {
+        if (trackEditUnit < 0 || trackEditUnit >= this.getDuration()) {
+            return null;
+        }
+        int resourceIndex = this.getResourceIndex(trackEditUnit);
+        IMFBaseResourceType resource = this.resources.get(resourceIndex);
+        long sourceDuration = resource.getSourceDuration().longValue();
+        long offsetInResource = trackEditUnit - this.resourceOffsets[resourceIndex];
+        return new ResourcePosition(resource, resourceIndex, offsetInResource / sourceDuration,
+                resource.getEntryPoint().longValue() + (offsetInResource % sourceDuration), trackEditUnit);
+    }
+
+    /**
+     * A method that resolves a position on the composition timeline to the resource of the virtual track that plays at
+     * that position
+     *
+     * @param compositionEditUnit the position on the composition timeline in Composition Edit Rate units
+     * @return the position within the resource that plays at the position passed in or null if the position is not
+     * within the timeline
+     */
+    @Nullable
+    public ResourcePosition getResourcePositionForCompositionEditUnit(long compositionEditUnit) {
+        if (compositionEditUnit < 0 || this.resources.isEmpty()) {
+            return null;
+        }
+        return this.getResourcePosition(this.toTrackEditUnits(compositionEditUnit));
+    }
+
+    /**
+     * A method that resolves a time on the composition timeline to the resource of the virtual track that plays at that
+     * time
+     *
+     * @param numerator the numerator of the time in seconds from the start of the composition
+     * @param denominator the denominator of the time in seconds from the start of the composition
+     * @return the position within the resource that plays at the time passed in or null if the time is not within the
+     * timeline
+     */
+    @Nullable
+    public ResourcePosition getResourcePosition(long numerator, long denominator) {
+        if (denominator <= 0) {
+            throw new IllegalArgumentException(String.format("Denominator = %d of the time is not positive", denominator));
+        }
+        if (numerator < 0 || this.resources.isEmpty()) {
+            return null;
+        }
+        Composition.EditRate editRate = this.getEditRate();
+        return this.getResourcePosition(Math.floorDiv(Math.multiplyExact(numerator, editRate.getNumerator()),
+                Math.multiplyExact(denominator, editRate.getDenominator())));
+    }
+
+    /**
+     * A method that returns the slices of the resources that play within a window of this timeline. Every repetition of
+     * a resource that overlaps the window results in a separate slice since each repetition corresponds to a contiguous
+     * range of edit units of the underlying track file.
+     *
+     * @param startTrackEditUnit the inclusive start of the window in Track Edit Rate units
+     * @param endTrackEditUnit the exclusive end of the window in Track Edit Rate units
+     * @return the resource slices that overlap the window in timeline order, clipped to the window
+     */
+    @Nonnull
+    public List<ResourceSlice> getResourceSlices(long startTrackEditUnit, long endTrackEditUnit) {
+        long start = Math.max(0L, startTrackEditUnit);
+        long end = Math.min(this.getDuration(), endTrackEditUnit);
+        if (start >= end) {
+            return Collections.emptyList();
+        }
+        List<ResourceSlice> resourceSlices = new ArrayList<>();
+        long position = start;
+        int resourceIndex = this.getResourceIndex(start);
+        while (position < end) {
+            IMFBaseResourceType resource = this.resources.get(resourceIndex);
+            long sourceDuration = resource.getSourceDuration().longValue();
+            long offsetInResource = position - this.resourceOffsets[resourceIndex];
+            long repeatIndex = offsetInResource / sourceDuration;
+            long offsetInRepetition = offsetInResource % sourceDuration;
+            long duration = Math.min(sourceDuration - offsetInRepetition, end - position);
+            resourceSlices.add(new ResourceSlice(resource, resourceIndex, repeatIndex,
+                    resource.getEntryPoint().longValue() + offsetInRepetition, duration, position));
+            position += duration;
+            while (resourceIndex < this.resources.size() - 1 && position >= this.resourceOffsets[resourceIndex + 1]) {
+                resourceIndex++;
+            }
+        }
+        return Collections.unmodifiableList(resourceSlices);
+    }
+
+    /**
+     * A method that returns the slices of the resources that play within a window of the composition timeline, see
+     * {@link #getResourceSlices(long, long)}
+     *
+     * @param startCompositionEditUnit the inclusive start of the window in Composition Edit Rate units
+     * @param endCompositionEditUnit the exclusive end of the window in Composition Edit Rate units
+     * @return the resource slices that overlap the window in timeline order, clipped to the window
+     */
+    @Nonnull
+    public List<ResourceSlice> getResourceSlicesForCompositionEditUnits(long startCompositionEditUnit, long endCompositionEditUnit) {
+        if (this.resources.isEmpty()) {
+            return Collections.emptyList();
+        }
+        return this.getResourceSlices(this.toTrackEditUnits(Math.max(0L, startCompositionEditUnit)),
+                this.toTrackEditUnits(Math.max(0L, endCompositionEditUnit)));
+    }
+
+    /**
+     * A method that converts a position on the composition timeline into a position on this timeline
+     *
+     * @param compositionEditUnit the position on the composition timeline in Composition Edit Rate units
+     * @return the position on this timeline in Track Edit Rate units, rounded down
+     */
+    public long toTrackEditUnits(long compositionEditUnit) {
+        Composition.EditRate editRate = this.getEditRate();
+        if (editRate == null) {
+            throw new IllegalStateException("Virtual track has no resources, its edit rate is unknown");
+        }
+        return Math.floorDiv(Math.multiplyExact(compositionEditUnit, Math.multiplyExact(editRate.getNumerator(), this.compositionEditRate.getDenominator())),
+                Math.multiplyExact(editRate.getDenominator(), this.compositionEditRate.getNumerator()));
+    }
+
+    /* Returns the index of the last resource whose offset is at most trackEditUnit, skipping resources of zero duration */
+    private int getResourceIndex(long trackEditUnit) {
+        int index = Arrays.binarySearch(this.resourceOffsets, 0, this.resources.size(), trackEditUnit);
+        if (index < 0) {
+            return -index - 2;
+        }
+        while (index < this.resources.size() - 1 && this.resourceOffsets[index + 1] == trackEditUnit) {
+            index++;
+        }
+        return index;
+    }
+
+    /**
+     * This class represents a position within a resource of a virtual track
+     */
+    @Immutable
+    public static final class ResourcePosition {
+        private final IMFBaseResourceType resource;
+        private final int resourceIndex;
+        private final long repeatIndex;
+        private final long editUnit;
+        private final long trackEditUnit;
+
+        private ResourcePosition(IMFBaseResourceType resource, int resourceIndex, long repeatIndex, long editUnit, long trackEditUnit) {
+            this.resource = resource;
+            this.resourceIndex = resourceIndex;
+            this.repeatIndex = repeatIndex;
+            this.editUnit = editUnit;
+            this.trackEditUnit = trackEditUnit;
+        }
+
+        /**
+         * Getter for the resource
+         *
+         * @return the resource that plays at this position
+         */
+        public IMFBaseResourceType getResource() {
+            return this.resource;
+        }
+
+        /**
+         * Getter for the index of the resource
+         *
+         * @return the index of the resource in the resource list of the virtual track
+         */
+        public int getResourceIndex() {
+            return this.resourceIndex;
+        }
+
+        /**
+         * Getter for the repetition of the resource
+         *
+         * @return the zero-based index of the repetition of the resource that plays at this position
+         */
+        public long getRepeatIndex() {
+            return this.repeatIndex;
+        }
+
+        /**
+         * Getter for the edit unit within the underlying essence, i.e., the EntryPoint of the resource plus the offset of
+         * this position within the repetition
+         *
+         * @return the edit unit of the track file (or of the underlying resource) that plays at this position
+         */
+        public long getEditUnit() {
+            return this.editUnit;
+        }
+
+        /**
+         * Getter for this position on the timeline of the virtual track
+         *
+         * @return the position in Track Edit Rate units
+         */
+        public long getTrackEditUnit() {
+            return this.trackEditUnit;
+        }
+    }
+
+    /**
+     * This class represents a contiguous range of edit units within a single repetition of a resource of a virtual track
+     */
+    @Immutable
+    public static final class ResourceSlice {
+        private final IMFBaseResourceType resource;
+        private final int resourceIndex;
+        private final long repeatIndex;
+        private final long startEditUnit;
+        private final long duration;
+        private final long trackEditUnit;
+
+        private ResourceSlice(IMFBaseResourceType resource, int resourceIndex, long repeatIndex, long startEditUnit, long duration, long trackEditUnit) {
+            this.resource = resource;
+            this.resourceIndex = resourceIndex;
+            this.repeatIndex = repeatIndex;
+            this.startEditUnit = startEditUnit;
+            this.duration = duration;
+            this.trackEditUnit = trackEditUnit;
+        }
+
+        /**
+         * Getter for the resource
+         *
+         * @return the resource that this slice is a part of
+         */
+        public IMFBaseResourceType getResource() {
+            return this.resource;
+        }
+
+        /**
+         * Getter for the index of the resource
+         *
+         * @return the index of the resource in the resource list of the virtual track
+         */
+        public int getResourceIndex() {
+            return this.resourceIndex;
+        }
+
+        /**
+         * Getter for the repetition of the resource
+         *
+         * @return the zero-based index of the repetition of the resource that this slice is a part of
+         */
+        public long getRepeatIndex() {
+            return this.repeatIndex;
+        }
+
+        /**
+         * Getter for the first edit unit of this slice within the underlying essence
+         *
+         * @return the first edit unit of the track file (or of the underlying resource) in this slice
+         */
+        public long getStartEditUnit() {
+            return this.startEditUnit;
+        }
+
+        /**
+         * Getter for the duration of this slice
+         *
+         * @return the number of edit units in this slice
+         */
+        public long getDuration() {
+            return this.duration;
+        }
+
+        /**
+         * Getter for the position of the first edit unit of this slice on the timeline of the virtual track
+         *
+         * @return the position in Track Edit Rate units
+         */
+        public long getTrackEditUnit() {
+            return this.trackEditUnit;
+        }
+    }
+}
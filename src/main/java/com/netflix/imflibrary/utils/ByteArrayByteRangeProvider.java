@@ -8,6 +8,7 @@ import java.io.File;
 import java.io.FileOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.file.Files;
 import java.util.Arrays;
 
 /**
@@ -70,7 +71,7 @@ public class ByteArrayByteRangeProvider implements ResourceByteRangeProvider {
         //validation of range request guarantees that 0 <= rangeStart <= rangeEnd <= (resourceSize - 1)
         ResourceByteRangeProvider.Utilities.validateRangeRequest(this.resourceSize, rangeStart, rangeEnd);
 
-        File rangeFile = new File(workingDirectory, "range");
+        File rangeFile = ResourceByteRangeProvider.Utilities.createRangeFile(workingDirectory);
 
         try(ByteArrayInputStream bis = new ByteArrayInputStream(this.bytes);
             BufferedOutputStream bos = new BufferedOutputStream(new FileOutputStream(rangeFile)))
@@ -95,6 +96,11 @@ public class ByteArrayByteRangeProvider implements ResourceByteRangeProvider {
                 totalNumberOfBytesRead += numBytesRead;
             }
         }
+        catch (IOException | RuntimeException e)
+        {
+            Files.deleteIfExists(rangeFile.toPath());
+            throw e;
+        }
 
         return rangeFile;
     }
@@ -147,8 +153,18 @@ public class ByteArrayByteRangeProvider implements ResourceByteRangeProvider {
         return bytes;
     }
 
+    /**
+     * A method to obtain bytes in the inclusive range [start, end] as a stream that reads directly from the underlying
+     * byte[], i.e., without copying the byte range
+     *
+     * @param rangeStart zero indexed inclusive start offset; ranges from 0 through (resourceSize -1) both included
+     * @param rangeEnd zero indexed inclusive end offset; ranges from 0 through (resourceSize -1) both included
+     * @return an InputStream corresponding to the desired byte range
+     * @throws IOException - any I/O related error will be exposed through an IOException
+     */
     public InputStream getByteRangeAsStream(long rangeStart, long rangeEnd) throws IOException {
-        byte[] bytes = this.getByteRangeAsBytes(rangeStart, rangeEnd);
-        return new ByteArrayInputStream(bytes);
+        //validation of range request guarantees that 0 <= rangeStart <= rangeEnd <= (resourceSize - 1)
+        ResourceByteRangeProvider.Utilities.validateRangeRequest(this.resourceSize, rangeStart, rangeEnd);
+        return new ByteArrayInputStream(this.bytes, (int) rangeStart, (int) (rangeEnd - rangeStart + 1));
     }
 }
@@ -20,18 +20,20 @@ package com.netflix.imflibrary.utils;
 
 import javax.annotation.concurrent.NotThreadSafe;
 import java.io.IOException;
+import java.nio.ByteBuffer;
 import java.util.Arrays;
 
 /**
  * This class is a non-thread-safe implementation of {@link com.netflix.imflibrary.utils.ByteProvider}. The underlying input
  * sequence of bytes is sourced from an array of bytes. While this implementation could be enhanced to make it thread-safe, it is
- * difficult to envision an application scenario where an input stream could be shared meaningfully among multiple callers
+ * difficult to envision an application scenario where an input stream could be shared meaningfully among multiple callers.
+ * The primitive readers of {@link com.netflix.imflibrary.utils.ByteBufferProvider} operate directly on the private copy
+ * of the input bytes held by this object
  */
 @NotThreadSafe
-public final class ByteArrayDataProvider implements ByteProvider {
+public final class ByteArrayDataProvider implements ByteBufferProvider {
 
-    private final byte[] bytes;
-    private int position = 0;
+    private final ByteBufferDataProvider byteBufferDataProvider;
 
 
     /**
@@ -41,7 +43,7 @@ public final class ByteArrayDataProvider implements ByteProvider {
      */
     public ByteArrayDataProvider(byte[] bytes)
     {
-        this.bytes = Arrays.copyOf(bytes, bytes.length);
+        this.byteBufferDataProvider = new ByteBufferDataProvider(Arrays.copyOf(bytes, bytes.length));
     }
 
     /**
@@ -53,13 +55,7 @@ public final class ByteArrayDataProvider implements ByteProvider {
      */
     public byte[] getBytes(int totalNumBytesToRead) throws IOException
     {
-        if ((this.position + totalNumBytesToRead) > bytes.length)
-        {
-            throw new IOException(String.format("Cannot read %d bytes from zero-index position %d as total length = %d",
-                    totalNumBytesToRead, this.position, bytes.length));
-        }
-        this.position += totalNumBytesToRead;
-        return Arrays.copyOfRange(this.bytes, this.position - totalNumBytesToRead, this.position);
+        return this.byteBufferDataProvider.getBytes(totalNumBytesToRead);
     }
 
     /**
@@ -70,12 +66,54 @@ public final class ByteArrayDataProvider implements ByteProvider {
      */
     public void skipBytes(long totalNumBytesToSkip) throws IOException
     {
-        if ((this.position + totalNumBytesToSkip) > bytes.length)
-        {
-            throw new IOException(String.format("Cannot skip %d bytes from zero-index position %d as total length = %d",
-                    totalNumBytesToSkip, this.position, bytes.length));
-        }
+        this.byteBufferDataProvider.skipBytes(totalNumBytesToSkip);
+    }
+
+    @Override
+    public long getPosition()
+    {
+        return this.byteBufferDataProvider.getPosition();
+    }
+
+    @Override
+    public int readUnsignedByte() throws IOException
+    {
+        return this.byteBufferDataProvider.readUnsignedByte();
+    }
+
+    @Override
+    public int readUnsignedShort() throws IOException
+    {
+        return this.byteBufferDataProvider.readUnsignedShort();
+    }
 
-        this.position += totalNumBytesToSkip;
+    @Override
+    public long readUnsignedInt() throws IOException
+    {
+        return this.byteBufferDataProvider.readUnsignedInt();
+    }
+
+    @Override
+    public long readLong() throws IOException
+    {
+        return this.byteBufferDataProvider.readLong();
+    }
+
+    @Override
+    public long readBERLength() throws IOException
+    {
+        return this.byteBufferDataProvider.readBERLength();
+    }
+
+    @Override
+    public void readUL(byte[] into) throws IOException
+    {
+        this.byteBufferDataProvider.readUL(into);
+    }
+
+    @Override
+    public ByteBuffer getByteBuffer(int numBytes) throws IOException
+    {
+        return this.byteBufferDataProvider.getByteBuffer(numBytes);
     }
 }
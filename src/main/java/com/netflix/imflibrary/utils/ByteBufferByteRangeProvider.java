@@ -0,0 +1,189 @@
+/*
+ *
+ * Copyright 2015 Netflix, Inc.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ *
+ */
+
+package com.netflix.imflibrary.utils;
+
+import javax.annotation.concurrent.Immutable;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * This class is an implementation of {@link com.netflix.imflibrary.utils.ResourceByteRangeProvider} - the underlying
+ * resource is a {@link java.nio.ByteBuffer}. Unlike {@link com.netflix.imflibrary.utils.ByteArrayByteRangeProvider} the
+ * bytes are not copied when an instance is created, and streams obtained from this object read directly from the buffer.
+ * The caller must therefore not modify the bytes of the buffer passed in, which is typically a read-only view, for e.g.,
+ * {@link com.netflix.imflibrary.RESTfulInterfaces.PayloadRecord#getPayloadBuffer()}.
+ */
+@Immutable
+public final class ByteBufferByteRangeProvider implements ResourceByteRangeProvider
+{
+    private final ByteBuffer byteBuffer;
+
+    /**
+     * Constructor for a ByteBufferByteRangeProvider
+     * @param byteBuffer - the bytes between the position and the limit of this buffer constitute the resource, the position
+     *                   and limit of the buffer passed in are left unchanged
+     */
+    public ByteBufferByteRangeProvider(ByteBuffer byteBuffer)
+    {
+        this.byteBuffer = byteBuffer.slice().asReadOnlyBuffer();
+    }
+
+    /**
+     * A method that returns the size in bytes of the underlying resource, in this case a ByteBuffer
+     * @return the size in bytes of the underlying resource, in this case a ByteBuffer
+     */
+    public long getResourceSize()
+    {
+        return this.byteBuffer.capacity();
+    }
+
+    /**
+     * A method to obtain bytes in the inclusive range [start, endOfFile] as a file
+     *
+     * @param rangeStart zero indexed inclusive start offset; ranges from 0 through (resourceSize -1) both included
+     * @param workingDirectory the working directory where the output file is placed
+     * @return file containing desired byte range from rangeStart through end of file
+     * @throws IOException - any I/O related error will be exposed through an IOException
+     */
+    public File getByteRange(long rangeStart, File workingDirectory) throws IOException
+    {
+        return this.getByteRange(rangeStart, this.getResourceSize() - 1, workingDirectory);
+    }
+
+    /**
+     * A method to obtain bytes in the inclusive range [start, end] as a file
+     *
+     * @param rangeStart zero indexed inclusive start offset; range from [0, (resourceSize -1)] inclusive
+     * @param rangeEnd zero indexed inclusive end offset; range from [0, (resourceSize -1)] inclusive
+     * @param workingDirectory the working directory where the output file is placed
+     * @return file containing desired byte range
+     * @throws IOException - any I/O related error will be exposed through an IOException
+     */
+    public File getByteRange(long rangeStart, long rangeEnd, File workingDirectory) throws IOException
+    {
+        ByteBuffer range = this.getRange(rangeStart, rangeEnd);
+        File rangeFile = ResourceByteRangeProvider.Utilities.createRangeFile(workingDirectory);
+        try (FileChannel fileChannel = FileChannel.open(rangeFile.toPath(), StandardOpenOption.WRITE))
+        {
+            while (range.hasRemaining())
+            {
+                fileChannel.write(range);
+            }
+        }
+        catch (IOException | RuntimeException e)
+        {
+            Files.deleteIfExists(rangeFile.toPath());
+            throw e;
+        }
+        return rangeFile;
+    }
+
+    /**
+     * This method provides a way to obtain a copy of a byte range from the resource in-memory
+     *
+     * @param rangeStart zero indexed inclusive start offset; ranges from 0 through (resourceSize -1) both included
+     * @param rangeEnd zero indexed inclusive end offset; ranges from 0 through (resourceSize -1) both included
+     * @return byte[] containing desired byte range
+     * @throws IOException - any I/O related error will be exposed through an IOException
+     */
+    public byte[] getByteRangeAsBytes(long rangeStart, long rangeEnd) throws IOException
+    {
+        ByteBuffer range = this.getRange(rangeStart, rangeEnd);
+        byte[] bytes = new byte[range.remaining()];
+        range.get(bytes);
+        return bytes;
+    }
+
+    /**
+     * A method to obtain bytes in the inclusive range [start, end] as a stream that reads directly from the underlying
+     * buffer, i.e., without copying the byte range
+     *
+     * @param rangeStart zero indexed inclusive start offset; ranges from 0 through (resourceSize -1) both included
+     * @param rangeEnd zero indexed inclusive end offset; ranges from 0 through (resourceSize -1) both included
+     * @return an InputStream corresponding to the desired byte range
+     * @throws IOException - any I/O related error will be exposed through an IOException
+     */
+    public InputStream getByteRangeAsStream(long rangeStart, long rangeEnd) throws IOException
+    {
+        return new ByteBufferInputStream(this.getRange(rangeStart, rangeEnd));
+    }
+
+    private ByteBuffer getRange(long rangeStart, long rangeEnd)
+    {
+        //validation of range request guarantees that 0 <= rangeStart <= rangeEnd <= (resourceSize - 1)
+        ResourceByteRangeProvider.Utilities.validateRangeRequest(this.getResourceSize(), rangeStart, rangeEnd);
+        ByteBuffer range = this.byteBuffer.duplicate();
+        range.limit((int) rangeEnd + 1).position((int) rangeStart);
+        return range;
+    }
+
+    /**
+     * An InputStream that reads the bytes between the position and the limit of a ByteBuffer
+     */
+    private static final class ByteBufferInputStream extends InputStream
+    {
+        private final ByteBuffer byteBuffer;
+
+        private ByteBufferInputStream(ByteBuffer byteBuffer)
+        {
+            this.byteBuffer = byteBuffer;
+        }
+
+        @Override
+        public int read()
+        {
+            return this.byteBuffer.hasRemaining() ? this.byteBuffer.get() & 0xff : -1;
+        }
+
+        @Override
+        public int read(byte[] bytes, int offset, int length)
+        {
+            if (length == 0)
+            {
+                return 0;
+            }
+            if (!this.byteBuffer.hasRemaining())
+            {
+                return -1;
+            }
+            int numBytesRead = Math.min(length, this.byteBuffer.remaining());
+            this.byteBuffer.get(bytes, offset, numBytesRead);
+            return numBytesRead;
+        }
+
+        @Override
+        public long skip(long numBytesToSkip)
+        {
+            int numBytesSkipped = (int) Math.max(0, Math.min(numBytesToSkip, this.byteBuffer.remaining()));
+            this.byteBuffer.position(this.byteBuffer.position() + numBytesSkipped);
+            return numBytesSkipped;
+        }
+
+        @Override
+        public int available()
+        {
+            return this.byteBuffer.remaining();
+        }
+    }
+}
@@ -0,0 +1,161 @@
+/*
+ *
+ * Copyright 2015 Netflix, Inc.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ *
+ */
+
+package com.netflix.imflibrary.utils;
+
+import com.netflix.imflibrary.KLVPacket;
+
+import javax.annotation.concurrent.NotThreadSafe;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+
+/**
+ * An implementation of {@link com.netflix.imflibrary.utils.ByteBufferProvider} that reads directly from the
+ * {@link java.nio.ByteBuffer} (or byte[]) passed in. Unlike {@link com.netflix.imflibrary.utils.ByteArrayDataProvider}
+ * the data is not copied, therefore the caller must not modify it while it is being read through this object.
+ */
+@NotThreadSafe
+public final class ByteBufferDataProvider implements ByteBufferProvider {
+
+    private final ByteBuffer byteBuffer;
+
+    /**
+     * Instantiates a new ByteBufferDataProvider that reads the bytes between the position and the limit of the
+     * ByteBuffer passed in. The position, limit and byte order of the ByteBuffer passed in are left unchanged.
+     *
+     * @param byteBuffer the input buffer
+     */
+    public ByteBufferDataProvider(ByteBuffer byteBuffer)
+    {
+        this.byteBuffer = byteBuffer.slice().order(KLVPacket.BYTE_ORDER);
+    }
+
+    /**
+     * Instantiates a new ByteBufferDataProvider that reads the byte[] passed in without copying it
+     *
+     * @param bytes the input bytes
+     */
+    public ByteBufferDataProvider(byte[] bytes)
+    {
+        this(ByteBuffer.wrap(bytes));
+    }
+
+    /**
+     * Getter for the raw bytes from the buffer that this data provider encapsulates
+     *
+     * @param totalNumBytesToRead the total num bytes to read
+     * @return byte[] containing next totalNumBytesToRead number of bytes
+     * @throws IOException - any I/O related error is exposed through an IOException
+     */
+    public byte[] getBytes(int totalNumBytesToRead) throws IOException
+    {
+        this.checkRemaining(totalNumBytesToRead);
+        byte[] bytes = new byte[totalNumBytesToRead];
+        this.byteBuffer.get(bytes);
+        return bytes;
+    }
+
+    /**
+     * A method that lets the caller skip bytes in the encapsulated buffer
+     *
+     * @param totalNumBytesToSkip the total num bytes to skip from the current position
+     * @throws IOException - any I/O related error is exposed through an IOException
+     */
+    public void skipBytes(long totalNumBytesToSkip) throws IOException
+    {
+        if ((this.byteBuffer.position() + totalNumBytesToSkip) > this.byteBuffer.limit())
+        {
+            throw new IOException(String.format("Cannot skip %d bytes from zero-index position %d as total length = %d",
+                    totalNumBytesToSkip, this.byteBuffer.position(), this.byteBuffer.limit()));
+        }
+        this.byteBuffer.position((int)(this.byteBuffer.position() + totalNumBytesToSkip));
+    }
+
+    @Override
+    public long getPosition()
+    {
+        return this.byteBuffer.position();
+    }
+
+    @Override
+    public int readUnsignedByte() throws IOException
+    {
+        this.checkRemaining(1);
+        return this.byteBuffer.get() & 0xFF;
+    }
+
+    @Override
+    public int readUnsignedShort() throws IOException
+    {
+        this.checkRemaining(2);
+        return this.byteBuffer.getShort() & 0xFFFF;
+    }
+
+    @Override
+    public long readUnsignedInt() throws IOException
+    {
+        this.checkRemaining(4);
+        return this.byteBuffer.getInt() & 0xFFFFFFFFL;
+    }
+
+    @Override
+    public long readLong() throws IOException
+    {
+        this.checkRemaining(8);
+        return this.byteBuffer.getLong();
+    }
+
+    @Override
+    public long readBERLength() throws IOException
+    {
+        int value = this.readUnsignedByte();
+        int numBytesToRead = KLVPacket.getLengthSuffixSize(value);
+        if (numBytesToRead == 0)
+        {//MSB equals 0
+            return value;
+        }
+        this.checkRemaining(numBytesToRead);
+        return KLVPacket.getLengthSuffixValue(this.byteBuffer, numBytesToRead);
+    }
+
+    @Override
+    public void readUL(byte[] into) throws IOException
+    {
+        this.checkRemaining(KLVPacket.KEY_FIELD_SIZE);
+        this.byteBuffer.get(into, 0, KLVPacket.KEY_FIELD_SIZE);
+    }
+
+    @Override
+    public ByteBuffer getByteBuffer(int numBytes) throws IOException
+    {
+        this.checkRemaining(numBytes);
+        ByteBuffer view = this.byteBuffer.slice();
+        view.limit(numBytes);
+        this.byteBuffer.position(this.byteBuffer.position() + numBytes);
+        return view.asReadOnlyBuffer().order(KLVPacket.BYTE_ORDER);
+    }
+
+    private void checkRemaining(int numBytes) throws IOException
+    {
+        if (numBytes < 0 || numBytes > this.byteBuffer.remaining())
+        {
+            throw new IOException(String.format("Cannot read %d bytes from zero-index position %d as total length = %d",
+                    numBytes, this.byteBuffer.position(), this.byteBuffer.limit()));
+        }
+    }
+}
@@ -0,0 +1,96 @@
+/*
+ *
+ * Copyright 2015 Netflix, Inc.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ *
+ */
+
+package com.netflix.imflibrary.utils;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+
+/**
+ * A {@link com.netflix.imflibrary.utils.ByteProvider} whose data is held in a {@link java.nio.ByteBuffer}. In addition to
+ * the byte[] oriented methods of ByteProvider, it exposes readers for the primitive types encountered while parsing MXF
+ * (big-endian integers, BER encoded lengths and 16-byte ULs) that decode values in place and do not allocate. Parsers
+ * should prefer these methods whenever the ByteProvider they are handed is an instance of this interface.
+ */
+public interface ByteBufferProvider extends ByteProvider
+{
+    /**
+     * Getter for the zero-indexed position of the next byte that will be read
+     *
+     * @return the current position
+     */
+    public long getPosition();
+
+    /**
+     * Reads the next byte as an unsigned value
+     *
+     * @return the unsigned byte as int
+     * @throws IOException - any I/O related error is exposed through an IOException
+     */
+    public int readUnsignedByte() throws IOException;
+
+    /**
+     * Reads the next 2 bytes as a big-endian unsigned short
+     *
+     * @return the unsigned short as int
+     * @throws IOException - any I/O related error is exposed through an IOException
+     */
+    public int readUnsignedShort() throws IOException;
+
+    /**
+     * Reads the next 4 bytes as a big-endian unsigned integer
+     *
+     * @return the unsigned int as long
+     * @throws IOException - any I/O related error is exposed through an IOException
+     */
+    public long readUnsignedInt() throws IOException;
+
+    /**
+     * Reads the next 8 bytes as a big-endian signed long
+     *
+     * @return the long
+     * @throws IOException - any I/O related error is exposed through an IOException
+     */
+    public long readLong() throws IOException;
+
+    /**
+     * Reads a BER encoded length field as defined in st336:2007. The size of the length field can be obtained as the
+     * difference between the values returned by {@link #getPosition()} before and after this call.
+     *
+     * @return the value of the length field
+     * @throws IOException - any I/O related error is exposed through an IOException
+     */
+    public long readBERLength() throws IOException;
+
+    /**
+     * Reads the next 16 bytes (for e.g., a key or a UL) into the array passed in
+     *
+     * @param into an array of size at least 16 that will hold the bytes read
+     * @throws IOException - any I/O related error is exposed through an IOException
+     */
+    public void readUL(byte[] into) throws IOException;
+
+    /**
+     * Getter for the next numBytes bytes as a read-only view of the underlying buffer, no bytes are copied
+     *
+     * @param numBytes the number of bytes in the view
+     * @return a read-only ByteBuffer positioned at zero whose limit equals numBytes
+     * @throws IOException - any I/O related error is exposed through an IOException
+     */
+    public ByteBuffer getByteBuffer(int numBytes) throws IOException;
+}
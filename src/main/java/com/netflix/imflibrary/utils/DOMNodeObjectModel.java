@@ -56,6 +56,10 @@ public class DOMNodeObjectModel {
     private final Map<String, Map<String, Integer>> fieldsLocalNameMap = new HashMap<>();
     private static final Logger logger = LoggerFactory.getLogger(DOMNodeObjectModel.class);
     private final IMFErrorLogger imfErrorLogger = new IMFErrorLoggerImpl();
+    /*A 64-bit digest of the content that equals() compares, computed once the model has been fully constructed*/
+    private final long fingerprint;
+    /*This model with the namespace URIs stripped from its fields, created on demand for matching against other models*/
+    private DOMNodeObjectModel modelWONamespaceURIs;
     /**
      * A constructor for the object model of a DOM Node.
      * @param node the DOM Node whose object model is desired.
@@ -65,6 +69,11 @@ public class DOMNodeObjectModel {
         this.nodeType = node.getNodeType();
         this.localName = node.getLocalName();
         this.localNamespaceURI = node.getNamespaceURI();
+        this.readChildNodes(node);
+        this.fingerprint = this.computeFingerprint();
+    }
+
+    private void readChildNodes(Node node){
         if(this.localName == null){
             imfErrorLogger.addError(IMFErrorLogger.IMFErrors.ErrorCodes.IMF_CPL_ERROR, IMFErrorLogger
                             .IMFErrors.ErrorLevels.NON_FATAL,
@@ -135,6 +144,7 @@ public class DOMNodeObjectModel {
         this.childrenDOMNodes.putAll(childrenDOMNodes);
         this.fields.putAll(fields);
         this.fieldsLocalNameMap.putAll(fieldsLocalNamesMap);
+        this.fingerprint = this.computeFingerprint();
     }
 
     /**
@@ -255,9 +265,9 @@ public class DOMNodeObjectModel {
     @Nullable
     public static DOMNodeObjectModel getMatchingDOMNodeObjectModel(DOMNodeObjectModel reference, Collection<DOMNodeObjectModel> models){
 
-        DOMNodeObjectModel refDOMNodelObjectModelWONamespaceURI = DOMNodeObjectModel.createDOMNodeObjectModelWOFullyQualifiedFields(reference);
+        DOMNodeObjectModel refDOMNodelObjectModelWONamespaceURI = reference.getModelWONamespaceURIs();
         for(DOMNodeObjectModel model : models){
-            DOMNodeObjectModel modelWONamespaceURI = DOMNodeObjectModel.createDOMNodeObjectModelWOFullyQualifiedFields(model);
+            DOMNodeObjectModel modelWONamespaceURI = model.getModelWONamespaceURIs();
             if(refDOMNodelObjectModelWONamespaceURI.equals(modelWONamespaceURI)){
                 return modelWONamespaceURI;
             }
@@ -265,6 +275,21 @@ public class DOMNodeObjectModel {
         return null;
     }
 
+    /**
+     * A helper method to obtain this model without the namespace URIs of its fields, the model is created once and reused
+     * for subsequent comparisons
+     * @return a DOMNodeObjectModel that excludes the namespace URIs of the fields of this model
+     */
+    private DOMNodeObjectModel getModelWONamespaceURIs(){
+        /*A benign race, concurrent callers would create equivalent models whose fields are all final*/
+        DOMNodeObjectModel model = this.modelWONamespaceURIs;
+        if(model == null){
+            model = DOMNodeObjectModel.createDOMNodeObjectModelWOFullyQualifiedFields(this);
+            this.modelWONamespaceURIs = model;
+        }
+        return model;
+    }
+
 
     /**
      * A method to log errors related to NamespaceURI inconsistencies for DOMNode elements
@@ -403,8 +428,17 @@ public class DOMNodeObjectModel {
             return false;
         }
 
+        if(this == other){
+            return true;
+        }
+
         DOMNodeObjectModel otherDOMNodeObjectModel = (DOMNodeObjectModel) other;
 
+        /*Models with different fingerprints cannot be equal, only models with matching fingerprints are compared in depth*/
+        if(this.fingerprint != otherDOMNodeObjectModel.fingerprint){
+            return false;
+        }
+
         if(this.nodeType.equals(otherDOMNodeObjectModel.nodeType) &&
             this.fields.equals(otherDOMNodeObjectModel.fields) &&
             this.childrenDOMNodes.equals(otherDOMNodeObjectModel.childrenDOMNodes)) {
@@ -519,14 +553,67 @@ public class DOMNodeObjectModel {
      */
     @Override
     public int hashCode(){
-        int hash = 1;
-        hash = hash * 31 + localName.hashCode();
-        hash = hash * 31 + this.nodeType.hashCode();
-        hash = hash * 31 + this.fields.hashCode();
-        hash = hash * 31 + this.childrenDOMNodes.hashCode();
+        return (int)(this.fingerprint ^ (this.fingerprint >>> 32));
+    }
+
+    /**
+     * A getter for the structural fingerprint of this DOMNodeObjectModel, i.e., a 64-bit digest of the node type, the fields
+     * and the child nodes of this model. DOMNodeObjectModels that are equal have the same fingerprint, while DOMNodeObjectModels
+     * that have different fingerprints are not equal.
+     * @return the fingerprint of this DOMNodeObjectModel
+     */
+    public long getFingerprint(){
+        return this.fingerprint;
+    }
+
+    /**
+     * A helper method to compute the fingerprint of this DOMNodeObjectModel from the fingerprints of its child nodes, the
+     * contributions of the entries of the maps are summed since the equality of maps is independent of the order of their entries
+     */
+    private long computeFingerprint(){
+        long fieldsDigest = 0;
+        for(Map.Entry<DOMNodeElementTuple, Map<String, Integer>> entry : this.fields.entrySet()){
+            long valuesDigest = 0;
+            for(Map.Entry<String, Integer> valueEntry : entry.getValue().entrySet()){
+                valuesDigest += mix(digest(valueEntry.getKey()) * 31 + valueEntry.getValue());
+            }
+            long keyDigest = digest(entry.getKey().getLocalName()) * 31 + digest(entry.getKey().getNamespaceURI());
+            fieldsDigest += mix(keyDigest * 31 + valuesDigest);
+        }
+
+        long childrenDigest = 0;
+        for(Map.Entry<DOMNodeObjectModel, Integer> entry : this.childrenDOMNodes.entrySet()){
+            childrenDigest += mix(entry.getKey().fingerprint * 31 + entry.getValue());
+        }
+
+        long hash = mix(this.nodeType);
+        hash = mix(hash * 31 + fieldsDigest);
+        hash = mix(hash * 31 + childrenDigest);
+        return hash;
+    }
+
+    /**
+     * A 64-bit FNV-1a digest of a string
+     */
+    private static long digest(String string){
+        long hash = 0xcbf29ce484222325L;
+        for(int i = 0; i < string.length(); i++){
+            hash ^= string.charAt(i);
+            hash *= 0x100000001b3L;
+        }
         return hash;
     }
 
+    /**
+     * The finalizer of the SplitMix64 generator, used to spread the bits of a 64-bit value
+     */
+    private static long mix(long value){
+        long hash = value;
+        hash = (hash ^ (hash >>> 30)) * 0xbf58476d1ce4e5b9L;
+        hash = (hash ^ (hash >>> 27)) * 0x94d049bb133111ebL;
+        return hash ^ (hash >>> 31);
+    }
+
     /**
      * A method that returns a string representation of a DOMNodeObjectModel object
      *
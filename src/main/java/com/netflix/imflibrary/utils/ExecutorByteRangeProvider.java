@@ -0,0 +1,130 @@
+/*
+ *
+ * Copyright 2015 Netflix, Inc.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ *
+ */
+
+package com.netflix.imflibrary.utils;
+
+import javax.annotation.concurrent.ThreadSafe;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+
+/**
+ * This class is an implementation of {@link com.netflix.imflibrary.utils.ResourceByteRangeProvider} that serves the
+ * asynchronous byte range requests of another ResourceByteRangeProvider by running its blocking requests on an executor,
+ * so that independent requests against a resource on high latency storage (for e.g., NFS or a FUSE mounted object store)
+ * are in flight at the same time. Blocking requests are passed through to the underlying ResourceByteRangeProvider, which
+ * must therefore support concurrent requests, for e.g., {@link com.netflix.imflibrary.utils.FileChannelByteRangeProvider}.
+ *
+ * Callers that wait for the completion of an asynchronous request should not run on a bounded executor that is also
+ * passed in here, since the request might then never be scheduled.
+ */
+@ThreadSafe
+public final class ExecutorByteRangeProvider implements ResourceByteRangeProvider
+{
+    private final ResourceByteRangeProvider resourceByteRangeProvider;
+    private final Executor executor;
+
+    /**
+     * Constructor for an ExecutorByteRangeProvider
+     *
+     * @param resourceByteRangeProvider the ResourceByteRangeProvider that serves the byte range requests
+     * @param executor the executor on which the asynchronous byte range requests are run
+     */
+    public ExecutorByteRangeProvider(ResourceByteRangeProvider resourceByteRangeProvider, Executor executor)
+    {
+        this.resourceByteRangeProvider = resourceByteRangeProvider;
+        this.executor = executor;
+    }
+
+    /**
+     * A method that returns the size in bytes of the underlying resource
+     * @return size of resource in bytes
+     */
+    public long getResourceSize()
+    {
+        return this.resourceByteRangeProvider.getResourceSize();
+    }
+
+    /**
+     * A method to obtain bytes in the inclusive range [start, end] as a file
+     *
+     * @param rangeStart zero indexed inclusive start offset; ranges from 0 through (resourceSize -1) both included
+     * @param rangeEnd zero indexed inclusive end offset; ranges from 0 through (resourceSize -1) both included
+     * @param workingDirectory the working directory where the output file is placed
+     * @return file containing desired byte range
+     * @throws IOException - any I/O related error will be exposed through an IOException
+     */
+    public File getByteRange(long rangeStart, long rangeEnd, File workingDirectory) throws IOException
+    {
+        return this.resourceByteRangeProvider.getByteRange(rangeStart, rangeEnd, workingDirectory);
+    }
+
+    /**
+     * A method to obtain bytes in the inclusive range [start, end] as a byte[]
+     *
+     * @param rangeStart zero indexed inclusive start offset; ranges from 0 through (resourceSize -1) both included
+     * @param rangeEnd zero indexed inclusive end offset; ranges from 0 through (resourceSize -1) both included
+     * @return byte array containing desired byte range
+     * @throws IOException - any I/O related error is exposed through an IOException
+     */
+    public byte[] getByteRangeAsBytes(long rangeStart, long rangeEnd) throws IOException
+    {
+        return this.resourceByteRangeProvider.getByteRangeAsBytes(rangeStart, rangeEnd);
+    }
+
+    /**
+     * A method to obtain bytes in the inclusive range [start, end] as a stream
+     *
+     * @param rangeStart zero indexed inclusive start offset; ranges from 0 through (resourceSize -1) both included
+     * @param rangeEnd zero indexed inclusive end offset; ranges from 0 through (resourceSize -1) both included
+     * @return inputStream corresponding to the desired byte range
+     * @throws IOException - any I/O related error is exposed through an IOException
+     */
+    public InputStream getByteRangeAsStream(long rangeStart, long rangeEnd) throws IOException
+    {
+        return this.resourceByteRangeProvider.getByteRangeAsStream(rangeStart, rangeEnd);
+    }
+
+    /**
+     * A method to asynchronously obtain bytes in the inclusive range [start, end] as a byte[], the blocking request is
+     * run on the executor of this object
+     *
+     * @param rangeStart zero indexed inclusive start offset; ranges from 0 through (resourceSize -1) both included
+     * @param rangeEnd zero indexed inclusive end offset; ranges from 0 through (resourceSize -1) both included
+     * @return a future that completes with a byte array containing desired byte range, or exceptionally with the
+     * IOException or RuntimeException that was encountered
+     */
+    @Override
+    public CompletableFuture<byte[]> getByteRangeAsBytesAsync(long rangeStart, long rangeEnd)
+    {
+        CompletableFuture<byte[]> future = new CompletableFuture<>();
+        this.executor.execute(() -> {
+            try
+            {
+                future.complete(this.resourceByteRangeProvider.getByteRangeAsBytes(rangeStart, rangeEnd));
+            }
+            catch (Throwable t)
+            {
+                future.completeExceptionally(t);
+            }
+        });
+        return future;
+    }
+}
@@ -20,6 +20,9 @@ package com.netflix.imflibrary.utils;
 
 import javax.annotation.concurrent.Immutable;
 import java.io.*;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.StandardOpenOption;
 
 /**
  * This class is an implementation of {@link com.netflix.imflibrary.utils.ResourceByteRangeProvider} - the underlying
@@ -81,7 +84,7 @@ public final class FileByteRangeProvider implements ResourceByteRangeProvider
         //validation of range request guarantees that 0 <= rangeStart <= rangeEnd <= (resourceSize - 1)
         ResourceByteRangeProvider.Utilities.validateRangeRequest(this.fileSize, rangeStart, rangeEnd);
 
-        File rangeFile = new File(workingDirectory, "range");
+        File rangeFile = ResourceByteRangeProvider.Utilities.createRangeFile(workingDirectory);
 
         try(BufferedInputStream bis = new BufferedInputStream(new FileInputStream(this.resourceFile));
             BufferedOutputStream bos = new BufferedOutputStream(new FileOutputStream(rangeFile)))
@@ -106,6 +109,11 @@ public final class FileByteRangeProvider implements ResourceByteRangeProvider
                 totalNumberOfBytesRead += numBytesRead;
             }
         }
+        catch (IOException | RuntimeException e)
+        {
+            Files.deleteIfExists(rangeFile.toPath());
+            throw e;
+        }
 
         return rangeFile;
     }
@@ -158,8 +166,19 @@ public final class FileByteRangeProvider implements ResourceByteRangeProvider
         return bytes;
     }
 
+    /**
+     * A method to obtain bytes in the inclusive range [start, end] as a stream. The bytes are read from the underlying
+     * file as the stream is consumed, the byte range is never materialized in memory in its entirety. The returned stream
+     * holds a file handle open and should be closed by the caller.
+     *
+     * @param rangeStart zero indexed inclusive start offset; ranges from 0 through (resourceSize -1) both included
+     * @param rangeEnd zero indexed inclusive end offset; ranges from 0 through (resourceSize -1) both included
+     * @return an InputStream corresponding to the desired byte range
+     * @throws IOException - any I/O related error will be exposed through an IOException
+     */
     public InputStream getByteRangeAsStream(long rangeStart, long rangeEnd) throws IOException {
-        byte[] bytes = this.getByteRangeAsBytes(rangeStart, rangeEnd);
-        return new ByteArrayInputStream(bytes);
+        //validation of range request guarantees that 0 <= rangeStart <= rangeEnd <= (resourceSize - 1)
+        ResourceByteRangeProvider.Utilities.validateRangeRequest(this.fileSize, rangeStart, rangeEnd);
+        return new FileChannelInputStream(FileChannel.open(this.resourceFile.toPath(), StandardOpenOption.READ), rangeStart, rangeEnd, true);
     }
 }
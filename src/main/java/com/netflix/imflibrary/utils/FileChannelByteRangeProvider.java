@@ -0,0 +1,197 @@
+/*
+ *
+ * Copyright 2015 Netflix, Inc.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ *
+ */
+
+package com.netflix.imflibrary.utils;
+
+import javax.annotation.concurrent.ThreadSafe;
+import java.io.Closeable;
+import java.io.EOFException;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * This class is an implementation of {@link com.netflix.imflibrary.utils.ResourceByteRangeProvider} - the underlying
+ * resource is a file that is held open through a single {@link java.nio.channels.FileChannel} for the lifetime of this
+ * object. Byte range requests are served using positional reads on that channel, so that repeated small requests against
+ * very large files do not incur the cost of re-opening the file and skipping to the desired offset. Positional reads do
+ * not modify the position of the channel, therefore a single instance may be shared by multiple threads. Instances of
+ * this class should be closed once they are no longer needed in order to release the underlying file handle.
+ */
+@ThreadSafe
+public final class FileChannelByteRangeProvider implements ResourceByteRangeProvider, Closeable
+{
+    private final File resourceFile;
+    private final FileChannel fileChannel;
+    private final long fileSize;
+
+    /**
+     * Constructor for a FileChannelByteRangeProvider
+     * @param resourceFile whose data will be read by this data provider
+     * @throws IOException - any I/O related error while opening the file will be exposed through an IOException
+     */
+    public FileChannelByteRangeProvider(File resourceFile) throws IOException
+    {
+        this.resourceFile = resourceFile;
+        this.fileChannel = FileChannel.open(resourceFile.toPath(), StandardOpenOption.READ);
+        this.fileSize = this.fileChannel.size();
+    }
+
+    /**
+     * A method that returns the size in bytes of the underlying resource, in this case a File
+     * @return the size in bytes of the underlying resource, in this case a File
+     */
+    public long getResourceSize()
+    {
+        return this.fileSize;
+    }
+
+    /**
+     * A method to obtain bytes in the inclusive range [start, endOfFile] as a file
+     *
+     * @param rangeStart zero indexed inclusive start offset; ranges from 0 through (resourceSize -1) both included
+     * @param workingDirectory the working directory where the output file is placed
+     * @return file containing desired byte range from rangeStart through end of file
+     * @throws IOException - any I/O related error will be exposed through an IOException
+     */
+    public File getByteRange(long rangeStart, File workingDirectory) throws IOException
+    {
+        return this.getByteRange(rangeStart, this.fileSize - 1, workingDirectory);
+    }
+
+    /**
+     * A method to obtain bytes in the inclusive range [start, end] as a file
+     *
+     * @param rangeStart zero indexed inclusive start offset; range from [0, (resourceSize -1)] inclusive
+     * @param rangeEnd zero indexed inclusive end offset; range from [0, (resourceSize -1)] inclusive
+     * @param workingDirectory the working directory where the output file is placed
+     * @return file containing desired byte range
+     * @throws IOException - any I/O related error will be exposed through an IOException
+     */
+    public File getByteRange(long rangeStart, long rangeEnd, File workingDirectory) throws IOException
+    {
+        //validation of range request guarantees that 0 <= rangeStart <= rangeEnd <= (resourceSize - 1)
+        ResourceByteRangeProvider.Utilities.validateRangeRequest(this.fileSize, rangeStart, rangeEnd);
+
+        File rangeFile = ResourceByteRangeProvider.Utilities.createRangeFile(workingDirectory);
+
+        try(FileOutputStream fileOutputStream = new FileOutputStream(rangeFile);
+            FileChannel outputChannel = fileOutputStream.getChannel())
+        {
+            long totalNumBytesToTransfer = rangeEnd - rangeStart + 1;
+            long totalNumBytesTransferred = 0;
+            while (totalNumBytesTransferred < totalNumBytesToTransfer)
+            {
+                long numBytesTransferred = this.fileChannel.transferTo(rangeStart + totalNumBytesTransferred,
+                        totalNumBytesToTransfer - totalNumBytesTransferred, outputChannel);
+                if (numBytesTransferred <= 0)
+                {
+                    throw new EOFException(String.format("Tried to transfer %d bytes from %s, which ended after transferring %d bytes",
+                            totalNumBytesToTransfer, this.resourceFile.getName(), totalNumBytesTransferred));
+                }
+                totalNumBytesTransferred += numBytesTransferred;
+            }
+        }
+        catch (IOException | RuntimeException e)
+        {
+            Files.deleteIfExists(rangeFile.toPath());
+            throw e;
+        }
+
+        return rangeFile;
+    }
+
+    /**
+     * This method provides a way to obtain a byte range from the resource in-memory. A limitation of this method is
+     * that the total size of the byte range request is capped at 0x7fffffff (the maximum value possible for type int
+     * in java)
+     *
+     * @param rangeStart zero indexed inclusive start offset; ranges from 0 through (resourceSize -1) both included
+     * @param rangeEnd zero indexed inclusive end offset; ranges from 0 through (resourceSize -1) both included
+     * @return byte[] containing desired byte range
+     * @throws IOException - any I/O related error will be exposed through an IOException
+     */
+    public byte[] getByteRangeAsBytes(long rangeStart, long rangeEnd) throws IOException
+    {
+        //validation of range request guarantees that 0 <= rangeStart <= rangeEnd <= (resourceSize - 1)
+        ResourceByteRangeProvider.Utilities.validateRangeRequest(this.fileSize, rangeStart, rangeEnd);
+        if((rangeEnd - rangeStart + 1) > Integer.MAX_VALUE){
+            throw new IOException(String.format("Number of bytes requested = %d is greater than %d", (rangeEnd - rangeStart + 1), Integer.MAX_VALUE));
+        }
+
+        byte[] bytes = new byte[(int)(rangeEnd - rangeStart + 1)];
+        this.read(ByteBuffer.wrap(bytes), rangeStart);
+        return bytes;
+    }
+
+    /**
+     * A method to obtain bytes in the inclusive range [start, end] as a stream. The bytes are read from the underlying
+     * channel using positional reads as the stream is consumed, the byte range is never materialized in memory in its
+     * entirety. Closing the returned stream does not close this FileChannelByteRangeProvider.
+     *
+     * @param rangeStart zero indexed inclusive start offset; ranges from 0 through (resourceSize -1) both included
+     * @param rangeEnd zero indexed inclusive end offset; ranges from 0 through (resourceSize -1) both included
+     * @return an InputStream corresponding to the desired byte range
+     * @throws IOException - any I/O related error will be exposed through an IOException
+     */
+    public InputStream getByteRangeAsStream(long rangeStart, long rangeEnd) throws IOException {
+        //validation of range request guarantees that 0 <= rangeStart <= rangeEnd <= (resourceSize - 1)
+        ResourceByteRangeProvider.Utilities.validateRangeRequest(this.fileSize, rangeStart, rangeEnd);
+        return new FileChannelInputStream(this.fileChannel, rangeStart, rangeEnd, false);
+    }
+
+    /**
+     * A method that fills the remaining space in the buffer passed in with bytes read from the underlying file starting
+     * at the specified offset. The position of the underlying channel is left unchanged.
+     *
+     * @param byteBuffer the buffer that should be filled, bytes are transferred between its position and its limit
+     * @param rangeStart zero indexed offset in the file corresponding to the first byte to be read
+     * @throws IOException - any I/O related error will be exposed through an IOException
+     */
+    public void read(ByteBuffer byteBuffer, long rangeStart) throws IOException
+    {
+        int totalNumBytesToRead = byteBuffer.remaining();
+        int totalNumBytesRead = 0;
+        while (byteBuffer.hasRemaining())
+        {
+            int numBytesRead = this.fileChannel.read(byteBuffer, rangeStart + totalNumBytesRead);
+            if (numBytesRead == -1)
+            {
+                throw new EOFException(String.format("Tried to read %d bytes from %s, which ended after reading %d bytes",
+                        totalNumBytesToRead, this.resourceFile.getName(), totalNumBytesRead));
+            }
+            totalNumBytesRead += numBytesRead;
+        }
+    }
+
+    /**
+     * A method that releases the file handle held by this FileChannelByteRangeProvider
+     *
+     * @throws IOException - any I/O related error will be exposed through an IOException
+     */
+    @Override
+    public void close() throws IOException
+    {
+        this.fileChannel.close();
+    }
+}
@@ -0,0 +1,148 @@
+/*
+ *
+ * Copyright 2015 Netflix, Inc.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ *
+ */
+
+package com.netflix.imflibrary.utils;
+
+import javax.annotation.concurrent.NotThreadSafe;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+
+/**
+ * An InputStream over the inclusive byte range [rangeStart, rangeEnd] of a file that reads from a
+ * {@link java.nio.channels.FileChannel} using positional reads, i.e., the position of the channel is left unchanged. Bytes
+ * are read from the file on demand through a small buffer, so that a consumer such as an XML parser never requires the
+ * entire byte range to be resident in memory.
+ */
+@NotThreadSafe
+final class FileChannelInputStream extends InputStream
+{
+    private static final int BUFFER_SIZE = 8192;
+
+    private final FileChannel fileChannel;
+    private final boolean closeChannel;
+    private final long rangeEnd;
+    private final ByteBuffer buffer;
+    private long position;
+
+    /**
+     * Instantiates a new FileChannelInputStream
+     *
+     * @param fileChannel the channel from which bytes are read
+     * @param rangeStart zero indexed inclusive start offset of the byte range
+     * @param rangeEnd zero indexed inclusive end offset of the byte range
+     * @param closeChannel true if the channel should be closed when this stream is closed
+     */
+    FileChannelInputStream(FileChannel fileChannel, long rangeStart, long rangeEnd, boolean closeChannel)
+    {
+        this.fileChannel = fileChannel;
+        this.closeChannel = closeChannel;
+        this.rangeEnd = rangeEnd;
+        this.position = rangeStart;
+        this.buffer = ByteBuffer.allocate((int) Math.min(BUFFER_SIZE, rangeEnd - rangeStart + 1));
+        this.buffer.flip();
+    }
+
+    @Override
+    public int read() throws IOException
+    {
+        if (!this.fill())
+        {
+            return -1;
+        }
+        return this.buffer.get() & 0xff;
+    }
+
+    @Override
+    public int read(byte[] bytes, int offset, int length) throws IOException
+    {
+        if (length == 0)
+        {
+            return 0;
+        }
+        if (!this.fill())
+        {
+            return -1;
+        }
+        int numBytesRead = Math.min(length, this.buffer.remaining());
+        this.buffer.get(bytes, offset, numBytesRead);
+        return numBytesRead;
+    }
+
+    @Override
+    public long skip(long numBytesToSkip) throws IOException
+    {
+        if (numBytesToSkip <= 0)
+        {
+            return 0;
+        }
+        long numBytesSkipped = Math.min(numBytesToSkip, this.available() + (this.rangeEnd - this.position + 1));
+        if (numBytesSkipped <= this.buffer.remaining())
+        {
+            this.buffer.position(this.buffer.position() + (int) numBytesSkipped);
+        }
+        else
+        {
+            this.position += numBytesSkipped - this.buffer.remaining();
+            this.buffer.position(this.buffer.limit());
+        }
+        return numBytesSkipped;
+    }
+
+    @Override
+    public int available()
+    {
+        return this.buffer.remaining();
+    }
+
+    @Override
+    public void close() throws IOException
+    {
+        if (this.closeChannel)
+        {
+            this.fileChannel.close();
+        }
+    }
+
+    private boolean fill() throws IOException
+    {
+        if (this.buffer.hasRemaining())
+        {
+            return true;
+        }
+        if (this.position > this.rangeEnd)
+        {
+            return false;
+        }
+        this.buffer.clear();
+        this.buffer.limit((int) Math.min(this.buffer.capacity(), this.rangeEnd - this.position + 1));
+        while (this.buffer.hasRemaining())
+        {
+            int numBytesRead = this.fileChannel.read(this.buffer, this.position);
+            if (numBytesRead == -1)
+            {
+                throw new EOFException(String.format("Tried to read up to offset %d, the file ended at offset %d", this.rangeEnd, this.position));
+            }
+            this.position += numBytesRead;
+        }
+        this.buffer.flip();
+        return true;
+    }
+}
@@ -8,8 +8,6 @@ import org.slf4j.LoggerFactory;
 import java.io.File;
 import java.io.IOException;
 import java.nio.ByteBuffer;
-import java.nio.file.Files;
-import java.nio.file.Paths;
 import java.util.List;
 
 /**
@@ -30,8 +28,7 @@ public class IMFTrackFilePartitionsExtractor {
             long rangeEnd = archiveFileSize - 1;
             long rangeStart = archiveFileSize - 4;
 
-            File fileWithRandomIndexPackSize = resourceByteRangeProvider.getByteRange(rangeStart, rangeEnd, workingDirectory);
-            byte[] bytes = Files.readAllBytes(Paths.get(fileWithRandomIndexPackSize.toURI()));
+            byte[] bytes = resourceByteRangeProvider.getByteRangeAsBytes(rangeStart, rangeEnd);
             randomIndexPackSize = (long)(ByteBuffer.wrap(bytes).getInt());
         }
 
@@ -44,9 +41,7 @@ public class IMFTrackFilePartitionsExtractor {
                     randomIndexPackSize, archiveFileSize));
         }
 
-        File fileWithRandomIndexPack = resourceByteRangeProvider.getByteRange(rangeStart, rangeEnd, workingDirectory);
-        ByteProvider byteProvider = new FileDataProvider(fileWithRandomIndexPack);
-        randomIndexPack = new RandomIndexPack(byteProvider, rangeStart, randomIndexPackSize);
+        randomIndexPack = new RandomIndexPack(new ByteBufferDataProvider(resourceByteRangeProvider.getByteRangeAsBytes(rangeStart, rangeEnd)), rangeStart, randomIndexPackSize);
         List<Long> partitionByteOffsets = randomIndexPack.getAllPartitionByteOffsets();
 
         File headerPartition = resourceByteRangeProvider.getByteRange(partitionByteOffsets.get(0), partitionByteOffsets.get(1) - 1, workingDirectory);
@@ -45,10 +45,45 @@ import static com.sandflow.smpte.regxml.dict.importers.RegisterImporter.fromRegi
  */
 public final class RegXMLLibDictionary {
 
+    private static volatile RegXMLLibDictionary sharedInstance;
+
     private final MetaDictionaryCollection metaDictionaryCollection;
 
     /**
-     * Constructor for the RegXMLLibHelper
+     * Getter for a RegXMLLibDictionary shared by all callers within the JVM. The SMPTE registers are parsed the first
+     * time this method is invoked and the resulting dictionary is reused from there on. The dictionary is not modified
+     * after construction and can therefore be used concurrently by multiple threads.
+     *
+     * @return the shared RegXMLLibDictionary
+     * @throws IMFException - if any error occurs loading registers, in which case a subsequent call will retry
+     */
+    public static RegXMLLibDictionary getInstance() throws IMFException {
+        RegXMLLibDictionary regXMLLibDictionary = sharedInstance;
+        if (regXMLLibDictionary == null) {
+            synchronized (RegXMLLibDictionary.class) {
+                regXMLLibDictionary = sharedInstance;
+                if (regXMLLibDictionary == null) {
+                    regXMLLibDictionary = new RegXMLLibDictionary();
+                    sharedInstance = regXMLLibDictionary;
+                }
+            }
+        }
+        return regXMLLibDictionary;
+    }
+
+    /**
+     * A hook that may be invoked at application startup so that the cost of parsing the SMPTE registers into the shared
+     * dictionary is not paid by the first composition that is read or validated
+     *
+     * @throws IMFException - if any error occurs loading registers
+     */
+    public static void warmUp() throws IMFException {
+        getInstance();
+    }
+
+    /**
+     * Constructor for the RegXMLLibDictionary, this parses the SMPTE registers afresh. Most callers should use
+     * {@link #getInstance()} instead.
      *
      * @throws IMFException - if any error occurs loading registers
      */
@@ -41,7 +41,8 @@ import com.sandflow.smpte.util.UL;
 import com.sandflow.smpte.util.UUID;
 import com.netflix.imflibrary.KLVPacket;
 import com.netflix.imflibrary.exceptions.MXFException;
-import com.netflix.imflibrary.utils.ByteProvider;
+import com.netflix.imflibrary.st0377.HeaderPartition;
+import com.netflix.imflibrary.st0377.header.InterchangeObject;
 import com.sandflow.util.events.Event;
 import com.sandflow.util.events.EventHandler;
 import org.w3c.dom.Document;
@@ -52,9 +53,12 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
 import java.io.Reader;
+import java.nio.ByteBuffer;
 import java.nio.charset.Charset;
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 
 import static com.sandflow.smpte.regxml.dict.importers.RegisterImporter.fromRegister;
@@ -78,7 +82,7 @@ public final class RegXMLLibHelper {
 
         try
         {
-            this.regXMLLibDictionary = new RegXMLLibDictionary();
+            this.regXMLLibDictionary = RegXMLLibDictionary.getInstance();
             this.localTagRegister = PrimerPack.createLocalTagRegister(this.getTripletFromKLVHeader(primerPack, primerPackByteProvider));
         }
         catch (Exception e){
@@ -101,26 +105,9 @@ public final class RegXMLLibHelper {
             Group group = LocalSet.fromTriplet(triplet, this.localTagRegister);
             Set set = Set.fromGroup(group);
             setResolver.put(set.getInstanceID(), set);
-
-            RegxmlValidationEventHandlerImpl handler = new RegxmlValidationEventHandlerImpl(true);
-            FragmentBuilder fragmentBuilder = new FragmentBuilder(this.regXMLLibDictionary.getMetaDictionaryCollection(), setResolver, null, handler);
-            DocumentFragment documentFragment = fragmentBuilder.fromTriplet(group, document);
-            if (handler.hasErrors()) {
-                handler.getErrors().stream()
-                        .map(e -> new ErrorLogger.ErrorObject(
-                                IMFErrorLogger.IMFErrors.ErrorCodes.IMF_ESSENCE_METADATA_ERROR,
-                                e.getValidationEventSeverity(),
-                                "Error code : " + e.getCode().name() + " - " + e.getErrorMessage())
-                        )
-                        .forEach(imfErrorLogger::addError);
-
-                if(imfErrorLogger.hasFatalErrors()) {
-                    throw new MXFException(handler.toString(), imfErrorLogger);
-                }
-            }
-            return documentFragment;
+            return this.getDocumentFragment(group, setResolver, document, imfErrorLogger);
         }
-        catch (FragmentBuilder.RuleException | KLVException e){
+        catch (KLVException e){
             throw new MXFException(String.format("Could not generate MXFFragment for the KLV Set"));
         }
     }
@@ -147,6 +134,106 @@ public final class RegXMLLibHelper {
                 Set subDescriptorSet = Set.fromGroup(subDescriptorGroup);
                 setResolver.put(subDescriptorSet.getInstanceID(), subDescriptorSet);
             }
+            return this.getDocumentFragment(group, setResolver, document, imfErrorLogger);
+        }
+        catch (KLVException e){
+            throw new MXFException(String.format("Could not generate MXFFragment for the KLV Set"));
+        }
+    }
+
+    /**
+     * A utility method that provides XML Document fragments representing every Essence Descriptor in a header partition.
+     * The primer pack, the essence descriptors and the subdescriptors are all read from the buffer passed in, and the
+     * subdescriptors are resolved through a single set resolver that is populated once for the entire header partition.
+     *
+     * @param headerPartition the header partition whose Essence Descriptors are serialized
+     * @param headerPartitionBuffer the bytes of the header partition, the byte at the position of this buffer being the
+     *                              first byte of the header partition pack
+     * @param document the XML document that the document fragments are associated with
+     * @param imfErrorLogger Logger for recording any errors
+     * @return a list of XML DOM DocumentFragments in the order of {@link HeaderPartition#getEssenceDescriptors()}
+     * @throws IOException - any I/O related error will be exposed through an IOException
+     * @throws MXFException if any error occurs while trying to create the document fragments
+     */
+    public static List<DocumentFragment> getEssenceDescriptorDocumentFragments(HeaderPartition headerPartition, ByteBuffer headerPartitionBuffer, Document document, IMFErrorLogger imfErrorLogger) throws IOException, MXFException {
+        long bufferByteOffset = headerPartition.getPartitionPack().getPartitionByteOffset();
+        KLVPacket.Header primerPackHeader = headerPartition.getPrimerPack().getHeader();
+        RegXMLLibHelper regXMLLibHelper = new RegXMLLibHelper(primerPackHeader, getByteProvider(headerPartitionBuffer, bufferByteOffset, primerPackHeader));
+        try {
+            List<Group> essenceDescriptorGroups = new ArrayList<>();
+            HashMap<UUID, Set> setResolver = new HashMap<>();
+            for (InterchangeObject.InterchangeObjectBO essenceDescriptor : headerPartition.getEssenceDescriptors()) {
+                Group group = regXMLLibHelper.getGroup(essenceDescriptor.getHeader(), headerPartitionBuffer, bufferByteOffset);
+                Set set = Set.fromGroup(group);
+                setResolver.put(set.getInstanceID(), set);
+                essenceDescriptorGroups.add(group);
+            }
+            for (InterchangeObject.InterchangeObjectBO subDescriptor : headerPartition.getSubDescriptors()) {
+                Set subDescriptorSet = Set.fromGroup(regXMLLibHelper.getGroup(subDescriptor.getHeader(), headerPartitionBuffer, bufferByteOffset));
+                setResolver.put(subDescriptorSet.getInstanceID(), subDescriptorSet);
+            }
+
+            List<DocumentFragment> documentFragments = new ArrayList<>();
+            for (Group group : essenceDescriptorGroups) {
+                documentFragments.add(regXMLLibHelper.getDocumentFragment(group, setResolver, document, imfErrorLogger));
+            }
+            return documentFragments;
+        }
+        catch (KLVException e){
+            throw new MXFException(String.format("Could not generate MXFFragment for the KLV Set"));
+        }
+    }
+
+    /**
+     * A utility method that provides XML Document fragments representing every Essence Descriptor in a header partition,
+     * see {@link #getEssenceDescriptorDocumentFragments(HeaderPartition, ByteBuffer, Document, IMFErrorLogger)}. The
+     * bytes spanning the primer pack and all the essence descriptors and subdescriptors are obtained from the resource
+     * through a single range request.
+     *
+     * @param headerPartition the header partition whose Essence Descriptors are serialized
+     * @param resourceByteRangeProvider the resource that the header partition was read from
+     * @param document the XML document that the document fragments are associated with
+     * @param imfErrorLogger Logger for recording any errors
+     * @return a list of XML DOM DocumentFragments in the order of {@link HeaderPartition#getEssenceDescriptors()}
+     * @throws IOException - any I/O related error will be exposed through an IOException
+     * @throws MXFException if any error occurs while trying to create the document fragments
+     */
+    public static List<DocumentFragment> getEssenceDescriptorDocumentFragments(HeaderPartition headerPartition, ResourceByteRangeProvider resourceByteRangeProvider, Document document, IMFErrorLogger imfErrorLogger) throws IOException, MXFException {
+        long rangeStart = headerPartition.getPartitionPack().getPartitionByteOffset();
+        long rangeEnd = getLastByteOffset(headerPartition.getPrimerPack().getHeader());
+        for (InterchangeObject.InterchangeObjectBO essenceDescriptor : headerPartition.getEssenceDescriptors()) {
+            rangeEnd = Math.max(rangeEnd, getLastByteOffset(essenceDescriptor.getHeader()));
+        }
+        for (InterchangeObject.InterchangeObjectBO subDescriptor : headerPartition.getSubDescriptors()) {
+            rangeEnd = Math.max(rangeEnd, getLastByteOffset(subDescriptor.getHeader()));
+        }
+        byte[] bytes = resourceByteRangeProvider.getByteRangeAsBytes(rangeStart, rangeEnd);
+        return getEssenceDescriptorDocumentFragments(headerPartition, ByteBuffer.wrap(bytes), document, imfErrorLogger);
+    }
+
+    private static long getLastByteOffset(KLVPacket.Header header) {
+        return header.getByteOffset() + header.getKLSize() + header.getVSize() - 1;
+    }
+
+    private Group getGroup(KLVPacket.Header header, ByteBuffer headerPartitionBuffer, long bufferByteOffset) throws IOException, KLVException {
+        return LocalSet.fromTriplet(this.getTripletFromKLVHeader(header, getByteProvider(headerPartitionBuffer, bufferByteOffset, header)), this.localTagRegister);
+    }
+
+    private static ByteProvider getByteProvider(ByteBuffer headerPartitionBuffer, long bufferByteOffset, KLVPacket.Header header) {
+        long position = header.getByteOffset() - bufferByteOffset;
+        long size = header.getKLSize() + header.getVSize();
+        if (position < 0 || position + size > headerPartitionBuffer.remaining()) {
+            throw new MXFException(String.format("KLVPacket at byte offset %d of size %d is not within the header partition bytes [%d, %d)",
+                    header.getByteOffset(), size, bufferByteOffset, bufferByteOffset + headerPartitionBuffer.remaining()));
+        }
+        ByteBuffer byteBuffer = headerPartitionBuffer.duplicate();
+        byteBuffer.position(byteBuffer.position() + (int) position);
+        byteBuffer.limit(byteBuffer.position() + (int) size);
+        return new ByteBufferDataProvider(byteBuffer.slice());
+    }
+
+    private DocumentFragment getDocumentFragment(Group group, Map<UUID, Set> setResolver, Document document, IMFErrorLogger imfErrorLogger) throws MXFException, KLVException {
+        try {
             RegxmlValidationEventHandlerImpl handler = new RegxmlValidationEventHandlerImpl(true);
             FragmentBuilder fragmentBuilder = new FragmentBuilder(this.regXMLLibDictionary.getMetaDictionaryCollection(), setResolver, null, handler);
             DocumentFragment documentFragment = fragmentBuilder.fromTriplet(group, document);
@@ -165,7 +252,7 @@ public final class RegXMLLibHelper {
             }
             return documentFragment;
         }
-        catch (FragmentBuilder.RuleException | KLVException e){
+        catch (FragmentBuilder.RuleException e){
             throw new MXFException(String.format("Could not generate MXFFragment for the KLV Set"));
         }
     }
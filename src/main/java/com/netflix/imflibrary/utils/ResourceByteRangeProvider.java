@@ -18,9 +18,15 @@
 
 package com.netflix.imflibrary.utils;
 
+import javax.annotation.concurrent.Immutable;
 import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * This interface is a supertype of classes that represent resources to which byte range requests can be made
@@ -34,7 +40,9 @@ public interface ResourceByteRangeProvider
     long getResourceSize();
 
     /**
-     * A method to obtain bytes in the inclusive range [start, end] as a file
+     * A method to obtain bytes in the inclusive range [start, end] as a file. Every call creates a new file with a unique
+     * name in the working directory, so that concurrent callers sharing a working directory do not overwrite each other's
+     * output. The caller owns the returned file and is responsible for deleting it once it is no longer needed.
      *
      * @param rangeStart zero indexed inclusive start offset; ranges from 0 through (resourceSize -1) both included
      * @param rangeEnd zero indexed inclusive end offset; ranges from 0 through (resourceSize -1) both included
@@ -64,6 +72,99 @@ public interface ResourceByteRangeProvider
      */
     InputStream getByteRangeAsStream(long rangeStart, long rangeEnd) throws IOException;
 
+    /**
+     * A method to asynchronously obtain bytes in the inclusive range [start, end] as a byte[]. The default implementation
+     * performs a blocking read using {@link #getByteRangeAsBytes(long, long)} and returns a completed future, resources
+     * that are served by high latency storage should override this method so that independent requests are in flight at
+     * the same time, see {@link com.netflix.imflibrary.utils.ExecutorByteRangeProvider}.
+     *
+     * @param rangeStart zero indexed inclusive start offset; ranges from 0 through (resourceSize -1) both included
+     * @param rangeEnd zero indexed inclusive end offset; ranges from 0 through (resourceSize -1) both included
+     * @return a future that completes with a byte array containing desired byte range, or exceptionally with the
+     * IOException or RuntimeException that was encountered
+     */
+    default CompletableFuture<byte[]> getByteRangeAsBytesAsync(long rangeStart, long rangeEnd)
+    {
+        CompletableFuture<byte[]> future = new CompletableFuture<>();
+        try
+        {
+            future.complete(this.getByteRangeAsBytes(rangeStart, rangeEnd));
+        }
+        catch (IOException | RuntimeException e)
+        {
+            future.completeExceptionally(e);
+        }
+        return future;
+    }
+
+    /**
+     * A method to asynchronously obtain bytes in several inclusive ranges in a single call. All the ranges are requested
+     * before any of them is awaited, so that the latency of the requests overlaps on resources that override
+     * {@link #getByteRangeAsBytesAsync(long, long)}.
+     *
+     * @param byteRanges the byte ranges to obtain
+     * @return a future that completes with a list of byte arrays containing the desired byte ranges in the order in which
+     * the ranges were passed in, or exceptionally with the first error that was encountered
+     */
+    default CompletableFuture<List<byte[]>> getByteRangesAsBytesAsync(List<ByteRange> byteRanges)
+    {
+        List<CompletableFuture<byte[]>> futures = new ArrayList<>(byteRanges.size());
+        for (ByteRange byteRange : byteRanges)
+        {
+            futures.add(this.getByteRangeAsBytesAsync(byteRange.getRangeStart(), byteRange.getRangeEnd()));
+        }
+        return CompletableFuture.allOf(futures.toArray(new CompletableFuture<?>[futures.size()])).thenApply(v -> {
+            List<byte[]> results = new ArrayList<>(futures.size());
+            for (CompletableFuture<byte[]> future : futures)
+            {
+                results.add(future.join());
+            }
+            return results;
+        });
+    }
+
+    /**
+     * This class represents an inclusive byte range [rangeStart, rangeEnd] of a resource
+     */
+    @Immutable
+    final class ByteRange
+    {
+        private final long rangeStart;
+        private final long rangeEnd;
+
+        /**
+         * Constructor for a ByteRange
+         *
+         * @param rangeStart zero indexed inclusive start offset
+         * @param rangeEnd zero indexed inclusive end offset
+         */
+        public ByteRange(long rangeStart, long rangeEnd)
+        {
+            this.rangeStart = rangeStart;
+            this.rangeEnd = rangeEnd;
+        }
+
+        /**
+         * Getter for the start of this range
+         *
+         * @return zero indexed inclusive start offset
+         */
+        public long getRangeStart()
+        {
+            return this.rangeStart;
+        }
+
+        /**
+         * Getter for the end of this range
+         *
+         * @return zero indexed inclusive end offset
+         */
+        public long getRangeEnd()
+        {
+            return this.rangeEnd;
+        }
+    }
+
     class Utilities
     {
         public static void validateRangeRequest(long resourceSize, long rangeStart, long rangeEnd)
@@ -83,6 +184,51 @@ public interface ResourceByteRangeProvider
                 throw new IllegalArgumentException(String.format("rangeEnd = %d is not <= (resourceSize -1) = %d", rangeEnd, (resourceSize-1)));
             }
         }
+
+        /**
+         * A method to create a new, empty file with a unique name in the working directory for the output of a byte range request
+         *
+         * @param workingDirectory the working directory where the file is created
+         * @return the newly created file
+         * @throws IOException - any I/O related error will be exposed through an IOException
+         */
+        public static File createRangeFile(File workingDirectory) throws IOException
+        {
+            return Files.createTempFile(workingDirectory.toPath(), "range", null).toFile();
+        }
+
+        /**
+         * A method to obtain bytes in the inclusive range [start, end] of a resource as a ByteProvider. Byte ranges that
+         * fit in a byte[] are read into memory, and larger ones are written to a file with a unique name in the working
+         * directory that is deleted when the returned ByteProvider, which implements {@link java.io.Closeable} in that
+         * case, is closed.
+         *
+         * @param resourceByteRangeProvider the resource from which the bytes are obtained
+         * @param rangeStart zero indexed inclusive start offset; ranges from 0 through (resourceSize -1) both included
+         * @param rangeEnd zero indexed inclusive end offset; ranges from 0 through (resourceSize -1) both included
+         * @param workingDirectory the working directory where a file might be placed
+         * @return a ByteProvider positioned at the beginning of the desired byte range
+         * @throws IOException - any I/O related error will be exposed through an IOException
+         */
+        public static ByteProvider getByteProvider(ResourceByteRangeProvider resourceByteRangeProvider, long rangeStart, long rangeEnd, File workingDirectory) throws IOException
+        {
+            if ((rangeEnd - rangeStart + 1) <= Integer.MAX_VALUE)
+            {
+                return new ByteBufferDataProvider(resourceByteRangeProvider.getByteRangeAsBytes(rangeStart, rangeEnd));
+            }
+
+            File rangeFile = resourceByteRangeProvider.getByteRange(rangeStart, rangeEnd, workingDirectory);
+            try
+            {
+                return new SeekableByteChannelDataProvider(Files.newByteChannel(rangeFile.toPath(), StandardOpenOption.READ, StandardOpenOption.DELETE_ON_CLOSE),
+                        SeekableByteChannelDataProvider.DEFAULT_BUFFER_SIZE);
+            }
+            catch (IOException e)
+            {
+                Files.deleteIfExists(rangeFile.toPath());
+                throw e;
+            }
+        }
     }
 
 
@@ -0,0 +1,131 @@
+/*
+ *
+ * Copyright 2015 Netflix, Inc.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ *
+ */
+
+package com.netflix.imflibrary.utils;
+
+import org.xml.sax.SAXException;
+
+import javax.annotation.concurrent.ThreadSafe;
+import javax.xml.XMLConstants;
+import javax.xml.bind.JAXBContext;
+import javax.xml.bind.JAXBException;
+import javax.xml.transform.stream.StreamSource;
+import javax.xml.validation.Schema;
+import javax.xml.validation.SchemaFactory;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * A process-wide registry of compiled XML {@link javax.xml.validation.Schema Schema} and {@link javax.xml.bind.JAXBContext JAXBContext}
+ * objects for the IMF document types (CPL, PKL, AssetMap, OPL etc.). Compiling a schema and creating a JAXBContext are
+ * both expensive, while the resulting objects are immutable and safe for use by concurrent threads. Callers should therefore
+ * obtain them through this registry and only create {@link javax.xml.bind.Unmarshaller}, {@link javax.xml.bind.Marshaller}
+ * and {@link javax.xml.validation.Validator} objects, which are not thread-safe, for every document they process.
+ */
+@ThreadSafe
+public final class SchemaRegistry
+{
+    private static final ConcurrentHashMap<List<String>, Schema> schemas = new ConcurrentHashMap<>();
+    private static final ConcurrentHashMap<String, JAXBContext> jaxbContexts = new ConcurrentHashMap<>();
+
+    private SchemaRegistry()
+    {
+        //to prevent instantiation
+    }
+
+    /**
+     * Getter for the Schema compiled from the schema documents at the resource paths passed in. The order of the paths is
+     * significant since a schema document may depend on types defined in the ones that precede it, and is part of the key
+     * under which the compiled Schema is cached.
+     *
+     * @param schemaPaths class path resource paths of the schema documents, in the order in which they need to be loaded
+     * @return the compiled Schema
+     * @throws SAXException - any issues with compiling the schema documents will be exposed through a SAXException
+     * @throws IOException - any I/O related error while reading the schema documents is exposed through an IOException
+     */
+    public static Schema getSchema(String... schemaPaths) throws SAXException, IOException
+    {
+        List<String> key = Arrays.asList(schemaPaths.clone());
+        Schema schema = schemas.get(key);
+        if (schema == null)
+        {
+            //Concurrent callers may compile the same schema more than once, only the first result is retained
+            schema = compileSchema(schemaPaths);
+            Schema existing = schemas.putIfAbsent(key, schema);
+            if (existing != null)
+            {
+                schema = existing;
+            }
+        }
+        return schema;
+    }
+
+    /**
+     * Getter for the JAXBContext corresponding to the context path passed in
+     *
+     * @param contextPath a colon separated list of java package names that contain schema derived classes
+     * @return the JAXBContext
+     * @throws JAXBException - any issues with creating the JAXBContext will be exposed through a JAXBException
+     */
+    public static JAXBContext getJAXBContext(String contextPath) throws JAXBException
+    {
+        JAXBContext jaxbContext = jaxbContexts.get(contextPath);
+        if (jaxbContext == null)
+        {
+            jaxbContext = JAXBContext.newInstance(contextPath);
+            JAXBContext existing = jaxbContexts.putIfAbsent(contextPath, jaxbContext);
+            if (existing != null)
+            {
+                jaxbContext = existing;
+            }
+        }
+        return jaxbContext;
+    }
+
+    private static Schema compileSchema(String... schemaPaths) throws SAXException, IOException
+    {
+        ClassLoader contextClassLoader = Thread.currentThread().getContextClassLoader();
+        List<InputStream> inputStreams = new ArrayList<>();
+        try
+        {
+            StreamSource[] streamSources = new StreamSource[schemaPaths.length];
+            for (int i = 0; i < schemaPaths.length; i++)
+            {
+                InputStream inputStream = contextClassLoader.getResourceAsStream(schemaPaths[i]);
+                inputStreams.add(inputStream);
+                streamSources[i] = new StreamSource(inputStream);
+            }
+            SchemaFactory schemaFactory = SchemaFactory.newInstance(XMLConstants.W3C_XML_SCHEMA_NS_URI);
+            return schemaFactory.newSchema(streamSources);
+        }
+        finally
+        {
+            for (InputStream inputStream : inputStreams)
+            {
+                if (inputStream != null)
+                {
+                    inputStream.close();
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,184 @@
+/*
+ *
+ * Copyright 2015 Netflix, Inc.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ *
+ */
+
+package com.netflix.imflibrary.utils;
+
+import javax.annotation.concurrent.NotThreadSafe;
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.SeekableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * This class is an implementation of {@link com.netflix.imflibrary.utils.ByteProvider} backed by a
+ * {@link java.nio.channels.SeekableByteChannel} that stays open for the lifetime of the object. Reads are served from an
+ * internal read-ahead buffer, so that a sequence of small reads (for e.g., local tags and lengths while parsing
+ * structural metadata) results in a small number of reads on the underlying channel, and skips are implemented by
+ * repositioning the channel rather than by reading through the skipped bytes. Instances of this class should be closed
+ * once they are no longer needed in order to release the underlying channel.
+ */
+@NotThreadSafe
+public final class SeekableByteChannelDataProvider implements ByteProvider, Closeable {
+
+    static final int DEFAULT_BUFFER_SIZE = 65536;
+
+    private final SeekableByteChannel seekableByteChannel;
+    private final ByteBuffer buffer;
+    private long bufferStart;
+
+    /**
+     * Instantiates a new SeekableByteChannelDataProvider object that reads from the file passed in
+     *
+     * @param file the input file
+     * @throws IOException - any I/O related error while opening the file will be exposed through an IOException
+     */
+    public SeekableByteChannelDataProvider(File file) throws IOException
+    {
+        this(Files.newByteChannel(file.toPath(), StandardOpenOption.READ), DEFAULT_BUFFER_SIZE);
+    }
+
+    /**
+     * Instantiates a new SeekableByteChannelDataProvider object that reads from the channel passed in, starting at the
+     * current position of the channel. The channel is owned by this object from here on and will be closed when this
+     * object is closed.
+     *
+     * @param seekableByteChannel the input channel
+     * @param bufferSize the size in bytes of the read-ahead buffer
+     * @throws IOException - any I/O related error will be exposed through an IOException
+     */
+    public SeekableByteChannelDataProvider(SeekableByteChannel seekableByteChannel, int bufferSize) throws IOException
+    {
+        if(bufferSize <= 0){
+            throw new IllegalArgumentException(String.format("Buffer size = %d should be positive", bufferSize));
+        }
+        this.seekableByteChannel = seekableByteChannel;
+        this.buffer = ByteBuffer.allocate(bufferSize);
+        this.buffer.limit(0);
+        this.bufferStart = seekableByteChannel.position();
+    }
+
+    /**
+     * Getter for the raw bytes from the encapsulated channel
+     *
+     * @param totalNumBytesToRead the total num bytes to read from current position in the channel
+     * @return byte[] containing next totalNumBytesToRead
+     * @throws IOException - any I/O related error will be exposed through an IOException
+     */
+    public byte[] getBytes(int totalNumBytesToRead) throws IOException
+    {
+        if(totalNumBytesToRead < 0){
+            throw new IOException(String.format("Cannot read %d bytes, should be non-negative and non-zero", totalNumBytesToRead));
+        }
+        byte[] bytes = new byte[totalNumBytesToRead];
+        int totalBytesRead = 0;
+        while (totalBytesRead < totalNumBytesToRead)
+        {
+            if (this.buffer.hasRemaining())
+            {
+                int numBytesToCopy = Math.min(this.buffer.remaining(), totalNumBytesToRead - totalBytesRead);
+                this.buffer.get(bytes, totalBytesRead, numBytesToCopy);
+                totalBytesRead += numBytesToCopy;
+            }
+            else if ((totalNumBytesToRead - totalBytesRead) >= this.buffer.capacity())
+            {//large reads bypass the read-ahead buffer
+                int numBytesRead = this.readFully(ByteBuffer.wrap(bytes, totalBytesRead, totalNumBytesToRead - totalBytesRead));
+                this.bufferStart = this.seekableByteChannel.position();
+                this.buffer.clear();
+                this.buffer.limit(0);
+                totalBytesRead += numBytesRead;
+                if (totalBytesRead < totalNumBytesToRead)
+                {
+                    break;
+                }
+            }
+            else if (this.fill() <= 0)
+            {
+                break;
+            }
+        }
+        if(totalBytesRead < totalNumBytesToRead) {
+            throw new IOException(String.format("Could not read %d bytes of data, only read %d bytes of data, possible truncated data", totalNumBytesToRead, totalBytesRead));
+        }
+        return bytes;
+    }
+
+    /**
+     * A method that lets the caller skip bytes in the encapsulated channel. Skips that stay within the read-ahead
+     * buffer do not result in any I/O, all others reposition the underlying channel.
+     *
+     * @param totalNumBytesToSkip the total num bytes to skip from the current position in the channel
+     * @throws IOException - any I/O related error will be exposed through an IOException
+     */
+    public void skipBytes(long totalNumBytesToSkip) throws IOException
+    {
+        long target = this.bufferStart + this.buffer.position() + totalNumBytesToSkip;
+        if (target < 0)
+        {
+            throw new IOException(String.format("Cannot skip %d bytes of data, resulting position would be negative", totalNumBytesToSkip));
+        }
+
+        if (target >= this.bufferStart && target <= this.bufferStart + this.buffer.limit())
+        {
+            this.buffer.position((int)(target - this.bufferStart));
+        }
+        else
+        {
+            this.seekableByteChannel.position(target);
+            this.bufferStart = target;
+            this.buffer.limit(0);
+        }
+    }
+
+    /**
+     * A method that releases the channel encapsulated by this SeekableByteChannelDataProvider
+     *
+     * @throws IOException - any I/O related error will be exposed through an IOException
+     */
+    @Override
+    public void close() throws IOException
+    {
+        this.seekableByteChannel.close();
+    }
+
+    private int fill() throws IOException
+    {
+        this.bufferStart = this.seekableByteChannel.position();
+        this.buffer.clear();
+        int numBytesRead = this.readFully(this.buffer);
+        this.buffer.flip();
+        return numBytesRead;
+    }
+
+    private int readFully(ByteBuffer byteBuffer) throws IOException
+    {
+        int totalNumBytesRead = 0;
+        while (byteBuffer.hasRemaining())
+        {
+            int numBytesRead = this.seekableByteChannel.read(byteBuffer);
+            if (numBytesRead == -1)
+            {
+                break;
+            }
+            totalNumBytesRead += numBytesRead;
+        }
+        return totalNumBytesRead;
+    }
+}
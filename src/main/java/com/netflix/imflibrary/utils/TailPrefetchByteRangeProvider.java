@@ -0,0 +1,203 @@
+/*
+ *
+ * Copyright 2015 Netflix, Inc.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ *
+ */
+
+package com.netflix.imflibrary.utils;
+
+import javax.annotation.concurrent.GuardedBy;
+import javax.annotation.concurrent.ThreadSafe;
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Arrays;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * This class is an implementation of {@link com.netflix.imflibrary.utils.ResourceByteRangeProvider} that speculatively
+ * reads a trailing window of another ResourceByteRangeProvider. The structures that are located at the end of an MXF
+ * file, i.e., the size of the RandomIndexPack in the last 4 bytes of the file, the RandomIndexPack itself and frequently
+ * the footer partition pack, are then served from the window that is read once, instead of through a sequence of
+ * dependent byte range requests. Requests for byte ranges that are not entirely within the window are passed through to
+ * the underlying ResourceByteRangeProvider.
+ *
+ * The window is read by the first request for a byte range within it, a read of the window that fails is retried by the
+ * next request within it.
+ */
+@ThreadSafe
+public final class TailPrefetchByteRangeProvider implements ResourceByteRangeProvider
+{
+    /**
+     * The default size in bytes of the trailing window
+     */
+    public static final int DEFAULT_TAIL_SIZE = 64 * 1024;
+
+    private final ResourceByteRangeProvider resourceByteRangeProvider;
+    private final long resourceSize;
+    private final long tailStart;
+    @GuardedBy("this")
+    private CompletableFuture<byte[]> tail = null;
+
+    /**
+     * Constructor for a TailPrefetchByteRangeProvider with a trailing window of the default size
+     *
+     * @param resourceByteRangeProvider the ResourceByteRangeProvider that serves the byte range requests
+     */
+    public TailPrefetchByteRangeProvider(ResourceByteRangeProvider resourceByteRangeProvider)
+    {
+        this(resourceByteRangeProvider, DEFAULT_TAIL_SIZE);
+    }
+
+    /**
+     * Constructor for a TailPrefetchByteRangeProvider
+     *
+     * @param resourceByteRangeProvider the ResourceByteRangeProvider that serves the byte range requests
+     * @param tailSize the size in bytes of the trailing window, the window is smaller if the resource is smaller
+     */
+    public TailPrefetchByteRangeProvider(ResourceByteRangeProvider resourceByteRangeProvider, int tailSize)
+    {
+        if (tailSize < 0)
+        {
+            throw new IllegalArgumentException(String.format("tailSize = %d is negative", tailSize));
+        }
+        this.resourceByteRangeProvider = resourceByteRangeProvider;
+        this.resourceSize = resourceByteRangeProvider.getResourceSize();
+        this.tailStart = Math.max(0L, this.resourceSize - tailSize);
+    }
+
+    /**
+     * A method that returns the size in bytes of the underlying resource
+     * @return size of resource in bytes
+     */
+    public long getResourceSize()
+    {
+        return this.resourceSize;
+    }
+
+    /**
+     * A method to obtain bytes in the inclusive range [start, end] as a file, the request is always passed through to the
+     * underlying ResourceByteRangeProvider
+     *
+     * @param rangeStart zero indexed inclusive start offset; ranges from 0 through (resourceSize -1) both included
+     * @param rangeEnd zero indexed inclusive end offset; ranges from 0 through (resourceSize -1) both included
+     * @param workingDirectory the working directory where the output file is placed
+     * @return file containing desired byte range
+     * @throws IOException - any I/O related error will be exposed through an IOException
+     */
+    public File getByteRange(long rangeStart, long rangeEnd, File workingDirectory) throws IOException
+    {
+        return this.resourceByteRangeProvider.getByteRange(rangeStart, rangeEnd, workingDirectory);
+    }
+
+    /**
+     * A method to obtain bytes in the inclusive range [start, end] as a byte[]
+     *
+     * @param rangeStart zero indexed inclusive start offset; ranges from 0 through (resourceSize -1) both included
+     * @param rangeEnd zero indexed inclusive end offset; ranges from 0 through (resourceSize -1) both included
+     * @return byte array containing desired byte range
+     * @throws IOException - any I/O related error is exposed through an IOException
+     */
+    public byte[] getByteRangeAsBytes(long rangeStart, long rangeEnd) throws IOException
+    {
+        if (!this.isInTail(rangeStart, rangeEnd))
+        {
+            return this.resourceByteRangeProvider.getByteRangeAsBytes(rangeStart, rangeEnd);
+        }
+        CompletableFuture<byte[]> tail;
+        synchronized (this)
+        {
+            if (this.tail == null)
+            {
+                this.tail = CompletableFuture.completedFuture(this.resourceByteRangeProvider.getByteRangeAsBytes(this.tailStart, this.resourceSize - 1));
+            }
+            tail = this.tail;
+        }
+        return this.getRange(com.netflix.imflibrary.utils.Utilities.getResult(tail), rangeStart, rangeEnd);
+    }
+
+    /**
+     * A method to obtain bytes in the inclusive range [start, end] as a stream
+     *
+     * @param rangeStart zero indexed inclusive start offset; ranges from 0 through (resourceSize -1) both included
+     * @param rangeEnd zero indexed inclusive end offset; ranges from 0 through (resourceSize -1) both included
+     * @return inputStream corresponding to the desired byte range
+     * @throws IOException - any I/O related error is exposed through an IOException
+     */
+    public InputStream getByteRangeAsStream(long rangeStart, long rangeEnd) throws IOException
+    {
+        if (!this.isInTail(rangeStart, rangeEnd))
+        {
+            return this.resourceByteRangeProvider.getByteRangeAsStream(rangeStart, rangeEnd);
+        }
+        return new ByteArrayInputStream(this.getByteRangeAsBytes(rangeStart, rangeEnd));
+    }
+
+    /**
+     * A method to asynchronously obtain bytes in the inclusive range [start, end] as a byte[], the trailing window is
+     * requested asynchronously from the underlying ResourceByteRangeProvider
+     *
+     * @param rangeStart zero indexed inclusive start offset; ranges from 0 through (resourceSize -1) both included
+     * @param rangeEnd zero indexed inclusive end offset; ranges from 0 through (resourceSize -1) both included
+     * @return a future that completes with a byte array containing desired byte range, or exceptionally with the
+     * IOException or RuntimeException that was encountered
+     */
+    @Override
+    public CompletableFuture<byte[]> getByteRangeAsBytesAsync(long rangeStart, long rangeEnd)
+    {
+        if (!this.isInTail(rangeStart, rangeEnd))
+        {
+            return this.resourceByteRangeProvider.getByteRangeAsBytesAsync(rangeStart, rangeEnd);
+        }
+        CompletableFuture<byte[]> tail;
+        synchronized (this)
+        {
+            tail = this.tail;
+            if (tail == null)
+            {
+                CompletableFuture<byte[]> future = this.resourceByteRangeProvider.getByteRangeAsBytesAsync(this.tailStart, this.resourceSize - 1);
+                this.tail = future;
+                tail = future;
+                //a failed read is not cached, so that the next request within the window reads the window again
+                future.whenComplete((bytes, throwable) -> {
+                    if (throwable != null)
+                    {
+                        this.clearTail(future);
+                    }
+                });
+            }
+        }
+        return tail.thenApply(bytes -> this.getRange(bytes, rangeStart, rangeEnd));
+    }
+
+    private synchronized void clearTail(CompletableFuture<byte[]> failedTail)
+    {
+        if (this.tail == failedTail)
+        {
+            this.tail = null;
+        }
+    }
+
+    private boolean isInTail(long rangeStart, long rangeEnd)
+    {
+        return rangeStart >= this.tailStart && rangeStart <= rangeEnd && rangeEnd < this.resourceSize;
+    }
+
+    private byte[] getRange(byte[] tail, long rangeStart, long rangeEnd)
+    {
+        return Arrays.copyOfRange(tail, (int) (rangeStart - this.tailStart), (int) (rangeEnd - this.tailStart + 1));
+    }
+}
@@ -1,7 +1,12 @@
 package com.netflix.imflibrary.utils;
 
+import java.io.IOException;
+import java.io.InterruptedIOException;
 import java.util.Collection;
 import java.util.Iterator;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
 
 /**
  * A stateless class that provides general utility methods
@@ -43,6 +48,41 @@ public final class Utilities {
         return stringBuilder.toString();
     }
 
+    /**
+     * A method that waits for a future, for e.g., one returned by an asynchronous byte range request, and returns its
+     * result. The IOException, RuntimeException or Error with which the future completed is rethrown as is.
+     * @param future - the future to wait for
+     * @param <T> the type of the result
+     * @return the result of the future
+     * @throws IOException - the IOException encountered by the task, or an InterruptedIOException if the calling
+     * thread was interrupted while waiting
+     */
+    public static <T> T getResult(Future<T> future) throws IOException {
+        try {
+            return future.get();
+        }
+        catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while waiting for an asynchronous result");
+        }
+        catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof CompletionException && cause.getCause() != null) {
+                cause = cause.getCause();
+            }
+            if (cause instanceof IOException) {
+                throw (IOException) cause;
+            }
+            else if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            else if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw new IOException(cause);
+        }
+    }
+
     public static String getVersionString(Class<?> theClass)
     {
         String version = "0.0.0";
@@ -0,0 +1,118 @@
+/*
+ *
+ * Copyright 2015 Netflix, Inc.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ *
+ */
+
+package com.netflix.imflibrary.utils;
+
+import javax.annotation.Nullable;
+import javax.xml.namespace.QName;
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * A helper that determines the qualified name of the root element of an XML document by streaming through the document
+ * only until the start tag of the root element has been read. This is considerably cheaper than building a DOM of the
+ * entire document, and is sufficient to identify the kind of an IMF document (CPL, PKL, AssetMap, OPL) and the version of
+ * the schema it claims to conform to.
+ */
+public final class XMLRootElementReader
+{
+    private static final XMLInputFactory xmlInputFactory = createXMLInputFactory();
+
+    private XMLRootElementReader()
+    {
+        //to prevent instantiation
+    }
+
+    /**
+     * Getter for the qualified name of the root element of an XML document
+     *
+     * @param inputStream a stream positioned at the beginning of the XML document, the stream is not closed by this method
+     * @return the namespace URI and local name of the root element, or null if the document does not have a root element
+     * @throws XMLStreamException - if the document is not well-formed up to and including the start tag of the root element
+     */
+    @Nullable
+    public static QName getRootElement(InputStream inputStream) throws XMLStreamException
+    {
+        XMLStreamReader xmlStreamReader = xmlInputFactory.createXMLStreamReader(inputStream);
+        try
+        {
+            while (xmlStreamReader.hasNext())
+            {
+                if (xmlStreamReader.next() == XMLStreamConstants.START_ELEMENT)
+                {
+                    return xmlStreamReader.getName();
+                }
+            }
+            return null;
+        }
+        finally
+        {
+            xmlStreamReader.close();
+        }
+    }
+
+    /**
+     * Getter for the qualified name of the root element of the XML document represented by a ResourceByteRangeProvider
+     *
+     * @param resourceByteRangeProvider corresponding to the XML document
+     * @return the namespace URI and local name of the root element, or null if the document does not have a root element
+     * @throws IOException - any I/O related error is exposed through an IOException
+     * @throws XMLStreamException - if the document is not well-formed up to and including the start tag of the root element
+     */
+    @Nullable
+    public static QName getRootElement(ResourceByteRangeProvider resourceByteRangeProvider) throws IOException, XMLStreamException
+    {
+        try (InputStream inputStream = resourceByteRangeProvider.getByteRangeAsStream(0, resourceByteRangeProvider.getResourceSize() - 1))
+        {
+            return getRootElement(inputStream);
+        }
+    }
+
+    /**
+     * Getter for the version of a SMPTE schema namespace URI, i.e., the last path segment of the URI that consists only of
+     * digits, for e.g., "2016" for "http://www.smpte-ra.org/schemas/2067-2/2016/PKL"
+     *
+     * @param namespaceURI the namespace URI
+     * @return the version, or an empty string if the URI does not contain one
+     */
+    public static String getNamespaceVersion(String namespaceURI)
+    {
+        String[] uriComponents = namespaceURI.split("/");
+        for (int i = uriComponents.length - 1; i >= 0; i--)
+        {
+            if (!uriComponents[i].isEmpty() && uriComponents[i].chars().allMatch(Character::isDigit))
+            {
+                return uriComponents[i];
+            }
+        }
+        return "";
+    }
+
+    private static XMLInputFactory createXMLInputFactory()
+    {
+        XMLInputFactory factory = XMLInputFactory.newInstance();
+        factory.setProperty(XMLInputFactory.IS_NAMESPACE_AWARE, Boolean.TRUE);
+        factory.setProperty(XMLInputFactory.SUPPORT_DTD, Boolean.FALSE);
+        factory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, Boolean.FALSE);
+        return factory;
+    }
+}
@@ -28,6 +28,7 @@ import com.netflix.imflibrary.st2067_2.IMFMarkerType;
 import com.netflix.imflibrary.st2067_2.IMFMarkerVirtualTrack;
 import com.netflix.imflibrary.st2067_2.IMFTrackFileResourceType;
 import com.netflix.imflibrary.utils.ErrorLogger;
+import com.netflix.imflibrary.utils.SchemaRegistry;
 import com.netflix.imflibrary.utils.UUIDHelper;
 import com.netflix.imflibrary.writerTools.utils.IMFUUIDGenerator;
 import com.netflix.imflibrary.writerTools.utils.IMFUtils;
@@ -43,7 +44,6 @@ import org.w3c.dom.Node;
 import org.xml.sax.SAXException;
 
 import javax.annotation.Nonnull;
-import javax.xml.XMLConstants;
 import javax.xml.bind.JAXBContext;
 import javax.xml.bind.JAXBElement;
 import javax.xml.bind.JAXBException;
@@ -52,14 +52,11 @@ import javax.xml.datatype.XMLGregorianCalendar;
 import javax.xml.namespace.QName;
 import javax.xml.parsers.DocumentBuilderFactory;
 import javax.xml.parsers.ParserConfigurationException;
-import javax.xml.transform.stream.StreamSource;
 import javax.xml.validation.Schema;
-import javax.xml.validation.SchemaFactory;
 import java.io.ByteArrayInputStream;
 import java.io.File;
 import java.io.FileOutputStream;
 import java.io.IOException;
-import java.io.InputStream;
 import java.io.OutputStream;
 import java.math.BigInteger;
 import java.net.URISyntaxException;
@@ -264,24 +261,16 @@ public class CompositionPlaylistBuilder_2016 {
 
         int numErrors = imfErrorLogger.getNumberOfErrors();
         boolean formatted = true;
-        ClassLoader contextClassLoader = Thread.currentThread().getContextClassLoader();
         try(
-                InputStream dsigSchemaAsAStream = contextClassLoader.getResourceAsStream("org/w3/_2000_09/xmldsig/xmldsig-core-schema.xsd");
-                InputStream dcmlSchemaAsAStream = contextClassLoader.getResourceAsStream("org/smpte_ra/schemas/st0433_2008/dcmlTypes/dcmlTypes.xsd");
-                InputStream cplSchemaAsAStream = contextClassLoader.getResourceAsStream("org/smpte_ra/schemas/st2067_3_2016/imf-cpl-20160411.xsd");
-                InputStream coreConstraintsSchemaAsAStream = contextClassLoader.getResourceAsStream("org/smpte_ra/schemas/st2067_2_2016/imf-core-constraints-20160411.xsd");
                 OutputStream outputStream = new FileOutputStream(outputFile)
         )
         {
-            SchemaFactory schemaFactory = SchemaFactory.newInstance(XMLConstants.W3C_XML_SCHEMA_NS_URI );
-            StreamSource[] schemaSources = new StreamSource[4];
-            schemaSources[0] = new StreamSource(dsigSchemaAsAStream);
-            schemaSources[1] = new StreamSource(dcmlSchemaAsAStream);
-            schemaSources[2] = new StreamSource(cplSchemaAsAStream);
-            schemaSources[3] = new StreamSource(coreConstraintsSchemaAsAStream);
-            Schema schema = schemaFactory.newSchema(schemaSources);
-
-            JAXBContext jaxbContext = JAXBContext.newInstance("org.smpte_ra.schemas.st2067_2_2016");
+            Schema schema = SchemaRegistry.getSchema("org/w3/_2000_09/xmldsig/xmldsig-core-schema.xsd",
+                    "org/smpte_ra/schemas/st0433_2008/dcmlTypes/dcmlTypes.xsd",
+                    "org/smpte_ra/schemas/st2067_3_2016/imf-cpl-20160411.xsd",
+                    "org/smpte_ra/schemas/st2067_2_2016/imf-core-constraints-20160411.xsd");
+
+            JAXBContext jaxbContext = SchemaRegistry.getJAXBContext("org.smpte_ra.schemas.st2067_2_2016");
             Marshaller marshaller = jaxbContext.createMarshaller();
             ValidationEventHandlerImpl validationEventHandler = new ValidationEventHandlerImpl(true);
             marshaller.setEventHandler(validationEventHandler);
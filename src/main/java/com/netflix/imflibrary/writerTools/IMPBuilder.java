@@ -3,28 +3,22 @@ package com.netflix.imflibrary.writerTools;
 import com.netflix.imflibrary.IMFConstraints;
 import com.netflix.imflibrary.IMFErrorLogger;
 import com.netflix.imflibrary.IMFErrorLoggerImpl;
-import com.netflix.imflibrary.KLVPacket;
 import com.netflix.imflibrary.MXFOperationalPattern1A;
 import com.netflix.imflibrary.exceptions.IMFAuthoringException;
-import com.netflix.imflibrary.exceptions.MXFException;
 import com.netflix.imflibrary.st0377.HeaderPartition;
-import com.netflix.imflibrary.st0377.header.InterchangeObject;
 import com.netflix.imflibrary.st2067_2.AbstractApplicationComposition;
 import com.netflix.imflibrary.st2067_2.Composition;
 import com.netflix.imflibrary.st2067_2.IMFEssenceComponentVirtualTrack;
 import com.netflix.imflibrary.st2067_2.IMFEssenceDescriptorBaseType;
 import com.netflix.imflibrary.st2067_2.IMFTrackFileResourceType;
-import com.netflix.imflibrary.utils.ByteArrayByteRangeProvider;
 import com.netflix.imflibrary.utils.ByteArrayDataProvider;
 import com.netflix.imflibrary.utils.ByteProvider;
 import com.netflix.imflibrary.utils.ErrorLogger;
 import com.netflix.imflibrary.utils.RegXMLLibHelper;
-import com.netflix.imflibrary.utils.ResourceByteRangeProvider;
 import com.netflix.imflibrary.utils.UUIDHelper;
 import com.netflix.imflibrary.utils.Utilities;
 import com.netflix.imflibrary.writerTools.utils.IMFUUIDGenerator;
 import com.netflix.imflibrary.writerTools.utils.IMFUtils;
-import com.sandflow.smpte.klv.Triplet;
 import org.w3c.dom.Document;
 import org.w3c.dom.DocumentFragment;
 import org.w3c.dom.Node;
@@ -38,6 +32,7 @@ import javax.xml.parsers.ParserConfigurationException;
 import java.io.File;
 import java.io.IOException;
 import java.net.URISyntaxException;
+import java.nio.ByteBuffer;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashMap;
@@ -552,30 +547,19 @@ public class IMPBuilder {
                     throw new IMFAuthoringException(String.format("TrackFileHeaderMetadata for Track Resource Id %s within VirtualTrack Id %s is absent", uuid.toString(), virtualTrack.getTrackID()));
                 }
                 ByteProvider byteProvider = new ByteArrayDataProvider(imfTrackFileMetadata.getHeaderPartition());
-                ResourceByteRangeProvider resourceByteRangeProvider = new ByteArrayByteRangeProvider(imfTrackFileMetadata.getHeaderPartition());
                 //Create the HeaderPartition
                 HeaderPartition headerPartition = new HeaderPartition(byteProvider, 0L, (long) imfTrackFileMetadata.getHeaderPartition().length, imfErrorLogger);
 
                 MXFOperationalPattern1A.HeaderPartitionOP1A headerPartitionOP1A = MXFOperationalPattern1A.checkOperationalPattern1ACompliance(headerPartition, imfErrorLogger);
                 IMFConstraints.checkIMFCompliance(headerPartitionOP1A, imfErrorLogger);
-                List<InterchangeObject.InterchangeObjectBO> essenceDescriptors = headerPartition.getEssenceDescriptors();
-                for (InterchangeObject.InterchangeObjectBO essenceDescriptor : essenceDescriptors) {
-                    KLVPacket.Header essenceDescriptorHeader = essenceDescriptor.getHeader();
-                    List<KLVPacket.Header> subDescriptorHeaders = new ArrayList<>();
-                    List<InterchangeObject.InterchangeObjectBO> subDescriptors = headerPartition.getSubDescriptors(essenceDescriptor);
-                    for (InterchangeObject.InterchangeObjectBO subDescriptorBO : subDescriptors) {
-                        if (subDescriptorBO != null) {
-                            subDescriptorHeaders.add(subDescriptorBO.getHeader());
-                        }
-                    }
-                    /*Create a dom*/
-                    DocumentBuilderFactory docFactory = DocumentBuilderFactory.newInstance();
-                    DocumentBuilder docBuilder = docFactory.newDocumentBuilder();
-                    Document document = docBuilder.newDocument();
-
-                    RegXMLLibHelper regXMLLibHelper = new RegXMLLibHelper(headerPartition.getPrimerPack().getHeader(), getByteProvider(resourceByteRangeProvider, headerPartition.getPrimerPack().getHeader()));
-
-                    DocumentFragment documentFragment = getEssenceDescriptorAsDocumentFragment(regXMLLibHelper, document, essenceDescriptorHeader, subDescriptorHeaders, resourceByteRangeProvider, imfErrorLogger);
+                /*Create a dom*/
+                DocumentBuilderFactory docFactory = DocumentBuilderFactory.newInstance();
+                DocumentBuilder docBuilder = docFactory.newDocumentBuilder();
+                Document document = docBuilder.newDocument();
+                document.setXmlStandalone(true);
+
+                List<DocumentFragment> documentFragments = RegXMLLibHelper.getEssenceDescriptorDocumentFragments(headerPartition, ByteBuffer.wrap(imfTrackFileMetadata.getHeaderPartition()), document, imfErrorLogger);
+                for (DocumentFragment documentFragment : documentFragments) {
                     Node node = documentFragment.getFirstChild();
                     imfEssenceDescriptorMap.put(uuid, Arrays.asList(node));
                 }
@@ -584,28 +568,6 @@ public class IMPBuilder {
         return imfEssenceDescriptorMap;
     }
 
-    private static DocumentFragment getEssenceDescriptorAsDocumentFragment(RegXMLLibHelper regXMLLibHelper,
-                                                                           Document document,
-                                                                           KLVPacket.Header essenceDescriptor,
-                                                                           List<KLVPacket.Header>subDescriptors,
-                                                                           ResourceByteRangeProvider resourceByteRangeProvider,
-                                                                           IMFErrorLogger imfErrorLogger) throws MXFException, IOException {
-        document.setXmlStandalone(true);
-
-        Triplet essenceDescriptorTriplet = regXMLLibHelper.getTripletFromKLVHeader(essenceDescriptor, getByteProvider(resourceByteRangeProvider, essenceDescriptor));
-        /*Get the Triplets corresponding to the SubDescriptors*/
-        List<Triplet> subDescriptorTriplets = new ArrayList<>();
-        for(KLVPacket.Header subDescriptorHeader : subDescriptors){
-            subDescriptorTriplets.add(regXMLLibHelper.getTripletFromKLVHeader(subDescriptorHeader, getByteProvider(resourceByteRangeProvider, subDescriptorHeader)));
-        }
-        return regXMLLibHelper.getEssenceDescriptorDocumentFragment(essenceDescriptorTriplet, subDescriptorTriplets, document, imfErrorLogger);
-    }
-
-    private static ByteProvider getByteProvider(ResourceByteRangeProvider resourceByteRangeProvider, KLVPacket.Header header) throws IOException {
-        byte[] bytes = resourceByteRangeProvider.getByteRangeAsBytes(header.getByteOffset(), header.getByteOffset() + header.getKLSize() + header.getVSize());
-        return new ByteArrayDataProvider(bytes);
-    }
-
 
     /**
      * A thin class representing the EssenceMetadata required to construct a CPL document
@@ -23,26 +23,23 @@ import com.netflix.imflibrary.IMFErrorLoggerImpl;
 import com.netflix.imflibrary.exceptions.IMFAuthoringException;
 import com.netflix.imflibrary.exceptions.IMFException;
 import com.netflix.imflibrary.utils.ErrorLogger;
+import com.netflix.imflibrary.utils.SchemaRegistry;
 import com.netflix.imflibrary.utils.UUIDHelper;
 import com.netflix.imflibrary.writerTools.utils.IMFUUIDGenerator;
 import com.netflix.imflibrary.writerTools.utils.ValidationEventHandlerImpl;
 import org.xml.sax.SAXException;
 
 import javax.annotation.Nonnull;
-import javax.xml.XMLConstants;
 import javax.xml.bind.JAXBContext;
 import javax.xml.bind.JAXBElement;
 import javax.xml.bind.JAXBException;
 import javax.xml.bind.Marshaller;
 import javax.xml.datatype.XMLGregorianCalendar;
 import javax.xml.namespace.QName;
-import javax.xml.transform.stream.StreamSource;
 import javax.xml.validation.Schema;
-import javax.xml.validation.SchemaFactory;
 import java.io.File;
 import java.io.FileOutputStream;
 import java.io.IOException;
-import java.io.InputStream;
 import java.io.OutputStream;
 import java.math.BigInteger;
 import java.net.URISyntaxException;
@@ -200,24 +197,18 @@ public class PackingListBuilder {
 
         File outputFile = new File(this.workingDirectory + File.separator + this.pklFileName);
         boolean formatted = true;
-        ClassLoader contextClassLoader = Thread.currentThread().getContextClassLoader();
         try(
-                InputStream packingListSchemaAsAStream = contextClassLoader.getResourceAsStream("org/smpte_ra/schemas/st0429_8_2007/PKL/packingList_schema.xsd");
-                InputStream dsigSchemaAsAStream = contextClassLoader.getResourceAsStream("org/w3/_2000_09/xmldsig/xmldsig-core-schema.xsd");
                 OutputStream outputStream = new FileOutputStream(outputFile);
         )
         {
             try
             {
-                SchemaFactory schemaFactory = SchemaFactory.newInstance(XMLConstants.W3C_XML_SCHEMA_NS_URI);
-                StreamSource[] schemaSources = new StreamSource[2];
-                //The order in which these schema sources are initialized is important because some elements in the
-                //PackingList schema depend on types defined in the DSig schema.
-                schemaSources[0] = new StreamSource(dsigSchemaAsAStream);
-                schemaSources[1] = new StreamSource(packingListSchemaAsAStream);
-                Schema schema = schemaFactory.newSchema(schemaSources);
-
-                JAXBContext jaxbContext = JAXBContext.newInstance("org.smpte_ra.schemas.st0429_8_2007.PKL");
+                //The order of these schema documents is important because some elements in the PackingList schema depend on
+                //types defined in the DSig schema.
+                Schema schema = SchemaRegistry.getSchema("org/w3/_2000_09/xmldsig/xmldsig-core-schema.xsd",
+                        "org/smpte_ra/schemas/st0429_8_2007/PKL/packingList_schema.xsd");
+
+                JAXBContext jaxbContext = SchemaRegistry.getJAXBContext("org.smpte_ra.schemas.st0429_8_2007.PKL");
                 Marshaller marshaller = jaxbContext.createMarshaller();
                 ValidationEventHandlerImpl validationEventHandler = new ValidationEventHandlerImpl(true);
                 marshaller.setEventHandler(validationEventHandler);
@@ -442,22 +433,16 @@ public class PackingListBuilder {
 
         File outputFile = new File(this.workingDirectory + File.separator + this.pklFileName);
         boolean formatted = true;
-        ClassLoader contextClassLoader = Thread.currentThread().getContextClassLoader();
         try(
-                InputStream packingListSchemaAsAStream = contextClassLoader.getResourceAsStream("org/smpte_ra/schemas/st2067_2_2016/PKL/packingList_schema.xsd");
-                InputStream dsigSchemaAsAStream = contextClassLoader.getResourceAsStream("org/w3/_2000_09/xmldsig/xmldsig-core-schema.xsd");
                 OutputStream outputStream = new FileOutputStream(outputFile);
         )
         {
-            SchemaFactory schemaFactory = SchemaFactory.newInstance(XMLConstants.W3C_XML_SCHEMA_NS_URI );
-            StreamSource[] schemaSources = new StreamSource[2];
-            //The order in which these schema sources are initialized is important because some elements in the
-            //PackingList schema depend on types defined in the DSig schema.
-            schemaSources[0] = new StreamSource(dsigSchemaAsAStream);
-            schemaSources[1] = new StreamSource(packingListSchemaAsAStream);
-            Schema schema = schemaFactory.newSchema(schemaSources);
-
-            JAXBContext jaxbContext = JAXBContext.newInstance("org.smpte_ra.schemas.st2067_2_2016.PKL");
+            //The order of these schema documents is important because some elements in the PackingList schema depend on
+            //types defined in the DSig schema.
+            Schema schema = SchemaRegistry.getSchema("org/w3/_2000_09/xmldsig/xmldsig-core-schema.xsd",
+                    "org/smpte_ra/schemas/st2067_2_2016/PKL/packingList_schema.xsd");
+
+            JAXBContext jaxbContext = SchemaRegistry.getJAXBContext("org.smpte_ra.schemas.st2067_2_2016.PKL");
             Marshaller marshaller = jaxbContext.createMarshaller();
             ValidationEventHandlerImpl validationEventHandler = new ValidationEventHandlerImpl(true);
             marshaller.setEventHandler(validationEventHandler);
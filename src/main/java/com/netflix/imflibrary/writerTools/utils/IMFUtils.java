@@ -19,8 +19,9 @@
 package com.netflix.imflibrary.writerTools.utils;
 
 import com.netflix.imflibrary.exceptions.IMFException;
-import com.netflix.imflibrary.utils.FileByteRangeProvider;
+import com.netflix.imflibrary.utils.FileChannelByteRangeProvider;
 import com.netflix.imflibrary.utils.ResourceByteRangeProvider;
+import com.netflix.imflibrary.utils.Utilities;
 import org.smpte_ra.schemas.st2067_2_2013.BaseResourceType;
 import org.smpte_ra.schemas.st2067_2_2013.CompositionPlaylistType;
 import org.xml.sax.SAXException;
@@ -30,22 +31,34 @@ import javax.xml.bind.JAXBException;
 import javax.xml.datatype.DatatypeConfigurationException;
 import javax.xml.datatype.DatatypeFactory;
 import javax.xml.datatype.XMLGregorianCalendar;
+import java.io.EOFException;
 import java.io.File;
 import java.io.FileNotFoundException;
 import java.io.FileOutputStream;
 import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.AsynchronousFileChannel;
+import java.nio.file.StandardOpenOption;
 import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
 import java.util.Arrays;
 import java.util.Base64;
 import java.util.GregorianCalendar;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.TimeZone;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
 
 /**
  * A class that provides utility methods to help with serializing an IMF CPL to an XML document
  */
 public class IMFUtils {
 
+    private static final int HASH_BUFFER_SIZE = 1024 * 1024;
+
     /**
      * Private constructor to prevent instantiation
      */
@@ -96,8 +109,7 @@ public class IMFUtils {
      * @throws IOException - any I/O related error will be exposed through an IOException
      */
     public static byte[] generateSHA1Hash(File file) throws IOException {
-            ResourceByteRangeProvider resourceByteRangeProvider = new FileByteRangeProvider(file);
-            return IMFUtils.generateHash(resourceByteRangeProvider, "SHA-1");
+        return IMFUtils.generateHash(file, "SHA-1");
     }
 
     /**
@@ -133,34 +145,111 @@ public class IMFUtils {
     }
 
     /**
-     * A method to generate a digest of the incoming resource for a given algorithm
+     * A method to generate a digest of the incoming resource for a given algorithm. The resource is read in large chunks,
+     * and directly into a reusable buffer if the resource is represented by a
+     * {@link com.netflix.imflibrary.utils.FileChannelByteRangeProvider}.
      * @param resourceByteRangeProvider representing the resource whose digest is to be generated
      * @param hashAlgorithm the name of the hash algorithm
      * @return a byte[] representing the digest of the resource
      * @throws IOException - any I/O related error will be exposed through an IOException
      */
     public static byte[] generateHash(ResourceByteRangeProvider resourceByteRangeProvider, String hashAlgorithm) throws IOException {
-        try {
-            MessageDigest md = MessageDigest.getInstance(hashAlgorithm);
+        MessageDigest md = getMessageDigest(hashAlgorithm);
+        long resourceSize = resourceByteRangeProvider.getResourceSize();
+        if (resourceByteRangeProvider instanceof FileChannelByteRangeProvider) {
+            FileChannelByteRangeProvider fileChannelByteRangeProvider = (FileChannelByteRangeProvider) resourceByteRangeProvider;
+            ByteBuffer buffer = ByteBuffer.allocateDirect((int) Math.max(1L, Math.min(HASH_BUFFER_SIZE, resourceSize)));
+            long rangeStart = 0;
+            while (rangeStart < resourceSize) {
+                buffer.clear();
+                buffer.limit((int) Math.min(buffer.capacity(), resourceSize - rangeStart));
+                fileChannelByteRangeProvider.read(buffer, rangeStart);
+                buffer.flip();
+                rangeStart += buffer.remaining();
+                md.update(buffer);
+            }
+        }
+        else {
             long rangeStart = 0;
-            long rangeEnd = (rangeStart + 1023 > resourceByteRangeProvider.getResourceSize() - 1)
-                    ? resourceByteRangeProvider.getResourceSize() - 1
-                    : rangeStart + 1023;
+            while (rangeStart < resourceSize) {
+                long rangeEnd = Math.min(rangeStart + HASH_BUFFER_SIZE, resourceSize) - 1;
+                md.update(resourceByteRangeProvider.getByteRangeAsBytes(rangeStart, rangeEnd));
+                rangeStart = rangeEnd + 1;
+            }
+        }
+        return md.digest();
+    }
+
+    /**
+     * A method to generate a digest of a file for a given algorithm. The file is read through a single channel into two
+     * large direct buffers that are used alternately, so that the read of the next chunk of the file is in flight while
+     * the digest of the current chunk is being computed.
+     * @param file the file whose digest is to be generated
+     * @param hashAlgorithm the name of the hash algorithm
+     * @return a byte[] representing the digest of the file
+     * @throws IOException - any I/O related error will be exposed through an IOException
+     */
+    public static byte[] generateHash(File file, String hashAlgorithm) throws IOException {
+        MessageDigest md = getMessageDigest(hashAlgorithm);
+        try (AsynchronousFileChannel asynchronousFileChannel = AsynchronousFileChannel.open(file.toPath(), StandardOpenOption.READ)) {
+            long fileSize = asynchronousFileChannel.size();
+            ByteBuffer[] buffers = new ByteBuffer[2];
+            for (int i = 0; i < buffers.length; i++) {
+                buffers[i] = ByteBuffer.allocateDirect((int) Math.max(1L, Math.min(HASH_BUFFER_SIZE, fileSize)));
+            }
 
-            int nread = 0;
+            long position = 0;
+            int current = 0;
+            Future<Integer> pendingRead = (fileSize > 0) ? asynchronousFileChannel.read(buffers[current], position) : null;
+            while (pendingRead != null) {
+                int numBytesRead = Utilities.getResult(pendingRead);
+                if (numBytesRead < 0) {
+                    throw new EOFException(String.format("Tried to read %d bytes from %s, which ended after reading %d bytes",
+                            fileSize, file.getName(), position));
+                }
+                ByteBuffer buffer = buffers[current];
+                position += numBytesRead;
 
-            while (rangeStart < resourceByteRangeProvider.getResourceSize()
-                    && rangeEnd < resourceByteRangeProvider.getResourceSize()) {
-                byte[] dataBytes = resourceByteRangeProvider.getByteRangeAsBytes(rangeStart, rangeEnd);
-                nread = (int) (rangeEnd - rangeStart + 1);
-                md.update(dataBytes, 0, nread);
-                rangeStart = rangeEnd + 1;
-                rangeEnd = (rangeStart + 1023 > resourceByteRangeProvider.getResourceSize() - 1)
-                        ? resourceByteRangeProvider.getResourceSize() - 1
-                        : rangeStart + 1023;
+                current = 1 - current;
+                buffers[current].clear();
+                pendingRead = (position < fileSize) ? asynchronousFileChannel.read(buffers[current], position) : null;
+
+                buffer.flip();
+                md.update(buffer);
             }
-            byte[] mdbytes = md.digest();
-            return Arrays.copyOf(mdbytes, mdbytes.length);
+        }
+        return md.digest();
+    }
+
+    /**
+     * A method to generate digests of several files concurrently for a given algorithm
+     * @param files the files whose digests are to be generated
+     * @param hashAlgorithm the name of the hash algorithm
+     * @param executor the executor that generates the digests of individual files
+     * @return a map of the files to their digests, in the order in which the files were passed in
+     * @throws IOException - any I/O related error will be exposed through an IOException
+     */
+    public static Map<File, byte[]> generateHashes(List<File> files, String hashAlgorithm, Executor executor) throws IOException {
+        getMessageDigest(hashAlgorithm);
+        Map<File, FutureTask<byte[]>> hashTasks = new LinkedHashMap<>();
+        for (File file : files) {
+            if (!hashTasks.containsKey(file)) {
+                FutureTask<byte[]> hashTask = new FutureTask<>(() -> generateHash(file, hashAlgorithm));
+                hashTasks.put(file, hashTask);
+                executor.execute(hashTask);
+            }
+        }
+
+        Map<File, byte[]> hashes = new LinkedHashMap<>();
+        for (Map.Entry<File, FutureTask<byte[]>> entry : hashTasks.entrySet()) {
+            hashes.put(entry.getKey(), Utilities.getResult(entry.getValue()));
+        }
+        return hashes;
+    }
+
+    private static MessageDigest getMessageDigest(String hashAlgorithm) {
+        try {
+            return MessageDigest.getInstance(hashAlgorithm);
         }
         catch (NoSuchAlgorithmException e){
             throw new IMFException(e);
@@ -0,0 +1,110 @@
+/*
+ * Copyright 2015 Netflix, Inc.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package com.netflix.imflibrary;
+
+import com.netflix.imflibrary.annotations.MXFProperty;
+import com.netflix.imflibrary.exceptions.MXFException;
+import com.netflix.imflibrary.utils.ByteArrayDataProvider;
+import com.netflix.imflibrary.utils.ByteBufferDataProvider;
+import com.netflix.imflibrary.utils.ByteProvider;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+@Test(groups = "unit")
+public class MXFPropertyPopulatorTest
+{
+    private static final byte[] bytes = {(byte)0xff, (byte)0xfe, (byte)0xdc, (byte)0xba, (byte)0x98, 0x76, 0x54, 0x32,
+            (byte)0x80, 0x00, 0x00, 0x01,
+            (byte)0xff, (byte)0xfe,
+            (byte)0xf0,
+            0x01,
+            0x00, 0x41, 0x00, 0x42};
+
+    @Test
+    public void testPopulateField() throws IOException
+    {
+        Properties fromBytes = populate(new ByteArrayDataProvider(bytes));
+        Properties fromByteBuffer = populate(new ByteBufferDataProvider(bytes));
+        for (Properties properties : new Properties[]{fromBytes, fromByteBuffer})
+        {
+            Assert.assertEquals(properties.signedLong, Long.valueOf(0xfffedcba98765432L));
+            Assert.assertEquals(properties.unsignedInt, Long.valueOf(0x80000001L));
+            Assert.assertEquals(properties.unsignedShort, Integer.valueOf(0xfffe));
+            Assert.assertEquals(properties.unsignedByte, Short.valueOf((short)0xf0));
+            Assert.assertEquals(properties.flag, Boolean.TRUE);
+            Assert.assertEquals(properties.name, "AB");
+        }
+    }
+
+    @Test
+    public void testFieldMetadata()
+    {
+        Properties properties = new Properties();
+        Assert.assertEquals(MXFPropertyPopulator.getFieldSizeInBytes(properties, "unsignedInt"), 4);
+        Assert.assertEquals(MXFPropertyPopulator.getFieldCharset(properties, "name"), StandardCharsets.UTF_16);
+        //fields declared in a superclass are resolved as well
+        Assert.assertEquals(MXFPropertyPopulator.getFieldSizeInBytes(properties, "signedLong"), 8);
+    }
+
+    @Test(expectedExceptions = MXFException.class)
+    public void testUnknownField() throws IOException
+    {
+        MXFPropertyPopulator.populateField(new ByteArrayDataProvider(bytes), new Properties(), "unknown");
+    }
+
+    @Test(expectedExceptions = MXFException.class, expectedExceptionsMessageRegExp = "field notAnnotated is not annotated with MXFProperty")
+    public void testFieldNotAnnotated()
+    {
+        MXFPropertyPopulator.getFieldSizeInBytes(new Properties(), "notAnnotated");
+    }
+
+    @Test(expectedExceptions = MXFException.class, expectedExceptionsMessageRegExp = "unknown type = class java.lang.Long, size = 2 combination encountered for field unsignedInt")
+    public void testUnsupportedSize() throws IOException
+    {
+        MXFPropertyPopulator.populateField(2, new ByteArrayDataProvider(bytes), new Properties(), "unsignedInt");
+    }
+
+    private static Properties populate(ByteProvider byteProvider) throws IOException
+    {
+        Properties properties = new Properties();
+        MXFPropertyPopulator.populateField(byteProvider, properties, "signedLong");
+        MXFPropertyPopulator.populateField(byteProvider, properties, "unsignedInt");
+        MXFPropertyPopulator.populateField(byteProvider, properties, "unsignedShort");
+        MXFPropertyPopulator.populateField(byteProvider, properties, "unsignedByte");
+        MXFPropertyPopulator.populateField(byteProvider, properties, "flag");
+        MXFPropertyPopulator.populateField(4, byteProvider, properties, "name");
+        return properties;
+    }
+
+    private static class BaseProperties
+    {
+        @MXFProperty(size=8) protected final Long signedLong = null;
+    }
+
+    private static final class Properties extends BaseProperties
+    {
+        @MXFProperty(size=4) private final Long unsignedInt = null;
+        @MXFProperty(size=2) private final Integer unsignedShort = null;
+        @MXFProperty(size=1) private final Short unsignedByte = null;
+        @MXFProperty(size=1) private final Boolean flag = null;
+        @MXFProperty(size=0, charset="UTF-16") private final String name = null;
+        private final Long notAnnotated = null;
+    }
+}
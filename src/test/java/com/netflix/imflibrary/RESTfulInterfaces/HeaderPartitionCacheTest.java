@@ -0,0 +1,93 @@
+/*
+ * Copyright 2015 Netflix, Inc.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package com.netflix.imflibrary.RESTfulInterfaces;
+
+import com.netflix.imflibrary.IMFErrorLogger;
+import com.netflix.imflibrary.IMFErrorLoggerImpl;
+import com.netflix.imflibrary.st0377.HeaderPartition;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+import testUtils.TestHelper;
+
+import java.io.IOException;
+import java.nio.file.Files;
+
+@Test(groups = "unit")
+public class HeaderPartitionCacheTest
+{
+    private static PayloadRecord getPayloadRecord(String path) throws IOException
+    {
+        byte[] bytes = Files.readAllBytes(TestHelper.findResourceByPath(path).toPath());
+        return new PayloadRecord(bytes, PayloadRecord.PayloadAssetType.EssencePartition, 0L, (long) bytes.length);
+    }
+
+    @Test
+    public void testCacheHit() throws IOException
+    {
+        PayloadRecord payloadRecord = getPayloadRecord("TestIMP/Netflix_Sony_Plugfest_2015/Netflix_Plugfest_Oct2015_ENG20.mxf.hdr");
+        HeaderPartitionCache headerPartitionCache = new HeaderPartitionCache();
+
+        IMFErrorLogger imfErrorLogger = new IMFErrorLoggerImpl();
+        HeaderPartition headerPartition = headerPartitionCache.getHeaderPartition(payloadRecord, imfErrorLogger);
+        Assert.assertEquals(headerPartitionCache.getMissCount(), 1);
+        Assert.assertEquals(headerPartitionCache.getHitCount(), 0);
+        Assert.assertEquals(headerPartitionCache.size(), 1);
+        Assert.assertEquals(headerPartitionCache.getWeight(), payloadRecord.getPayload().length);
+
+        //an equal payload from a different record is served from the cache, along with the errors recorded while parsing it
+        IMFErrorLogger otherErrorLogger = new IMFErrorLoggerImpl();
+        Assert.assertSame(headerPartitionCache.getHeaderPartition(getPayloadRecord("TestIMP/Netflix_Sony_Plugfest_2015/Netflix_Plugfest_Oct2015_ENG20.mxf.hdr"), otherErrorLogger), headerPartition);
+        Assert.assertEquals(headerPartitionCache.getMissCount(), 1);
+        Assert.assertEquals(headerPartitionCache.getHitCount(), 1);
+        Assert.assertEquals(otherErrorLogger.getErrors(), imfErrorLogger.getErrors());
+
+        headerPartitionCache.invalidateAll();
+        Assert.assertEquals(headerPartitionCache.size(), 0);
+        Assert.assertEquals(headerPartitionCache.getWeight(), 0);
+        Assert.assertNotSame(headerPartitionCache.getHeaderPartition(payloadRecord, new IMFErrorLoggerImpl()), headerPartition);
+        Assert.assertEquals(headerPartitionCache.getMissCount(), 2);
+    }
+
+    @Test
+    public void testEviction() throws IOException
+    {
+        PayloadRecord payloadRecord1 = getPayloadRecord("TestIMP/Netflix_Sony_Plugfest_2015/Netflix_Plugfest_Oct2015_ENG20.mxf.hdr");
+        PayloadRecord payloadRecord2 = getPayloadRecord("TestIMP/Netflix_Sony_Plugfest_2015/Netflix_Plugfest_Oct2015_LAS20.mxf.hdr");
+        HeaderPartitionCache headerPartitionCache = new HeaderPartitionCache(Math.max(payloadRecord1.getPayload().length, payloadRecord2.getPayload().length));
+
+        headerPartitionCache.getHeaderPartition(payloadRecord1, new IMFErrorLoggerImpl());
+        headerPartitionCache.getHeaderPartition(payloadRecord2, new IMFErrorLoggerImpl());
+        Assert.assertEquals(headerPartitionCache.size(), 1);
+        Assert.assertEquals(headerPartitionCache.getWeight(), payloadRecord2.getPayload().length);
+
+        //the least recently used entry was evicted
+        headerPartitionCache.getHeaderPartition(payloadRecord2, new IMFErrorLoggerImpl());
+        Assert.assertEquals(headerPartitionCache.getHitCount(), 1);
+        headerPartitionCache.getHeaderPartition(payloadRecord1, new IMFErrorLoggerImpl());
+        Assert.assertEquals(headerPartitionCache.getMissCount(), 3);
+
+        HeaderPartitionCache emptyCache = new HeaderPartitionCache(0);
+        Assert.assertNotNull(emptyCache.getHeaderPartition(payloadRecord1, new IMFErrorLoggerImpl()));
+        Assert.assertEquals(emptyCache.size(), 0);
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void testNegativeMaximumWeight()
+    {
+        new HeaderPartitionCache(-1);
+    }
+}
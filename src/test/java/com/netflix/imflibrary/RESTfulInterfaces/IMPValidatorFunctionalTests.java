@@ -58,6 +58,8 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.stream.Collectors;
 
 @Test(groups = "functional")
@@ -305,6 +307,33 @@ public class IMPValidatorFunctionalTests {
         Assert.assertTrue(errors.get(0).toString().contains("ERROR-EssenceDescriptorID 3febc096-8727-495d-8715-bb5398d98cfe in the CPL EssenceDescriptorList is not referenced by any resource in any of the Virtual tracks in the CPL"));
     }
 
+    @Test
+    public void cplConformanceExecutorTest() throws IOException {
+
+        File inputFile = TestHelper.findResourceByPath("TestIMP/Netflix_Sony_Plugfest_2015/CPL_BLACKL_202_HD_REC709_178_ENG_fe8cf2f4-1bcd-4145-8f72-6775af4038c4.xml");
+        byte[] bytes = Files.readAllBytes(inputFile.toPath());
+        PayloadRecord cplPayloadRecord = new PayloadRecord(bytes, PayloadRecord.PayloadAssetType.CompositionPlaylist, 0L, (long) bytes.length);
+
+        List<PayloadRecord> essencesHeaderPartition = new ArrayList<>();
+        for (String path : new String[]{"TestIMP/Netflix_Sony_Plugfest_2015/Netflix_Plugfest_Oct2015_ENG20.mxf.hdr",
+                "TestIMP/Netflix_Sony_Plugfest_2015/Netflix_Plugfest_Oct2015_ENG51.mxf.hdr",
+                "TestIMP/Netflix_Sony_Plugfest_2015/Netflix_Plugfest_Oct2015.mxf.hdr"}) {
+            bytes = Files.readAllBytes(TestHelper.findResourceByPath(path).toPath());
+            essencesHeaderPartition.add(new PayloadRecord(bytes, PayloadRecord.PayloadAssetType.EssencePartition, 0L, (long) bytes.length));
+        }
+
+        List<ErrorLogger.ErrorObject> errors = IMPValidator.conformVirtualTracksInCPL(cplPayloadRecord, essencesHeaderPartition, true);
+        ExecutorService executorService = Executors.newFixedThreadPool(3);
+        try {
+            List<ErrorLogger.ErrorObject> parallelErrors = IMPValidator.conformVirtualTracksInCPL(cplPayloadRecord, essencesHeaderPartition, true, new HeaderPartitionCache(), executorService);
+            Assert.assertTrue(errors.size() > 0);
+            Assert.assertEquals(parallelErrors, errors);
+        }
+        finally {
+            executorService.shutdown();
+        }
+    }
+
     @Test
     public void cplVirtualTrackConformanceNegativeTest() throws IOException, SAXException, JAXBException, URISyntaxException {
 
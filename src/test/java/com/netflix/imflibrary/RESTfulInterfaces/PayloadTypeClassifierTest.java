@@ -0,0 +1,67 @@
+/*
+ * Copyright 2015 Netflix, Inc.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package com.netflix.imflibrary.RESTfulInterfaces;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+import testUtils.TestHelper;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+
+@Test(groups = "unit")
+public class PayloadTypeClassifierTest
+{
+    private static PayloadTypeClassifier.Classification classify(String path) throws IOException
+    {
+        return PayloadTypeClassifier.classify(Files.readAllBytes(TestHelper.findResourceByPath(path).toPath()));
+    }
+
+    @Test
+    public void testClassifyIMFDocuments() throws IOException
+    {
+        PayloadTypeClassifier.Classification classification = classify("TestIMP/NYCbCrLT_3840x2160x23.98x10min/ASSETMAP.xml");
+        Assert.assertEquals(classification.getPayloadAssetType(), PayloadRecord.PayloadAssetType.AssetMap);
+        Assert.assertEquals(classification.getSchemaVersion(), "2007");
+
+        classification = classify("TestIMP/NYCbCrLT_3840x2160x23.98x10min/PKL_0429fedd-b55d-442a-aa26-2a81ec71ed05.xml");
+        Assert.assertEquals(classification.getPayloadAssetType(), PayloadRecord.PayloadAssetType.PackingList);
+        Assert.assertEquals(classification.getNamespaceURI(), "http://www.smpte-ra.org/schemas/429-8/2007/PKL");
+        Assert.assertEquals(classification.getSchemaVersion(), "2007");
+
+        classification = classify("TestIMP/NYCbCrLT_3840x2160x23.98x10min/CPL_a453b63a-cf4d-454a-8c34-141f560c0100.xml");
+        Assert.assertEquals(classification.getPayloadAssetType(), PayloadRecord.PayloadAssetType.CompositionPlaylist);
+        Assert.assertEquals(classification.getSchemaVersion(), "2013");
+
+        classification = classify("TestIMP/OPL/OPL_8cf83c32-4949-4f00-b081-01e12b18932f.xml");
+        Assert.assertEquals(classification.getPayloadAssetType(), PayloadRecord.PayloadAssetType.OutputProfileList);
+        Assert.assertEquals(classification.getSchemaVersion(), "2014");
+    }
+
+    @Test
+    public void testClassifyUnknownDocuments() throws IOException
+    {
+        PayloadTypeClassifier.Classification classification = PayloadTypeClassifier.classify(
+                "<PackingList xmlns=\"http://example.com/PKL\"/>".getBytes(StandardCharsets.UTF_8));
+        Assert.assertEquals(classification.getPayloadAssetType(), PayloadRecord.PayloadAssetType.Unknown);
+
+        classification = PayloadTypeClassifier.classify("not xml".getBytes(StandardCharsets.UTF_8));
+        Assert.assertEquals(classification.getPayloadAssetType(), PayloadRecord.PayloadAssetType.Unknown);
+        Assert.assertEquals(classification.getSchemaVersion(), "");
+    }
+}
@@ -18,7 +18,11 @@ package com.netflix.imflibrary.app;
 
 import com.netflix.imflibrary.IMFErrorLogger;
 import com.netflix.imflibrary.IMFErrorLoggerImpl;
+import com.netflix.imflibrary.st0377.IndexTable;
 import com.netflix.imflibrary.exceptions.MXFException;
+import com.netflix.imflibrary.st2067_2.ApplicationComposition;
+import com.netflix.imflibrary.st2067_2.ApplicationCompositionFactory;
+import com.netflix.imflibrary.st2067_2.TrackFileByteRange;
 import org.testng.Assert;
 import org.testng.annotations.Test;
 import testUtils.TestHelper;
@@ -28,6 +32,10 @@ import com.netflix.imflibrary.utils.ResourceByteRangeProvider;
 import java.io.File;
 import java.io.IOException;
 import java.nio.file.Files;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
 
 import static org.mockito.Mockito.*;
 
@@ -44,6 +52,94 @@ public class IMFTrackFileReaderTest
         Assert.assertTrue(imfTrackFileReader.toString().length() > 0);
     }
 
+    @Test
+    public void indexTableTest() throws IOException
+    {
+        File workingDirectory = Files.createTempDirectory(null).toFile();
+        IMFErrorLogger imfErrorLogger = new IMFErrorLoggerImpl();
+
+        //clip-wrapped audio with a constant edit unit byte count, the last edit unit ends where the footer partition starts
+        File inputFile = TestHelper.findResourceByPath("TearsOfSteel_4k_Test_Master_Audio_002.mxf");
+        IMFTrackFileReader imfTrackFileReader = new IMFTrackFileReader(workingDirectory, new FileByteRangeProvider(inputFile));
+        IndexTable indexTable = imfTrackFileReader.getIndexTable(imfErrorLogger);
+        Assert.assertTrue(indexTable.hasConstantEditUnitByteCount());
+        Assert.assertEquals(indexTable.getDuration(), imfTrackFileReader.getEssenceDuration(imfErrorLogger).longValue());
+        Assert.assertEquals(indexTable.getEditUnitSize(10), 6L);
+        Assert.assertEquals(indexTable.getByteOffset(11) - indexTable.getByteOffset(10), 6L);
+        List<Long> partitionByteOffsets = imfTrackFileReader.getRandomIndexPack(imfErrorLogger).getAllPartitionByteOffsets();
+        Assert.assertEquals(indexTable.getByteOffset(indexTable.getDuration() - 1) + 6, partitionByteOffsets.get(partitionByteOffsets.size() - 1).longValue());
+
+        //frame-wrapped video with variable size edit units, every edit unit starts with the key of a picture element
+        inputFile = TestHelper.findResourceByPath("TestIMP/Application5/PhotonApp5Test/reel1.mxf");
+        ResourceByteRangeProvider resourceByteRangeProvider = new FileByteRangeProvider(inputFile);
+        imfTrackFileReader = new IMFTrackFileReader(workingDirectory, resourceByteRangeProvider);
+        indexTable = imfTrackFileReader.getIndexTable(imfErrorLogger);
+        Assert.assertFalse(indexTable.hasConstantEditUnitByteCount());
+        Assert.assertEquals(indexTable.getDuration(), 4L);
+        for (long editUnit = 0; editUnit < indexTable.getDuration(); editUnit++)
+        {
+            byte[] key = resourceByteRangeProvider.getByteRangeAsBytes(indexTable.getByteOffset(editUnit), indexTable.getByteOffset(editUnit) + 11);
+            Assert.assertEquals(key, new byte[]{0x06, 0x0e, 0x2b, 0x34, 0x01, 0x02, 0x01, 0x01, 0x0d, 0x01, 0x03, 0x01});
+            Assert.assertEquals(indexTable.getByteOffset(editUnit) + indexTable.getEditUnitSize(editUnit),
+                    (editUnit + 1 < indexTable.getDuration()) ? indexTable.getByteOffset(editUnit + 1) : 1063772L);
+        }
+
+        File indexTableFile = new File(workingDirectory, "index");
+        indexTable.writeTo(indexTableFile);
+        IndexTable mappedIndexTable = IndexTable.readFrom(indexTableFile);
+        Assert.assertEquals(mappedIndexTable.getDuration(), indexTable.getDuration());
+        for (long editUnit = 0; editUnit < indexTable.getDuration(); editUnit++)
+        {
+            Assert.assertEquals(mappedIndexTable.getByteOffset(editUnit), indexTable.getByteOffset(editUnit));
+            Assert.assertEquals(mappedIndexTable.getEditUnitSize(editUnit), indexTable.getEditUnitSize(editUnit));
+            Assert.assertEquals(mappedIndexTable.getFlags(editUnit), indexTable.getFlags(editUnit));
+        }
+        Assert.assertTrue(indexTableFile.delete());
+    }
+
+    @Test
+    public void trackFileByteRangesTest() throws IOException
+    {
+        File workingDirectory = Files.createTempDirectory(null).toFile();
+        IMFErrorLogger imfErrorLogger = new IMFErrorLoggerImpl();
+        ApplicationComposition applicationComposition = ApplicationCompositionFactory.getApplicationComposition(
+                TestHelper.findResourceByPath("TestIMP/Application5/PhotonApp5Test/CPL_804316e9-4d12-432c-a6be-052c29204b73.xml"), imfErrorLogger);
+        UUID reel1 = UUID.fromString("467334be-4343-430b-9a39-a4fe5a333b3e");
+        UUID reel2 = UUID.fromString("34a5ae67-63ba-401d-a9f1-6c4b86d73d5b");
+        UUID audio = UUID.fromString("060fe563-18d5-48d4-9148-1bfba4262ae2");
+        Map<UUID, String> paths = new HashMap<>();
+        paths.put(reel1, "reel1.mxf");
+        paths.put(reel2, "reel2.mxf");
+        paths.put(audio, "WAV_060fe563-18d5-48d4-9148-1bfba4262ae2.mxf");
+        Map<UUID, IndexTable> indexTables = new HashMap<>();
+        for (Map.Entry<UUID, String> entry : paths.entrySet())
+        {
+            MXFEssenceReader mxfEssenceReader = new MXFEssenceReader(workingDirectory,
+                    new FileByteRangeProvider(TestHelper.findResourceByPath("TestIMP/Application5/PhotonApp5Test/" + entry.getValue())));
+            indexTables.put(entry.getKey(), mxfEssenceReader.getIndexTable());
+        }
+
+        //the video virtual track plays the 4 edit units of reel1 followed by the 4 edit units of reel2
+        List<TrackFileByteRange> trackFileByteRanges = applicationComposition.getTrackFileByteRanges(
+                applicationComposition.getVideoVirtualTrack().getTrackID(), 1L, 7L, indexTables);
+        Assert.assertEquals(trackFileByteRanges.size(), 2);
+        Assert.assertEquals(trackFileByteRanges.get(0).getTrackFileId(), reel1);
+        Assert.assertEquals(trackFileByteRanges.get(0).getRangeStart(), indexTables.get(reel1).getByteOffset(1L));
+        Assert.assertEquals(trackFileByteRanges.get(0).getRangeEnd(), indexTables.get(reel1).getByteOffset(3L) + indexTables.get(reel1).getEditUnitSize(3L) - 1);
+        Assert.assertEquals(trackFileByteRanges.get(1).getTrackFileId(), reel2);
+        Assert.assertEquals(trackFileByteRanges.get(1).getRangeStart(), indexTables.get(reel2).getByteOffset(0L));
+        Assert.assertEquals(trackFileByteRanges.get(1).getRangeEnd(), indexTables.get(reel2).getByteOffset(2L) + indexTables.get(reel2).getEditUnitSize(2L) - 1);
+
+        //2 composition edit units of audio at 24000/1001 correspond to 4004 samples at 48000/1
+        trackFileByteRanges = applicationComposition.getTrackFileByteRanges(
+                applicationComposition.getAudioVirtualTracks().get(0).getTrackID(), 1L, 3L, indexTables);
+        Assert.assertEquals(trackFileByteRanges.size(), 1);
+        Assert.assertEquals(trackFileByteRanges.get(0).getRangeStart(), indexTables.get(audio).getByteOffset(2002L));
+        Assert.assertEquals(trackFileByteRanges.get(0).getSize(), 4004L * indexTables.get(audio).getEditUnitSize(0L));
+
+        Assert.assertTrue(applicationComposition.getTrackFileByteRanges(applicationComposition.getVideoVirtualTrack().getTrackID(), 8L, 10L, indexTables).isEmpty());
+    }
+
     @Test(expectedExceptions = MXFException.class, expectedExceptionsMessageRegExp = "RandomIndexPackSize = .*")
     public void badRandomIndexPackLength() throws IOException
     {
@@ -51,7 +147,7 @@ public class IMFTrackFileReaderTest
         File workingDirectory = Files.createTempDirectory(null).toFile();
         ResourceByteRangeProvider resourceByteRangeProvider = mock(ResourceByteRangeProvider.class);
         when(resourceByteRangeProvider.getResourceSize()).thenReturn(16L);
-        when(resourceByteRangeProvider.getByteRange(anyLong(), anyLong(), any(File.class))).thenReturn(inputFile);
+        when(resourceByteRangeProvider.getByteRangeAsBytes(anyLong(), anyLong())).thenReturn(Files.readAllBytes(inputFile.toPath()));
         IMFTrackFileReader imfTrackFileReader = new IMFTrackFileReader(workingDirectory, resourceByteRangeProvider);
         IMFErrorLogger imfErrorLogger = new IMFErrorLoggerImpl();
         imfTrackFileReader.getRandomIndexPack(imfErrorLogger);
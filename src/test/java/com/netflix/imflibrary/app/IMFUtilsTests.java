@@ -20,6 +20,7 @@ import com.netflix.imflibrary.IMFErrorLogger;
 import com.netflix.imflibrary.IMFErrorLoggerImpl;
 import com.netflix.imflibrary.exceptions.IMFException;
 import com.netflix.imflibrary.utils.FileByteRangeProvider;
+import com.netflix.imflibrary.utils.FileChannelByteRangeProvider;
 import com.netflix.imflibrary.utils.ResourceByteRangeProvider;
 import com.netflix.imflibrary.writerTools.utils.IMFUtils;
 import org.testng.Assert;
@@ -30,6 +31,11 @@ import java.io.File;
 import java.io.IOException;
 import java.nio.file.Files;
 import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 @Test(groups = "unit")
 public class IMFUtilsTests {
@@ -49,4 +55,36 @@ public class IMFUtilsTests {
         ResourceByteRangeProvider resourceByteRangeProvider = new FileByteRangeProvider(inputFile);
         IMFUtils.generateHash(resourceByteRangeProvider, "SHA-12");
     }
+
+    @Test
+    public void generateHashFromProvidersTest() throws IOException
+    {
+        File inputFile = TestHelper.findResourceByPath("TearsOfSteel_4k_Test_Master_Audio_002.mxf");
+        byte[] expected = Base64.getDecoder().decode("fKE0Ukl/nR4ZSQiG43SziGDLDZ4=");
+        Assert.assertEquals(IMFUtils.generateHash(new FileByteRangeProvider(inputFile), "SHA-1"), expected);
+        try (FileChannelByteRangeProvider resourceByteRangeProvider = new FileChannelByteRangeProvider(inputFile))
+        {
+            Assert.assertEquals(IMFUtils.generateHash(resourceByteRangeProvider, "SHA-1"), expected);
+        }
+        Assert.assertEquals(IMFUtils.generateHash(inputFile, "SHA-1"), expected);
+    }
+
+    @Test
+    public void generateHashesTest() throws IOException
+    {
+        File audioFile = TestHelper.findResourceByPath("TearsOfSteel_4k_Test_Master_Audio_002.mxf");
+        File xmlFile = TestHelper.findResourceByPath("PKL_e788efe2-1782-4b09-b56d-1336da2413d5.xml");
+        ExecutorService executorService = Executors.newFixedThreadPool(2);
+        try
+        {
+            Map<File, byte[]> hashes = IMFUtils.generateHashes(Arrays.asList(xmlFile, audioFile), "SHA-1", executorService);
+            Assert.assertEquals(hashes.keySet().toArray(), new File[]{xmlFile, audioFile});
+            Assert.assertEquals(hashes.get(xmlFile), IMFUtils.generateHash(new FileByteRangeProvider(xmlFile), "SHA-1"));
+            Assert.assertEquals(new String(IMFUtils.generateBase64Encode(hashes.get(audioFile))), "fKE0Ukl/nR4ZSQiG43SziGDLDZ4=");
+        }
+        finally
+        {
+            executorService.shutdown();
+        }
+    }
 }
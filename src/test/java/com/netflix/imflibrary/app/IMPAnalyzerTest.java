@@ -1,5 +1,6 @@
 package com.netflix.imflibrary.app;
 
+import com.netflix.imflibrary.RESTfulInterfaces.HeaderPartitionCache;
 import com.netflix.imflibrary.utils.ErrorLogger;
 import org.testng.Assert;
 import org.testng.annotations.Test;
@@ -9,6 +10,10 @@ import java.io.File;
 import java.io.IOException;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static com.netflix.imflibrary.app.IMPAnalyzer.analyzePackage;
 
@@ -32,4 +37,61 @@ public class IMPAnalyzerTest
         );
 
     }
+
+    @Test
+    public void IMPAnalyzerParallelTest() throws IOException
+    {
+        File inputFile = TestHelper.findResourceByPath("TestIMP/MERIDIAN_Netflix_Photon_161006/");
+        Map<String, List<ErrorLogger.ErrorObject>> errorMap = analyzePackage(inputFile);
+        ExecutorService executorService = Executors.newFixedThreadPool(4);
+        try
+        {
+            Assert.assertEquals(analyzePackage(inputFile, executorService), errorMap);
+        }
+        finally
+        {
+            executorService.shutdown();
+        }
+    }
+
+    @Test
+    public void IMPAnalyzerOverlappingReadsTest() throws IOException
+    {
+        File inputFile = TestHelper.findResourceByPath("TestIMP/MERIDIAN_Netflix_Photon_161006/");
+        Map<String, List<ErrorLogger.ErrorObject>> errorMap = analyzePackage(inputFile);
+        ExecutorService executorService = Executors.newFixedThreadPool(4);
+        ExecutorService ioExecutorService = Executors.newFixedThreadPool(4);
+        AtomicInteger readsInFlight = new AtomicInteger();
+        AtomicInteger maxReadsInFlight = new AtomicInteger();
+        Executor ioExecutor = command -> ioExecutorService.execute(() -> {
+            maxReadsInFlight.accumulateAndGet(readsInFlight.incrementAndGet(), Math::max);
+            try
+            {
+                //every read takes a while, as it would on high latency storage
+                Thread.sleep(10);
+            }
+            catch (InterruptedException e)
+            {
+                Thread.currentThread().interrupt();
+            }
+            try
+            {
+                command.run();
+            }
+            finally
+            {
+                readsInFlight.decrementAndGet();
+            }
+        });
+        try
+        {
+            Assert.assertEquals(analyzePackage(inputFile, executorService, ioExecutor, new HeaderPartitionCache()), errorMap);
+            Assert.assertTrue(maxReadsInFlight.get() > 1);
+        }
+        finally
+        {
+            executorService.shutdown();
+            ioExecutorService.shutdown();
+        }
+    }
 }
@@ -49,6 +49,9 @@ import java.io.File;
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Paths;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 
 public class HeaderPartitionTest
@@ -288,4 +291,52 @@ public class HeaderPartitionTest
             0x00, 0x00, 0x00, 0x00, 0x00, 0x00, 0x00, 0x00, 0x00, 0x00, 0x00, 0x00, 0x00, 0x00, 0x00, 0x00
     }));
     }
+
+    @Test
+    public void resolveOrderTest()
+    {
+        List<HeaderPartition.Node> nodes = createNodes(5);
+        //0 depends on 1 and 2, 1 depends on 3, 2 depends on 3, 4 has no dependencies
+        nodes.get(0).addDependency(nodes.get(1));
+        nodes.get(0).addDependency(nodes.get(2));
+        nodes.get(1).addDependency(nodes.get(3));
+        nodes.get(2).addDependency(nodes.get(3));
+        List<HeaderPartition.Node> resolvedNodes = HeaderPartition.resolve(nodes);
+        Assert.assertEquals(resolvedNodes, Arrays.asList(nodes.get(3), nodes.get(1), nodes.get(2), nodes.get(0), nodes.get(4)));
+    }
+
+    @Test
+    public void resolveLongDependencyChainTest()
+    {
+        int numNodes = 200000;
+        List<HeaderPartition.Node> nodes = createNodes(numNodes);
+        for (int i = 0; i < numNodes - 1; i++)
+        {
+            nodes.get(i).addDependency(nodes.get(i + 1));
+        }
+        List<HeaderPartition.Node> resolvedNodes = HeaderPartition.resolve(nodes);
+        Assert.assertEquals(resolvedNodes.size(), numNodes);
+        Assert.assertEquals(resolvedNodes.get(0).getUID(), nodes.get(numNodes - 1).getUID());
+        Assert.assertEquals(resolvedNodes.get(numNodes - 1).getUID(), nodes.get(0).getUID());
+    }
+
+    @Test(expectedExceptions = MXFException.class, expectedExceptionsMessageRegExp = "Cycle detected")
+    public void resolveCycleTest()
+    {
+        List<HeaderPartition.Node> nodes = createNodes(3);
+        nodes.get(0).addDependency(nodes.get(1));
+        nodes.get(1).addDependency(nodes.get(2));
+        nodes.get(2).addDependency(nodes.get(0));
+        HeaderPartition.resolve(nodes);
+    }
+
+    private static List<HeaderPartition.Node> createNodes(int numNodes)
+    {
+        List<HeaderPartition.Node> nodes = new ArrayList<>();
+        for (int i = 0; i < numNodes; i++)
+        {
+            nodes.add(new HeaderPartition.Node(new MXFUID(ByteBuffer.allocate(16).putInt(i).array())));
+        }
+        return nodes;
+    }
 }
@@ -18,6 +18,7 @@ package com.netflix.imflibrary.st0377;
 
 import com.netflix.imflibrary.KLVPacket;
 import com.netflix.imflibrary.utils.ByteArrayDataProvider;
+import com.netflix.imflibrary.utils.ByteBufferDataProvider;
 import com.netflix.imflibrary.utils.ByteProvider;
 import org.testng.Assert;
 import org.testng.annotations.Test;
@@ -25,6 +26,7 @@ import testUtils.TestHelper;
 
 import java.io.File;
 import java.io.IOException;
+import java.nio.ByteBuffer;
 import java.nio.file.Files;
 import java.nio.file.Paths;
 
@@ -42,4 +44,30 @@ public class IndexTableSegmentTest
         Assert.assertEquals(indexTableSegment.getIndexEntries().size(), 96);
         Assert.assertEquals(indexTableSegment.getIndexEntries().get(1).getStreamOffset(), 28127L);
     }
+
+    @Test
+    public void indexEntryArrayTest() throws IOException
+    {
+        File inputFile = TestHelper.findResourceByPath("Netflix_Ident_23976_3840x2160_177AR.mxf.idx");
+        byte[] bytes = Files.readAllBytes(Paths.get(inputFile.toURI()));
+        ByteProvider byteProvider = new ByteArrayDataProvider(bytes);
+        IndexTableSegment indexTableSegment = new IndexTableSegment(byteProvider, new KLVPacket.Header(byteProvider, 0L));
+
+        ByteBufferDataProvider byteBufferDataProvider = new ByteBufferDataProvider(ByteBuffer.wrap(bytes));
+        KLVPacket.Header header = new KLVPacket.Header(byteBufferDataProvider, 0L);
+        IndexTableSegment.IndexEntryArray indexEntryArray = new IndexTableSegment(byteBufferDataProvider, header).getIndexEntryArray();
+        Assert.assertNotNull(indexEntryArray);
+        Assert.assertEquals(indexEntryArray.size(), 96);
+        Assert.assertEquals(indexEntryArray.getStreamOffset(1), 28127L);
+
+        //the columns decoded through either kind of provider match the list view of the index entries
+        for (int i = 0; i < indexEntryArray.size(); i++)
+        {
+            IndexTableSegment.IndexEntryArray.IndexEntry indexEntry = indexTableSegment.getIndexEntries().get(i);
+            Assert.assertEquals(indexEntryArray.getStreamOffset(i), indexEntry.getStreamOffset());
+            Assert.assertEquals(indexEntryArray.getFlags(i), indexEntry.getFlags());
+            Assert.assertEquals(indexTableSegment.getIndexEntryArray().getTemporalOffset(i), indexEntryArray.getTemporalOffset(i));
+            Assert.assertEquals(indexTableSegment.getIndexEntryArray().getKeyFrameOffset(i), indexEntryArray.getKeyFrameOffset(i));
+        }
+    }
 }
@@ -0,0 +1,111 @@
+/*
+ * Copyright 2015 Netflix, Inc.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package com.netflix.imflibrary.st0377.header;
+
+import com.netflix.imflibrary.IMFErrorLoggerImpl;
+import com.netflix.imflibrary.KLVPacket;
+import com.netflix.imflibrary.utils.ByteArrayDataProvider;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.HashMap;
+
+@Test(groups = "unit")
+public class StructuralMetadataTest
+{
+    private static final byte[] PHDR_METADATA_TRACK_SUBDESCRIPTOR = {0x06, 0x0e, 0x2b, 0x34, 0x02, 0x53, 0x01, 0x05, 0x0e, 0x09, 0x06, 0x07, 0x01, 0x01, 0x01, 0x03};
+
+    private static byte[] getSetKey(int registryDesignator, int version, int setKind)
+    {
+        return new byte[]{0x06, 0x0e, 0x2b, 0x34, 0x02, (byte)registryDesignator, 0x01, (byte)version, 0x0d, 0x01, 0x01, 0x01, 0x01, 0x01, (byte)setKind, 0x00};
+    }
+
+    private static KLVPacket.Header getHeader(byte[] key) throws IOException
+    {
+        byte[] bytes = new byte[KLVPacket.KEY_FIELD_SIZE + 1];
+        System.arraycopy(key, 0, bytes, 0, KLVPacket.KEY_FIELD_SIZE);
+        return new KLVPacket.Header(new ByteArrayDataProvider(bytes), 0L);
+    }
+
+    @Test
+    public void testKeyHalves() throws IOException
+    {
+        KLVPacket.Header header = getHeader(PHDR_METADATA_TRACK_SUBDESCRIPTOR);
+        ByteBuffer byteBuffer = ByteBuffer.wrap(PHDR_METADATA_TRACK_SUBDESCRIPTOR);
+        Assert.assertEquals(header.getKeyMostSignificantBits(), byteBuffer.getLong(0));
+        Assert.assertEquals(header.getKeyLeastSignificantBits(), byteBuffer.getLong(8));
+    }
+
+    @Test
+    public void testSetLookupMasksRegistryDesignatorAndVersion() throws IOException
+    {
+        for (int registryDesignator : new int[]{0x53, 0x13})
+        {
+            for (int version : new int[]{0x00, 0x01, 0x02})
+            {
+                byte[] key = getSetKey(registryDesignator, version, 0x2f);
+                Assert.assertTrue(StructuralMetadata.isStructuralMetadata(key));
+                Assert.assertEquals(StructuralMetadata.getStructuralMetadataSetClass(key), Preface.PrefaceBO.class);
+                Assert.assertNotNull(StructuralMetadata.getStructuralMetadataSetFactory(getHeader(key)));
+            }
+        }
+        Assert.assertEquals(StructuralMetadata.getStructuralMetadataSetClass(PHDR_METADATA_TRACK_SUBDESCRIPTOR),
+                PHDRMetaDataTrackSubDescriptor.PHDRMetaDataTrackSubDescriptorBO.class);
+        Assert.assertEquals(StructuralMetadata.getStructuralMetadataSetClass(getSetKey(0x53, 0x01, 0x48)),
+                WaveAudioEssenceDescriptor.WaveAudioEssenceDescriptorBO.class);
+    }
+
+    @Test
+    public void testSetLookupMisses() throws IOException
+    {
+        //invalid registry designator
+        byte[] key = getSetKey(0x01, 0x01, 0x2f);
+        Assert.assertEquals(StructuralMetadata.getStructuralMetadataSetClass(key), Object.class);
+        Assert.assertNull(StructuralMetadata.getStructuralMetadataSetFactory(getHeader(key)));
+
+        //Identification is not read
+        key = getSetKey(0x53, 0x01, 0x30);
+        Assert.assertTrue(StructuralMetadata.isStructuralMetadata(key));
+        Assert.assertEquals(StructuralMetadata.getStructuralMetadataSetClass(key), Object.class);
+        Assert.assertNull(StructuralMetadata.getStructuralMetadataSetFactory(getHeader(key)));
+
+        //unknown set
+        key = getSetKey(0x53, 0x01, 0x7f);
+        Assert.assertEquals(StructuralMetadata.getStructuralMetadataSetClass(key), Object.class);
+        Assert.assertNull(StructuralMetadata.getStructuralMetadataSetFactory(getHeader(key)));
+
+        //the PHDR Metadata Track SubDescriptor key is matched exactly, including bytes 5 and 7
+        for (int i : new int[]{5, 7})
+        {
+            key = PHDR_METADATA_TRACK_SUBDESCRIPTOR.clone();
+            key[i] = (i == 5) ? (byte)0x13 : (byte)0x01;
+            Assert.assertFalse(StructuralMetadata.isStructuralMetadata(key));
+            Assert.assertEquals(StructuralMetadata.getStructuralMetadataSetClass(key), Object.class);
+            Assert.assertNull(StructuralMetadata.getStructuralMetadataSetFactory(getHeader(key)));
+        }
+    }
+
+    @Test(expectedExceptions = IOException.class, expectedExceptionsMessageRegExp = "No matching constructor for class FileDescriptorBO")
+    public void testAbstractSetFactory() throws IOException
+    {
+        KLVPacket.Header header = getHeader(getSetKey(0x53, 0x01, 0x25));
+        Assert.assertEquals(StructuralMetadata.getStructuralMetadataSetClass(header.getKey()), FileDescriptor.FileDescriptorBO.class);
+        StructuralMetadata.getStructuralMetadataSetFactory(header).create(header, new ByteArrayDataProvider(new byte[0]), new HashMap<>(), new IMFErrorLoggerImpl());
+    }
+}
@@ -2,7 +2,9 @@ package com.netflix.imflibrary.st2067_2;
 
 import com.netflix.imflibrary.IMFErrorLogger;
 import com.netflix.imflibrary.IMFErrorLoggerImpl;
+import com.netflix.imflibrary.utils.DOMNodeObjectModel;
 import com.netflix.imflibrary.utils.FileByteRangeProvider;
+import com.netflix.imflibrary.utils.UUIDHelper;
 import com.netflix.imflibrary.writerTools.CompositionPlaylistBuilder_2013;
 import com.netflix.imflibrary.writerTools.utils.IMFUUIDGenerator;
 import org.testng.Assert;
@@ -62,6 +64,27 @@ public class CompositionTest
     }
 
 
+    @Test
+    public void compositionEssenceDescriptorLookupTest() throws IOException {
+        File inputFile = TestHelper.findResourceByPath
+                ("TestIMP/Netflix_Sony_Plugfest_2015/CPL_BLACKL_202_HD_REC709_178_LAS_8fad47bb-ab01-4f0d-a08c-d1e6c6cb62b4.xml");
+        IMFErrorLogger imfErrorLogger = new IMFErrorLoggerImpl();
+        ApplicationComposition applicationComposition = ApplicationCompositionFactory.getApplicationComposition(inputFile, imfErrorLogger);
+        Assert.assertNotNull(applicationComposition.getVideoVirtualTrack());
+        Assert.assertTrue(applicationComposition.getAudioVirtualTracks().size() > 0);
+        Assert.assertEquals(applicationComposition.getEssenceVirtualTracks().size(), 1 + applicationComposition.getAudioVirtualTracks().size());
+        Assert.assertNotNull(applicationComposition.getMarkerVirtualTrack());
+
+        for (IMFEssenceComponentVirtualTrack virtualTrack : applicationComposition.getEssenceVirtualTracks()) {
+            for (IMFTrackFileResourceType trackFileResource : virtualTrack.getTrackFileResourceList()) {
+                DOMNodeObjectModel essenceDescriptor = applicationComposition.getEssenceDescriptor(UUIDHelper.fromUUIDAsURNStringToUUID(trackFileResource.getTrackFileId()));
+                Assert.assertNotNull(essenceDescriptor);
+                Assert.assertTrue(applicationComposition.getEssenceDescriptors().contains(essenceDescriptor));
+            }
+        }
+        Assert.assertNull(applicationComposition.getEssenceDescriptor(UUID.randomUUID()));
+    }
+
     @Test
     public void compositionNegativeTestInconsistentURI() throws IOException {
         File inputFile = TestHelper.findResourceByPath
@@ -0,0 +1,122 @@
+package com.netflix.imflibrary.st2067_2;
+
+import com.netflix.imflibrary.IMFErrorLoggerImpl;
+import com.netflix.imflibrary.writerTools.CompositionPlaylistBuilder_2013;
+import com.netflix.imflibrary.writerTools.utils.IMFUUIDGenerator;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+import testUtils.TestHelper;
+
+import java.io.File;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+
+@Test(groups = "unit")
+public class VirtualTrackTimelineTest
+{
+    @Test
+    public void resourcePositionTest()
+    {
+        //Resources of 10 x 2, 5 x 1 and 4 x 3 edit units at 48000/1 in a 24/1 composition
+        IMFEssenceComponentVirtualTrack virtualTrack = new IMFEssenceComponentVirtualTrack(UUID.randomUUID(), Composition.SequenceTypeEnum.MainAudioSequence,
+                Arrays.asList(getResource(100L, 10L, 2L), getResource(0L, 5L, 1L), getResource(20L, 4L, 3L)),
+                new Composition.EditRate(24L, 1L));
+        VirtualTrackTimeline timeline = virtualTrack.getTimeline();
+        Assert.assertEquals(timeline.getDuration(), 37L);
+        Assert.assertEquals(timeline.getDuration(), virtualTrack.getDurationInTrackEditRateUnits());
+        Assert.assertEquals(timeline.getResourceOffset(2), 25L);
+
+        VirtualTrackTimeline.ResourcePosition resourcePosition = timeline.getResourcePosition(13L);
+        Assert.assertEquals(resourcePosition.getResourceIndex(), 0);
+        Assert.assertEquals(resourcePosition.getRepeatIndex(), 1L);
+        Assert.assertEquals(resourcePosition.getEditUnit(), 103L);
+
+        resourcePosition = timeline.getResourcePosition(20L);
+        Assert.assertEquals(resourcePosition.getResourceIndex(), 1);
+        Assert.assertEquals(resourcePosition.getRepeatIndex(), 0L);
+        Assert.assertEquals(resourcePosition.getEditUnit(), 0L);
+
+        resourcePosition = timeline.getResourcePosition(36L);
+        Assert.assertEquals(resourcePosition.getResourceIndex(), 2);
+        Assert.assertEquals(resourcePosition.getRepeatIndex(), 2L);
+        Assert.assertEquals(resourcePosition.getEditUnit(), 23L);
+
+        Assert.assertNull(timeline.getResourcePosition(37L));
+        Assert.assertNull(timeline.getResourcePosition(-1L));
+
+        //1/48000 s per track edit unit, 1/24 s per composition edit unit
+        Assert.assertEquals(timeline.getResourcePosition(21L, 48000L).getTrackEditUnit(), 21L);
+        Assert.assertNull(timeline.getResourcePositionForCompositionEditUnit(1L));
+        Assert.assertEquals(timeline.getResourcePositionForCompositionEditUnit(0L).getEditUnit(), 100L);
+    }
+
+    @Test
+    public void resourceSlicesTest()
+    {
+        IMFEssenceComponentVirtualTrack virtualTrack = new IMFEssenceComponentVirtualTrack(UUID.randomUUID(), Composition.SequenceTypeEnum.MainImageSequence,
+                Arrays.asList(getResource(100L, 10L, 2L), getResource(0L, 5L, 1L), getResource(20L, 4L, 3L)),
+                new Composition.EditRate(48000L, 1L));
+        List<VirtualTrackTimeline.ResourceSlice> resourceSlices = virtualTrack.getTimeline().getResourceSlices(5L, 27L);
+        Assert.assertEquals(resourceSlices.size(), 4);
+        long[][] expectedSlices = {{0, 0, 105, 5, 5}, {0, 1, 100, 10, 10}, {1, 0, 0, 5, 20}, {2, 0, 20, 2, 25}};
+        long duration = 0;
+        for (int i = 0; i < resourceSlices.size(); i++)
+        {
+            VirtualTrackTimeline.ResourceSlice resourceSlice = resourceSlices.get(i);
+            Assert.assertEquals(resourceSlice.getResourceIndex(), expectedSlices[i][0]);
+            Assert.assertEquals(resourceSlice.getRepeatIndex(), expectedSlices[i][1]);
+            Assert.assertEquals(resourceSlice.getStartEditUnit(), expectedSlices[i][2]);
+            Assert.assertEquals(resourceSlice.getDuration(), expectedSlices[i][3]);
+            Assert.assertEquals(resourceSlice.getTrackEditUnit(), expectedSlices[i][4]);
+            duration += resourceSlice.getDuration();
+        }
+        Assert.assertEquals(duration, 22L);
+        Assert.assertEquals(virtualTrack.getTimeline().getResourceSlicesForCompositionEditUnits(0L, 100L).size(), 6);
+        Assert.assertTrue(virtualTrack.getTimeline().getResourceSlices(37L, 40L).isEmpty());
+    }
+
+    @Test
+    public void compositionTimelineTest() throws Exception
+    {
+        File inputFile = TestHelper.findResourceByPath("TestIMP/Netflix_Sony_Plugfest_2015/CPL_BLACKL_202_HD_REC709_178_LAS_8fad47bb-ab01-4f0d-a08c-d1e6c6cb62b4_corrected.xml");
+        ApplicationComposition applicationComposition = ApplicationCompositionFactory.getApplicationComposition(inputFile, new IMFErrorLoggerImpl());
+        for (IMFEssenceComponentVirtualTrack virtualTrack : applicationComposition.getEssenceVirtualTracks())
+        {
+            VirtualTrackTimeline timeline = virtualTrack.getTimeline();
+            Assert.assertEquals(timeline.getDuration(), virtualTrack.getDurationInTrackEditRateUnits());
+
+            //Every position resolves to the same resource as a linear walk over the resource list
+            long position = 0;
+            List<IMFTrackFileResourceType> resources = virtualTrack.getTrackFileResourceList();
+            for (int i = 0; i < resources.size(); i++)
+            {
+                IMFTrackFileResourceType resource = resources.get(i);
+                VirtualTrackTimeline.ResourcePosition resourcePosition = timeline.getResourcePosition(position + resource.getDuration() - 1);
+                Assert.assertEquals(resourcePosition.getResourceIndex(), i);
+                Assert.assertEquals(resourcePosition.getEditUnit(), resource.getEntryPoint().longValue() + resource.getSourceDuration().longValue() - 1);
+                position += resource.getDuration();
+            }
+            Assert.assertEquals(timeline.getResourceSlices(0L, timeline.getDuration()).size(), resources.stream().mapToLong(e -> e.getRepeatCount().longValue()).sum());
+        }
+    }
+
+    private static IMFTrackFileResourceType getResource(long entryPoint, long sourceDuration, long repeatCount)
+    {
+        List<Long> editRate = new ArrayList<>();
+        editRate.add(48000L);
+        editRate.add(1L);
+        return new IMFTrackFileResourceType(IMFUUIDGenerator.getInstance().generateUUID().toString(),
+                IMFUUIDGenerator.getInstance().getUrnUUID(),
+                editRate,
+                BigInteger.valueOf(entryPoint + sourceDuration),
+                BigInteger.valueOf(entryPoint),
+                BigInteger.valueOf(sourceDuration),
+                BigInteger.valueOf(repeatCount),
+                IMFUUIDGenerator.getInstance().generateUUID().toString(),
+                new byte[16],
+                CompositionPlaylistBuilder_2013.defaultHashAlgorithm);
+    }
+}
@@ -0,0 +1,85 @@
+/*
+ * Copyright 2015 Netflix, Inc.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package com.netflix.imflibrary.utils;
+
+import com.netflix.imflibrary.RESTfulInterfaces.PayloadRecord;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+
+@Test(groups = "unit")
+public class ByteBufferByteRangeProviderTest
+{
+    private static final byte[] KEYBOARD = "qwertyuiopasdfghjklzxcvbnm".getBytes(StandardCharsets.US_ASCII);
+
+    @Test
+    public void testGetByteRange() throws IOException
+    {
+        ByteBuffer byteBuffer = ByteBuffer.wrap(KEYBOARD);
+        byteBuffer.position(1);
+        ResourceByteRangeProvider resourceByteRangeProvider = new ByteBufferByteRangeProvider(byteBuffer);
+        Assert.assertEquals(byteBuffer.position(), 1);
+        Assert.assertEquals(resourceByteRangeProvider.getResourceSize(), 25L);
+        Assert.assertEquals(new String(resourceByteRangeProvider.getByteRangeAsBytes(2, 8), StandardCharsets.US_ASCII), "rtyuiop");
+
+        File workingDirectory = Files.createTempDirectory(null).toFile();
+        File file = resourceByteRangeProvider.getByteRange(2, 8, workingDirectory);
+        Assert.assertEquals(new String(Files.readAllBytes(file.toPath()), StandardCharsets.US_ASCII), "rtyuiop");
+        Assert.assertTrue(file.delete());
+        Assert.assertTrue(workingDirectory.delete());
+
+        try (InputStream inputStream = resourceByteRangeProvider.getByteRangeAsStream(22, 24))
+        {
+            Assert.assertEquals(inputStream.available(), 3);
+            Assert.assertEquals(inputStream.read(), 'b');
+            Assert.assertEquals(inputStream.skip(1), 1L);
+            Assert.assertEquals(inputStream.read(), 'm');
+            Assert.assertEquals(inputStream.read(), -1);
+            Assert.assertEquals(inputStream.skip(10), 0L);
+        }
+    }
+
+    @Test
+    public void testPayloadRecordIsNotCopied() throws IOException
+    {
+        byte[] bytes = KEYBOARD.clone();
+        PayloadRecord payloadRecord = new PayloadRecord(ByteBuffer.wrap(bytes), PayloadRecord.PayloadAssetType.Unknown, 0L, (long) bytes.length);
+        Assert.assertTrue(payloadRecord.getPayloadBuffer().isReadOnly());
+        Assert.assertEquals(payloadRecord.getPayloadSize(), bytes.length);
+
+        bytes[0] = 'Q';
+        Assert.assertEquals(payloadRecord.getPayloadBuffer().get(0), (byte) 'Q');
+        Assert.assertEquals(new ByteBufferByteRangeProvider(payloadRecord.getPayloadBuffer()).getByteRangeAsBytes(0, 2), "Qwe".getBytes(StandardCharsets.US_ASCII));
+
+        //the byte[] constructor and getter retain their copying semantics
+        payloadRecord = new PayloadRecord(bytes, PayloadRecord.PayloadAssetType.Unknown, 0L, (long) bytes.length);
+        bytes[0] = 'q';
+        Assert.assertEquals(payloadRecord.getPayload()[0], (byte) 'Q');
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void testInvalidRange() throws IOException
+    {
+        new ByteBufferByteRangeProvider(ByteBuffer.wrap(KEYBOARD)).getByteRangeAsStream(10, 26);
+    }
+}
@@ -0,0 +1,126 @@
+/*
+ * Copyright 2015 Netflix, Inc.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package com.netflix.imflibrary.utils;
+
+import com.netflix.imflibrary.KLVPacket;
+import com.netflix.imflibrary.exceptions.MXFException;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+
+@Test(groups = "unit")
+public class ByteBufferDataProviderTest
+{
+    @Test
+    public void testPrimitiveReaders() throws IOException
+    {
+        byte[] bytes = {(byte)0xff, 0x12, 0x34, (byte)0xfe, (byte)0xdc, (byte)0xba, (byte)0x98,
+                0x00, 0x00, 0x00, 0x00, 0x00, 0x00, 0x01, 0x00};
+        ByteBufferProvider byteBufferProvider = new ByteBufferDataProvider(bytes);
+        Assert.assertEquals(byteBufferProvider.readUnsignedByte(), 0xff);
+        Assert.assertEquals(byteBufferProvider.readUnsignedShort(), 0x1234);
+        Assert.assertEquals(byteBufferProvider.readUnsignedInt(), 0xfedcba98L);
+        Assert.assertEquals(byteBufferProvider.readLong(), 0x100L);
+        Assert.assertEquals(byteBufferProvider.getPosition(), 15L);
+    }
+
+    @Test
+    public void testReadBERLength() throws IOException
+    {
+        byte[] bytes = {0x7f, (byte)0x83, 0x01, 0x00, 0x00, 0x10};
+        ByteBufferProvider byteBufferProvider = new ByteBufferDataProvider(bytes);
+        Assert.assertEquals(byteBufferProvider.readBERLength(), 0x7fL);
+        Assert.assertEquals(byteBufferProvider.readBERLength(), 0x010000L);
+        Assert.assertEquals(byteBufferProvider.getPosition(), 5L);
+        Assert.assertEquals(byteBufferProvider.readBERLength(), 0x10L);
+    }
+
+    @Test(expectedExceptions = MXFException.class)
+    public void testReadBERLengthNonDeterministic() throws IOException
+    {
+        new ByteBufferDataProvider(new byte[]{(byte)0x80}).readBERLength();
+    }
+
+    @Test
+    public void testKLVPacketHeader() throws IOException
+    {
+        byte[] bytes = new byte[20];
+        for (int i = 0; i < KLVPacket.KEY_FIELD_SIZE; i++)
+        {
+            bytes[i] = (byte)i;
+        }
+        bytes[16] = (byte)0x83;
+        bytes[19] = 0x2a;
+
+        KLVPacket.Header fastHeader = new KLVPacket.Header(new ByteBufferDataProvider(bytes), 0L);
+        KLVPacket.Header header = new KLVPacket.Header(new GenericByteProvider(bytes), 0L);
+        Assert.assertEquals(fastHeader.getKey(), header.getKey());
+        Assert.assertEquals(fastHeader.getVSize(), header.getVSize());
+        Assert.assertEquals(fastHeader.getLSize(), header.getLSize());
+        Assert.assertEquals(fastHeader.getLSize(), 4L);
+        Assert.assertEquals(fastHeader.getVSize(), 42L);
+    }
+
+    @Test
+    public void testGetByteBufferIsAView() throws IOException
+    {
+        byte[] bytes = {0x01, 0x02, 0x03, 0x04, 0x05};
+        ByteBufferProvider byteBufferProvider = new ByteBufferDataProvider(ByteBuffer.wrap(bytes, 1, 4));
+        ByteBuffer view = byteBufferProvider.getByteBuffer(3);
+        Assert.assertTrue(view.isReadOnly());
+        Assert.assertEquals(view.remaining(), 3);
+        Assert.assertEquals(view.get(0), 0x02);
+        bytes[2] = 0x33;
+        Assert.assertEquals(view.get(1), 0x33);
+        Assert.assertEquals(byteBufferProvider.getBytes(1), new byte[]{0x05});
+    }
+
+    @Test(expectedExceptions = IOException.class, expectedExceptionsMessageRegExp = "Cannot read .*")
+    public void testReadPastEnd() throws IOException
+    {
+        ByteBufferProvider byteBufferProvider = new ByteBufferDataProvider(new byte[3]);
+        byteBufferProvider.readUnsignedShort();
+        byteBufferProvider.readUnsignedShort();
+    }
+
+    /**
+     * A ByteProvider that does not implement ByteBufferProvider, used to exercise the generic code paths
+     */
+    private static final class GenericByteProvider implements ByteProvider
+    {
+        private final ByteArrayDataProvider delegate;
+
+        private GenericByteProvider(byte[] bytes)
+        {
+            this.delegate = new ByteArrayDataProvider(bytes);
+        }
+
+        @Override
+        public byte[] getBytes(int totalNumBytesToRead) throws IOException
+        {
+            return this.delegate.getBytes(totalNumBytesToRead);
+        }
+
+        @Override
+        public void skipBytes(long totalNumBytesToSkip) throws IOException
+        {
+            this.delegate.skipBytes(totalNumBytesToSkip);
+        }
+    }
+}
@@ -119,4 +119,31 @@ public class DOMNodeObjectModelTest {
         }
         Assert.assertTrue(result == true);
     }
+
+    @Test
+    public void domNodeObjectModelFingerprintTest() throws IOException, ParserConfigurationException {
+        File inputFile1 = TestHelper.findResourceByPath("TestIMP/Netflix_Sony_Plugfest_2015/Netflix_Plugfest_Oct2015_ENG20.mxf.hdr");
+        File inputFile2 = TestHelper.findResourceByPath("TestIMP/Netflix_Sony_Plugfest_2015/Netflix_Plugfest_Oct2015_ENG51.mxf.hdr");
+
+        DOMNodeObjectModel model1 = setUp(inputFile1).get(0);
+        DOMNodeObjectModel model2 = setUp(inputFile1).get(0);
+        DOMNodeObjectModel model3 = setUp(inputFile2).get(0);
+
+        Assert.assertEquals(model1, model2);
+        Assert.assertEquals(model1.getFingerprint(), model2.getFingerprint());
+        Assert.assertEquals(model1.hashCode(), model2.hashCode());
+        Assert.assertNotEquals(model1.getFingerprint(), model3.getFingerprint());
+        Assert.assertNotEquals(model1, model3);
+
+        Set<String> ignoreSet = new HashSet<>();
+        ignoreSet.add("InstanceUID");
+        DOMNodeObjectModel model1WOInstanceUID = DOMNodeObjectModel.createDOMNodeObjectModelIgnoreSet(model1, ignoreSet);
+        Assert.assertNotEquals(model1.getFingerprint(), model1WOInstanceUID.getFingerprint());
+        Assert.assertEquals(model1WOInstanceUID.getFingerprint(), DOMNodeObjectModel.createDOMNodeObjectModelIgnoreSet(model2, ignoreSet).getFingerprint());
+
+        Set<DOMNodeObjectModel> models = new HashSet<>();
+        models.add(model1);
+        Assert.assertTrue(models.contains(model2));
+        Assert.assertFalse(models.contains(model3));
+    }
 }
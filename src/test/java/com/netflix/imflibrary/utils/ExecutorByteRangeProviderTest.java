@@ -0,0 +1,96 @@
+/*
+ * Copyright 2015 Netflix, Inc.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package com.netflix.imflibrary.utils;
+
+import com.netflix.imflibrary.app.IMPAnalyzer;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+import testUtils.TestHelper;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+@Test(groups = "unit")
+public class ExecutorByteRangeProviderTest
+{
+    private static final byte[] KEYBOARD = "qwertyuiopasdfghjklzxcvbnm".getBytes(StandardCharsets.US_ASCII);
+
+    @Test
+    public void testGetByteRangesAsync() throws IOException
+    {
+        ExecutorService executorService = Executors.newFixedThreadPool(3);
+        try
+        {
+            ResourceByteRangeProvider resourceByteRangeProvider = new ExecutorByteRangeProvider(new ByteArrayByteRangeProvider(KEYBOARD), executorService);
+            Assert.assertEquals(resourceByteRangeProvider.getResourceSize(), 26L);
+            Assert.assertEquals(new String(Utilities.getResult(resourceByteRangeProvider.getByteRangeAsBytesAsync(2, 8)),
+                    StandardCharsets.US_ASCII), "ertyuio");
+
+            List<byte[]> ranges = Utilities.getResult(resourceByteRangeProvider.getByteRangesAsBytesAsync(Arrays.asList(
+                    new ResourceByteRangeProvider.ByteRange(23, 25), new ResourceByteRangeProvider.ByteRange(0, 0), new ResourceByteRangeProvider.ByteRange(10, 12))));
+            List<String> strings = new ArrayList<>();
+            for (byte[] range : ranges)
+            {
+                strings.add(new String(range, StandardCharsets.US_ASCII));
+            }
+            Assert.assertEquals(strings, Arrays.asList("bnm", "q", "asd"));
+        }
+        finally
+        {
+            executorService.shutdown();
+        }
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void testGetByteRangesAsyncInvalidRange() throws IOException
+    {
+        ExecutorService executorService = Executors.newSingleThreadExecutor();
+        try
+        {
+            ResourceByteRangeProvider resourceByteRangeProvider = new ExecutorByteRangeProvider(new ByteArrayByteRangeProvider(KEYBOARD), executorService);
+            Utilities.getResult(resourceByteRangeProvider.getByteRangesAsBytesAsync(Arrays.asList(
+                    new ResourceByteRangeProvider.ByteRange(0, 3), new ResourceByteRangeProvider.ByteRange(20, 26))));
+        }
+        finally
+        {
+            executorService.shutdown();
+        }
+    }
+
+    @Test
+    public void testValidateEssencePartition() throws IOException
+    {
+        File inputFile = TestHelper.findResourceByPath("TestIMP/MERIDIAN_Netflix_Photon_161006/MERIDIAN_Netflix_Photon_161006_ENG-51_00.mxf");
+        ExecutorService executorService = Executors.newFixedThreadPool(4);
+        try (FileChannelByteRangeProvider fileChannelByteRangeProvider = new FileChannelByteRangeProvider(inputFile))
+        {
+            Assert.assertEquals(new HashSet<>(IMPAnalyzer.validateEssencePartition(new ExecutorByteRangeProvider(fileChannelByteRangeProvider, executorService))),
+                    new HashSet<>(IMPAnalyzer.validateEssencePartition(new FileByteRangeProvider(inputFile))));
+        }
+        finally
+        {
+            executorService.shutdown();
+        }
+    }
+}
@@ -82,4 +82,24 @@ public class FileByteRangeProviderTest
         Assert.assertEquals("rtyuiop", bufferedReader.readLine());
     }
 
+    @Test
+    public void testGetByteRangeUniqueFiles() throws IOException
+    {
+        File workingDirectory = Files.createTempDirectory(null).toFile();
+        File file1 = this.fileByteRangeProvider.getByteRange(0, 1, workingDirectory);
+        File file2 = this.fileByteRangeProvider.getByteRange(24, 25, workingDirectory);
+        Assert.assertNotEquals(file1, file2);
+        Assert.assertEquals(file1.getParentFile(), workingDirectory);
+        Assert.assertEquals(Files.readAllBytes(file1.toPath()), "qw".getBytes());
+        Assert.assertEquals(Files.readAllBytes(file2.toPath()), "nm".getBytes());
+    }
+
+    @Test
+    public void testGetByteProvider() throws IOException
+    {
+        File workingDirectory = Files.createTempDirectory(null).toFile();
+        ByteProvider byteProvider = ResourceByteRangeProvider.Utilities.getByteProvider(this.fileByteRangeProvider, 3, 9, workingDirectory);
+        Assert.assertEquals(byteProvider.getBytes(7), "rtyuiop".getBytes());
+        Assert.assertEquals(workingDirectory.list().length, 0);
+    }
 }
@@ -0,0 +1,138 @@
+/*
+ * Copyright 2015 Netflix, Inc.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package com.netflix.imflibrary.utils;
+
+import org.testng.Assert;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+import testUtils.TestHelper;
+
+import java.io.*;
+import java.nio.file.Files;
+import java.util.Arrays;
+
+@Test(groups = "unit")
+public class FileChannelByteRangeProviderTest
+{
+    private File file;
+    private FileChannelByteRangeProvider fileChannelByteRangeProvider;
+
+    @BeforeClass
+    public void setUp() throws Exception
+    {
+        String keyboard = "qwertyuiopasdfghjklzxcvbnm";
+        this.file = File.createTempFile("test_file",".tmp");
+        try (FileWriter fileWriter = new FileWriter(this.file))
+        {
+            fileWriter.write(keyboard);
+        }
+        this.fileChannelByteRangeProvider = new FileChannelByteRangeProvider(this.file);
+    }
+
+    @AfterClass
+    public void tearDown() throws Exception
+    {
+        this.fileChannelByteRangeProvider.close();
+        Assert.assertTrue(this.file.delete());
+    }
+
+    @Test
+    public void testGetResourceSize()
+    {
+        Assert.assertEquals(26L, this.fileChannelByteRangeProvider.getResourceSize());
+    }
+
+    @Test
+    public void testGetByteRangeWithRangeStart() throws IOException
+    {
+        File workingDirectory = Files.createTempDirectory(null).toFile();
+        File file = this.fileChannelByteRangeProvider.getByteRange(24, workingDirectory);
+        Assert.assertEquals(2L, file.length());
+        BufferedReader bufferedReader = new BufferedReader(new FileReader(file));
+        Assert.assertEquals("nm", bufferedReader.readLine());
+    }
+
+    @Test
+    public void testGetByteRange() throws IOException
+    {
+        File workingDirectory = Files.createTempDirectory(null).toFile();
+        File file = this.fileChannelByteRangeProvider.getByteRange(3, 9, workingDirectory);
+        Assert.assertEquals(7L, file.length());
+        BufferedReader bufferedReader = new BufferedReader(new FileReader(file));
+        Assert.assertEquals("rtyuiop", bufferedReader.readLine());
+    }
+
+    @Test
+    public void testGetByteRangeAsBytes() throws IOException
+    {
+        Assert.assertEquals(new String(this.fileChannelByteRangeProvider.getByteRangeAsBytes(3, 9)), "rtyuiop");
+        Assert.assertEquals(new String(this.fileChannelByteRangeProvider.getByteRangeAsBytes(25, 25)), "m");
+        Assert.assertEquals(new String(this.fileChannelByteRangeProvider.getByteRangeAsBytes(0, 1)), "qw");
+    }
+
+    @Test
+    public void testMatchesFileByteRangeProvider() throws IOException
+    {
+        File inputFile = TestHelper.findResourceByPath("TearsOfSteel_4k_Test_Master_Audio_002.mxf");
+        ResourceByteRangeProvider fileByteRangeProvider = new FileByteRangeProvider(inputFile);
+        try (FileChannelByteRangeProvider fileChannelByteRangeProvider = new FileChannelByteRangeProvider(inputFile))
+        {
+            long resourceSize = fileByteRangeProvider.getResourceSize();
+            Assert.assertEquals(fileChannelByteRangeProvider.getResourceSize(), resourceSize);
+            Assert.assertEquals(fileChannelByteRangeProvider.getByteRangeAsBytes(resourceSize - 4, resourceSize - 1),
+                    fileByteRangeProvider.getByteRangeAsBytes(resourceSize - 4, resourceSize - 1));
+            Assert.assertEquals(fileChannelByteRangeProvider.getByteRangeAsBytes(0, 65535),
+                    fileByteRangeProvider.getByteRangeAsBytes(0, 65535));
+        }
+    }
+
+    @Test
+    public void testGetByteRangeAsStream() throws IOException
+    {
+        File inputFile = TestHelper.findResourceByPath("TearsOfSteel_4k_Test_Master_Audio_002.mxf");
+        ResourceByteRangeProvider fileByteRangeProvider = new FileByteRangeProvider(inputFile);
+        byte[] expected = fileByteRangeProvider.getByteRangeAsBytes(100, 65535);
+        try (FileChannelByteRangeProvider fileChannelByteRangeProvider = new FileChannelByteRangeProvider(inputFile))
+        {
+            for (ResourceByteRangeProvider resourceByteRangeProvider : new ResourceByteRangeProvider[]{fileByteRangeProvider, fileChannelByteRangeProvider})
+            {
+                try (InputStream inputStream = resourceByteRangeProvider.getByteRangeAsStream(100, 65535))
+                {
+                    Assert.assertEquals(inputStream.skip(10), 10L);
+                    Assert.assertEquals(inputStream.read(), expected[10] & 0xff);
+                    ByteArrayOutputStream byteArrayOutputStream = new ByteArrayOutputStream();
+                    byte[] buffer = new byte[5000];
+                    int numBytesRead;
+                    while ((numBytesRead = inputStream.read(buffer)) != -1)
+                    {
+                        byteArrayOutputStream.write(buffer, 0, numBytesRead);
+                    }
+                    Assert.assertEquals(byteArrayOutputStream.toByteArray(), Arrays.copyOfRange(expected, 11, expected.length));
+                }
+            }
+        }
+        //closing a stream leaves the channel open
+        Assert.assertEquals(new String(this.fileChannelByteRangeProvider.getByteRangeAsBytes(0, 2)), "qwe");
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void testInvalidRange() throws IOException
+    {
+        this.fileChannelByteRangeProvider.getByteRangeAsBytes(10, 26);
+    }
+}
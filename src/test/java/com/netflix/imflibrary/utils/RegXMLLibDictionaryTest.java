@@ -0,0 +1,35 @@
+/*
+ * Copyright 2015 Netflix, Inc.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package com.netflix.imflibrary.utils;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+@Test(groups = "unit")
+public class RegXMLLibDictionaryTest
+{
+    @Test
+    public void testSharedInstance()
+    {
+        RegXMLLibDictionary.warmUp();
+        RegXMLLibDictionary regXMLLibDictionary = RegXMLLibDictionary.getInstance();
+        Assert.assertSame(RegXMLLibDictionary.getInstance(), regXMLLibDictionary);
+        Assert.assertNotNull(regXMLLibDictionary.getMetaDictionaryCollection());
+        Assert.assertEquals(regXMLLibDictionary.getSymbolNameFromURN("urn:smpte:ul:060e2b34.02530101.0d010101.01014f00"),
+                new RegXMLLibDictionary().getSymbolNameFromURN("urn:smpte:ul:060e2b34.02530101.0d010101.01014f00"));
+    }
+}
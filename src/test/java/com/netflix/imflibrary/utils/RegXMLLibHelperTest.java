@@ -0,0 +1,79 @@
+/*
+ * Copyright 2015 Netflix, Inc.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package com.netflix.imflibrary.utils;
+
+import com.netflix.imflibrary.IMFErrorLogger;
+import com.netflix.imflibrary.IMFErrorLoggerImpl;
+import com.netflix.imflibrary.KLVPacket;
+import com.netflix.imflibrary.st0377.HeaderPartition;
+import com.netflix.imflibrary.st0377.header.InterchangeObject;
+import com.sandflow.smpte.klv.Triplet;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+import org.w3c.dom.Document;
+import org.w3c.dom.DocumentFragment;
+import testUtils.TestHelper;
+
+import javax.xml.parsers.DocumentBuilderFactory;
+import javax.xml.parsers.ParserConfigurationException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+
+@Test(groups = "unit")
+public class RegXMLLibHelperTest
+{
+    @Test
+    public void essenceDescriptorDocumentFragmentsTest() throws IOException, ParserConfigurationException
+    {
+        byte[] bytes = Files.readAllBytes(TestHelper.findResourceByPath("TestIMP/Netflix_Sony_Plugfest_2015/Netflix_Plugfest_Oct2015_ENG51.mxf.hdr").toPath());
+        IMFErrorLogger imfErrorLogger = new IMFErrorLoggerImpl();
+        HeaderPartition headerPartition = new HeaderPartition(new ByteArrayDataProvider(bytes), 0L, (long) bytes.length, imfErrorLogger);
+        ResourceByteRangeProvider resourceByteRangeProvider = new ByteArrayByteRangeProvider(bytes);
+
+        Document document = DocumentBuilderFactory.newInstance().newDocumentBuilder().newDocument();
+        List<DocumentFragment> documentFragments = RegXMLLibHelper.getEssenceDescriptorDocumentFragments(headerPartition, ByteBuffer.wrap(bytes), document, imfErrorLogger);
+        Assert.assertEquals(documentFragments.size(), headerPartition.getEssenceDescriptors().size());
+
+        //the fragments are identical to those obtained one essence descriptor at a time
+        RegXMLLibHelper regXMLLibHelper = new RegXMLLibHelper(headerPartition.getPrimerPack().getHeader(), getByteProvider(resourceByteRangeProvider, headerPartition.getPrimerPack().getHeader()));
+        for (int i = 0; i < documentFragments.size(); i++)
+        {
+            InterchangeObject.InterchangeObjectBO essenceDescriptor = headerPartition.getEssenceDescriptors().get(i);
+            List<Triplet> subDescriptorTriplets = new ArrayList<>();
+            for (InterchangeObject.InterchangeObjectBO subDescriptor : headerPartition.getSubDescriptors(essenceDescriptor))
+            {
+                subDescriptorTriplets.add(regXMLLibHelper.getTripletFromKLVHeader(subDescriptor.getHeader(), getByteProvider(resourceByteRangeProvider, subDescriptor.getHeader())));
+            }
+            Assert.assertTrue(subDescriptorTriplets.size() > 0);
+            DocumentFragment documentFragment = regXMLLibHelper.getEssenceDescriptorDocumentFragment(regXMLLibHelper.getTripletFromKLVHeader(essenceDescriptor.getHeader(),
+                    getByteProvider(resourceByteRangeProvider, essenceDescriptor.getHeader())), subDescriptorTriplets, document, imfErrorLogger);
+            Assert.assertEquals(new DOMNodeObjectModel(documentFragments.get(i).getFirstChild()), new DOMNodeObjectModel(documentFragment.getFirstChild()));
+        }
+
+        List<DocumentFragment> rangeDocumentFragments = RegXMLLibHelper.getEssenceDescriptorDocumentFragments(headerPartition, resourceByteRangeProvider, document, imfErrorLogger);
+        Assert.assertEquals(rangeDocumentFragments.size(), documentFragments.size());
+        Assert.assertEquals(new DOMNodeObjectModel(rangeDocumentFragments.get(0).getFirstChild()), new DOMNodeObjectModel(documentFragments.get(0).getFirstChild()));
+    }
+
+    private static ByteProvider getByteProvider(ResourceByteRangeProvider resourceByteRangeProvider, KLVPacket.Header header) throws IOException
+    {
+        return new ByteArrayDataProvider(resourceByteRangeProvider.getByteRangeAsBytes(header.getByteOffset(), header.getByteOffset() + header.getKLSize() + header.getVSize() - 1));
+    }
+}
@@ -0,0 +1,49 @@
+/*
+ * Copyright 2015 Netflix, Inc.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package com.netflix.imflibrary.utils;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+import org.xml.sax.SAXException;
+
+import javax.xml.bind.JAXBContext;
+import javax.xml.bind.JAXBException;
+import javax.xml.validation.Schema;
+import java.io.IOException;
+
+@Test(groups = "unit")
+public class SchemaRegistryTest
+{
+    private static final String xmldsig_core_schema_path = "org/w3/_2000_09/xmldsig/xmldsig-core-schema.xsd";
+    private static final String pkl_schema_path = "org/smpte_ra/schemas/st0429_8_2007/PKL/packingList_schema.xsd";
+
+    @Test
+    public void testSchemaIsCompiledOnce() throws SAXException, IOException
+    {
+        Schema schema = SchemaRegistry.getSchema(xmldsig_core_schema_path, pkl_schema_path);
+        Assert.assertNotNull(schema);
+        Assert.assertSame(SchemaRegistry.getSchema(xmldsig_core_schema_path, pkl_schema_path), schema);
+        Assert.assertNotSame(SchemaRegistry.getSchema(xmldsig_core_schema_path), schema);
+    }
+
+    @Test
+    public void testJAXBContextIsCreatedOnce() throws JAXBException
+    {
+        JAXBContext jaxbContext = SchemaRegistry.getJAXBContext("org.smpte_ra.schemas.st0429_8_2007.PKL");
+        Assert.assertSame(SchemaRegistry.getJAXBContext("org.smpte_ra.schemas.st0429_8_2007.PKL"), jaxbContext);
+    }
+}
@@ -0,0 +1,125 @@
+/*
+ * Copyright 2015 Netflix, Inc.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package com.netflix.imflibrary.utils;
+
+import org.testng.Assert;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+import testUtils.TestHelper;
+
+import java.io.*;
+import java.nio.file.Files;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+
+@Test(groups = "unit")
+public class SeekableByteChannelDataProviderTest
+{
+    File inputFile;
+    byte[] refBytes;
+
+    @BeforeClass
+    public void beforeClass() throws IOException
+    {
+        inputFile = TestHelper.findResourceByPath("PKL_e788efe2-1782-4b09-b56d-1336da2413d5.xml");
+        refBytes = Files.readAllBytes(inputFile.toPath());
+    }
+
+    @Test
+    public void testGetBytes() throws IOException
+    {
+        try (SeekableByteChannelDataProvider byteProvider = new SeekableByteChannelDataProvider(this.inputFile))
+        {
+            byte[] bytes = byteProvider.getBytes(100);
+            Assert.assertEquals(Arrays.copyOf(refBytes, 100), bytes);
+        }
+    }
+
+    @Test(expectedExceptions = IOException.class, expectedExceptionsMessageRegExp = "Could not read .*")
+    public void testGetBytesLarge() throws IOException
+    {
+        long length = inputFile.length();
+        Assert.assertTrue(length < Integer.MAX_VALUE);
+
+        try (SeekableByteChannelDataProvider byteProvider = new SeekableByteChannelDataProvider(this.inputFile))
+        {
+            byteProvider.getBytes((int)length + 1);
+        }
+    }
+
+    @Test
+    public void testSkipBytes() throws IOException
+    {
+        try (SeekableByteChannelDataProvider byteProvider = new SeekableByteChannelDataProvider(this.inputFile))
+        {
+            byteProvider.skipBytes(100L);
+            byte[] bytes = byteProvider.getBytes(1);
+            Assert.assertEquals(bytes.length, 1);
+            Assert.assertEquals(bytes[0], 99);
+        }
+    }
+
+    @Test
+    public void testSkipBytesLarge() throws IOException
+    {
+        long length = inputFile.length();
+        Assert.assertTrue(length < Integer.MAX_VALUE);
+
+        try (SeekableByteChannelDataProvider byteProvider = new SeekableByteChannelDataProvider(this.inputFile))
+        {
+            byteProvider.skipBytes(length + 1);
+        }
+    }
+
+    @Test
+    public void testSkipBytesAfterBypassRead() throws IOException
+    {
+        try (SeekableByteChannelDataProvider byteProvider = new SeekableByteChannelDataProvider(
+                Files.newByteChannel(this.inputFile.toPath(), StandardOpenOption.READ), 16))
+        {
+            Assert.assertEquals(byteProvider.getBytes(4), Arrays.copyOf(refBytes, 4));
+            //drains the read-ahead buffer and reads the remaining 16 bytes directly from the channel
+            Assert.assertEquals(byteProvider.getBytes(28), Arrays.copyOfRange(refBytes, 4, 32));
+            byteProvider.skipBytes(10);
+            Assert.assertEquals(byteProvider.getBytes(1), Arrays.copyOfRange(refBytes, 42, 43));
+        }
+    }
+
+    @Test
+    public void testSmallBufferMatchesFile() throws IOException
+    {
+        //a read-ahead buffer smaller than some reads and skips exercises refills, bypasses and repositioning
+        try (SeekableByteChannelDataProvider byteProvider = new SeekableByteChannelDataProvider(
+                Files.newByteChannel(this.inputFile.toPath(), StandardOpenOption.READ), 16))
+        {
+            int position = 0;
+            int step = 1;
+            while (position + step <= refBytes.length)
+            {
+                byte[] bytes = byteProvider.getBytes(step);
+                Assert.assertEquals(bytes, Arrays.copyOfRange(refBytes, position, position + step));
+                position += step;
+                int skip = step % 3 == 0 ? 20 : 2;
+                byteProvider.skipBytes(skip);
+                position += skip;
+                step = (step % 40) + 1;
+            }
+            byteProvider.skipBytes(-position);
+            Assert.assertEquals(byteProvider.getBytes(4), Arrays.copyOf(refBytes, 4));
+        }
+    }
+}
@@ -0,0 +1,105 @@
+/*
+ * Copyright 2015 Netflix, Inc.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package com.netflix.imflibrary.utils;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+import testUtils.TestHelper;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.CompletableFuture;
+
+import static org.mockito.AdditionalAnswers.delegatesTo;
+import static org.mockito.Matchers.anyLong;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@Test(groups = "unit")
+public class TailPrefetchByteRangeProviderTest
+{
+    @Test
+    public void testRandomIndexPackFromTail() throws IOException
+    {
+        File inputFile = TestHelper.findResourceByPath("TestIMP/MERIDIAN_Netflix_Photon_161006/MERIDIAN_Netflix_Photon_161006_ENG-51_00.mxf");
+        ResourceByteRangeProvider fileByteRangeProvider = mock(ResourceByteRangeProvider.class, delegatesTo(new FileByteRangeProvider(inputFile)));
+        ResourceByteRangeProvider resourceByteRangeProvider = new TailPrefetchByteRangeProvider(fileByteRangeProvider);
+        long archiveFileSize = resourceByteRangeProvider.getResourceSize();
+
+        byte[] randomIndexPackSizeBytes = resourceByteRangeProvider.getByteRangeAsBytes(archiveFileSize - 4, archiveFileSize - 1);
+        long randomIndexPackSize = ByteBuffer.wrap(randomIndexPackSizeBytes).getInt();
+        byte[] randomIndexPackBytes = resourceByteRangeProvider.getByteRangeAsBytes(archiveFileSize - randomIndexPackSize, archiveFileSize - 1);
+
+        //the size of the random index pack and the random index pack are served from a single read
+        verify(fileByteRangeProvider, times(1)).getByteRangeAsBytes(anyLong(), anyLong());
+        ResourceByteRangeProvider expectedByteRangeProvider = new FileByteRangeProvider(inputFile);
+        Assert.assertEquals(randomIndexPackSizeBytes, expectedByteRangeProvider.getByteRangeAsBytes(archiveFileSize - 4, archiveFileSize - 1));
+        Assert.assertEquals(randomIndexPackBytes, expectedByteRangeProvider.getByteRangeAsBytes(archiveFileSize - randomIndexPackSize, archiveFileSize - 1));
+
+        //ranges outside the window are passed through
+        Assert.assertEquals(resourceByteRangeProvider.getByteRangeAsBytes(0, 15), expectedByteRangeProvider.getByteRangeAsBytes(0, 15));
+        verify(fileByteRangeProvider, times(2)).getByteRangeAsBytes(anyLong(), anyLong());
+    }
+
+    @Test
+    public void testRandomIndexPackLargerThanTail() throws IOException
+    {
+        File inputFile = TestHelper.findResourceByPath("TestIMP/MERIDIAN_Netflix_Photon_161006/MERIDIAN_Netflix_Photon_161006_ENG-51_00.mxf");
+        ResourceByteRangeProvider fileByteRangeProvider = mock(ResourceByteRangeProvider.class, delegatesTo(new FileByteRangeProvider(inputFile)));
+        ResourceByteRangeProvider resourceByteRangeProvider = new TailPrefetchByteRangeProvider(fileByteRangeProvider, 8);
+        long archiveFileSize = resourceByteRangeProvider.getResourceSize();
+
+        long randomIndexPackSize = ByteBuffer.wrap(resourceByteRangeProvider.getByteRangeAsBytes(archiveFileSize - 4, archiveFileSize - 1)).getInt();
+        Assert.assertTrue(randomIndexPackSize > 8);
+        byte[] randomIndexPackBytes = resourceByteRangeProvider.getByteRangeAsBytes(archiveFileSize - randomIndexPackSize, archiveFileSize - 1);
+
+        //the random index pack does not fit in the window and requires an extra read
+        verify(fileByteRangeProvider, times(2)).getByteRangeAsBytes(anyLong(), anyLong());
+        Assert.assertEquals(randomIndexPackBytes, new FileByteRangeProvider(inputFile).getByteRangeAsBytes(archiveFileSize - randomIndexPackSize, archiveFileSize - 1));
+    }
+
+    @Test
+    public void testFailedAsyncTailReadIsRetried() throws IOException
+    {
+        byte[] bytes = "qwertyuiopasdfghjklzxcvbnm".getBytes(StandardCharsets.US_ASCII);
+        ResourceByteRangeProvider byteArrayByteRangeProvider = mock(ResourceByteRangeProvider.class, delegatesTo(new ByteArrayByteRangeProvider(bytes)));
+        CompletableFuture<byte[]> failedRead = new CompletableFuture<>();
+        failedRead.completeExceptionally(new IOException("transient error"));
+        doReturn(failedRead).doReturn(CompletableFuture.completedFuture(bytes)).when(byteArrayByteRangeProvider).getByteRangeAsBytesAsync(anyLong(), anyLong());
+        ResourceByteRangeProvider resourceByteRangeProvider = new TailPrefetchByteRangeProvider(byteArrayByteRangeProvider);
+
+        try
+        {
+            Utilities.getResult(resourceByteRangeProvider.getByteRangeAsBytesAsync(23, 25));
+            Assert.fail("The failed read of the window was not reported");
+        }
+        catch (IOException e)
+        {
+            Assert.assertEquals(e.getMessage(), "transient error");
+        }
+
+        Assert.assertEquals(new String(Utilities.getResult(resourceByteRangeProvider.getByteRangeAsBytesAsync(23, 25)),
+                StandardCharsets.US_ASCII), "bnm");
+        Assert.assertEquals(new String(Utilities.getResult(resourceByteRangeProvider.getByteRangeAsBytesAsync(0, 2)),
+                StandardCharsets.US_ASCII), "qwe");
+        verify(byteArrayByteRangeProvider, times(2)).getByteRangeAsBytesAsync(anyLong(), anyLong());
+    }
+}